@@ -98,6 +98,48 @@ public interface DirectedGraph<V, E>
      * @return a set of all edges outgoing from the specified vertex.
      */
     Set<E> outgoingEdgesOf(V vertex);
+
+    /**
+     * Calls the specified consumer for every edge incoming to the specified
+     * vertex, passing its source vertex and its weight along.
+     *
+     * <p>The default implementation iterates {@link
+     * #incomingEdgesOf(Object)}.</p>
+     *
+     * @param vertex the vertex for which the incoming edges are visited
+     * @param consumer the consumer of the edges
+     *
+     * @see Graph#forEachEdgeOf(Object, IncidenceConsumer)
+     */
+    default void forEachIncoming(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        for (E e : incomingEdgesOf(vertex)) {
+            consumer.accept(e, getEdgeSource(e), getEdgeWeight(e));
+        }
+    }
+
+    /**
+     * Calls the specified consumer for every edge outgoing from the specified
+     * vertex, passing its target vertex and its weight along.
+     *
+     * <p>The default implementation iterates {@link
+     * #outgoingEdgesOf(Object)}.</p>
+     *
+     * @param vertex the vertex for which the outgoing edges are visited
+     * @param consumer the consumer of the edges
+     *
+     * @see Graph#forEachEdgeOf(Object, IncidenceConsumer)
+     */
+    default void forEachOutgoing(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        for (E e : outgoingEdgesOf(vertex)) {
+            consumer.accept(e, getEdgeTarget(e), getEdgeWeight(e));
+        }
+    }
 }
 
 // End DirectedGraph.java
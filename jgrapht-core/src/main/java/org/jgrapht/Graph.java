@@ -276,6 +276,34 @@ public interface Graph<V, E>
      */
     Set<E> edgesOf(V vertex);
 
+    /**
+     * Calls the specified consumer for every edge touching the specified
+     * vertex, passing the opposite vertex and the weight of the edge along, in
+     * the manner of {@link #edgesOf(Object)}. Implementations may do so
+     * without creating any intermediate collection and without looking up the
+     * endpoints of an edge more than once. The graph must not be modified
+     * while the consumer runs.
+     *
+     * <p>The default implementation iterates {@link #edgesOf(Object)}.</p>
+     *
+     * @param vertex the vertex for which the touching edges are visited
+     * @param consumer the consumer of the edges
+     *
+     * @throws IllegalArgumentException if vertex is not found in the graph.
+     * @throws NullPointerException if vertex is <code>null</code>.
+     */
+    default void forEachEdgeOf(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        for (E e : edgesOf(vertex)) {
+            consumer.accept(
+                e,
+                Graphs.getOppositeVertex(this, e, vertex),
+                getEdgeWeight(e));
+        }
+    }
+
     /**
      * Removes all the edges in this graph that are also contained in the
      * specified edge collection. After this call returns, this graph will
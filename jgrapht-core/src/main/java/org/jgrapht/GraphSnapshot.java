@@ -0,0 +1,339 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -------------------
+ * GraphSnapshot.java
+ * -------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht;
+
+import java.util.*;
+
+import org.jgrapht.util.*;
+
+
+/**
+ * An immutable, array-based copy of the structure of a graph, intended for
+ * algorithms that want to work on plain numbers rather than on vertex and
+ * edge objects. Vertices are numbered densely from <code>0</code> to <code>
+ * vertexCount() - 1</code> and edges from <code>0</code> to <code>
+ * edgeCount() - 1</code>; edge <code>j</code> runs from vertex <code>
+ * getSources()[j]</code> to vertex <code>getTargets()[j]</code> and has
+ * weight <code>getWeights()[j]</code>.
+ *
+ * <p>Edge ids are assigned grouped by source vertex, so the edges leaving
+ * vertex <code>i</code> are exactly the ids in the range <code>
+ * [getOutOffsets()[i], getOutOffsets()[i + 1])</code>. The corresponding
+ * index over target vertices is built the first time it is requested and
+ * reused afterwards; its two arrays are published together, so a snapshot
+ * can be shared between threads without further synchronization.</p>
+ *
+ * <p>For a graph that is not a {@link DirectedGraph} each edge is recorded
+ * once, with the endpoint having the smaller vertex id as its source; the
+ * edges touching vertex <code>i</code> are then its outgoing range followed
+ * by its incoming range, where a self-loop appears in both.</p>
+ *
+ * <p>The snapshot is taken in a single pass over the graph using {@link
+ * Graph#forEachEdgeOf(Object, IncidenceConsumer)} (or {@link
+ * DirectedGraph#forEachOutgoing(Object, IncidenceConsumer)}), so it costs
+ * one vertex lookup per edge rather than separate source, target and weight
+ * queries. It does not follow later changes to the graph. The arrays
+ * returned by the accessors are shared with the snapshot and must not be
+ * modified.</p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public final class GraphSnapshot<V, E>
+{
+    private final boolean directed;
+    private final Object [] vertices;
+    private final Map<V, Integer> vertexMap;
+    private final Object [] edges;
+    private final int [] sources;
+    private final int [] targets;
+    private final double [] weights;
+    private final int [] outOffsets;
+
+    private volatile InIndex inIndex;
+
+    private GraphSnapshot(Graph<V, E> g)
+    {
+        directed = g instanceof DirectedGraph<?, ?>;
+
+        int n = g.vertexSet().size();
+        vertices = new Object[n];
+        vertexMap = new HashMap<>(MathUtil.hashCapacity(n));
+        int index = 0;
+        for (V v : g.vertexSet()) {
+            vertices[index] = v;
+            vertexMap.put(v, index++);
+        }
+
+        int m = g.edgeSet().size();
+        edges = new Object[m];
+        sources = new int[m];
+        targets = new int[m];
+        weights = new double[m];
+        outOffsets = new int[n + 1];
+
+        Collector collector = new Collector();
+        for (int i = 0; i < n; i++) {
+            V v = getVertex(i);
+            collector.source = i;
+            if (directed) {
+                ((DirectedGraph<V, E>) g).forEachOutgoing(v, collector);
+            } else {
+                g.forEachEdgeOf(v, collector);
+            }
+            outOffsets[i + 1] = collector.size;
+        }
+    }
+
+    /**
+     * Takes a snapshot of the specified graph.
+     *
+     * @param g the graph to copy
+     *
+     * @return a snapshot of the current structure of the graph
+     */
+    public static <V, E> GraphSnapshot<V, E> of(Graph<V, E> g)
+    {
+        return new GraphSnapshot<>(g);
+    }
+
+    /**
+     * Tells whether the snapshot was taken of a {@link DirectedGraph}.
+     *
+     * @return <code>true</code> if edges keep their direction
+     */
+    public boolean isDirected()
+    {
+        return directed;
+    }
+
+    /**
+     * Returns the number of vertices.
+     *
+     * @return the number of vertices
+     */
+    public int vertexCount()
+    {
+        return vertices.length;
+    }
+
+    /**
+     * Returns the number of edges.
+     *
+     * @return the number of edges
+     */
+    public int edgeCount()
+    {
+        return edges.length;
+    }
+
+    /**
+     * Returns the id of the specified vertex.
+     *
+     * @param v a vertex
+     *
+     * @return the id of the vertex, or <code>-1</code> if it was not in the
+     * graph
+     */
+    public int getVertexIndex(V v)
+    {
+        Integer index = vertexMap.get(v);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * Returns the vertex with the specified id.
+     *
+     * @param index a vertex id
+     *
+     * @return the vertex
+     */
+    public V getVertex(int index)
+    {
+        return TypeUtil.uncheckedCast(vertices[index], null);
+    }
+
+    /**
+     * Returns the edge with the specified id.
+     *
+     * @param index an edge id
+     *
+     * @return the edge
+     */
+    public E getEdge(int index)
+    {
+        return TypeUtil.uncheckedCast(edges[index], null);
+    }
+
+    /**
+     * Returns the source vertex id of every edge, indexed by edge id.
+     *
+     * @return the source vertex ids
+     */
+    public int [] getSources()
+    {
+        return sources;
+    }
+
+    /**
+     * Returns the target vertex id of every edge, indexed by edge id.
+     *
+     * @return the target vertex ids
+     */
+    public int [] getTargets()
+    {
+        return targets;
+    }
+
+    /**
+     * Returns the weight of every edge, indexed by edge id.
+     *
+     * @return the edge weights
+     */
+    public double [] getWeights()
+    {
+        return weights;
+    }
+
+    /**
+     * Returns the offsets of the outgoing edge ranges. The edges whose source
+     * is vertex <code>i</code> have the ids from <code>offsets[i]</code>
+     * (inclusive) to <code>offsets[i + 1]</code> (exclusive).
+     *
+     * @return an array of <code>vertexCount() + 1</code> offsets
+     */
+    public int [] getOutOffsets()
+    {
+        return outOffsets;
+    }
+
+    /**
+     * Returns the offsets of the incoming edge ranges into {@link
+     * #getInEdges()}. The ids of the edges whose target is vertex <code>
+     * i</code> are stored from <code>offsets[i]</code> (inclusive) to <code>
+     * offsets[i + 1]</code> (exclusive).
+     *
+     * @return an array of <code>vertexCount() + 1</code> offsets
+     */
+    public int [] getInOffsets()
+    {
+        return inIndex().offsets;
+    }
+
+    /**
+     * Returns the edge ids grouped by target vertex, in increasing order
+     * within each group.
+     *
+     * @return the edge ids, ranged by {@link #getInOffsets()}
+     *
+     * @see #getInOffsets()
+     */
+    public int [] getInEdges()
+    {
+        return inIndex().edges;
+    }
+
+    private InIndex inIndex()
+    {
+        InIndex index = inIndex;
+        if (index == null) {
+            // racing threads build equal indices, any of which may be kept
+            index = buildInIndex();
+            inIndex = index;
+        }
+        return index;
+    }
+
+    private InIndex buildInIndex()
+    {
+        int n = vertices.length;
+        int [] offsets = new int[n + 1];
+        for (int target : targets) {
+            offsets[target + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int [] next = Arrays.copyOf(offsets, n);
+        int [] ids = new int[targets.length];
+        for (int j = 0; j < targets.length; j++) {
+            ids[next[targets[j]]++] = j;
+        }
+        return new InIndex(offsets, ids);
+    }
+
+    /**
+     * The index over target vertices, held in a single object so that both
+     * arrays become visible at once.
+     */
+    private static final class InIndex
+    {
+        final int [] offsets;
+        final int [] edges;
+
+        InIndex(int [] offsets, int [] edges)
+        {
+            this.offsets = offsets;
+            this.edges = edges;
+        }
+    }
+
+    /**
+     * Appends the edges reported for the current source vertex.
+     */
+    private class Collector
+        implements IncidenceConsumer<V, E>
+    {
+        int source;
+        int size;
+
+        @Override public void accept(E edge, V opposite, double weight)
+        {
+            int target = vertexMap.get(opposite);
+            if (!directed && (target < source)) {
+                // recorded when visiting the other endpoint
+                return;
+            }
+            edges[size] = edge;
+            sources[size] = source;
+            targets[size] = target;
+            weights[size] = weight;
+            size++;
+        }
+    }
+}
+
+// End GraphSnapshot.java
@@ -46,6 +46,7 @@ import java.util.*;
 import java.util.function.Predicate;
 
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 
 
 /**
@@ -222,7 +223,12 @@ public abstract class Graphs
      * destination graph. The behavior of this operation is undefined if either
      * of the graphs is modified while the operation is in progress. {@link
      * #addEdgeWithVertices} is used for the transfer, so source vertexes will
-     * be added automatically to the target graph.
+     * be added automatically to the target graph. If the destination is an
+     * {@link AbstractBaseGraph}, the edges are added in one batch through
+     * {@link AbstractBaseGraph#addEdgesBulk}, which still passes them through
+     * <code>addEdge</code> for graphs such as {@link
+     * org.jgrapht.experimental.dag.DirectedAcyclicGraph} that check edges
+     * there.
      *
      * @param destination the graph to which edges are to be added
      * @param source the graph used as a source for edges to add
@@ -235,6 +241,24 @@ public abstract class Graphs
         Graph<V, E> source,
         Collection<? extends E> edges)
     {
+        if (destination instanceof AbstractBaseGraph<?, ?>) {
+            List<V> sources = new ArrayList<>(edges.size());
+            List<V> targets = new ArrayList<>(edges.size());
+            List<E> batch = new ArrayList<>(edges.size());
+            for (E e : edges) {
+                V s = source.getEdgeSource(e);
+                V t = source.getEdgeTarget(e);
+                destination.addVertex(s);
+                destination.addVertex(t);
+                sources.add(s);
+                targets.add(t);
+                batch.add(e);
+            }
+            AbstractBaseGraph<V, E> g =
+                TypeUtil.uncheckedCast(destination, null);
+            return g.addEdgesBulk(sources, targets, batch, false) > 0;
+        }
+
         boolean modified = false;
 
         for (E e : edges) {
@@ -0,0 +1,60 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -----------------------
+ * IncidenceConsumer.java
+ * -----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht;
+
+/**
+ * Receives the edges incident to a vertex, together with the vertex at their
+ * other end and their weight, from {@link Graph#forEachEdgeOf(Object,
+ * IncidenceConsumer)} and the corresponding methods of {@link DirectedGraph}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+@FunctionalInterface
+public interface IncidenceConsumer<V, E>
+{
+    /**
+     * Receives one incident edge.
+     *
+     * @param edge the edge
+     * @param opposite the endpoint of the edge opposite to the visited vertex;
+     * the visited vertex itself for a self-loop
+     * @param weight the weight of the edge
+     */
+    void accept(E edge, V opposite, double weight);
+}
+
+// End IncidenceConsumer.java
@@ -0,0 +1,119 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* --------------------
+ * IndexedGraph.java
+ * --------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht;
+
+/**
+ * A graph whose vertices and edges are addressable through dense integer
+ * indices. Every vertex of the graph is assigned an index in the range <code>
+ * [0, getVertexIndexBound())</code> and every edge an index in the range
+ * <code>[0, getEdgeIndexBound())</code>. Indices are stable for as long as the
+ * corresponding element stays in the graph, which allows algorithms to keep
+ * per-vertex and per-edge state in plain arrays instead of hash maps.
+ *
+ * <p>Implementations which support removal may leave unused slots in the
+ * index range; for such slots {@link #getVertexAt(int)} and {@link
+ * #getEdgeAt(int)} return <code>null</code>.</p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public interface IndexedGraph<V, E>
+    extends Graph<V, E>
+{
+    /**
+     * Returns the index of the specified vertex.
+     *
+     * @param vertex a vertex
+     *
+     * @return the index of the vertex, or <code>-1</code> if the vertex is not
+     * contained in this graph.
+     */
+    int getVertexIndex(V vertex);
+
+    /**
+     * Returns the vertex assigned to the specified index.
+     *
+     * @param index a vertex index
+     *
+     * @return the vertex at the index, or <code>null</code> if the slot is
+     * currently unused.
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not smaller
+     * than {@link #getVertexIndexBound()}.
+     */
+    V getVertexAt(int index);
+
+    /**
+     * Returns an upper bound (exclusive) on the vertex indices of this graph.
+     * Arrays of this length can hold one slot per vertex.
+     *
+     * @return the vertex index bound
+     */
+    int getVertexIndexBound();
+
+    /**
+     * Returns the index of the specified edge.
+     *
+     * @param edge an edge
+     *
+     * @return the index of the edge, or <code>-1</code> if the edge is not
+     * contained in this graph.
+     */
+    int getEdgeIndex(E edge);
+
+    /**
+     * Returns the edge assigned to the specified index.
+     *
+     * @param index an edge index
+     *
+     * @return the edge at the index, or <code>null</code> if the slot is
+     * currently unused.
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not smaller
+     * than {@link #getEdgeIndexBound()}.
+     */
+    E getEdgeAt(int index);
+
+    /**
+     * Returns an upper bound (exclusive) on the edge indices of this graph.
+     * Arrays of this length can hold one slot per edge.
+     *
+     * @return the edge index bound
+     */
+    int getEdgeIndexBound();
+}
+
+// End IndexedGraph.java
@@ -0,0 +1,215 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ----------------------------
+ * ALTAdmissibleHeuristic.java
+ * ----------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+
+
+/**
+ * An admissible heuristic for {@link AStarShortestPath} that needs no vertex
+ * coordinates: the ALT (A*, landmarks, triangle inequality) lower bounds of
+ * Goldberg and Harrelson. For a few landmark vertices L the distances d(L,
+ * v) and d(v, L) to and from every vertex are computed up front; by the
+ * triangle inequality both d(L, t) - d(L, v) and d(v, L) - d(t, L) are lower
+ * bounds of d(v, t), and the estimate is the largest of them over all
+ * landmarks. Landmarks far away from each other give the best bounds; the
+ * default selection starts from the vertex farthest from an arbitrary one
+ * and repeatedly adds the vertex farthest from all landmarks chosen so far.
+ *
+ * <p>The distances are taken on a {@link GraphSnapshot} when the heuristic
+ * is created and use memory proportional to the number of landmarks times
+ * the number of vertices; they must be recomputed when edge weights drop or
+ * edges are added. Edge weights must not be negative.</p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class ALTAdmissibleHeuristic<V, E>
+    implements AStarAdmissibleHeuristic<V>
+{
+    private final GraphSnapshot<V, E> snapshot;
+    private final List<V> landmarks;
+
+    // fromLandmark[i][v] is d(L_i, v), toLandmark[i][v] is d(v, L_i); both
+    // refer to the same arrays for a graph that is not directed
+    private final double [][] fromLandmark;
+    private final double [][] toLandmark;
+
+    /**
+     * Creates a heuristic with landmarks chosen by farthest selection.
+     *
+     * @param graph the graph the heuristic is used on
+     * @param numberOfLandmarks the number of landmarks to choose; fewer are
+     * chosen if the graph has fewer vertices
+     *
+     * @throws IllegalArgumentException if an edge has a negative weight
+     */
+    public ALTAdmissibleHeuristic(Graph<V, E> graph, int numberOfLandmarks)
+    {
+        this.snapshot = GraphSnapshot.of(graph);
+        int k = Math.min(numberOfLandmarks, snapshot.vertexCount());
+        this.fromLandmark = new double[k][];
+        this.toLandmark = new double[k][];
+        this.landmarks = new ArrayList<>(k);
+
+        SnapshotAdjacency outgoing = SnapshotAdjacency.outgoing(snapshot);
+        SnapshotAdjacency incoming =
+            snapshot.isDirected() ? SnapshotAdjacency.incoming(snapshot)
+            : outgoing;
+        if (k == 0) {
+            return;
+        }
+
+        int n = snapshot.vertexCount();
+        double [] closest = new double[n];
+        outgoing.distancesFrom(0, closest);
+        int next = farthest(closest);
+        Arrays.fill(closest, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < k; i++) {
+            addLandmark(i, next, outgoing, incoming);
+            for (int v = 0; v < n; v++) {
+                closest[v] = Math.min(closest[v], fromLandmark[i][v]);
+            }
+            next = farthest(closest);
+        }
+    }
+
+    /**
+     * Creates a heuristic with the specified landmarks.
+     *
+     * @param graph the graph the heuristic is used on
+     * @param landmarks the landmark vertices
+     *
+     * @throws IllegalArgumentException if a landmark is not contained in the
+     * graph or an edge has a negative weight
+     */
+    public ALTAdmissibleHeuristic(Graph<V, E> graph, Collection<V> landmarks)
+    {
+        this.snapshot = GraphSnapshot.of(graph);
+        int k = landmarks.size();
+        this.fromLandmark = new double[k][];
+        this.toLandmark = new double[k][];
+        this.landmarks = new ArrayList<>(k);
+
+        SnapshotAdjacency outgoing = SnapshotAdjacency.outgoing(snapshot);
+        SnapshotAdjacency incoming =
+            snapshot.isDirected() ? SnapshotAdjacency.incoming(snapshot)
+            : outgoing;
+        int i = 0;
+        for (V landmark : landmarks) {
+            int index = snapshot.getVertexIndex(landmark);
+            if (index < 0) {
+                throw new IllegalArgumentException(
+                    "graph must contain the landmark " + landmark);
+            }
+            addLandmark(i++, index, outgoing, incoming);
+        }
+    }
+
+    /**
+     * Returns the landmarks in the order they were added.
+     *
+     * @return an unmodifiable list of the landmarks
+     */
+    public List<V> getLandmarks()
+    {
+        return Collections.unmodifiableList(landmarks);
+    }
+
+    /**
+     * @see AStarAdmissibleHeuristic#getCostEstimate(Object, Object)
+     */
+    @Override public double getCostEstimate(V sourceVertex, V targetVertex)
+    {
+        int v = snapshot.getVertexIndex(sourceVertex);
+        int t = snapshot.getVertexIndex(targetVertex);
+        if ((v < 0) || (t < 0)) {
+            return 0.0;
+        }
+        double estimate = 0.0;
+        for (int i = 0; i < fromLandmark.length; i++) {
+            // an infinite bound is exact: the target cannot be reached, and
+            // a bound from two infinite distances is NaN and never taken
+            double forward = fromLandmark[i][t] - fromLandmark[i][v];
+            if (forward > estimate) {
+                estimate = forward;
+            }
+            double backward = toLandmark[i][v] - toLandmark[i][t];
+            if (backward > estimate) {
+                estimate = backward;
+            }
+        }
+        return estimate;
+    }
+
+    private void addLandmark(
+        int i,
+        int landmark,
+        SnapshotAdjacency outgoing,
+        SnapshotAdjacency incoming)
+    {
+        int n = snapshot.vertexCount();
+        landmarks.add(snapshot.getVertex(landmark));
+        fromLandmark[i] = new double[n];
+        outgoing.distancesFrom(landmark, fromLandmark[i]);
+        if (incoming == outgoing) {
+            toLandmark[i] = fromLandmark[i];
+        } else {
+            toLandmark[i] = new double[n];
+            incoming.distancesFrom(landmark, toLandmark[i]);
+        }
+    }
+
+    /**
+     * Returns the vertex with the largest distance, unreachable vertices
+     * first.
+     */
+    private static int farthest(double [] dist)
+    {
+        int best = 0;
+        for (int v = 1; v < dist.length; v++) {
+            if (dist[v] > dist[best]) {
+                best = v;
+            }
+        }
+        return best;
+    }
+}
+
+// End ALTAdmissibleHeuristic.java
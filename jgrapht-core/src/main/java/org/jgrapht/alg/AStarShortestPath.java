@@ -68,6 +68,9 @@ import org.jgrapht.util.*;
  */
 public class AStarShortestPath<V, E>
 {
+    private static final int SHRINK_FACTOR = 4;
+    private static final int MIN_RETAINED_SIZE = 64;
+
     private final Graph<V, E> graph;
 
     //List of open nodes
@@ -90,6 +93,10 @@ public class AStarShortestPath<V, E>
     //Counter which keeps track of the number of expanded nodes
     protected int numberOfExpandedNodes;
 
+    //Largest number of vertices reached by a search since the collections
+    //were last allocated
+    private int peakSearchSize;
+
     public AStarShortestPath(Graph<V, E> graph)
     {
         if (graph == null) {
@@ -99,18 +106,38 @@ public class AStarShortestPath<V, E>
     }
 
     /**
-     * Initializes the data structures
+     * Initializes the data structures. The collections of a previous search
+     * are cleared and reused, so that repeated queries do not have to grow
+     * new hash tables every time. Clearing a hash table takes time
+     * proportional to its capacity, which never shrinks; once the previous
+     * search used only a small fraction of the largest one so far, the
+     * collections are replaced instead, so the cost of clearing is always
+     * covered by the search that filled them.
      *
      * @param admissibleHeuristic admissible heuristic
      */
     private void initialize(AStarAdmissibleHeuristic<V> admissibleHeuristic)
     {
         this.admissibleHeuristic = admissibleHeuristic;
-        openList = new FibonacciHeap<>();
-        vertexToHeapNodeMap = new HashMap<>();
-        closedList = new HashSet<>();
-        gScoreMap = new HashMap<>();
-        cameFrom = new HashMap<>();
+        int lastSearchSize = (gScoreMap == null) ? 0 : gScoreMap.size();
+        peakSearchSize = Math.max(peakSearchSize, lastSearchSize);
+        if ((openList == null)
+            || (peakSearchSize > (SHRINK_FACTOR
+                    * Math.max(lastSearchSize, MIN_RETAINED_SIZE))))
+        {
+            peakSearchSize = 0;
+            openList = new FibonacciHeap<>();
+            vertexToHeapNodeMap = new HashMap<>();
+            closedList = new HashSet<>();
+            gScoreMap = new HashMap<>();
+            cameFrom = new HashMap<>();
+        } else {
+            openList.clear();
+            vertexToHeapNodeMap.clear();
+            closedList.clear();
+            gScoreMap.clear();
+            cameFrom.clear();
+        }
         numberOfExpandedNodes = 0;
     }
 
@@ -148,7 +175,7 @@ public class AStarShortestPath<V, E>
             FibonacciHeapNode<V> currentNode = openList.removeMin();
 
             //Check whether we reached the target vertex
-            if (currentNode.getData() == targetVertex) {
+            if (currentNode.getData().equals(targetVertex)) {
                 //Build the path
                 return this.buildGraphPath(
                     sourceVertex,
@@ -231,7 +258,7 @@ public class AStarShortestPath<V, E>
         vertexList.add(targetVertex);
 
         V v=targetVertex;
-        while (v != startVertex){
+        while (!v.equals(startVertex)){
             edgeList.add(cameFrom.get(v));
             v = Graphs.getOppositeVertex(graph,cameFrom.get(v),v);
             vertexList.add(v);
@@ -0,0 +1,265 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------------------------
+ * BidirectionalDijkstraShortestPath.java
+ * ---------------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+
+/**
+ * A bidirectional variant of Dijkstra's shortest path algorithm for point to
+ * point queries. One search grows from the start vertex along outgoing edges
+ * and another from the end vertex along incoming edges, each step expanding
+ * the side with the smaller queue. Every time a vertex reached by both
+ * searches is relaxed, the length of the path through it is compared against
+ * the best one found so far; the searches stop as soon as the sum of their
+ * smallest queue keys is no smaller than that length, which on graphs with
+ * a roughly uniform structure settles about half as many vertices as a
+ * single search to the same target.
+ *
+ * <p>Like {@link IndexedDijkstraShortestPath}, the search runs over the
+ * vertex ids of a {@link GraphSnapshot} taken when the instance is created.
+ * Edge weights must not be negative. Queries reuse a {@link
+ * ShortestPathWorkspace} in the same way, too.</p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class BidirectionalDijkstraShortestPath<V, E>
+{
+    private final Graph<V, E> graph;
+    private final GraphSnapshot<V, E> snapshot;
+    private final SnapshotAdjacency forward;
+    private final SnapshotAdjacency backward;
+
+    private ShortestPathWorkspace workspace;
+    private int numberOfSettledVertices;
+
+    /**
+     * Creates a new instance for the specified graph and takes a snapshot of
+     * it.
+     *
+     * @param graph the graph to be searched
+     *
+     * @throws IllegalArgumentException if an edge has a negative weight
+     */
+    public BidirectionalDijkstraShortestPath(Graph<V, E> graph)
+    {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph cannot be null!");
+        }
+        this.graph = graph;
+        this.snapshot = GraphSnapshot.of(graph);
+        this.forward = SnapshotAdjacency.outgoing(snapshot);
+        this.backward =
+            snapshot.isDirected() ? SnapshotAdjacency.incoming(snapshot)
+            : forward;
+    }
+
+    /**
+     * Creates a workspace suitable for the queries of this instance.
+     *
+     * @return a new workspace
+     */
+    public ShortestPathWorkspace createWorkspace()
+    {
+        return new ShortestPathWorkspace(snapshot.vertexCount());
+    }
+
+    /**
+     * Computes a shortest path between two vertices, using a workspace owned
+     * by this instance.
+     *
+     * @param startVertex the vertex at which the path should start
+     * @param endVertex the vertex at which the path should end
+     *
+     * @return the shortest path, or <code>null</code> if no path exists
+     *
+     * @throws IllegalArgumentException if either vertex is not contained in
+     * the graph
+     */
+    public GraphPath<V, E> getPath(V startVertex, V endVertex)
+    {
+        if (workspace == null) {
+            workspace = createWorkspace();
+        }
+        return getPath(startVertex, endVertex, workspace);
+    }
+
+    /**
+     * Computes a shortest path between two vertices in the specified
+     * workspace. Queries running in different workspaces may run
+     * concurrently.
+     *
+     * @param startVertex the vertex at which the path should start
+     * @param endVertex the vertex at which the path should end
+     * @param workspace the workspace to search in
+     *
+     * @return the shortest path, or <code>null</code> if no path exists
+     *
+     * @throws IllegalArgumentException if either vertex is not contained in
+     * the graph, or the workspace is too small
+     */
+    public GraphPath<V, E> getPath(
+        V startVertex,
+        V endVertex,
+        ShortestPathWorkspace workspace)
+    {
+        int source = indexOf(startVertex);
+        int target = indexOf(endVertex);
+        ShortestPathWorkspace.check(workspace, snapshot.vertexCount());
+        ShortestPathWorkspace.Search fwd = workspace.forward();
+        ShortestPathWorkspace.Search bwd = workspace.backward();
+        fwd.start(source);
+        bwd.start(target);
+
+        int settled = 0;
+        double best = (source == target) ? 0.0 : Double.POSITIVE_INFINITY;
+        int meet = (source == target) ? source : -1;
+        while (!fwd.heap.isEmpty() && !bwd.heap.isEmpty()) {
+            if ((fwd.heap.getMinKey() + bwd.heap.getMinKey()) >= best) {
+                break;
+            }
+            ShortestPathWorkspace.Search search;
+            ShortestPathWorkspace.Search other;
+            SnapshotAdjacency adj;
+            if (fwd.heap.size() <= bwd.heap.size()) {
+                search = fwd;
+                other = bwd;
+                adj = forward;
+            } else {
+                search = bwd;
+                other = fwd;
+                adj = backward;
+            }
+
+            int v = search.heap.removeMin();
+            settled++;
+            double dv = search.dist[v];
+            for (int a = adj.offsets[v]; a < adj.offsets[v + 1]; a++) {
+                int u = adj.heads[a];
+                double du = dv + adj.weights[a];
+                if (du < search.distance(u)) {
+                    search.relax(u, du, v, adj.edges[a]);
+                    double through = du + other.distance(u);
+                    if (through < best) {
+                        best = through;
+                        meet = u;
+                    }
+                }
+            }
+        }
+        numberOfSettledVertices = settled;
+
+        if (meet < 0) {
+            return null;
+        }
+        return buildPath(source, target, fwd, bwd, meet, best);
+    }
+
+    /**
+     * Computes the length of a shortest path between two vertices.
+     *
+     * @param startVertex the vertex at which the path should start
+     * @param endVertex the vertex at which the path should end
+     *
+     * @return the path length, or <code>Double.POSITIVE_INFINITY</code> if no
+     * path exists
+     *
+     * @throws IllegalArgumentException if either vertex is not contained in
+     * the graph
+     */
+    public double getPathLength(V startVertex, V endVertex)
+    {
+        GraphPath<V, E> path = getPath(startVertex, endVertex);
+        return (path == null) ? Double.POSITIVE_INFINITY : path.getWeight();
+    }
+
+    /**
+     * Returns how many vertices were settled by both searches of the last
+     * query together.
+     *
+     * @return the number of settled vertices
+     */
+    public int getNumberOfSettledVertices()
+    {
+        return numberOfSettledVertices;
+    }
+
+    private int indexOf(V vertex)
+    {
+        int index = snapshot.getVertexIndex(vertex);
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                "graph must contain the vertex " + vertex);
+        }
+        return index;
+    }
+
+    private GraphPath<V, E> buildPath(
+        int source,
+        int target,
+        ShortestPathWorkspace.Search fwd,
+        ShortestPathWorkspace.Search bwd,
+        int meet,
+        double weight)
+    {
+        List<E> edgeList = new ArrayList<>();
+        List<V> vertexList = new ArrayList<>();
+        vertexList.add(snapshot.getVertex(meet));
+        for (int v = meet; v != source; v = fwd.predVertex[v]) {
+            edgeList.add(snapshot.getEdge(fwd.predEdge[v]));
+            vertexList.add(snapshot.getVertex(fwd.predVertex[v]));
+        }
+        Collections.reverse(edgeList);
+        Collections.reverse(vertexList);
+        for (int v = meet; v != target; v = bwd.predVertex[v]) {
+            edgeList.add(snapshot.getEdge(bwd.predEdge[v]));
+            vertexList.add(snapshot.getVertex(bwd.predVertex[v]));
+        }
+        return new GraphWalk<>(
+            graph,
+            snapshot.getVertex(source),
+            snapshot.getVertex(target),
+            vertexList,
+            edgeList,
+            weight);
+    }
+}
+
+// End BidirectionalDijkstraShortestPath.java
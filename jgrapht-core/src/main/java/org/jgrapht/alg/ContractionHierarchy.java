@@ -0,0 +1,561 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* --------------------------
+ * ContractionHierarchy.java
+ * --------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * A contraction hierarchy of a weighted graph: the preprocessing half of the
+ * speed-up technique of Geisberger et al. for answering many shortest path
+ * queries on a graph that does not change. Vertices are contracted one at a
+ * time in order of importance; contracting a vertex removes it from the
+ * remaining graph and adds a shortcut arc for every pair of its neighbors
+ * whose only shortest connection led through it. The result is an overlay of
+ * the original arcs and the shortcuts in which every shortest path can be
+ * found by a search that only moves towards more important vertices from
+ * both ends, see {@link ContractionHierarchyShortestPath}.
+ *
+ * <p>The order is chosen greedily by twice the edge difference (shortcuts
+ * added minus arcs removed) plus the number of already contracted neighbors,
+ * with lazy updates. Shortcuts are avoided where a local witness search finds
+ * another path that is no longer; witness searches are bounded, so a few
+ * unneeded shortcuts may be added, which does not affect correctness.</p>
+ *
+ * <p>The hierarchy is built over a {@link GraphSnapshot} taken on
+ * construction. Directed graphs contribute one arc per edge and other graphs
+ * one arc per edge and direction. Edge weights must not be negative.</p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class ContractionHierarchy<V, E>
+{
+    // settle limits of the witness searches when estimating the priority
+    // of a vertex and when contracting it
+    private static final int SIMULATION_WITNESS_SETTLED = 50;
+    private static final int CONTRACTION_WITNESS_SETTLED = 500;
+
+    final Graph<V, E> graph;
+    final GraphSnapshot<V, E> snapshot;
+
+    // overlay arcs, original ones first; a shortcut has arcEdge -1 and
+    // stands for its arcFirst followed by its arcSecond
+    final int [] arcTail;
+    final int [] arcHead;
+    final int [] arcEdge;
+    final int [] arcFirst;
+    final int [] arcSecond;
+
+    final int [] rank;
+
+    // arcs from each vertex to more important ones, for the forward search
+    final int [] upOffsets;
+    final int [] upHeads;
+    final double [] upWeights;
+    final int [] upArcs;
+
+    // reversed arcs into each vertex from more important ones, for the
+    // backward search
+    final int [] downOffsets;
+    final int [] downHeads;
+    final double [] downWeights;
+    final int [] downArcs;
+
+    private final int numberOfShortcuts;
+
+    /**
+     * Builds the contraction hierarchy of the specified graph.
+     *
+     * @param graph the graph
+     *
+     * @throws IllegalArgumentException if an edge has a negative weight
+     */
+    public ContractionHierarchy(Graph<V, E> graph)
+    {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph cannot be null!");
+        }
+        this.graph = graph;
+        this.snapshot = GraphSnapshot.of(graph);
+
+        Contractor contractor = new Contractor(snapshot);
+        contractor.contractAll();
+
+        int arcs = contractor.arcCount;
+        this.arcTail = Arrays.copyOf(contractor.tail, arcs);
+        this.arcHead = Arrays.copyOf(contractor.head, arcs);
+        this.arcEdge = Arrays.copyOf(contractor.edge, arcs);
+        this.arcFirst = Arrays.copyOf(contractor.first, arcs);
+        this.arcSecond = Arrays.copyOf(contractor.second, arcs);
+        this.rank = contractor.rank;
+        this.numberOfShortcuts = arcs - contractor.originalArcCount;
+
+        int n = snapshot.vertexCount();
+        upOffsets = new int[n + 1];
+        downOffsets = new int[n + 1];
+        for (int a = 0; a < arcs; a++) {
+            if (rank[arcTail[a]] < rank[arcHead[a]]) {
+                upOffsets[arcTail[a] + 1]++;
+            } else {
+                downOffsets[arcHead[a] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            upOffsets[v + 1] += upOffsets[v];
+            downOffsets[v + 1] += downOffsets[v];
+        }
+        upHeads = new int[upOffsets[n]];
+        upWeights = new double[upOffsets[n]];
+        upArcs = new int[upOffsets[n]];
+        downHeads = new int[downOffsets[n]];
+        downWeights = new double[downOffsets[n]];
+        downArcs = new int[downOffsets[n]];
+        int [] nextUp = Arrays.copyOf(upOffsets, n);
+        int [] nextDown = Arrays.copyOf(downOffsets, n);
+        for (int a = 0; a < arcs; a++) {
+            int t = arcTail[a];
+            int h = arcHead[a];
+            if (rank[t] < rank[h]) {
+                int pos = nextUp[t]++;
+                upHeads[pos] = h;
+                upWeights[pos] = contractor.weight[a];
+                upArcs[pos] = a;
+            } else {
+                int pos = nextDown[h]++;
+                downHeads[pos] = t;
+                downWeights[pos] = contractor.weight[a];
+                downArcs[pos] = a;
+            }
+        }
+    }
+
+    /**
+     * Returns the graph this hierarchy was built from.
+     *
+     * @return the graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Returns the position of a vertex in the contraction order; vertices
+     * contracted later are more important.
+     *
+     * @param vertex a vertex of the graph
+     *
+     * @return the rank of the vertex
+     *
+     * @throws IllegalArgumentException if the vertex is not contained in the
+     * graph
+     */
+    public int getRank(V vertex)
+    {
+        return rank[indexOf(vertex)];
+    }
+
+    /**
+     * Returns the number of shortcut arcs added by the contraction.
+     *
+     * @return the number of shortcuts
+     */
+    public int getNumberOfShortcuts()
+    {
+        return numberOfShortcuts;
+    }
+
+    int indexOf(V vertex)
+    {
+        int index = snapshot.getVertexIndex(vertex);
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                "graph must contain the vertex " + vertex);
+        }
+        return index;
+    }
+
+    /**
+     * Appends the original edges an overlay arc stands for, and the vertex
+     * reached by each of them, to the specified lists.
+     */
+    void unpack(int arc, List<E> edgeList, List<V> vertexList)
+    {
+        int [] stack = new int[16];
+        int size = 0;
+        stack[size++] = arc;
+        while (size > 0) {
+            int a = stack[--size];
+            if (arcEdge[a] >= 0) {
+                edgeList.add(snapshot.getEdge(arcEdge[a]));
+                vertexList.add(snapshot.getVertex(arcHead[a]));
+                continue;
+            }
+            if ((size + 2) > stack.length) {
+                stack = Arrays.copyOf(stack, 2 * stack.length);
+            }
+            stack[size++] = arcSecond[a];
+            stack[size++] = arcFirst[a];
+        }
+    }
+
+    /**
+     * The working state of the contraction, dropped once the hierarchy is
+     * built.
+     */
+    private static final class Contractor
+    {
+        final int n;
+
+        int arcCount;
+        int originalArcCount;
+        int [] tail;
+        int [] head;
+        double [] weight;
+        int [] edge;
+        int [] first;
+        int [] second;
+
+        final int [][] outArcs;
+        final int [] outSize;
+        final int [][] inArcs;
+        final int [] inSize;
+
+        final boolean [] contracted;
+        final int [] contractedNeighbors;
+        final int [] rank;
+
+        final double [] witnessDist;
+        final int [] touched;
+        int touchedSize;
+        final IntDaryHeap witnessHeap;
+
+        Contractor(GraphSnapshot<?, ?> snapshot)
+        {
+            n = snapshot.vertexCount();
+            int m = snapshot.edgeCount();
+            int capacity = Math.max(16, snapshot.isDirected() ? m : 2 * m);
+            tail = new int[capacity];
+            head = new int[capacity];
+            weight = new double[capacity];
+            edge = new int[capacity];
+            first = new int[capacity];
+            second = new int[capacity];
+
+            outArcs = new int[n][];
+            outSize = new int[n];
+            inArcs = new int[n][];
+            inSize = new int[n];
+            int [] none = new int[0];
+            Arrays.fill(outArcs, none);
+            Arrays.fill(inArcs, none);
+
+            contracted = new boolean[n];
+            contractedNeighbors = new int[n];
+            rank = new int[n];
+
+            witnessDist = new double[n];
+            Arrays.fill(witnessDist, Double.POSITIVE_INFINITY);
+            touched = new int[n];
+            witnessHeap =
+                new IntDaryHeap(IndexedDijkstraShortestPath.HEAP_ARITY, n);
+
+            int [] sources = snapshot.getSources();
+            int [] targets = snapshot.getTargets();
+            double [] weights = snapshot.getWeights();
+            for (int j = 0; j < m; j++) {
+                if (weights[j] < 0.0) {
+                    throw new IllegalArgumentException(
+                        "negative edge weights not allowed");
+                }
+                if (sources[j] == targets[j]) {
+                    // loops never lie on a shortest path
+                    continue;
+                }
+                addArc(sources[j], targets[j], weights[j], j, -1, -1);
+                if (!snapshot.isDirected()) {
+                    addArc(targets[j], sources[j], weights[j], j, -1, -1);
+                }
+            }
+            originalArcCount = arcCount;
+        }
+
+        void contractAll()
+        {
+            IntDaryHeap queue =
+                new IntDaryHeap(IndexedDijkstraShortestPath.HEAP_ARITY, n);
+            for (int v = 0; v < n; v++) {
+                queue.insert(v, priority(v));
+            }
+            int order = 0;
+            while (!queue.isEmpty()) {
+                int v = queue.removeMin();
+                double p = priority(v);
+                if (!queue.isEmpty() && (p > queue.getMinKey())) {
+                    // the priority went up since it was queued
+                    queue.insert(v, p);
+                    continue;
+                }
+                contract(v, true);
+                contracted[v] = true;
+                rank[v] = order++;
+                for (int i = 0; i < outSize[v]; i++) {
+                    neighborContracted(queue, head[outArcs[v][i]]);
+                }
+                for (int i = 0; i < inSize[v]; i++) {
+                    neighborContracted(queue, tail[inArcs[v][i]]);
+                }
+            }
+        }
+
+        private void neighborContracted(IntDaryHeap queue, int u)
+        {
+            if (contracted[u]) {
+                return;
+            }
+            int size = outSize[u] + inSize[u];
+            outSize[u] = removeContracted(outArcs[u], outSize[u], head);
+            inSize[u] = removeContracted(inArcs[u], inSize[u], tail);
+            if ((outSize[u] + inSize[u]) == size) {
+                // already updated through another arc of the same vertex
+                return;
+            }
+            contractedNeighbors[u]++;
+            queue.insertOrDecreaseKey(u, priority(u));
+        }
+
+        /**
+         * Drops the arcs leading to contracted vertices from an arc list,
+         * which the remaining searches would only skip.
+         */
+        private int removeContracted(int [] arcs, int size, int [] end)
+        {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!contracted[end[arcs[i]]]) {
+                    arcs[kept++] = arcs[i];
+                }
+            }
+            return kept;
+        }
+
+        private double priority(int v)
+        {
+            // the arc lists only hold arcs between uncontracted vertices
+            int removed = outSize[v] + inSize[v];
+            int edgeDifference = contract(v, false) - removed;
+            return (2 * edgeDifference) + contractedNeighbors[v];
+        }
+
+        /**
+         * Counts, and if requested adds, the shortcuts needed to contract
+         * vertex v. Of several parallel arcs only the shortest is taken into
+         * account.
+         */
+        private int contract(int v, boolean add)
+        {
+            int shortcuts = 0;
+            for (int i = 0; i < inSize[v]; i++) {
+                int in = inArcs[v][i];
+                int u = tail[in];
+                if (contracted[u] || shorterParallel(inArcs[v], inSize[v], in))
+                {
+                    continue;
+                }
+                double maxOut = -1.0;
+                for (int k = 0; k < outSize[v]; k++) {
+                    int out = outArcs[v][k];
+                    int x = head[out];
+                    if (!contracted[x] && (x != u)) {
+                        maxOut = Math.max(maxOut, weight[out]);
+                    }
+                }
+                if (maxOut < 0.0) {
+                    continue;
+                }
+
+                witnessSearch(
+                    u,
+                    v,
+                    weight[in] + maxOut,
+                    add ? CONTRACTION_WITNESS_SETTLED
+                    : SIMULATION_WITNESS_SETTLED);
+                for (int k = 0; k < outSize[v]; k++) {
+                    int out = outArcs[v][k];
+                    int x = head[out];
+                    if (contracted[x]
+                        || (x == u)
+                        || shorterParallel(outArcs[v], outSize[v], out))
+                    {
+                        continue;
+                    }
+                    double via = weight[in] + weight[out];
+                    if (witnessDist[x] > via) {
+                        shortcuts++;
+                        if (add) {
+                            addShortcut(u, x, via, in, out);
+                        }
+                    }
+                }
+                resetWitness();
+            }
+            return shortcuts;
+        }
+
+        /**
+         * Tells whether the list holds an arc between the same two vertices
+         * as the specified one which is shorter, or as short with a smaller
+         * id.
+         */
+        private boolean shorterParallel(int [] arcs, int size, int arc)
+        {
+            for (int i = 0; i < size; i++) {
+                int b = arcs[i];
+                if ((b != arc)
+                    && (tail[b] == tail[arc])
+                    && (head[b] == head[arc])
+                    && ((weight[b] < weight[arc])
+                        || ((weight[b] == weight[arc]) && (b < arc))))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void addShortcut(int u, int x, double w, int a1, int a2)
+        {
+            for (int i = 0; i < outSize[u]; i++) {
+                int b = outArcs[u][i];
+                if ((head[b] == x) && (weight[b] > w)) {
+                    // both ends are uncontracted, so no shortcut refers to
+                    // the arc yet and it can be replaced in place
+                    weight[b] = w;
+                    edge[b] = -1;
+                    first[b] = a1;
+                    second[b] = a2;
+                    return;
+                }
+            }
+            addArc(u, x, w, -1, a1, a2);
+        }
+
+        private void witnessSearch(
+            int source,
+            int excluded,
+            double limit,
+            int maxSettled)
+        {
+            touch(source, 0.0);
+            witnessHeap.insert(source, 0.0);
+            int settled = 0;
+            while (!witnessHeap.isEmpty()
+                && (witnessHeap.getMinKey() <= limit)
+                && (settled < maxSettled))
+            {
+                int w = witnessHeap.removeMin();
+                settled++;
+                double dw = witnessDist[w];
+                for (int i = 0; i < outSize[w]; i++) {
+                    int a = outArcs[w][i];
+                    int y = head[a];
+                    if (contracted[y] || (y == excluded)) {
+                        continue;
+                    }
+                    double dy = dw + weight[a];
+                    if (dy < witnessDist[y]) {
+                        touch(y, dy);
+                        witnessHeap.insertOrDecreaseKey(y, dy);
+                    }
+                }
+            }
+            witnessHeap.clear();
+        }
+
+        private void touch(int v, double dist)
+        {
+            if (witnessDist[v] == Double.POSITIVE_INFINITY) {
+                touched[touchedSize++] = v;
+            }
+            witnessDist[v] = dist;
+        }
+
+        private void resetWitness()
+        {
+            for (int i = 0; i < touchedSize; i++) {
+                witnessDist[touched[i]] = Double.POSITIVE_INFINITY;
+            }
+            touchedSize = 0;
+        }
+
+        private void addArc(int t, int h, double w, int e, int a1, int a2)
+        {
+            if (arcCount == tail.length) {
+                int capacity = 2 * arcCount;
+                tail = Arrays.copyOf(tail, capacity);
+                head = Arrays.copyOf(head, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+                edge = Arrays.copyOf(edge, capacity);
+                first = Arrays.copyOf(first, capacity);
+                second = Arrays.copyOf(second, capacity);
+            }
+            int a = arcCount++;
+            tail[a] = t;
+            head[a] = h;
+            weight[a] = w;
+            edge[a] = e;
+            first[a] = a1;
+            second[a] = a2;
+            outArcs[t] = append(outArcs[t], outSize[t]++, a);
+            inArcs[h] = append(inArcs[h], inSize[h]++, a);
+        }
+
+        private static int [] append(int [] list, int size, int value)
+        {
+            if (size == list.length) {
+                list = Arrays.copyOf(list, Math.max(4, 2 * size));
+            }
+            list[size] = value;
+            return list;
+        }
+    }
+}
+
+// End ContractionHierarchy.java
@@ -0,0 +1,292 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* --------------------------------------
+ * ContractionHierarchyShortestPath.java
+ * --------------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+
+/**
+ * Point to point shortest path queries over a {@link ContractionHierarchy}.
+ * A forward search from the start vertex and a backward search from the end
+ * vertex each only follow arcs towards more important vertices; the shortest
+ * path is the best combination of the two at a vertex settled by both.
+ * Shortcuts on the path found are unpacked, so the returned path consists of
+ * edges of the original graph.
+ *
+ * <p>Queries typically settle a few hundred vertices even on large road-like
+ * graphs, at the price of the one-time preprocessing of the hierarchy.
+ * Their distances and predecessor arcs are kept in a {@link
+ * ShortestPathWorkspace}, which is reused from one query to the next; the
+ * methods without a workspace argument share one owned by the instance and
+ * must not be called concurrently.</p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class ContractionHierarchyShortestPath<V, E>
+{
+    private final ContractionHierarchy<V, E> hierarchy;
+
+    private ShortestPathWorkspace workspace;
+    private int numberOfSettledVertices;
+
+    /**
+     * Creates a query engine over an existing hierarchy.
+     *
+     * @param hierarchy the contraction hierarchy
+     */
+    public ContractionHierarchyShortestPath(
+        ContractionHierarchy<V, E> hierarchy)
+    {
+        if (hierarchy == null) {
+            throw new IllegalArgumentException("Hierarchy cannot be null!");
+        }
+        this.hierarchy = hierarchy;
+    }
+
+    /**
+     * Builds the contraction hierarchy of the specified graph and creates a
+     * query engine over it.
+     *
+     * @param graph the graph to be searched
+     *
+     * @throws IllegalArgumentException if an edge has a negative weight
+     */
+    public ContractionHierarchyShortestPath(Graph<V, E> graph)
+    {
+        this(new ContractionHierarchy<>(graph));
+    }
+
+    /**
+     * Returns the hierarchy searched by this instance.
+     *
+     * @return the contraction hierarchy
+     */
+    public ContractionHierarchy<V, E> getHierarchy()
+    {
+        return hierarchy;
+    }
+
+    /**
+     * Creates a workspace suitable for the queries of this instance.
+     *
+     * @return a new workspace
+     */
+    public ShortestPathWorkspace createWorkspace()
+    {
+        return new ShortestPathWorkspace(hierarchy.rank.length);
+    }
+
+    /**
+     * Computes a shortest path between two vertices, using a workspace owned
+     * by this instance.
+     *
+     * @param startVertex the vertex at which the path should start
+     * @param endVertex the vertex at which the path should end
+     *
+     * @return the shortest path, or <code>null</code> if no path exists
+     *
+     * @throws IllegalArgumentException if either vertex is not contained in
+     * the graph
+     */
+    public GraphPath<V, E> getPath(V startVertex, V endVertex)
+    {
+        if (workspace == null) {
+            workspace = createWorkspace();
+        }
+        return getPath(startVertex, endVertex, workspace);
+    }
+
+    /**
+     * Computes a shortest path between two vertices in the specified
+     * workspace. Queries running in different workspaces may run
+     * concurrently.
+     *
+     * @param startVertex the vertex at which the path should start
+     * @param endVertex the vertex at which the path should end
+     * @param workspace the workspace to search in
+     *
+     * @return the shortest path, or <code>null</code> if no path exists
+     *
+     * @throws IllegalArgumentException if either vertex is not contained in
+     * the graph, or the workspace is too small
+     */
+    public GraphPath<V, E> getPath(
+        V startVertex,
+        V endVertex,
+        ShortestPathWorkspace workspace)
+    {
+        ContractionHierarchy<V, E> ch = hierarchy;
+        int source = ch.indexOf(startVertex);
+        int target = ch.indexOf(endVertex);
+        ShortestPathWorkspace.check(workspace, ch.rank.length);
+        ShortestPathWorkspace.Search fwd = workspace.forward();
+        ShortestPathWorkspace.Search bwd = workspace.backward();
+        fwd.start(source);
+        bwd.start(target);
+
+        int settled = 0;
+        double best = Double.POSITIVE_INFINITY;
+        int meet = -1;
+        while (true) {
+            boolean fwdOpen =
+                !fwd.heap.isEmpty() && (fwd.heap.getMinKey() < best);
+            boolean bwdOpen =
+                !bwd.heap.isEmpty() && (bwd.heap.getMinKey() < best);
+            if (!fwdOpen && !bwdOpen) {
+                break;
+            }
+            ShortestPathWorkspace.Search search;
+            ShortestPathWorkspace.Search other;
+            int [] offsets;
+            int [] heads;
+            double [] weights;
+            int [] arcs;
+            if (fwdOpen
+                && (!bwdOpen
+                    || (fwd.heap.getMinKey() <= bwd.heap.getMinKey())))
+            {
+                search = fwd;
+                other = bwd;
+                offsets = ch.upOffsets;
+                heads = ch.upHeads;
+                weights = ch.upWeights;
+                arcs = ch.upArcs;
+            } else {
+                search = bwd;
+                other = fwd;
+                offsets = ch.downOffsets;
+                heads = ch.downHeads;
+                weights = ch.downWeights;
+                arcs = ch.downArcs;
+            }
+
+            int v = search.heap.removeMin();
+            settled++;
+            double dv = search.dist[v];
+            double through = dv + other.distance(v);
+            if (through < best) {
+                best = through;
+                meet = v;
+            }
+            for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                int u = heads[a];
+                double du = dv + weights[a];
+                if (du < search.distance(u)) {
+                    search.relax(u, du, v, arcs[a]);
+                }
+            }
+        }
+        numberOfSettledVertices = settled;
+
+        if (meet < 0) {
+            return null;
+        }
+        return buildPath(source, target, meet, best, fwd, bwd);
+    }
+
+    /**
+     * Computes the length of a shortest path between two vertices.
+     *
+     * @param startVertex the vertex at which the path should start
+     * @param endVertex the vertex at which the path should end
+     *
+     * @return the path length, or <code>Double.POSITIVE_INFINITY</code> if no
+     * path exists
+     *
+     * @throws IllegalArgumentException if either vertex is not contained in
+     * the graph
+     */
+    public double getPathLength(V startVertex, V endVertex)
+    {
+        GraphPath<V, E> path = getPath(startVertex, endVertex);
+        return (path == null) ? Double.POSITIVE_INFINITY : path.getWeight();
+    }
+
+    /**
+     * Returns how many vertices were settled by both searches of the last
+     * query together.
+     *
+     * @return the number of settled vertices
+     */
+    public int getNumberOfSettledVertices()
+    {
+        return numberOfSettledVertices;
+    }
+
+    private GraphPath<V, E> buildPath(
+        int source,
+        int target,
+        int meet,
+        double weight,
+        ShortestPathWorkspace.Search fwd,
+        ShortestPathWorkspace.Search bwd)
+    {
+        ContractionHierarchy<V, E> ch = hierarchy;
+
+        // overlay arcs from source to meet, collected backwards
+        int [] arcs = new int[16];
+        int size = 0;
+        for (int v = meet; v != source; v = ch.arcTail[fwd.predEdge[v]]) {
+            if (size == arcs.length) {
+                arcs = Arrays.copyOf(arcs, 2 * size);
+            }
+            arcs[size++] = fwd.predEdge[v];
+        }
+
+        List<E> edgeList = new ArrayList<>();
+        List<V> vertexList = new ArrayList<>();
+        vertexList.add(ch.snapshot.getVertex(source));
+        while (size > 0) {
+            ch.unpack(arcs[--size], edgeList, vertexList);
+        }
+        for (int v = meet; v != target; v = ch.arcHead[bwd.predEdge[v]]) {
+            ch.unpack(bwd.predEdge[v], edgeList, vertexList);
+        }
+        return new GraphWalk<>(
+            ch.graph,
+            ch.snapshot.getVertex(source),
+            ch.snapshot.getVertex(target),
+            vertexList,
+            edgeList,
+            weight);
+    }
+}
+
+// End ContractionHierarchyShortestPath.java
@@ -53,14 +53,20 @@ import org.jgrapht.event.*;
  * if it is added to the associated graph as a listener. If it is added as a
  * listener to a graph other than the one it indexes, results are undefined.</p>
  *
+ * <p>Predecessors and successors are stored in the same compact form as in
+ * {@link NeighborIndex}, with both directions sharing one vertex numbering.</p>
+ *
  * @author Charles Fry
  * @since Dec 13, 2005
  */
 public class DirectedNeighborIndex<V, E>
     implements GraphListener<V, E>
 {
-    Map<V, Neighbors<V>> predecessorMap = new HashMap<>();
-    Map<V, Neighbors<V>> successorMap = new HashMap<>();
+    final VertexIds<V> vertexIds = new VertexIds<>();
+    final List<Neighbors<V>> predecessorTable = new ArrayList<>();
+    final List<Neighbors<V>> successorTable = new ArrayList<>();
+    private final NeighborCollector<V> collector =
+        new NeighborCollector<>(vertexIds);
     private DirectedGraph<V, E> graph;
 
     /**
@@ -91,8 +97,7 @@ public class DirectedNeighborIndex<V, E>
     /**
      * Returns the set of vertices which are the predecessors of a specified
      * vertex. If the graph is a multigraph, vertices may appear more than once
-     * in the returned list. Because a list of predecessors can not be
-     * efficiently maintained, it is reconstructed on every invocation by
+     * in the returned list. The list is reconstructed on every invocation by
      * duplicating entries in the neighbor set. It is thus more efficient to use
      * {@link #predecessorsOf(Object)} unless duplicate neighbors are required.
      *
@@ -123,10 +128,9 @@ public class DirectedNeighborIndex<V, E>
     /**
      * Returns the set of vertices which are the successors of a specified
      * vertex. If the graph is a multigraph, vertices may appear more than once
-     * in the returned list. Because a list of successors can not be efficiently
-     * maintained, it is reconstructed on every invocation by duplicating
-     * entries in the neighbor set. It is thus more efficient to use {@link
-     * #successorsOf(Object)} unless duplicate neighbors are required.
+     * in the returned list. The list is reconstructed on every invocation by
+     * duplicating entries in the neighbor set. It is thus more efficient to use
+     * {@link #successorsOf(Object)} unless duplicate neighbors are required.
      *
      * @param v the vertex whose successors are desired
      *
@@ -146,18 +150,20 @@ public class DirectedNeighborIndex<V, E>
         V source = graph.getEdgeSource(edge);
         V target = graph.getEdgeTarget(edge);
 
-        // if a map does not already contain an entry,
-        // then skip addNeighbor, since instantiating the map
+        // if the index does not already contain an entry,
+        // then skip addNeighbor, since building the entry
         // will take care of processing the edge (which has already
         // been added)
 
-        if (successorMap.containsKey(source)) {
-            getSuccessors(source).addNeighbor(target);
+        Neighbors<V> successors = cached(successorTable, source);
+        if (successors != null) {
+            successors.addNeighbor(target);
         } else {
             getSuccessors(source);
         }
-        if (predecessorMap.containsKey(target)) {
-            getPredecessors(target).addNeighbor(source);
+        Neighbors<V> predecessors = cached(predecessorTable, target);
+        if (predecessors != null) {
+            predecessors.addNeighbor(source);
         } else {
             getPredecessors(target);
         }
@@ -170,11 +176,13 @@ public class DirectedNeighborIndex<V, E>
     {
         V source = e.getEdgeSource();
         V target = e.getEdgeTarget();
-        if (successorMap.containsKey(source)) {
-            successorMap.get(source).removeNeighbor(target);
+        Neighbors<V> successors = cached(successorTable, source);
+        if (successors != null) {
+            successors.removeNeighbor(target);
         }
-        if (predecessorMap.containsKey(target)) {
-            predecessorMap.get(target).removeNeighbor(source);
+        Neighbors<V> predecessors = cached(predecessorTable, target);
+        if (predecessors != null) {
+            predecessors.removeNeighbor(source);
         }
     }
 
@@ -191,28 +199,41 @@ public class DirectedNeighborIndex<V, E>
      */
     @Override public void vertexRemoved(GraphVertexChangeEvent<V> e)
     {
-        predecessorMap.remove(e.getVertex());
-        successorMap.remove(e.getVertex());
+        int id = vertexIds.idOf(e.getVertex());
+        if (id >= 0) {
+            NeighborIndex.storeNeighbors(predecessorTable, id, null);
+            NeighborIndex.storeNeighbors(successorTable, id, null);
+            vertexIds.release(e.getVertex());
+        }
+    }
+
+    private Neighbors<V> cached(List<Neighbors<V>> table, V v)
+    {
+        return NeighborIndex.cachedNeighbors(table, vertexIds.idOf(v));
     }
 
     private Neighbors<V> getPredecessors(V v)
     {
-        Neighbors<V> neighbors = predecessorMap.get(v);
+        int id = vertexIds.register(v);
+        Neighbors<V> neighbors =
+            NeighborIndex.cachedNeighbors(predecessorTable, id);
         if (neighbors == null) {
-            neighbors =
-                    new Neighbors<>(Graphs.predecessorListOf(graph, v));
-            predecessorMap.put(v, neighbors);
+            graph.forEachIncoming(v, collector);
+            neighbors = collector.build();
+            NeighborIndex.storeNeighbors(predecessorTable, id, neighbors);
         }
         return neighbors;
     }
 
     private Neighbors<V> getSuccessors(V v)
     {
-        Neighbors<V> neighbors = successorMap.get(v);
+        int id = vertexIds.register(v);
+        Neighbors<V> neighbors =
+            NeighborIndex.cachedNeighbors(successorTable, id);
         if (neighbors == null) {
-            neighbors =
-                    new Neighbors<>(Graphs.successorListOf(graph, v));
-            successorMap.put(v, neighbors);
+            graph.forEachOutgoing(v, collector);
+            neighbors = collector.build();
+            NeighborIndex.storeNeighbors(successorTable, id, neighbors);
         }
         return neighbors;
     }
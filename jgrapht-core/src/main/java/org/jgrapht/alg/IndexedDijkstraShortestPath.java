@@ -0,0 +1,250 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------------------
+ * IndexedDijkstraShortestPath.java
+ * ---------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * An implementation of Dijkstra's shortest path algorithm over the integer
+ * vertex ids of a {@link GraphSnapshot}. Distances and predecessors are kept
+ * in primitive arrays and the open vertices in an {@link IntDaryHeap}, so a
+ * search creates no per-vertex objects, unlike {@link DijkstraShortestPath}
+ * which runs on the maps and Fibonacci heap nodes of {@link
+ * org.jgrapht.traverse.ClosestFirstIterator}.
+ *
+ * <p>The snapshot is taken once, when the instance is created, and any
+ * number of queries may then be answered; changes made to the graph
+ * afterwards are not seen. Directed graphs are searched along outgoing
+ * edges, all other graphs along every edge. Edge weights must not be
+ * negative.</p>
+ *
+ * <p>Queries run in a {@link ShortestPathWorkspace}, which is reused from one
+ * query to the next. The methods without a workspace argument share one
+ * owned by the instance and must not be called concurrently; concurrent
+ * callers pass a workspace of their own.</p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class IndexedDijkstraShortestPath<V, E>
+{
+    static final int HEAP_ARITY = 4;
+
+    private final Graph<V, E> graph;
+    private final GraphSnapshot<V, E> snapshot;
+    private final SnapshotAdjacency adjacency;
+
+    private ShortestPathWorkspace workspace;
+    private int numberOfSettledVertices;
+
+    /**
+     * Creates a new instance for the specified graph and takes a snapshot of
+     * it.
+     *
+     * @param graph the graph to be searched
+     *
+     * @throws IllegalArgumentException if an edge has a negative weight
+     */
+    public IndexedDijkstraShortestPath(Graph<V, E> graph)
+    {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph cannot be null!");
+        }
+        this.graph = graph;
+        this.snapshot = GraphSnapshot.of(graph);
+        this.adjacency = SnapshotAdjacency.outgoing(snapshot);
+    }
+
+    /**
+     * Returns the snapshot searched by this instance.
+     *
+     * @return the snapshot
+     */
+    public GraphSnapshot<V, E> getSnapshot()
+    {
+        return snapshot;
+    }
+
+    /**
+     * Creates a workspace suitable for the queries of this instance.
+     *
+     * @return a new workspace
+     */
+    public ShortestPathWorkspace createWorkspace()
+    {
+        return new ShortestPathWorkspace(snapshot.vertexCount());
+    }
+
+    /**
+     * Computes a shortest path between two vertices, using a workspace owned
+     * by this instance.
+     *
+     * @param startVertex the vertex at which the path should start
+     * @param endVertex the vertex at which the path should end
+     *
+     * @return the shortest path, or <code>null</code> if no path exists
+     *
+     * @throws IllegalArgumentException if either vertex is not contained in
+     * the graph
+     */
+    public GraphPath<V, E> getPath(V startVertex, V endVertex)
+    {
+        if (workspace == null) {
+            workspace = createWorkspace();
+        }
+        return getPath(startVertex, endVertex, workspace);
+    }
+
+    /**
+     * Computes a shortest path between two vertices in the specified
+     * workspace. Queries running in different workspaces may run
+     * concurrently.
+     *
+     * @param startVertex the vertex at which the path should start
+     * @param endVertex the vertex at which the path should end
+     * @param workspace the workspace to search in
+     *
+     * @return the shortest path, or <code>null</code> if no path exists
+     *
+     * @throws IllegalArgumentException if either vertex is not contained in
+     * the graph, or the workspace is too small
+     */
+    public GraphPath<V, E> getPath(
+        V startVertex,
+        V endVertex,
+        ShortestPathWorkspace workspace)
+    {
+        int source = indexOf(startVertex);
+        int target = indexOf(endVertex);
+        ShortestPathWorkspace.Search search =
+            ShortestPathWorkspace.check(workspace, snapshot.vertexCount())
+            .forward();
+
+        int settled = 0;
+        search.start(source);
+        IntDaryHeap heap = search.heap;
+        while (!heap.isEmpty()) {
+            int v = heap.removeMin();
+            settled++;
+            if (v == target) {
+                numberOfSettledVertices = settled;
+                return buildPath(source, target, search);
+            }
+            double dv = search.dist[v];
+            for (int a = adjacency.offsets[v];
+                a < adjacency.offsets[v + 1];
+                a++)
+            {
+                int u = adjacency.heads[a];
+                double du = dv + adjacency.weights[a];
+                if (du < search.distance(u)) {
+                    search.relax(u, du, v, adjacency.edges[a]);
+                }
+            }
+        }
+        numberOfSettledVertices = settled;
+        return null;
+    }
+
+    /**
+     * Computes the length of a shortest path between two vertices.
+     *
+     * @param startVertex the vertex at which the path should start
+     * @param endVertex the vertex at which the path should end
+     *
+     * @return the path length, or <code>Double.POSITIVE_INFINITY</code> if no
+     * path exists
+     *
+     * @throws IllegalArgumentException if either vertex is not contained in
+     * the graph
+     */
+    public double getPathLength(V startVertex, V endVertex)
+    {
+        GraphPath<V, E> path = getPath(startVertex, endVertex);
+        return (path == null) ? Double.POSITIVE_INFINITY : path.getWeight();
+    }
+
+    /**
+     * Returns how many vertices were settled, that is removed from the heap,
+     * by the last query.
+     *
+     * @return the number of settled vertices
+     */
+    public int getNumberOfSettledVertices()
+    {
+        return numberOfSettledVertices;
+    }
+
+    private int indexOf(V vertex)
+    {
+        int index = snapshot.getVertexIndex(vertex);
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                "graph must contain the vertex " + vertex);
+        }
+        return index;
+    }
+
+    private GraphPath<V, E> buildPath(
+        int source,
+        int target,
+        ShortestPathWorkspace.Search search)
+    {
+        List<E> edgeList = new ArrayList<>();
+        List<V> vertexList = new ArrayList<>();
+        vertexList.add(snapshot.getVertex(target));
+        for (int v = target; v != source; v = search.predVertex[v]) {
+            edgeList.add(snapshot.getEdge(search.predEdge[v]));
+            vertexList.add(snapshot.getVertex(search.predVertex[v]));
+        }
+        Collections.reverse(edgeList);
+        Collections.reverse(vertexList);
+        return new GraphWalk<>(
+            graph,
+            snapshot.getVertex(source),
+            snapshot.getVertex(target),
+            vertexList,
+            edgeList,
+            search.dist[target]);
+    }
+}
+
+// End IndexedDijkstraShortestPath.java
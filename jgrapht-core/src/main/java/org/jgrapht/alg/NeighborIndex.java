@@ -39,7 +39,6 @@ import java.util.*;
 
 import org.jgrapht.*;
 import org.jgrapht.event.*;
-import org.jgrapht.util.*;
 
 
 /**
@@ -57,13 +56,22 @@ import org.jgrapht.util.*;
  * if it is added to the associated graph as a listener. If it is added as a
  * listener to a graph other than the one it indexes, results are undefined.</p>
  *
+ * <p>The index numbers the vertices it has seen, and stores the neighbors of
+ * each cached vertex as a sorted array of those numbers together with a
+ * parallel array of multiplicities. Testing whether a vertex is a neighbor
+ * takes O(log d) time for a vertex of degree d, and the neighbor sets are
+ * iterated in ascending order of those numbers.</p>
+ *
  * @author Charles Fry
  * @since Dec 13, 2005
  */
 public class NeighborIndex<V, E>
     implements GraphListener<V, E>
 {
-    Map<V, Neighbors<V>> neighborMap = new HashMap<>();
+    final VertexIds<V> vertexIds = new VertexIds<>();
+    final List<Neighbors<V>> neighborTable = new ArrayList<>();
+    private final NeighborCollector<V> collector =
+        new NeighborCollector<>(vertexIds);
     private Graph<V, E> graph;
 
     /**
@@ -94,10 +102,9 @@ public class NeighborIndex<V, E>
     /**
      * Returns a list of vertices which are adjacent to a specified vertex. If
      * the graph is a multigraph, vertices may appear more than once in the
-     * returned list. Because a list of neighbors can not be efficiently
-     * maintained, it is reconstructed on every invocation, by duplicating
-     * entries in the neighbor set. It is thus more efficient to use {@link
-     * #neighborsOf(Object)} unless duplicate neighbors are important.
+     * returned list. The list is reconstructed on every invocation, by
+     * duplicating entries in the neighbor set. It is thus more efficient to use
+     * {@link #neighborsOf(Object)} unless duplicate neighbors are important.
      *
      * @param v the vertex whose neighbors are desired
      *
@@ -117,18 +124,24 @@ public class NeighborIndex<V, E>
         V source = graph.getEdgeSource(edge);
         V target = graph.getEdgeTarget(edge);
 
-        // if a map does not already contain an entry,
-        // then skip addNeighbor, since instantiating the map
+        // if the index does not already contain an entry,
+        // then skip addNeighbor, since building the entry
         // will take care of processing the edge (which has already
         // been added)
 
-        if (neighborMap.containsKey(source)) {
-            getNeighbors(source).addNeighbor(target);
+        Neighbors<V> neighbors = cachedNeighbors(source);
+        if (neighbors != null) {
+            neighbors.addNeighbor(target);
         } else {
             getNeighbors(source);
         }
-        if (neighborMap.containsKey(target)) {
-            getNeighbors(target).addNeighbor(source);
+        if (source.equals(target)) {
+            // a loop is a single neighbor entry
+            return;
+        }
+        neighbors = cachedNeighbors(target);
+        if (neighbors != null) {
+            neighbors.addNeighbor(source);
         } else {
             getNeighbors(target);
         }
@@ -141,11 +154,16 @@ public class NeighborIndex<V, E>
     {
         V source = e.getEdgeSource();
         V target = e.getEdgeTarget();
-        if (neighborMap.containsKey(source)) {
-            neighborMap.get(source).removeNeighbor(target);
+        Neighbors<V> neighbors = cachedNeighbors(source);
+        if (neighbors != null) {
+            neighbors.removeNeighbor(target);
+        }
+        if (source.equals(target)) {
+            return;
         }
-        if (neighborMap.containsKey(target)) {
-            neighborMap.get(target).removeNeighbor(source);
+        neighbors = cachedNeighbors(target);
+        if (neighbors != null) {
+            neighbors.removeNeighbor(source);
         }
     }
 
@@ -162,87 +180,280 @@ public class NeighborIndex<V, E>
      */
     @Override public void vertexRemoved(GraphVertexChangeEvent<V> e)
     {
-        neighborMap.remove(e.getVertex());
+        int id = vertexIds.idOf(e.getVertex());
+        if (id >= 0) {
+            storeNeighbors(neighborTable, id, null);
+            vertexIds.release(e.getVertex());
+        }
     }
 
     private Neighbors<V> getNeighbors(V v)
     {
-        Neighbors<V> neighbors = neighborMap.get(v);
+        int id = vertexIds.register(v);
+        Neighbors<V> neighbors = cachedNeighbors(neighborTable, id);
         if (neighbors == null) {
-            neighbors = new Neighbors<>(Graphs.neighborListOf(graph, v));
-            neighborMap.put(v, neighbors);
+            graph.forEachEdgeOf(v, collector);
+            neighbors = collector.build();
+            storeNeighbors(neighborTable, id, neighbors);
         }
         return neighbors;
     }
 
+    private Neighbors<V> cachedNeighbors(V v)
+    {
+        return cachedNeighbors(neighborTable, vertexIds.idOf(v));
+    }
+
+    /**
+     * Returns the cached neighbors of the vertex with the specified id, or null
+     * if the table holds no entry for it.
+     */
+    static <V> Neighbors<V> cachedNeighbors(List<Neighbors<V>> table, int id)
+    {
+        return ((id >= 0) && (id < table.size())) ? table.get(id) : null;
+    }
+
+    static <V> void storeNeighbors(
+        List<Neighbors<V>> table,
+        int id,
+        Neighbors<V> neighbors)
+    {
+        while (table.size() <= id) {
+            table.add(null);
+        }
+        table.set(id, neighbors);
+    }
+
+    /**
+     * Assigns dense integer ids to the vertices seen by an index. The ids of
+     * removed vertices are recycled.
+     */
+    static class VertexIds<V>
+    {
+        private final Map<V, Integer> ids = new HashMap<>();
+        private final List<V> vertices = new ArrayList<>();
+        private int [] free = new int[8];
+        private int freeCount = 0;
+
+        int idOf(Object v)
+        {
+            Integer id = ids.get(v);
+            return (id == null) ? -1 : id;
+        }
+
+        int register(V v)
+        {
+            Integer id = ids.get(v);
+            if (id != null) {
+                return id;
+            }
+            int next;
+            if (freeCount > 0) {
+                next = free[--freeCount];
+                vertices.set(next, v);
+            } else {
+                next = vertices.size();
+                vertices.add(v);
+            }
+            ids.put(v, next);
+            return next;
+        }
+
+        void release(V v)
+        {
+            Integer id = ids.remove(v);
+            if (id == null) {
+                return;
+            }
+            vertices.set(id, null);
+            if (freeCount == free.length) {
+                free = Arrays.copyOf(free, 2 * freeCount);
+            }
+            free[freeCount++] = id;
+        }
+
+        V vertexAt(int id)
+        {
+            return vertices.get(id);
+        }
+    }
+
     /**
-     * Stores cached neighbors for a single vertex. Includes support for live
+     * Gathers the neighbor ids reported for a vertex and turns them into a
+     * {@link Neighbors} entry. The buffer is reused between vertices.
+     */
+    static class NeighborCollector<V>
+        implements IncidenceConsumer<V, Object>
+    {
+        private final VertexIds<V> vertexIds;
+        private int [] buffer = new int[16];
+        private int size = 0;
+
+        NeighborCollector(VertexIds<V> vertexIds)
+        {
+            this.vertexIds = vertexIds;
+        }
+
+        @Override public void accept(Object edge, V opposite, double weight)
+        {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, 2 * size);
+            }
+            buffer[size++] = vertexIds.register(opposite);
+        }
+
+        Neighbors<V> build()
+        {
+            Neighbors<V> neighbors =
+                new Neighbors<>(vertexIds, buffer, size);
+            size = 0;
+            return neighbors;
+        }
+    }
+
+    /**
+     * Stores cached neighbors for a single vertex as a sorted array of vertex
+     * ids with a parallel array of multiplicities. Includes support for live
      * neighbor sets and duplicate neighbors.
      */
     static class Neighbors<V>
     {
-        private Map<V, ModifiableInteger> neighborCounts =
-                new LinkedHashMap<>();
+        private final VertexIds<V> vertexIds;
+        private int [] ids;
+        private int [] counts;
+        private int size;
+        private int total;
 
         // TODO could eventually make neighborSet modifiable, resulting
         // in edge removals from the graph
-        private Set<V> neighborSet =
-            Collections.unmodifiableSet(
-                neighborCounts.keySet());
+        private Set<V> neighborSet;
 
-        public Neighbors(Collection<V> neighbors)
+        /**
+         * Creates an entry from unsorted neighbor ids which may contain
+         * duplicates.
+         */
+        Neighbors(VertexIds<V> vertexIds, int [] neighbors, int length)
         {
-            // add all current neighbors
-            for (V neighbor : neighbors) {
-                addNeighbor(neighbor);
+            this.vertexIds = vertexIds;
+            int [] sorted = Arrays.copyOf(neighbors, length);
+            Arrays.sort(sorted);
+            int unique = 0;
+            for (int i = 0; i < length; i++) {
+                if ((i == 0) || (sorted[i] != sorted[i - 1])) {
+                    unique++;
+                }
+            }
+            ids = new int[unique];
+            counts = new int[unique];
+            for (int i = 0; i < length; i++) {
+                if ((size == 0) || (ids[size - 1] != sorted[i])) {
+                    ids[size++] = sorted[i];
+                }
+                counts[size - 1]++;
             }
+            total = length;
         }
 
         public void addNeighbor(V v)
         {
-            ModifiableInteger count = neighborCounts.get(v);
-            if (count == null) {
-                count = new ModifiableInteger(1);
-                neighborCounts.put(v, count);
+            int id = vertexIds.register(v);
+            int i = Arrays.binarySearch(ids, 0, size, id);
+            if (i >= 0) {
+                counts[i]++;
             } else {
-                count.increment();
+                i = -i - 1;
+                if (size == ids.length) {
+                    int capacity = Math.max(4, size + (size >> 1));
+                    ids = Arrays.copyOf(ids, capacity);
+                    counts = Arrays.copyOf(counts, capacity);
+                }
+                System.arraycopy(ids, i, ids, i + 1, size - i);
+                System.arraycopy(counts, i, counts, i + 1, size - i);
+                ids[i] = id;
+                counts[i] = 1;
+                size++;
             }
+            total++;
         }
 
         public void removeNeighbor(V v)
         {
-            ModifiableInteger count = neighborCounts.get(v);
-            if (count == null) {
+            int i = indexOf(v);
+            if (i < 0) {
                 throw new IllegalArgumentException(
                     "Attempting to remove a neighbor that wasn't present");
             }
 
-            count.decrement();
-            if (count.getValue() == 0) {
-                neighborCounts.remove(v);
+            total--;
+            if (--counts[i] == 0) {
+                size--;
+                System.arraycopy(ids, i + 1, ids, i, size - i);
+                System.arraycopy(counts, i + 1, counts, i, size - i);
             }
         }
 
         public Set<V> getNeighbors()
         {
+            if (neighborSet == null) {
+                neighborSet = new NeighborSet();
+            }
             return neighborSet;
         }
 
         public List<V> getNeighborList()
         {
-            List<V> neighbors = new ArrayList<>();
-            for (
-                Map.Entry<V, ModifiableInteger> entry
-                : neighborCounts.entrySet())
-            {
-                V v = entry.getKey();
-                int count = entry.getValue().intValue();
-                for (int i = 0; i < count; i++) {
+            List<V> neighbors = new ArrayList<>(total);
+            for (int i = 0; i < size; i++) {
+                V v = vertexIds.vertexAt(ids[i]);
+                for (int j = 0; j < counts[i]; j++) {
                     neighbors.add(v);
                 }
             }
             return neighbors;
         }
+
+        private int indexOf(Object v)
+        {
+            int id = vertexIds.idOf(v);
+            return (id < 0) ? -1 : Arrays.binarySearch(ids, 0, size, id);
+        }
+
+        /**
+         * Unmodifiable live view of the distinct neighbors.
+         */
+        private class NeighborSet
+            extends AbstractSet<V>
+        {
+            @Override public int size()
+            {
+                return size;
+            }
+
+            @Override public boolean contains(Object o)
+            {
+                return indexOf(o) >= 0;
+            }
+
+            @Override public Iterator<V> iterator()
+            {
+                return new Iterator<V>() {
+                    private int next = 0;
+
+                    @Override public boolean hasNext()
+                    {
+                        return next < size;
+                    }
+
+                    @Override public V next()
+                    {
+                        if (next >= size) {
+                            throw new NoSuchElementException();
+                        }
+                        return vertexIds.vertexAt(ids[next++]);
+                    }
+                };
+            }
+        }
     }
 }
 
@@ -0,0 +1,179 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------------
+ * ShortestPathWorkspace.java
+ * ---------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.util.*;
+
+
+/**
+ * Reusable scratch space for the array-based shortest path searches ({@link
+ * IndexedDijkstraShortestPath}, {@link BidirectionalDijkstraShortestPath} and
+ * {@link ContractionHierarchyShortestPath}). It holds the distance and
+ * predecessor arrays and the heap of a search, so that a query allocates
+ * nothing but the path it returns.
+ *
+ * <p>Instead of clearing its arrays before every query, a workspace stamps
+ * each entry it writes with the number of the current query; entries with an
+ * older stamp read as unreached. Starting a query therefore costs time
+ * proportional to the number of vertices still in the heap, not to the size
+ * of the graph.</p>
+ *
+ * <p>A workspace may be used for any number of queries on graphs with at most
+ * {@link #getCapacity()} vertices, but by only one thread at a time; keep one
+ * per thread, for example in a <code>ThreadLocal</code>.</p>
+ */
+public final class ShortestPathWorkspace
+{
+    private final int capacity;
+    private final Search forward;
+    private Search backward;
+
+    /**
+     * Creates a workspace for graphs with up to the specified number of
+     * vertices.
+     *
+     * @param capacity the maximum number of vertices
+     */
+    public ShortestPathWorkspace(int capacity)
+    {
+        this.capacity = capacity;
+        this.forward = new Search(capacity);
+    }
+
+    /**
+     * Returns the maximum number of vertices of the graphs this workspace can
+     * be used for.
+     *
+     * @return the capacity
+     */
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    Search forward()
+    {
+        return forward;
+    }
+
+    Search backward()
+    {
+        if (backward == null) {
+            backward = new Search(capacity);
+        }
+        return backward;
+    }
+
+    /**
+     * Checks that a workspace can hold a search over the specified number of
+     * vertices.
+     */
+    static ShortestPathWorkspace check(ShortestPathWorkspace workspace, int n)
+    {
+        if (workspace.capacity < n) {
+            throw new IllegalArgumentException(
+                "workspace capacity " + workspace.capacity
+                + " is smaller than the vertex count " + n);
+        }
+        return workspace;
+    }
+
+    /**
+     * The state of one search direction. A vertex counts as reached when its
+     * stamp equals the current epoch.
+     */
+    static final class Search
+    {
+        final double [] dist;
+        final int [] predVertex;
+        final int [] predEdge;
+        final int [] stamp;
+        final IntDaryHeap heap;
+        int epoch;
+
+        Search(int capacity)
+        {
+            this.dist = new double[capacity];
+            this.predVertex = new int[capacity];
+            this.predEdge = new int[capacity];
+            this.stamp = new int[capacity];
+            this.heap =
+                new IntDaryHeap(
+                    IndexedDijkstraShortestPath.HEAP_ARITY,
+                    capacity);
+        }
+
+        /**
+         * Starts a new search from the specified root.
+         */
+        void start(int root)
+        {
+            heap.clear();
+            if (++epoch == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                epoch = 1;
+            }
+            reach(root, 0.0, -1, -1);
+            heap.insert(root, 0.0);
+        }
+
+        double distance(int v)
+        {
+            return (stamp[v] == epoch) ? dist[v] : Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Records a shorter distance to v and queues it.
+         */
+        void relax(int v, double d, int pred, int edge)
+        {
+            reach(v, d, pred, edge);
+            heap.insertOrDecreaseKey(v, d);
+        }
+
+        private void reach(int v, double d, int pred, int edge)
+        {
+            stamp[v] = epoch;
+            dist[v] = d;
+            predVertex[v] = pred;
+            predEdge[v] = edge;
+        }
+    }
+}
+
+// End ShortestPathWorkspace.java
@@ -0,0 +1,177 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -----------------------
+ * SnapshotAdjacency.java
+ * -----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * Adjacency arrays in compressed sparse row form over the vertex and edge
+ * ids of a {@link GraphSnapshot}, laid out for the relaxation loop of the
+ * array-based shortest path searches: the arcs of vertex <code>v</code> are
+ * the positions from <code>offsets[v]</code> (inclusive) to <code>offsets[v
+ * + 1]</code> (exclusive) of the parallel <code>heads</code>, <code>
+ * edges</code> and <code>weights</code> arrays.
+ *
+ * <p>For a directed snapshot an adjacency follows either the outgoing or the
+ * incoming edges; for an undirected snapshot both directions give the same
+ * arcs, every edge appearing once at each of its endpoints.</p>
+ */
+final class SnapshotAdjacency
+{
+    final int [] offsets;
+    final int [] heads;
+    final int [] edges;
+    final double [] weights;
+
+    private SnapshotAdjacency(GraphSnapshot<?, ?> snapshot, boolean outgoing)
+    {
+        int n = snapshot.vertexCount();
+        int [] sources = snapshot.getSources();
+        int [] targets = snapshot.getTargets();
+        double [] edgeWeights = snapshot.getWeights();
+        boolean both = !snapshot.isDirected();
+        for (double weight : edgeWeights) {
+            if (weight < 0.0) {
+                throw new IllegalArgumentException(
+                    "negative edge weights not allowed");
+            }
+        }
+
+        offsets = new int[n + 1];
+        for (int j = 0; j < sources.length; j++) {
+            if (both) {
+                offsets[sources[j] + 1]++;
+                if (sources[j] != targets[j]) {
+                    offsets[targets[j] + 1]++;
+                }
+            } else {
+                offsets[(outgoing ? sources[j] : targets[j]) + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int m = offsets[n];
+        heads = new int[m];
+        edges = new int[m];
+        weights = new double[m];
+        int [] next = new int[n];
+        System.arraycopy(offsets, 0, next, 0, n);
+        for (int j = 0; j < sources.length; j++) {
+            int s = sources[j];
+            int t = targets[j];
+            if (both || outgoing) {
+                add(next[s]++, t, j, edgeWeights[j]);
+            }
+            if ((both && (s != t)) || (!both && !outgoing)) {
+                add(next[t]++, s, j, edgeWeights[j]);
+            }
+        }
+    }
+
+    /**
+     * Builds the adjacency following the outgoing edges of a snapshot.
+     *
+     * @param snapshot the snapshot
+     *
+     * @return the adjacency
+     *
+     * @throws IllegalArgumentException if an edge has a negative weight
+     */
+    static SnapshotAdjacency outgoing(GraphSnapshot<?, ?> snapshot)
+    {
+        return new SnapshotAdjacency(snapshot, true);
+    }
+
+    /**
+     * Builds the adjacency following the incoming edges of a snapshot.
+     *
+     * @param snapshot the snapshot
+     *
+     * @return the adjacency
+     *
+     * @throws IllegalArgumentException if an edge has a negative weight
+     */
+    static SnapshotAdjacency incoming(GraphSnapshot<?, ?> snapshot)
+    {
+        return new SnapshotAdjacency(snapshot, false);
+    }
+
+    /**
+     * Computes the distances from a vertex to all vertices, following the
+     * arcs of this adjacency.
+     *
+     * @param source the vertex id to start from
+     * @param dist receives the distances, or <code>
+     * Double.POSITIVE_INFINITY</code> for vertices which cannot be reached
+     */
+    void distancesFrom(int source, double [] dist)
+    {
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        IntDaryHeap heap =
+            new IntDaryHeap(
+                IndexedDijkstraShortestPath.HEAP_ARITY,
+                dist.length);
+        dist[source] = 0.0;
+        heap.insert(source, 0.0);
+        while (!heap.isEmpty()) {
+            int v = heap.removeMin();
+            double dv = dist[v];
+            for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                int u = heads[a];
+                double du = dv + weights[a];
+                if (du < dist[u]) {
+                    dist[u] = du;
+                    heap.insertOrDecreaseKey(u, du);
+                }
+            }
+        }
+    }
+
+    private void add(int pos, int head, int edge, double weight)
+    {
+        heads[pos] = head;
+        edges[pos] = edge;
+        weights[pos] = weight;
+    }
+}
+
+// End SnapshotAdjacency.java
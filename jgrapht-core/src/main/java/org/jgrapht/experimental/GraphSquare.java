@@ -106,6 +106,17 @@ public class GraphSquare<V, E>
         }
     }
 
+    /**
+     * This graph is unmodifiable, so bulk loading must fail like {@link
+     * #addEdge(Object, Object, Object)}.
+     *
+     * @see AbstractBaseGraph#isBulkEdgeAdditionSupported()
+     */
+    @Override protected boolean isBulkEdgeAdditionSupported()
+    {
+        return false;
+    }
+
     /**
      * @see Graph#addEdge(Object, Object)
      */
@@ -34,22 +34,36 @@ public abstract class IntArrayGraphAlgorithm<V, E>
      */
     public IntArrayGraphAlgorithm(final Graph<V, E> g)
     {
-        final int numVertices = g.vertexSet().size();
+        final GraphSnapshot<V, E> snapshot = GraphSnapshot.of(g);
+        final int numVertices = snapshot.vertexCount();
+        final int [] sources = snapshot.getSources();
+        final int [] targets = snapshot.getTargets();
+        final int [] outOffsets = snapshot.getOutOffsets();
+        final int [] inOffsets = snapshot.getInOffsets();
+        final int [] inEdges = snapshot.getInEdges();
         _vertices = new ArrayList<>(numVertices);
         _neighbors = new int[numVertices][];
         _vertexToPos = new HashMap<>(numVertices);
-        for (V vertex : g.vertexSet()) {
-            _neighbors[_vertices.size()] = new int[g.edgesOf(vertex).size()];
-            _vertexToPos.put(vertex, _vertices.size());
-            _vertices.add(vertex);
-        }
         for (int i = 0; i < numVertices; i++) {
+            final V vertex = snapshot.getVertex(i);
+            _vertexToPos.put(vertex, i);
+            _vertices.add(vertex);
+
+            int [] nb =
+                new int[(outOffsets[i + 1] - outOffsets[i])
+                    + (inOffsets[i + 1] - inOffsets[i])];
             int nbIndex = 0;
-            final V vertex = _vertices.get(i);
-            for (E e : g.edgesOf(vertex)) {
-                _neighbors[i][nbIndex++] =
-                    _vertexToPos.get(Graphs.getOppositeVertex(g, e, vertex));
+            for (int j = outOffsets[i]; j < outOffsets[i + 1]; j++) {
+                nb[nbIndex++] = targets[j];
+            }
+            for (int k = inOffsets[i]; k < inOffsets[i + 1]; k++) {
+                final int source = sources[inEdges[k]];
+                if (source != i) { // self-loops are already listed
+                    nb[nbIndex++] = source;
+                }
             }
+            _neighbors[i] =
+                (nbIndex == nb.length) ? nb : Arrays.copyOf(nb, nbIndex);
         }
     }
 }
@@ -223,6 +223,18 @@ public class DirectedAcyclicGraph<V, E>
         return super.addEdge(fromVertex, toVertex);
     }
 
+    /**
+     * Bulk loaded edges must go through {@link #addEdge(Object, Object,
+     * Object)} as well, so that they are checked for cycles and the
+     * topological order is kept up to date.
+     *
+     * @see AbstractBaseGraph#isBulkEdgeAdditionSupported()
+     */
+    @Override protected boolean isBulkEdgeAdditionSupported()
+    {
+        return false;
+    }
+
     /**
      * identical to {@link #addDagEdge(Object, Object)}, except an unchecked
      * {@link IllegalArgumentException} is thrown if a cycle would have been
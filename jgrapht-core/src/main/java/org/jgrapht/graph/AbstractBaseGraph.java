@@ -47,11 +47,13 @@ package org.jgrapht.graph;
 import java.io.*;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
-import org.jgrapht.graph.specifics.FastLookupDirectedSpecifics;
-import org.jgrapht.graph.specifics.FastLookupUndirectedSpecifics;
+import org.jgrapht.graph.specifics.FrozenSpecifics;
 import org.jgrapht.graph.specifics.Specifics;
+import org.jgrapht.graph.specifics.SpecificsFactory;
+import org.jgrapht.graph.specifics.SpecificsStrategy;
 import org.jgrapht.util.*;
 
 
@@ -62,7 +64,18 @@ import org.jgrapht.util.*;
  * and cannot be later modified (see constructor for details).
  *
  * <p>This graph implementation guarantees deterministic vertex and edge set
- * ordering (via {@link LinkedHashMap} and {@link LinkedHashSet}).</p>
+ * ordering (via {@link LinkedHashMap} and {@link LinkedHashSet}), unless its
+ * {@link SpecificsFactory} is unordered (see {@link
+ * SpecificsStrategy#unorderedFactory()}), in which case plain hash maps save
+ * memory at the expense of a deterministic order.</p>
+ *
+ * <p>The serialized form of the graph is its vertex list followed by its edge
+ * list; the adjacency structure is not written, but rebuilt when the graph is
+ * read.</p>
+ *
+ * <p>A graph which is done being built can be {@link #freeze() frozen}: its
+ * adjacency is then packed into arrays laid out for reading, and any further
+ * modification is rejected.</p>
  *
  * @author Barak Naveh
  * @since Jul 24, 2003
@@ -73,19 +86,23 @@ public abstract class AbstractBaseGraph<V, E>
         Cloneable,
         Serializable
 {
-    private static final long serialVersionUID = -1263088497616142427L;
+    private static final long serialVersionUID = 4811000483921413240L;
 
     private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+    private static final String FROZEN = "this graph is frozen";
 
     boolean allowingLoops;
 
     private EdgeFactory<V, E> edgeFactory;
     private EdgeSetFactory<V, E> edgeSetFactory;
-    private Map<E, IntrusiveEdge> edgeMap;
+    private transient Map<E, IntrusiveEdge> edgeMap;
     private transient Set<E> unmodifiableEdgeSet = null;
     private transient Set<V> unmodifiableVertexSet = null;
-    private Specifics<V,E> specifics;
+    private transient int edgeCapacity = 0;
+    private transient Specifics<V,E> specifics;
+    private SpecificsFactory<V, E> specificsFactory;
     private boolean allowingMultipleEdges;
+    private boolean frozen = false;
 
     private transient TypeUtil<V> vertexTypeDecl = null;
 
@@ -105,16 +122,44 @@ public abstract class AbstractBaseGraph<V, E>
         boolean allowMultipleEdges,
         boolean allowLoops)
     {
-        if (ef == null) {
+        this(
+            ef,
+            allowMultipleEdges,
+            allowLoops,
+            SpecificsStrategy.FAST_LOOKUP.factory());
+    }
+
+    /**
+     * Construct a new graph with the specified adjacency layout. The graph can
+     * either be directed or undirected, depending on the specified edge
+     * factory.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     * @param specificsFactory the factory of the internal adjacency structure
+     * of the new graph.
+     *
+     * @throws NullPointerException if the specified edge factory or specifics
+     * factory is <code>null</code>.
+     */
+    protected AbstractBaseGraph(
+        EdgeFactory<V, E> ef,
+        boolean allowMultipleEdges,
+        boolean allowLoops,
+        SpecificsFactory<V, E> specificsFactory)
+    {
+        if ((ef == null) || (specificsFactory == null)) {
             throw new NullPointerException();
         }
 
-        edgeMap = new LinkedHashMap<>();
         edgeFactory = ef;
         allowingLoops = allowLoops;
         allowingMultipleEdges = allowMultipleEdges;
 
         this.edgeSetFactory = new ArrayListFactory<>();
+        this.specificsFactory = specificsFactory;
+        edgeMap = createEdgeMap(0);
         specifics = createSpecifics();
 
     }
@@ -177,6 +222,7 @@ public abstract class AbstractBaseGraph<V, E>
      */
     public void setEdgeSetFactory(EdgeSetFactory<V, E> edgeSetFactory)
     {
+        assertNotFrozen();
         this.edgeSetFactory = edgeSetFactory;
     }
 
@@ -190,11 +236,111 @@ public abstract class AbstractBaseGraph<V, E>
         return edgeSetFactory;
     }
 
+    /**
+     * Set the {@link SpecificsFactory} to use for this graph, choosing the
+     * internal adjacency layout (see {@link SpecificsStrategy}). Initially, a
+     * graph is created with {@link SpecificsStrategy#FAST_LOOKUP}. If the graph
+     * is not empty, its adjacency is rebuilt in the new layout; vertex and edge
+     * iteration order is preserved, unless the new factory is unordered.
+     *
+     * @param specificsFactory factory to use for the adjacency of this graph
+     *
+     * @throws NullPointerException if the specified factory is <code>
+     * null</code>.
+     */
+    public void setSpecificsFactory(SpecificsFactory<V, E> specificsFactory)
+    {
+        if (specificsFactory == null) {
+            throw new NullPointerException();
+        }
+        assertNotFrozen();
+        Specifics<V, E> old = specifics;
+        boolean wasOrdered = this.specificsFactory.isOrdered();
+        this.specificsFactory = specificsFactory;
+        specifics = createSpecifics();
+
+        if (wasOrdered != specificsFactory.isOrdered()) {
+            Map<E, IntrusiveEdge> m = createEdgeMap(edgeMap.size());
+            m.putAll(edgeMap);
+            edgeMap = m;
+            edgeCapacity = edgeMap.size();
+        }
+
+        for (V v : old.getVertexSet()) {
+            specifics.addVertex(v);
+        }
+        for (E e : edgeMap.keySet()) {
+            specifics.addEdgeToTouchingVertices(e);
+        }
+    }
+
+    /**
+     * Returns the {@link SpecificsFactory} used by this graph.
+     *
+     * @return specificsFactory used by this graph
+     */
+    public SpecificsFactory<V, E> getSpecificsFactory()
+    {
+        return specificsFactory;
+    }
+
+    /**
+     * Sizes the internal structures of this graph for the specified number of
+     * vertices and edges, so that they need not grow while the graph is
+     * filled. Edge sets of vertices which do not have any edge yet are sized
+     * for the average degree, if the {@link EdgeSetFactory} of the graph
+     * supports it. Sizes smaller than the current ones are ignored; to release
+     * excess capacity, use {@link #trimToSize()}.
+     *
+     * @param vertexCount the expected number of vertices
+     * @param edgeCount the expected number of edges
+     *
+     * @throws IllegalArgumentException if any count is negative
+     */
+    public void ensureCapacity(int vertexCount, int edgeCount)
+    {
+        if ((vertexCount < 0) || (edgeCount < 0)) {
+            throw new IllegalArgumentException("negative capacity");
+        }
+        assertNotFrozen();
+        if (edgeCount > Math.max(edgeCapacity, edgeMap.size())) {
+            resizeEdgeMap(edgeCount);
+        }
+        specifics.ensureCapacity(vertexCount, edgeCount);
+    }
+
+    private void resizeEdgeMap(int capacity)
+    {
+        Map<E, IntrusiveEdge> sized = createEdgeMap(capacity);
+        sized.putAll(edgeMap);
+        edgeMap = sized;
+        edgeCapacity = capacity;
+    }
+
+    /**
+     * Releases the excess capacity of the internal structures of this graph,
+     * e.g. after it has been loaded. Vertex and edge iteration order is
+     * preserved.
+     */
+    public void trimToSize()
+    {
+        if (frozen) {
+            // already packed
+            return;
+        }
+        Map<E, IntrusiveEdge> trimmed = createEdgeMap(edgeMap.size());
+        trimmed.putAll(edgeMap);
+        edgeMap = trimmed;
+        edgeCapacity = edgeMap.size();
+        specifics.trimToSize();
+    }
+
     /**
      * @see Graph#addEdge(Object, Object)
      */
     @Override public E addEdge(V sourceVertex, V targetVertex)
     {
+        assertNotFrozen();
         assertVertexExist(sourceVertex);
         assertVertexExist(targetVertex);
 
@@ -229,6 +375,7 @@ public abstract class AbstractBaseGraph<V, E>
      */
     @Override public boolean addEdge(V sourceVertex, V targetVertex, E e)
     {
+        assertNotFrozen();
         if (e == null) {
             throw new NullPointerException();
         } else if (containsEdge(e)) {
@@ -257,6 +404,148 @@ public abstract class AbstractBaseGraph<V, E>
         return true;
     }
 
+    /**
+     * Adds many edges at once. Edge <code>i</code> goes from <code>
+     * sourceVertices.get(i)</code> to <code>targetVertices.get(i)</code>; it is
+     * <code>edges.get(i)</code>, or created by the edge factory if <code>
+     * edges</code> is <code>null</code>. The result is the same as adding the
+     * edges one by one through {@link #addEdge(Object, Object, Object)}, but
+     * internal structures are sized once for the whole batch, and the input is
+     * validated before the graph is modified: if an endpoint is not in the
+     * graph or a loop is not allowed, an exception is thrown and no edge is
+     * added.
+     *
+     * <p>Multiple edges are still detected edge by edge: unless the input is
+     * trusted, a graph which does not allow them looks up every vertex pair of
+     * the batch in the graph, as {@link #addEdge(Object, Object, Object)}
+     * does.</p>
+     *
+     * <p>If {@link #isBulkEdgeAdditionSupported()} returns <code>false</code>,
+     * for example because a subclass maintains an invariant such as
+     * acyclicity in its <code>addEdge</code> methods, the edges are passed to
+     * {@link #addEdge(Object, Object)} or {@link #addEdge(Object, Object,
+     * Object)} one by one instead, and the batch is only as fast and as atomic
+     * as those calls.</p>
+     *
+     * <p>If <code>trusted</code> is <code>true</code>, the input is not
+     * validated at all, and neither are edges checked against the edges of the
+     * graph: the caller guarantees that all endpoints are in the graph, that
+     * no edge is a loop unless loops are allowed, that the edges are new to
+     * the graph and distinct, and that no two vertices get connected twice
+     * unless multiple edges are allowed. Violating these guarantees leaves the
+     * graph in an inconsistent state.</p>
+     *
+     * @param sourceVertices source vertices of the edges
+     * @param targetVertices target vertices of the edges
+     * @param edges the edges to add, or <code>null</code> to create them with
+     * the edge factory of this graph
+     * @param trusted whether the input is known to be valid
+     *
+     * @return the number of edges added
+     *
+     * @throws IllegalArgumentException if the lists differ in size, or if the
+     * input is not trusted and an endpoint is not in the graph or a loop is not
+     * allowed
+     * @throws NullPointerException if the input is not trusted and any of the
+     * edges is <code>null</code>.
+     */
+    public int addEdgesBulk(
+        List<? extends V> sourceVertices,
+        List<? extends V> targetVertices,
+        List<? extends E> edges,
+        boolean trusted)
+    {
+        assertNotFrozen();
+        int n = sourceVertices.size();
+        if ((targetVertices.size() != n)
+            || ((edges != null) && (edges.size() != n)))
+        {
+            throw new IllegalArgumentException("sizes of the lists differ");
+        }
+
+        if (!trusted) {
+            for (int i = 0; i < n; i++) {
+                V sourceVertex = sourceVertices.get(i);
+                V targetVertex = targetVertices.get(i);
+                assertVertexExist(sourceVertex);
+                assertVertexExist(targetVertex);
+                if (!allowingLoops && sourceVertex.equals(targetVertex)) {
+                    throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+                }
+                if ((edges != null) && (edges.get(i) == null)) {
+                    throw new NullPointerException();
+                }
+            }
+        }
+
+        if (!isBulkEdgeAdditionSupported()) {
+            int added = 0;
+            for (int i = 0; i < n; i++) {
+                V sourceVertex = sourceVertices.get(i);
+                V targetVertex = targetVertices.get(i);
+                if (edges == null) {
+                    if (addEdge(sourceVertex, targetVertex) != null) {
+                        added++;
+                    }
+                } else if (addEdge(sourceVertex, targetVertex, edges.get(i))) {
+                    added++;
+                }
+            }
+            return added;
+        }
+
+        int needed = edgeMap.size() + n;
+        if (needed > edgeCapacity) {
+            // grow the edge map geometrically over many batches, but give the
+            // specifics the real count, from which they derive vertex degrees
+            resizeEdgeMap(Math.max(needed, 2 * edgeCapacity));
+            specifics.ensureCapacity(vertexSet().size(), needed);
+        }
+
+        int added = 0;
+        for (int i = 0; i < n; i++) {
+            V sourceVertex = sourceVertices.get(i);
+            V targetVertex = targetVertices.get(i);
+
+            if (!trusted
+                && !allowingMultipleEdges
+                && containsEdge(sourceVertex, targetVertex))
+            {
+                continue;
+            }
+
+            E e =
+                (edges == null)
+                ? edgeFactory.createEdge(sourceVertex, targetVertex)
+                : edges.get(i);
+
+            if (!trusted && edgeMap.containsKey(e)) {
+                continue;
+            }
+
+            edgeMap.put(e, createIntrusiveEdge(e, sourceVertex, targetVertex));
+            specifics.addEdgeToTouchingVertices(e);
+            added++;
+        }
+
+        return added;
+    }
+
+    /**
+     * Tells whether {@link #addEdgesBulk(List, List, List, boolean)} may write
+     * edges directly into the internal structures of this graph. Subclasses
+     * which override the <code>addEdge</code> methods to check or maintain
+     * anything beyond the structure of this class must override this method
+     * to return <code>false</code>, so that bulk loading goes through their
+     * <code>addEdge</code> methods as well.
+     *
+     * @return <code>true</code> if edges may be added in bulk
+     */
+    protected boolean isBulkEdgeAdditionSupported()
+    {
+        return true;
+    }
+
     private IntrusiveEdge createIntrusiveEdge(
         E e,
         V sourceVertex,
@@ -278,6 +567,7 @@ public abstract class AbstractBaseGraph<V, E>
      */
     @Override public boolean addVertex(V v)
     {
+        assertNotFrozen();
         if (v == null) {
             throw new NullPointerException();
         } else if (containsVertex(v)) {
@@ -334,11 +624,13 @@ public abstract class AbstractBaseGraph<V, E>
             AbstractBaseGraph<V, E> newGraph =
                 TypeUtil.uncheckedCast(super.clone(), null);
 
-            newGraph.edgeMap = new LinkedHashMap<>();
+            newGraph.edgeMap = createEdgeMap(edgeMap.size());
 
             newGraph.edgeFactory = this.edgeFactory;
             newGraph.unmodifiableEdgeSet = null;
             newGraph.unmodifiableVertexSet = null;
+            newGraph.edgeCapacity = 0;
+            newGraph.frozen = false;
 
             // NOTE:  it's important for this to happen in an object
             // method so that the new inner class instance gets associated with
@@ -384,7 +676,9 @@ public abstract class AbstractBaseGraph<V, E>
     @Override public Set<E> edgeSet()
     {
         if (unmodifiableEdgeSet == null) {
-            unmodifiableEdgeSet = Collections.unmodifiableSet(edgeMap.keySet());
+            // the edge map may be replaced when resized, so look it up anew
+            unmodifiableEdgeSet =
+                new UnmodifiableLiveSet<>(() -> edgeMap.keySet());
         }
 
         return unmodifiableEdgeSet;
@@ -399,6 +693,17 @@ public abstract class AbstractBaseGraph<V, E>
         return specifics.edgesOf(vertex);
     }
 
+    /**
+     * @see Graph#forEachEdgeOf(Object, IncidenceConsumer)
+     */
+    @Override public void forEachEdgeOf(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        assertVertexExist(vertex);
+        specifics.forEachEdgeOf(vertex, consumer);
+    }
+
     /**
      * @see DirectedGraph#inDegreeOf(Object)
      */
@@ -417,6 +722,17 @@ public abstract class AbstractBaseGraph<V, E>
         return specifics.incomingEdgesOf(vertex);
     }
 
+    /**
+     * @see DirectedGraph#forEachIncoming(Object, IncidenceConsumer)
+     */
+    public void forEachIncoming(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        assertVertexExist(vertex);
+        specifics.forEachIncoming(vertex, consumer);
+    }
+
     /**
      * @see DirectedGraph#outDegreeOf(Object)
      */
@@ -435,11 +751,23 @@ public abstract class AbstractBaseGraph<V, E>
         return specifics.outgoingEdgesOf(vertex);
     }
 
+    /**
+     * @see DirectedGraph#forEachOutgoing(Object, IncidenceConsumer)
+     */
+    public void forEachOutgoing(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        assertVertexExist(vertex);
+        specifics.forEachOutgoing(vertex, consumer);
+    }
+
     /**
      * @see Graph#removeEdge(Object, Object)
      */
     @Override public E removeEdge(V sourceVertex, V targetVertex)
     {
+        assertNotFrozen();
         E e = getEdge(sourceVertex, targetVertex);
 
         if (e != null) {
@@ -455,6 +783,7 @@ public abstract class AbstractBaseGraph<V, E>
      */
     @Override public boolean removeEdge(E e)
     {
+        assertNotFrozen();
         if (containsEdge(e)) {
             specifics.removeEdgeFromTouchingVertices(e);
             edgeMap.remove(e);
@@ -470,6 +799,7 @@ public abstract class AbstractBaseGraph<V, E>
      */
     @Override public boolean removeVertex(V v)
     {
+        assertNotFrozen();
         if (containsVertex(v)) {
             Set<E> touchingEdgesList = edgesOf(v);
 
@@ -492,7 +822,7 @@ public abstract class AbstractBaseGraph<V, E>
     {
         if (unmodifiableVertexSet == null) {
             unmodifiableVertexSet =
-                Collections.unmodifiableSet(specifics.getVertexSet());
+                new UnmodifiableLiveSet<>(() -> specifics.getVertexSet());
         }
 
         return unmodifiableVertexSet;
@@ -517,10 +847,153 @@ public abstract class AbstractBaseGraph<V, E>
      */
     public void setEdgeWeight(E e, double weight)
     {
+        assertNotFrozen();
         assert (e instanceof DefaultWeightedEdge) : e.getClass();
         ((DefaultWeightedEdge) e).weight = weight;
     }
 
+    /**
+     * Freezes this graph. The edges of every vertex are packed into arrays of
+     * exact size, the unmodifiable edge set views of the vertices are created
+     * once and reused, degrees become array lengths and edge retrievals go
+     * through a hash index over vertex pairs, whatever the {@link
+     * SpecificsFactory} of the graph. Vertex and edge iteration order is
+     * preserved.
+     *
+     * <p>Once frozen, a graph cannot be modified anymore: adding or removing
+     * vertices or edges, changing edge weights or resizing the graph throws an
+     * <code>UnsupportedOperationException</code>. Freezing survives
+     * serialization; a {@link #clone()} of a frozen graph is not frozen.
+     * Freezing a frozen graph has no effect.</p>
+     */
+    public void freeze()
+    {
+        if (frozen) {
+            return;
+        }
+        trimToSize();
+        specifics =
+            new FrozenSpecifics<>(
+                this,
+                specifics,
+                specificsFactory.isOrdered());
+        frozen = true;
+    }
+
+    /**
+     * Tells whether this graph is frozen.
+     *
+     * @return <code>true</code> if this graph has been frozen, <code>
+     * false</code> otherwise
+     *
+     * @see #freeze()
+     */
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    private void assertNotFrozen()
+    {
+        if (frozen) {
+            throw new UnsupportedOperationException(FROZEN);
+        }
+    }
+
+    /**
+     * Writes the vertices and then the edges of this graph. The endpoints of
+     * an edge are written after it, unless the edge carries them itself.
+     *
+     * @serialData the number of vertices, the number of edges, each vertex,
+     * then each edge, followed by its source and target vertex unless it is an
+     * {@link IntrusiveEdge}
+     */
+    private void writeObject(ObjectOutputStream out)
+        throws IOException
+    {
+        out.defaultWriteObject();
+        out.writeInt(specifics.getVertexSet().size());
+        out.writeInt(edgeMap.size());
+        for (V v : specifics.getVertexSet()) {
+            out.writeObject(v);
+        }
+        for (Map.Entry<E, IntrusiveEdge> entry : edgeMap.entrySet()) {
+            E e = entry.getKey();
+            out.writeObject(e);
+            if (!(e instanceof IntrusiveEdge)) {
+                out.writeObject(entry.getValue().source);
+                out.writeObject(entry.getValue().target);
+            }
+        }
+    }
+
+    /**
+     * Reads the vertices and edges of the graph and rebuilds its adjacency
+     * structure, sized for the number of vertices and edges.
+     */
+    private void readObject(ObjectInputStream in)
+        throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        int vertexCount = in.readInt();
+        int edgeCount = in.readInt();
+
+        edgeMap = createEdgeMap(edgeCount);
+        edgeCapacity = edgeCount;
+        specifics = createSpecifics();
+        specifics.ensureCapacity(vertexCount, edgeCount);
+
+        for (int i = 0; i < vertexCount; i++) {
+            V v = TypeUtil.uncheckedCast(in.readObject(), vertexTypeDecl);
+            specifics.addVertex(v);
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            E e = TypeUtil.uncheckedCast(in.readObject(), null);
+            Object sourceVertex;
+            Object targetVertex;
+            if (e instanceof IntrusiveEdge) {
+                sourceVertex = ((IntrusiveEdge) e).source;
+                targetVertex = ((IntrusiveEdge) e).target;
+            } else {
+                sourceVertex = in.readObject();
+                targetVertex = in.readObject();
+            }
+            edgeMap.put(
+                e,
+                createIntrusiveEdge(
+                    e,
+                    TypeUtil.uncheckedCast(sourceVertex, vertexTypeDecl),
+                    TypeUtil.uncheckedCast(targetVertex, vertexTypeDecl)));
+            specifics.addEdgeToTouchingVertices(e);
+        }
+
+        if (frozen) {
+            specifics =
+                new FrozenSpecifics<>(
+                    this,
+                    specifics,
+                    specificsFactory.isOrdered());
+        }
+    }
+
+    /**
+     * Creates an edge map of the kind (linked or not) required by the
+     * specifics factory.
+     *
+     * @param expectedSize the number of edges the map should hold without
+     * growing, or 0 for the default capacity
+     */
+    private Map<E, IntrusiveEdge> createEdgeMap(int expectedSize)
+    {
+        if (expectedSize == 0) {
+            return specificsFactory.isOrdered() ? new LinkedHashMap<>()
+                : new HashMap<>();
+        }
+        int capacity = MathUtil.hashCapacity(expectedSize);
+        return specificsFactory.isOrdered() ? new LinkedHashMap<>(capacity)
+            : new HashMap<>(capacity);
+    }
+
     private Specifics<V,E> createSpecifics()
     {
         if (this instanceof DirectedGraph<?, ?>) {
@@ -535,12 +1008,12 @@ public abstract class AbstractBaseGraph<V, E>
 
     protected Specifics<V,E> createUndirectedSpecifics()
     {
-        return new FastLookupUndirectedSpecifics<>(this);
+        return specificsFactory.createUndirectedSpecifics(this);
     }
 
     protected Specifics<V,E> createDirectedSpecifics()
     {
-        return new FastLookupDirectedSpecifics<>(this);
+        return specificsFactory.createDirectedSpecifics(this);
     }
 
     private static class ArrayListFactory<VV, EE>
@@ -558,6 +1031,49 @@ public abstract class AbstractBaseGraph<V, E>
             // for the common case of vertices with low degree
             return new ArrayUnenforcedSet<>(1);
         }
+
+        /**
+         * @see EdgeSetFactory
+         */
+        @Override public Set<EE> createEdgeSet(VV vertex, int expectedSize)
+        {
+            return new ArrayUnenforcedSet<>(Math.max(1, expectedSize));
+        }
+    }
+
+    /**
+     * An unmodifiable view of a set which the graph may replace, e.g. by a
+     * resized copy; every operation reads through to the current set.
+     */
+    private static class UnmodifiableLiveSet<T>
+        extends AbstractSet<T>
+    {
+        private final Supplier<Set<T>> backingSet;
+
+        UnmodifiableLiveSet(Supplier<Set<T>> backingSet)
+        {
+            this.backingSet = backingSet;
+        }
+
+        @Override public int size()
+        {
+            return backingSet.get().size();
+        }
+
+        @Override public boolean isEmpty()
+        {
+            return backingSet.get().isEmpty();
+        }
+
+        @Override public boolean contains(Object o)
+        {
+            return backingSet.get().contains(o);
+        }
+
+        @Override public Iterator<T> iterator()
+        {
+            return Collections.unmodifiableSet(backingSet.get()).iterator();
+        }
     }
 
 }
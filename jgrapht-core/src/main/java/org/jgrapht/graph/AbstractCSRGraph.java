@@ -0,0 +1,759 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ----------------------
+ * AbstractCSRGraph.java
+ * ----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * Base class of the immutable graphs which store their structure in compressed
+ * sparse row (CSR) form. Vertices and edges are numbered consecutively in the
+ * iteration order of the graph they were copied from. The adjacency of every
+ * vertex is a contiguous slice of two parallel <code>int</code> arrays (the
+ * opposite vertex and the edge of each incidence), delimited by an offset
+ * array, and sorted by opposite vertex so that {@link #getEdge(Object,
+ * Object)} is a binary search.
+ *
+ * <p>Edges extending {@link DefaultEdge} carry their endpoints, so when every
+ * edge of the copied graph does, the id of an edge is found by the same
+ * binary search over the row of its source and no per-edge dictionary is
+ * kept. As in {@link AbstractBaseGraph}, such edges must then not be added to
+ * another graph with different endpoints. Other edges are indexed by a hash
+ * map.</p>
+ *
+ * <p>Edge weights are captured at construction time. Attempts to modify the
+ * graph result in an <code>UnsupportedOperationException</code>.</p>
+ *
+ * @see CSRDirectedGraph
+ * @see CSRUndirectedGraph
+ */
+public abstract class AbstractCSRGraph<V, E>
+    extends AbstractGraph<V, E>
+    implements IndexedGraph<V, E>,
+        Serializable
+{
+    private static final long serialVersionUID = -2401537916584930633L;
+
+    static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    private final EdgeFactory<V, E> edgeFactory;
+
+    final Object [] vertices;
+    final Map<V, Integer> vertexIndices;
+    final Object [] edges;
+
+    /**
+     * The edge ids, or <code>null</code> when they are found through the
+     * endpoints of intrusive edges.
+     */
+    final Map<E, Integer> edgeIndices;
+    final int [] edgeSources;
+    final int [] edgeTargets;
+    final double [] edgeWeights;
+
+    /**
+     * Offsets into {@link #outVertices} and {@link #outEdges}, one per vertex
+     * plus a sentinel. For undirected graphs every incidence is "outgoing".
+     */
+    final int [] outOffsets;
+    final int [] outVertices;
+    final int [] outEdges;
+
+    private transient Set<V> unmodifiableVertexSet = null;
+    private transient Set<E> unmodifiableEdgeSet = null;
+
+    /**
+     * Copies the vertices, edges and weights of the specified graph. The
+     * adjacency arrays are filled in by the subclass.
+     *
+     * @param g the graph to copy
+     * @param ignoreDirection whether each edge is an incidence of both its
+     * endpoints (undirected) or of its source only (directed)
+     */
+    AbstractCSRGraph(Graph<V, E> g, boolean ignoreDirection)
+    {
+        this(g, g.getEdgeFactory(), ignoreDirection);
+    }
+
+    /**
+     * Copies the vertices, edges and weights of the specified graph, which
+     * need not provide an edge factory of its own.
+     *
+     * @param g the graph to copy
+     * @param ef the edge factory reported by the copy
+     * @param ignoreDirection whether each edge is an incidence of both its
+     * endpoints (undirected) or of its source only (directed)
+     */
+    AbstractCSRGraph(
+        Graph<V, E> g,
+        EdgeFactory<V, E> ef,
+        boolean ignoreDirection)
+    {
+        edgeFactory = ef;
+
+        int n = g.vertexSet().size();
+        vertices = new Object[n];
+        vertexIndices = new HashMap<>(MathUtil.hashCapacity(n));
+        int i = 0;
+        for (V v : g.vertexSet()) {
+            vertices[i] = v;
+            vertexIndices.put(v, i++);
+        }
+
+        int m = g.edgeSet().size();
+        edges = new Object[m];
+        edgeSources = new int[m];
+        edgeTargets = new int[m];
+        edgeWeights = new double[m];
+        int loops = 0;
+        boolean intrusive = true;
+        int j = 0;
+        for (E e : g.edgeSet()) {
+            edges[j] = e;
+            edgeSources[j] = vertexIndices.get(g.getEdgeSource(e));
+            edgeTargets[j] = vertexIndices.get(g.getEdgeTarget(e));
+            edgeWeights[j] = g.getEdgeWeight(e);
+            if (edgeSources[j] == edgeTargets[j]) {
+                loops++;
+            }
+            intrusive = intrusive && isIntrusive(e, j);
+            j++;
+        }
+
+        if (intrusive) {
+            edgeIndices = null;
+        } else {
+            edgeIndices = new HashMap<>(MathUtil.hashCapacity(m));
+            for (j = 0; j < m; j++) {
+                E e = TypeUtil.uncheckedCast(edges[j], null);
+                edgeIndices.put(e, j);
+            }
+        }
+
+        if (ignoreDirection) {
+            // a loop is a single incidence, any other edge touches two
+            int count = (2 * m) - loops;
+            int [] owner = new int[count];
+            int [] opposite = new int[count];
+            int [] edge = new int[count];
+            int k = 0;
+            for (j = 0; j < m; j++) {
+                owner[k] = edgeSources[j];
+                opposite[k] = edgeTargets[j];
+                edge[k++] = j;
+                if (edgeSources[j] != edgeTargets[j]) {
+                    owner[k] = edgeTargets[j];
+                    opposite[k] = edgeSources[j];
+                    edge[k++] = j;
+                }
+            }
+            outOffsets = new int[n + 1];
+            outVertices = new int[count];
+            outEdges = new int[count];
+            compress(n, owner, opposite, edge, outOffsets, outVertices, outEdges);
+        } else {
+            int [] edge = new int[m];
+            for (j = 0; j < m; j++) {
+                edge[j] = j;
+            }
+            outOffsets = new int[n + 1];
+            outVertices = new int[m];
+            outEdges = new int[m];
+            compress(
+                n,
+                edgeSources,
+                edgeTargets,
+                edge,
+                outOffsets,
+                outVertices,
+                outEdges);
+        }
+    }
+
+    /**
+     * Tells whether the specified edge records the endpoints it has in this
+     * graph, so that its id can be found from them.
+     */
+    private boolean isIntrusive(E e, int index)
+    {
+        if (!(e instanceof IntrusiveEdge)) {
+            return false;
+        }
+        IntrusiveEdge ie = (IntrusiveEdge) e;
+        Integer u = vertexIndices.get(ie.source);
+        Integer v = vertexIndices.get(ie.target);
+        return (u != null) && (v != null) && (u == edgeSources[index])
+            && (v == edgeTargets[index]);
+    }
+
+    /**
+     * Sorts a list of incidences by owner vertex, then by opposite vertex, then
+     * by list position, using two stable counting sort passes.
+     *
+     * @param n number of vertices
+     * @param owner owner vertex of each incidence
+     * @param opposite opposite vertex of each incidence
+     * @param edge edge of each incidence
+     * @param offsets receives the n+1 slice offsets per owner
+     * @param adjVertices receives the sorted opposite vertices
+     * @param adjEdges receives the sorted edges
+     */
+    static void compress(
+        int n,
+        int [] owner,
+        int [] opposite,
+        int [] edge,
+        int [] offsets,
+        int [] adjVertices,
+        int [] adjEdges)
+    {
+        int count = owner.length;
+
+        // pass 1: order incidences by opposite vertex
+        int [] bucket = new int[n + 1];
+        for (int i = 0; i < count; i++) {
+            bucket[opposite[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            bucket[v + 1] += bucket[v];
+        }
+        int [] byOpposite = new int[count];
+        for (int i = 0; i < count; i++) {
+            byOpposite[bucket[opposite[i]]++] = i;
+        }
+
+        // pass 2: stable order by owner vertex
+        for (int i = 0; i < count; i++) {
+            offsets[owner[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int [] next = Arrays.copyOf(offsets, n);
+        for (int i : byOpposite) {
+            int pos = next[owner[i]]++;
+            adjVertices[pos] = opposite[i];
+            adjEdges[pos] = edge[i];
+        }
+    }
+
+    /**
+     * Returns the position of the first incidence of the slice [from, to)
+     * whose opposite vertex is not smaller than the specified one.
+     */
+    static int lowerBound(int [] adjVertices, int from, int to, int vertex)
+    {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (adjVertices[mid] < vertex) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the index of the specified vertex, or throws exception if the
+     * vertex is not in this graph.
+     *
+     * @param v vertex
+     *
+     * @return the vertex index
+     *
+     * @throws NullPointerException if specified vertex is <code>null</code>.
+     * @throws IllegalArgumentException if specified vertex does not exist in
+     * this graph.
+     */
+    int assertVertexIndex(V v)
+    {
+        Integer index = vertexIndices.get(v);
+        if (index == null) {
+            assertVertexExist(v);
+        }
+        return index;
+    }
+
+    private int assertEdgeIndex(E e)
+    {
+        int index = edgeIndex(e);
+        if (index < 0) {
+            if (e == null) {
+                throw new NullPointerException();
+            }
+            throw new IllegalArgumentException(
+                "no such edge in graph: " + e.toString());
+        }
+        return index;
+    }
+
+    /**
+     * Returns the id of the specified edge, or <code>-1</code> if it is not
+     * in this graph. Without an edge dictionary, the row of the recorded
+     * source vertex is searched for the recorded target, and the edges found
+     * there are compared with the specified one.
+     */
+    private int edgeIndex(Object e)
+    {
+        if (edgeIndices != null) {
+            Integer index = edgeIndices.get(e);
+            return (index == null) ? -1 : index;
+        }
+        if (!(e instanceof IntrusiveEdge)) {
+            return -1;
+        }
+        IntrusiveEdge ie = (IntrusiveEdge) e;
+        Integer u = vertexIndices.get(ie.source);
+        Integer v = vertexIndices.get(ie.target);
+        if ((u == null) || (v == null)) {
+            return -1;
+        }
+
+        int end = outOffsets[u + 1];
+        int pos = lowerBound(outVertices, outOffsets[u], end, v);
+        for (; (pos < end) && (outVertices[pos] == v); pos++) {
+            if (edges[outEdges[pos]].equals(e)) {
+                return outEdges[pos];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a view of the edges of a slice of an adjacency array.
+     */
+    Set<E> incidenceSet(int [] adjEdges, int from, int to)
+    {
+        return new IncidenceSet(adjEdges, from, to);
+    }
+
+    /**
+     * @see Graph#getAllEdges(Object, Object)
+     */
+    @Override public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        Integer u = vertexIndices.get(sourceVertex);
+        Integer v = vertexIndices.get(targetVertex);
+        if ((u == null) || (v == null)) {
+            return null;
+        }
+
+        int end = outOffsets[u + 1];
+        int pos = lowerBound(outVertices, outOffsets[u], end, v);
+        ArrayUnenforcedSet<E> result = new ArrayUnenforcedSet<>();
+        while ((pos < end) && (outVertices[pos] == v)) {
+            result.add(TypeUtil.uncheckedCast(edges[outEdges[pos++]], null));
+        }
+        return result;
+    }
+
+    /**
+     * @see Graph#getEdge(Object, Object)
+     */
+    @Override public E getEdge(V sourceVertex, V targetVertex)
+    {
+        Integer u = vertexIndices.get(sourceVertex);
+        Integer v = vertexIndices.get(targetVertex);
+        if ((u == null) || (v == null)) {
+            return null;
+        }
+
+        int end = outOffsets[u + 1];
+        int pos = lowerBound(outVertices, outOffsets[u], end, v);
+        if ((pos < end) && (outVertices[pos] == v)) {
+            return TypeUtil.uncheckedCast(edges[outEdges[pos]], null);
+        }
+        return null;
+    }
+
+    /**
+     * @see Graph#getEdgeFactory()
+     */
+    @Override public EdgeFactory<V, E> getEdgeFactory()
+    {
+        return edgeFactory;
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object)
+     */
+    @Override public E addEdge(V sourceVertex, V targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object, Object)
+     */
+    @Override public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#addVertex(Object)
+     */
+    @Override public boolean addVertex(V v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#containsEdge(Object)
+     */
+    @Override public boolean containsEdge(E e)
+    {
+        return edgeIndex(e) >= 0;
+    }
+
+    /**
+     * @see Graph#containsVertex(Object)
+     */
+    @Override public boolean containsVertex(V v)
+    {
+        return vertexIndices.containsKey(v);
+    }
+
+    /**
+     * @see Graph#edgeSet()
+     */
+    @Override public Set<E> edgeSet()
+    {
+        if (unmodifiableEdgeSet == null) {
+            unmodifiableEdgeSet = new EdgeSet();
+        }
+        return unmodifiableEdgeSet;
+    }
+
+    /**
+     * @see Graph#vertexSet()
+     */
+    @Override public Set<V> vertexSet()
+    {
+        if (unmodifiableVertexSet == null) {
+            unmodifiableVertexSet = new IndexedSet<>(vertices, vertexIndices);
+        }
+        return unmodifiableVertexSet;
+    }
+
+    /**
+     * @see Graph#removeAllEdges(Collection)
+     */
+    @Override public boolean removeAllEdges(Collection<? extends E> edges)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeAllEdges(Object, Object)
+     */
+    @Override public Set<E> removeAllEdges(V sourceVertex, V targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeAllVertices(Collection)
+     */
+    @Override public boolean removeAllVertices(Collection<? extends V> vertices)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeEdge(Object, Object)
+     */
+    @Override public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeEdge(Object)
+     */
+    @Override public boolean removeEdge(E e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeVertex(Object)
+     */
+    @Override public boolean removeVertex(V v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#getEdgeSource(Object)
+     */
+    @Override public V getEdgeSource(E e)
+    {
+        return TypeUtil.uncheckedCast(
+            vertices[edgeSources[assertEdgeIndex(e)]],
+            null);
+    }
+
+    /**
+     * @see Graph#getEdgeTarget(Object)
+     */
+    @Override public V getEdgeTarget(E e)
+    {
+        return TypeUtil.uncheckedCast(
+            vertices[edgeTargets[assertEdgeIndex(e)]],
+            null);
+    }
+
+    /**
+     * Returns the weight the specified edge had in the graph this graph was
+     * copied from.
+     *
+     * @see Graph#getEdgeWeight(Object)
+     */
+    @Override public double getEdgeWeight(E e)
+    {
+        return edgeWeights[assertEdgeIndex(e)];
+    }
+
+    /**
+     * @see IndexedGraph#getVertexIndex(Object)
+     */
+    @Override public int getVertexIndex(V vertex)
+    {
+        Integer index = vertexIndices.get(vertex);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * @see IndexedGraph#getVertexAt(int)
+     */
+    @Override public V getVertexAt(int index)
+    {
+        return TypeUtil.uncheckedCast(vertices[index], null);
+    }
+
+    /**
+     * @see IndexedGraph#getVertexIndexBound()
+     */
+    @Override public int getVertexIndexBound()
+    {
+        return vertices.length;
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeIndex(Object)
+     */
+    @Override public int getEdgeIndex(E edge)
+    {
+        return edgeIndex(edge);
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeAt(int)
+     */
+    @Override public E getEdgeAt(int index)
+    {
+        return TypeUtil.uncheckedCast(edges[index], null);
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeIndexBound()
+     */
+    @Override public int getEdgeIndexBound()
+    {
+        return edges.length;
+    }
+
+    /**
+     * Unmodifiable set view of the vertex array, with membership answered by
+     * the index dictionary.
+     */
+    private static class IndexedSet<T>
+        extends AbstractSet<T>
+        implements Serializable
+    {
+        private static final long serialVersionUID = 3467802337415478427L;
+
+        private final Object [] elements;
+        private final Map<T, Integer> indices;
+
+        IndexedSet(Object [] elements, Map<T, Integer> indices)
+        {
+            this.elements = elements;
+            this.indices = indices;
+        }
+
+        @Override public boolean contains(Object o)
+        {
+            return indices.containsKey(o);
+        }
+
+        @Override public int size()
+        {
+            return elements.length;
+        }
+
+        @Override public Iterator<T> iterator()
+        {
+            return new ArrayIterator<>(elements);
+        }
+    }
+
+    /**
+     * Unmodifiable set view of the edge array, with membership answered by
+     * the edge ids.
+     */
+    private class EdgeSet
+        extends AbstractSet<E>
+        implements Serializable
+    {
+        private static final long serialVersionUID = -5281430729418693457L;
+
+        @Override public boolean contains(Object o)
+        {
+            return edgeIndex(o) >= 0;
+        }
+
+        @Override public int size()
+        {
+            return edges.length;
+        }
+
+        @Override public Iterator<E> iterator()
+        {
+            return new ArrayIterator<>(edges);
+        }
+    }
+
+    /**
+     * Iterator over an array of vertices or edges.
+     */
+    private static class ArrayIterator<T>
+        implements Iterator<T>
+    {
+        private final Object [] elements;
+        private int next = 0;
+
+        ArrayIterator(Object [] elements)
+        {
+            this.elements = elements;
+        }
+
+        @Override public boolean hasNext()
+        {
+            return next < elements.length;
+        }
+
+        @Override public T next()
+        {
+            if (next >= elements.length) {
+                throw new NoSuchElementException();
+            }
+            return TypeUtil.uncheckedCast(elements[next++], null);
+        }
+    }
+
+
+    /**
+     * Unmodifiable set view of the edges of one adjacency slice. No copy of the
+     * slice is made.
+     */
+    private class IncidenceSet
+        extends AbstractSet<E>
+    {
+        private final int [] adjEdges;
+        private final int from;
+        private final int to;
+
+        IncidenceSet(int [] adjEdges, int from, int to)
+        {
+            this.adjEdges = adjEdges;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override public boolean contains(Object o)
+        {
+            int index = edgeIndex(o);
+            if (index < 0) {
+                return false;
+            }
+            for (int i = from; i < to; i++) {
+                if (adjEdges[i] == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override public int size()
+        {
+            return to - from;
+        }
+
+        @Override public Iterator<E> iterator()
+        {
+            return new Iterator<E>() {
+                private int next = from;
+
+                @Override public boolean hasNext()
+                {
+                    return next < to;
+                }
+
+                @Override public E next()
+                {
+                    if (next >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    return TypeUtil.uncheckedCast(
+                        edges[adjEdges[next++]],
+                        null);
+                }
+            };
+        }
+    }
+}
+
+// End AbstractCSRGraph.java
@@ -0,0 +1,872 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------------
+ * AbstractColumnarGraph.java
+ * ---------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * Base class of the weighted graphs whose edges are dense, non-negative
+ * <code>int</code> ids. An edge is its own index: its source, target and
+ * weight are slots of primitive columns, so {@link #getEdgeSource(Integer)},
+ * {@link #getEdgeTarget(Integer)} and {@link #getEdgeWeight(Integer)} are
+ * array reads instead of a lookup of an intrusive edge object in a hash map.
+ * Vertices are arbitrary objects and are assigned dense indices as well;
+ * adjacency is kept per vertex index in plain <code>int</code> arrays.
+ *
+ * <p>{@link #addEdge(Object, Object)} assigns the smallest id not in use.
+ * {@link #addEdge(Object, Object, Integer)} accepts any non-negative id; ids
+ * should be dense, since the columns are sized by the largest id ever added.
+ * The {@link Integer} objects handed out as edges are retained by the graph,
+ * so iterating edges does not box.</p>
+ *
+ * <p>Vertex and edge sets iterate in index order. Indices of removed vertices
+ * and edges are reused.</p>
+ *
+ * @see ColumnarDirectedWeightedGraph
+ * @see ColumnarUndirectedWeightedGraph
+ */
+public abstract class AbstractColumnarGraph<V>
+    extends AbstractGraph<V, Integer>
+    implements IndexedGraph<V, Integer>,
+        WeightedGraph<V, Integer>,
+        Serializable
+{
+    private static final long serialVersionUID = -1597630745271638470L;
+
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final EdgeFactory<V, Integer> edgeFactory;
+    private final boolean allowingMultipleEdges;
+    private final boolean allowingLoops;
+
+    private Object [] vertices;
+    private final Map<V, Integer> vertexIndices;
+    private final BitSet vertexBits;
+    private int freeVertexHint;
+
+    private Integer [] edges;
+    private int [] edgeSources;
+    private int [] edgeTargets;
+    private double [] edgeWeights;
+    private final BitSet edgeBits;
+    private int edgeCount;
+    private int freeEdgeHint;
+
+    // weight assigned to the next free edge id before the edge is added
+    private int pendingWeightEdge = -1;
+    private double pendingWeight;
+
+    /**
+     * Per-vertex incidences. For undirected graphs every incidence is stored
+     * here.
+     */
+    final IntAdjacency out;
+
+    private transient Set<V> unmodifiableVertexSet = null;
+    private transient Set<Integer> unmodifiableEdgeSet = null;
+
+    /**
+     * Construct a new graph.
+     *
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     */
+    AbstractColumnarGraph(boolean allowMultipleEdges, boolean allowLoops)
+    {
+        edgeFactory = new IdEdgeFactory();
+        allowingMultipleEdges = allowMultipleEdges;
+        allowingLoops = allowLoops;
+
+        vertices = new Object[DEFAULT_CAPACITY];
+        vertexIndices = new HashMap<>();
+        vertexBits = new BitSet(DEFAULT_CAPACITY);
+        edges = new Integer[DEFAULT_CAPACITY];
+        edgeSources = new int[DEFAULT_CAPACITY];
+        edgeTargets = new int[DEFAULT_CAPACITY];
+        edgeWeights = new double[DEFAULT_CAPACITY];
+        Arrays.fill(edgeWeights, WeightedGraph.DEFAULT_EDGE_WEIGHT);
+        edgeBits = new BitSet(DEFAULT_CAPACITY);
+        out = new IntAdjacency(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Records a new edge in the adjacency of its endpoints.
+     *
+     * @param edge index of the edge
+     * @param source index of the source vertex
+     * @param target index of the target vertex
+     */
+    abstract void addIncidences(int edge, int source, int target);
+
+    /**
+     * Removes an edge from the adjacency of its endpoints.
+     *
+     * @param edge index of the edge
+     * @param source index of the source vertex
+     * @param target index of the target vertex
+     */
+    abstract void removeIncidences(int edge, int source, int target);
+
+    /**
+     * Makes room for vertex indices smaller than the specified capacity in
+     * the adjacency structures.
+     *
+     * @param capacity the new vertex capacity
+     */
+    void ensureVertexCapacity(int capacity)
+    {
+        out.ensureCapacity(capacity);
+    }
+
+    /**
+     * Returns <code>true</code> if and only if self-loops are allowed in this
+     * graph.
+     *
+     * @return <code>true</code> if and only if graph loops are allowed.
+     */
+    public boolean isAllowingLoops()
+    {
+        return allowingLoops;
+    }
+
+    /**
+     * Returns <code>true</code> if and only if multiple edges are allowed in
+     * this graph.
+     *
+     * @return <code>true</code> if and only if multiple edges are allowed.
+     */
+    public boolean isAllowingMultipleEdges()
+    {
+        return allowingMultipleEdges;
+    }
+
+    /**
+     * Returns a factory which hands out the smallest edge id currently not in
+     * use by this graph.
+     *
+     * @see Graph#getEdgeFactory()
+     */
+    @Override public EdgeFactory<V, Integer> getEdgeFactory()
+    {
+        return edgeFactory;
+    }
+
+    /**
+     * @see Graph#addVertex(Object)
+     */
+    @Override public boolean addVertex(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        } else if (containsVertex(v)) {
+            return false;
+        }
+
+        int index = vertexBits.nextClearBit(freeVertexHint);
+        if (index >= vertices.length) {
+            int capacity = 2 * vertices.length;
+            vertices = Arrays.copyOf(vertices, capacity);
+            ensureVertexCapacity(capacity);
+        }
+        vertices[index] = v;
+        vertexIndices.put(v, index);
+        vertexBits.set(index);
+        freeVertexHint = index + 1;
+        return true;
+    }
+
+    /**
+     * @see Graph#containsVertex(Object)
+     */
+    @Override public boolean containsVertex(V v)
+    {
+        return vertexIndices.containsKey(v);
+    }
+
+    /**
+     * @see Graph#removeVertex(Object)
+     */
+    @Override public boolean removeVertex(V v)
+    {
+        Integer index = vertexIndices.get(v);
+        if (index == null) {
+            return false;
+        }
+        removeIncidentEdges(index);
+        vertices[index] = null;
+        vertexIndices.remove(v);
+        vertexBits.clear(index);
+        freeVertexHint = Math.min(freeVertexHint, index);
+        return true;
+    }
+
+    /**
+     * Removes every edge touching the specified vertex.
+     *
+     * @param v index of the vertex
+     */
+    void removeIncidentEdges(int v)
+    {
+        while (out.sizes[v] > 0) {
+            removeEdgeAt(out.edges[v][out.sizes[v] - 1]);
+        }
+    }
+
+    /**
+     * @see Graph#vertexSet()
+     */
+    @Override public Set<V> vertexSet()
+    {
+        if (unmodifiableVertexSet == null) {
+            unmodifiableVertexSet = new VertexSet();
+        }
+        return unmodifiableVertexSet;
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object)
+     */
+    @Override public Integer addEdge(V sourceVertex, V targetVertex)
+    {
+        int s = assertVertexIndex(sourceVertex);
+        int t = assertVertexIndex(targetVertex);
+
+        if (!allowingMultipleEdges && (getEdgeIndex(s, t) >= 0)) {
+            return null;
+        }
+
+        if (!allowingLoops && (s == t)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        int index = edgeBits.nextClearBit(freeEdgeHint);
+        pendingWeightEdge = -1;
+        insertEdge(index, s, t);
+        return edges[index];
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object, Object)
+     *
+     * @throws IllegalArgumentException if the edge id is negative.
+     */
+    @Override public boolean addEdge(V sourceVertex, V targetVertex, Integer e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        } else if (e < 0) {
+            throw new IllegalArgumentException(
+                "edge must be non-negative: " + e);
+        } else if (containsEdge(e)) {
+            return false;
+        }
+
+        int s = assertVertexIndex(sourceVertex);
+        int t = assertVertexIndex(targetVertex);
+
+        if (!allowingMultipleEdges && (getEdgeIndex(s, t) >= 0)) {
+            return false;
+        }
+
+        if (!allowingLoops && (s == t)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        insertEdge(e, s, t);
+        return true;
+    }
+
+    private void ensureEdgeCapacity(int capacity)
+    {
+        int old = edges.length;
+        if (capacity <= old) {
+            return;
+        }
+        capacity = Math.max(capacity, 2 * old);
+        edges = Arrays.copyOf(edges, capacity);
+        edgeSources = Arrays.copyOf(edgeSources, capacity);
+        edgeTargets = Arrays.copyOf(edgeTargets, capacity);
+        edgeWeights = Arrays.copyOf(edgeWeights, capacity);
+        Arrays.fill(
+            edgeWeights,
+            old,
+            capacity,
+            WeightedGraph.DEFAULT_EDGE_WEIGHT);
+    }
+
+    private void insertEdge(int index, int s, int t)
+    {
+        ensureEdgeCapacity(index + 1);
+        if (edges[index] == null) {
+            // keep the Integer of a removed edge for reuse
+            edges[index] = index;
+        }
+        edgeSources[index] = s;
+        edgeTargets[index] = t;
+        if (index == pendingWeightEdge) {
+            edgeWeights[index] = pendingWeight;
+            pendingWeightEdge = -1;
+        }
+        edgeBits.set(index);
+        edgeCount++;
+        if (index == freeEdgeHint) {
+            freeEdgeHint++;
+        }
+
+        addIncidences(index, s, t);
+    }
+
+    /**
+     * @see Graph#containsEdge(Object)
+     */
+    @Override public boolean containsEdge(Integer e)
+    {
+        return (e != null) && (e >= 0) && edgeBits.get(e);
+    }
+
+    /**
+     * @see Graph#getEdge(Object, Object)
+     */
+    @Override public Integer getEdge(V sourceVertex, V targetVertex)
+    {
+        Integer s = vertexIndices.get(sourceVertex);
+        Integer t = vertexIndices.get(targetVertex);
+        if ((s == null) || (t == null)) {
+            return null;
+        }
+        int index = getEdgeIndex(s, t);
+        return (index < 0) ? null : edges[index];
+    }
+
+    /**
+     * @see Graph#getAllEdges(Object, Object)
+     */
+    @Override public Set<Integer> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        Integer s = vertexIndices.get(sourceVertex);
+        Integer t = vertexIndices.get(targetVertex);
+        if ((s == null) || (t == null)) {
+            return null;
+        }
+        ArrayUnenforcedSet<Integer> result = new ArrayUnenforcedSet<>();
+        int [] opposite = out.vertices[s];
+        for (int i = 0; i < out.sizes[s]; i++) {
+            if (opposite[i] == t) {
+                result.add(edges[out.edges[s][i]]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @see Graph#removeEdge(Object, Object)
+     */
+    @Override public Integer removeEdge(V sourceVertex, V targetVertex)
+    {
+        Integer e = getEdge(sourceVertex, targetVertex);
+
+        if (e != null) {
+            removeEdgeAt(e);
+        }
+
+        return e;
+    }
+
+    /**
+     * @see Graph#removeEdge(Object)
+     */
+    @Override public boolean removeEdge(Integer e)
+    {
+        if (!containsEdge(e)) {
+            return false;
+        }
+        removeEdgeAt(e);
+        return true;
+    }
+
+    void removeEdgeAt(int index)
+    {
+        removeIncidences(index, edgeSources[index], edgeTargets[index]);
+        edgeBits.clear(index);
+        edgeWeights[index] = WeightedGraph.DEFAULT_EDGE_WEIGHT;
+        edgeCount--;
+        freeEdgeHint = Math.min(freeEdgeHint, index);
+    }
+
+    /**
+     * @see Graph#edgeSet()
+     */
+    @Override public Set<Integer> edgeSet()
+    {
+        if (unmodifiableEdgeSet == null) {
+            unmodifiableEdgeSet = new EdgeSet();
+        }
+        return unmodifiableEdgeSet;
+    }
+
+    /**
+     * @see Graph#getEdgeSource(Object)
+     */
+    @Override public V getEdgeSource(Integer e)
+    {
+        return vertexAt(edgeSources[assertEdgeIndex(e)]);
+    }
+
+    /**
+     * @see Graph#getEdgeTarget(Object)
+     */
+    @Override public V getEdgeTarget(Integer e)
+    {
+        return vertexAt(edgeTargets[assertEdgeIndex(e)]);
+    }
+
+    /**
+     * @see Graph#getEdgeWeight(Object)
+     */
+    @Override public double getEdgeWeight(Integer e)
+    {
+        return edgeWeights[assertEdgeIndex(e)];
+    }
+
+    /**
+     * Assigns a weight to an edge. Besides the edges of the graph, this
+     * accepts the id which {@link #getEdgeFactory()} would create next: as
+     * with intrusive edge weights, a weight assigned to it is kept when that
+     * id is added through {@link #addEdge(Object, Object, Object)} (see {@link
+     * Graphs#addEdge(Graph, Object, Object, double)}). The weight of an edge
+     * is reset when it is removed.
+     *
+     * @see WeightedGraph#setEdgeWeight(Object, double)
+     *
+     * @throws IllegalArgumentException if the edge is neither in the graph nor
+     * the next id of the edge factory.
+     */
+    @Override public void setEdgeWeight(Integer e, double weight)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        } else if (containsEdge(e)) {
+            edgeWeights[e] = weight;
+        } else if (e == edgeBits.nextClearBit(freeEdgeHint)) {
+            pendingWeightEdge = e;
+            pendingWeight = weight;
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + e);
+        }
+    }
+
+    /**
+     * Assigns a weight to the edge at the specified index.
+     *
+     * @param edge an edge index
+     * @param weight new weight for the edge
+     */
+    public void setEdgeWeightAt(int edge, double weight)
+    {
+        edgeWeights[edge] = weight;
+    }
+
+    /**
+     * Returns the index of the source vertex of the edge at the specified
+     * index.
+     *
+     * @param edge an edge index
+     *
+     * @return the source vertex index
+     */
+    public int getEdgeSourceAt(int edge)
+    {
+        return edgeSources[edge];
+    }
+
+    /**
+     * Returns the index of the target vertex of the edge at the specified
+     * index.
+     *
+     * @param edge an edge index
+     *
+     * @return the target vertex index
+     */
+    public int getEdgeTargetAt(int edge)
+    {
+        return edgeTargets[edge];
+    }
+
+    /**
+     * Returns the weight of the edge at the specified index.
+     *
+     * @param edge an edge index
+     *
+     * @return the edge weight
+     */
+    public double getEdgeWeightAt(int edge)
+    {
+        return edgeWeights[edge];
+    }
+
+    /**
+     * Returns the number of outgoing incidences of the vertex at the specified
+     * index. For undirected graphs this is the number of incident edges,
+     * counting self-loops once.
+     *
+     * @param vertex a vertex index
+     *
+     * @return the out-degree of the vertex
+     */
+    public int getOutDegreeAt(int vertex)
+    {
+        return out.sizes[vertex];
+    }
+
+    /**
+     * Returns the index of the vertex at the opposite end of the i-th outgoing
+     * incidence of the vertex at the specified index.
+     *
+     * @param vertex a vertex index
+     * @param i position in the range <code>[0, getOutDegreeAt(vertex))</code>
+     *
+     * @return the index of the neighbor
+     */
+    public int getOutNeighborAt(int vertex, int i)
+    {
+        return out.vertices[vertex][i];
+    }
+
+    /**
+     * Returns the edge of the i-th outgoing incidence of the vertex at the
+     * specified index.
+     *
+     * @param vertex a vertex index
+     * @param i position in the range <code>[0, getOutDegreeAt(vertex))</code>
+     *
+     * @return the index of the edge
+     */
+    public int getOutEdgeIndexAt(int vertex, int i)
+    {
+        return out.edges[vertex][i];
+    }
+
+    /**
+     * Returns the index of an edge connecting the vertices at the specified
+     * indices, scanning the adjacency of the source.
+     *
+     * @param source a source vertex index
+     * @param target a target vertex index
+     *
+     * @return the index of an edge, or <code>-1</code> if there is none.
+     */
+    public int getEdgeIndex(int source, int target)
+    {
+        return out.find(source, target);
+    }
+
+    /**
+     * @see IndexedGraph#getVertexIndex(Object)
+     */
+    @Override public int getVertexIndex(V vertex)
+    {
+        Integer index = vertexIndices.get(vertex);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * @see IndexedGraph#getVertexAt(int)
+     */
+    @Override public V getVertexAt(int index)
+    {
+        if ((index < 0) || (index >= vertices.length)) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return vertexAt(index);
+    }
+
+    /**
+     * @see IndexedGraph#getVertexIndexBound()
+     */
+    @Override public int getVertexIndexBound()
+    {
+        return vertexBits.length();
+    }
+
+    /**
+     * Returns the specified edge: an edge is its own index.
+     *
+     * @see IndexedGraph#getEdgeIndex(Object)
+     */
+    @Override public int getEdgeIndex(Integer edge)
+    {
+        return containsEdge(edge) ? edge : -1;
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeAt(int)
+     */
+    @Override public Integer getEdgeAt(int index)
+    {
+        if ((index < 0) || (index >= edges.length)) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return edgeBits.get(index) ? edges[index] : null;
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeIndexBound()
+     */
+    @Override public int getEdgeIndexBound()
+    {
+        return edgeBits.length();
+    }
+
+    V vertexAt(int index)
+    {
+        return TypeUtil.uncheckedCast(vertices[index], null);
+    }
+
+    Integer edgeAt(int index)
+    {
+        return edges[index];
+    }
+
+    /**
+     * Returns the index of the specified vertex, or throws exception if the
+     * vertex is not in this graph.
+     *
+     * @param v vertex
+     *
+     * @return the vertex index
+     *
+     * @throws NullPointerException if specified vertex is <code>null</code>.
+     * @throws IllegalArgumentException if specified vertex does not exist in
+     * this graph.
+     */
+    int assertVertexIndex(V v)
+    {
+        Integer index = vertexIndices.get(v);
+        if (index == null) {
+            assertVertexExist(v);
+        }
+        return index;
+    }
+
+    private int assertEdgeIndex(Integer e)
+    {
+        if (!containsEdge(e)) {
+            if (e == null) {
+                throw new NullPointerException();
+            }
+            throw new IllegalArgumentException("no such edge in graph: " + e);
+        }
+        return e;
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the edges of one adjacency list.
+     */
+    Set<Integer> incidenceSet(IntAdjacency adjacency, int vertex)
+    {
+        return new IncidenceSet(adjacency, vertex);
+    }
+
+    /**
+     * Hands out the smallest edge id not in use by the graph.
+     */
+    private class IdEdgeFactory
+        implements EdgeFactory<V, Integer>,
+            Serializable
+    {
+        private static final long serialVersionUID = 7715431580164087342L;
+
+        @Override public Integer createEdge(V sourceVertex, V targetVertex)
+        {
+            return edgeBits.nextClearBit(freeEdgeHint);
+        }
+    }
+
+    /**
+     * Unmodifiable view of the vertices, in index order.
+     */
+    private class VertexSet
+        extends AbstractSet<V>
+        implements Serializable
+    {
+        private static final long serialVersionUID = 3908466718093151472L;
+
+        @Override public boolean contains(Object o)
+        {
+            return vertexIndices.containsKey(o);
+        }
+
+        @Override public int size()
+        {
+            return vertexIndices.size();
+        }
+
+        @Override public Iterator<V> iterator()
+        {
+            return new BitIterator<>(
+                vertexBits,
+                AbstractColumnarGraph.this::vertexAt);
+        }
+    }
+
+    /**
+     * Unmodifiable view of the edges, in index order.
+     */
+    private class EdgeSet
+        extends AbstractSet<Integer>
+        implements Serializable
+    {
+        private static final long serialVersionUID = -4398217506839127754L;
+
+        @Override public boolean contains(Object o)
+        {
+            return (o instanceof Integer) && containsEdge((Integer) o);
+        }
+
+        @Override public int size()
+        {
+            return edgeCount;
+        }
+
+        @Override public Iterator<Integer> iterator()
+        {
+            return new BitIterator<>(
+                edgeBits,
+                AbstractColumnarGraph.this::edgeAt);
+        }
+    }
+
+    /**
+     * Iterates the elements whose index is set in a bit set.
+     */
+    private static class BitIterator<T>
+        implements Iterator<T>
+    {
+        private final BitSet bits;
+        private final IntFunction<T> element;
+        private int next;
+
+        BitIterator(BitSet bits, IntFunction<T> element)
+        {
+            this.bits = bits;
+            this.element = element;
+            this.next = bits.nextSetBit(0);
+        }
+
+        @Override public boolean hasNext()
+        {
+            return next >= 0;
+        }
+
+        @Override public T next()
+        {
+            if (next < 0) {
+                throw new NoSuchElementException();
+            }
+            T t = element.apply(next);
+            next = bits.nextSetBit(next + 1);
+            return t;
+        }
+    }
+
+    /**
+     * Unmodifiable view of the edges of one vertex's adjacency list. No copy
+     * of the list is made.
+     */
+    private class IncidenceSet
+        extends AbstractSet<Integer>
+    {
+        private final IntAdjacency adjacency;
+        private final int vertex;
+
+        IncidenceSet(IntAdjacency adjacency, int vertex)
+        {
+            this.adjacency = adjacency;
+            this.vertex = vertex;
+        }
+
+        @Override public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer) || !containsEdge((Integer) o)) {
+                return false;
+            }
+            int index = (Integer) o;
+            int [] e = adjacency.edges[vertex];
+            for (int i = 0; i < adjacency.sizes[vertex]; i++) {
+                if (e[i] == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override public int size()
+        {
+            return adjacency.sizes[vertex];
+        }
+
+        @Override public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>() {
+                private int next = 0;
+
+                @Override public boolean hasNext()
+                {
+                    return next < adjacency.sizes[vertex];
+                }
+
+                @Override public Integer next()
+                {
+                    if (next >= adjacency.sizes[vertex]) {
+                        throw new NoSuchElementException();
+                    }
+                    return edges[adjacency.edges[vertex][next++]];
+                }
+            };
+        }
+    }
+}
+
+// End AbstractColumnarGraph.java
@@ -0,0 +1,619 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -----------------------------
+ * AbstractConcurrentGraph.java
+ * -----------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * Base class of the thread-safe mutable graphs. Any number of threads may add
+ * and remove vertices and edges while others read the graph, without external
+ * synchronization.
+ *
+ * <p>Vertices, edges and the vertex pair index are kept in concurrent hash
+ * maps, and the incidences of every vertex in a concurrent set, so all read
+ * operations are lock-free. Edge insertion and removal lock only the stripes
+ * of the two endpoints (a stripe being one of a fixed number of locks selected
+ * by vertex hash code), so writers touching different vertices proceed in
+ * parallel. Vertex removal locks every stripe, which makes the removal of a
+ * vertex together with its touching edges atomic.</p>
+ *
+ * <p>The sets returned by {@link #vertexSet()}, {@link #edgeSet()} and the
+ * incidence methods are unmodifiable live views whose iterators are weakly
+ * consistent: they never throw {@link ConcurrentModificationException} and
+ * reflect some, but not necessarily all, of the modifications made after the
+ * iterator was created. Iteration order is unspecified.</p>
+ *
+ * <p>Edge weights of {@link DefaultWeightedEdge}s are read and written without
+ * synchronization; a weight set by one thread is not guaranteed to be visible
+ * to other threads without a happens-before relation of their own.</p>
+ *
+ * @see ConcurrentDirectedGraph
+ * @see ConcurrentUndirectedGraph
+ */
+public abstract class AbstractConcurrentGraph<V, E>
+    extends AbstractGraph<V, E>
+    implements Graph<V, E>,
+        Serializable
+{
+    private static final long serialVersionUID = -4408431932733418734L;
+
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+
+    /**
+     * The default number of lock stripes.
+     */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 64;
+
+    private final EdgeFactory<V, E> edgeFactory;
+    private final boolean allowingMultipleEdges;
+    private final boolean allowingLoops;
+
+    private final ConcurrentMap<V, Incidences<E>> vertexMap;
+    private final ConcurrentMap<E, IntrusiveEdge> edgeMap;
+    private final ConcurrentMap<VertexPair<V>, Set<E>> touchingVerticesToEdgeMap;
+    private final ReentrantLock [] locks;
+
+    private final Set<V> unmodifiableVertexSet;
+    private final Set<E> unmodifiableEdgeSet;
+
+    private transient TypeUtil<V> vertexTypeDecl = null;
+
+    /**
+     * Construct a new graph.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     * @param concurrencyLevel the estimated number of concurrently writing
+     * threads; rounded up to a power of two, it is the number of lock stripes.
+     *
+     * @throws NullPointerException if the specified edge factory is <code>
+     * null</code>.
+     * @throws IllegalArgumentException if the concurrency level is not
+     * positive.
+     */
+    AbstractConcurrentGraph(
+        EdgeFactory<V, E> ef,
+        boolean allowMultipleEdges,
+        boolean allowLoops,
+        int concurrencyLevel)
+    {
+        if (ef == null) {
+            throw new NullPointerException();
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException(
+                "concurrency level must be positive");
+        }
+        edgeFactory = ef;
+        allowingMultipleEdges = allowMultipleEdges;
+        allowingLoops = allowLoops;
+
+        vertexMap = new ConcurrentHashMap<>();
+        edgeMap = new ConcurrentHashMap<>();
+        touchingVerticesToEdgeMap = new ConcurrentHashMap<>();
+
+        int stripes = 1;
+        while ((stripes < concurrencyLevel) && (stripes < (1 << 16))) {
+            stripes <<= 1;
+        }
+        locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+
+        unmodifiableVertexSet = Collections.unmodifiableSet(vertexMap.keySet());
+        unmodifiableEdgeSet = Collections.unmodifiableSet(edgeMap.keySet());
+    }
+
+    /**
+     * Creates the incidence container of a newly added vertex.
+     *
+     * @return the incidence container
+     */
+    abstract Incidences<E> createIncidences();
+
+    /**
+     * Creates the key under which the edges from the source to the target
+     * vertex are indexed.
+     *
+     * @param sourceVertex source vertex
+     * @param targetVertex target vertex
+     *
+     * @return the index key
+     */
+    abstract VertexPair<V> createVertexPair(V sourceVertex, V targetVertex);
+
+    /**
+     * Returns <code>true</code> if and only if self-loops are allowed in this
+     * graph. A self loop is an edge that its source and target vertices are the
+     * same.
+     *
+     * @return <code>true</code> if and only if graph loops are allowed.
+     */
+    public boolean isAllowingLoops()
+    {
+        return allowingLoops;
+    }
+
+    /**
+     * Returns <code>true</code> if and only if multiple edges are allowed in
+     * this graph. The meaning of multiple edges is that there can be many edges
+     * going from vertex v1 to vertex v2.
+     *
+     * @return <code>true</code> if and only if multiple edges are allowed.
+     */
+    public boolean isAllowingMultipleEdges()
+    {
+        return allowingMultipleEdges;
+    }
+
+    /**
+     * @see Graph#getAllEdges(Object, Object)
+     */
+    @Override public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        Set<E> edges =
+            touchingVerticesToEdgeMap.get(
+                createVertexPair(sourceVertex, targetVertex));
+        return (edges == null) ? Collections.emptySet()
+            : new ArrayUnenforcedSet<>(edges);
+    }
+
+    /**
+     * @see Graph#getEdge(Object, Object)
+     */
+    @Override public E getEdge(V sourceVertex, V targetVertex)
+    {
+        if ((sourceVertex == null) || (targetVertex == null)) {
+            return null;
+        }
+        Set<E> edges =
+            touchingVerticesToEdgeMap.get(
+                createVertexPair(sourceVertex, targetVertex));
+        if (edges != null) {
+            for (E e : edges) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @see Graph#getEdgeFactory()
+     */
+    @Override public EdgeFactory<V, E> getEdgeFactory()
+    {
+        return edgeFactory;
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object)
+     */
+    @Override public E addEdge(V sourceVertex, V targetVertex)
+    {
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        if (!allowingMultipleEdges
+            && containsEdge(sourceVertex, targetVertex))
+        {
+            return null;
+        }
+
+        if (!allowingLoops && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        E e = edgeFactory.createEdge(sourceVertex, targetVertex);
+
+        return link(sourceVertex, targetVertex, e) ? e : null;
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object, Object)
+     */
+    @Override public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        } else if (containsEdge(e)) {
+            return false;
+        }
+
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        if (!allowingMultipleEdges
+            && containsEdge(sourceVertex, targetVertex))
+        {
+            return false;
+        }
+
+        if (!allowingLoops && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        return link(sourceVertex, targetVertex, e);
+    }
+
+    /**
+     * Adds the edge under the locks of both endpoints, re-checking the
+     * preconditions that may have changed since the caller's unlocked checks.
+     */
+    private boolean link(V sourceVertex, V targetVertex, E e)
+    {
+        int s = stripeOf(sourceVertex);
+        int t = stripeOf(targetVertex);
+        lock(s, t);
+        try {
+            Incidences<E> sourceIncidences = vertexMap.get(sourceVertex);
+            Incidences<E> targetIncidences = vertexMap.get(targetVertex);
+            if ((sourceIncidences == null) || (targetIncidences == null)) {
+                // removed concurrently
+                throw new IllegalArgumentException("no such vertex in graph");
+            }
+
+            VertexPair<V> pair = createVertexPair(sourceVertex, targetVertex);
+            Set<E> edges = touchingVerticesToEdgeMap.get(pair);
+            if (!allowingMultipleEdges && (edges != null)) {
+                return false;
+            }
+
+            // claim the edge with a fresh record: an intrusive edge object
+            // may concurrently be added between other vertices, so its
+            // fields are only written once the claim succeeded
+            IntrusiveEdge record = new IntrusiveEdge();
+            record.source = sourceVertex;
+            record.target = targetVertex;
+            if (edgeMap.putIfAbsent(e, record) != null) {
+                return false;
+            }
+            if (e instanceof IntrusiveEdge) {
+                IntrusiveEdge intrusiveEdge = (IntrusiveEdge) e;
+                intrusiveEdge.source = sourceVertex;
+                intrusiveEdge.target = targetVertex;
+                edgeMap.replace(e, record, intrusiveEdge);
+            }
+
+            if (edges == null) {
+                edges = new CopyOnWriteArraySet<>();
+                touchingVerticesToEdgeMap.put(pair, edges);
+            }
+            edges.add(e);
+            sourceIncidences.outgoing.add(e);
+            targetIncidences.incoming.add(e);
+
+            return true;
+        } finally {
+            unlock(s, t);
+        }
+    }
+
+    /**
+     * Removes the edge from the incidences of its endpoints and from the
+     * indexes. The caller must hold the locks of both endpoints.
+     */
+    private void unlink(E e, V sourceVertex, V targetVertex)
+    {
+        edgeMap.remove(e);
+
+        VertexPair<V> pair = createVertexPair(sourceVertex, targetVertex);
+        Set<E> edges = touchingVerticesToEdgeMap.get(pair);
+        edges.remove(e);
+        if (edges.isEmpty()) {
+            touchingVerticesToEdgeMap.remove(pair);
+        }
+
+        vertexMap.get(sourceVertex).outgoing.remove(e);
+        vertexMap.get(targetVertex).incoming.remove(e);
+    }
+
+    /**
+     * @see Graph#addVertex(Object)
+     */
+    @Override public boolean addVertex(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        return !vertexMap.containsKey(v)
+            && (vertexMap.putIfAbsent(v, createIncidences()) == null);
+    }
+
+    /**
+     * @see Graph#getEdgeSource(Object)
+     */
+    @Override public V getEdgeSource(E e)
+    {
+        return TypeUtil.uncheckedCast(
+            getIntrusiveEdge(e).source,
+            vertexTypeDecl);
+    }
+
+    /**
+     * @see Graph#getEdgeTarget(Object)
+     */
+    @Override public V getEdgeTarget(E e)
+    {
+        return TypeUtil.uncheckedCast(
+            getIntrusiveEdge(e).target,
+            vertexTypeDecl);
+    }
+
+    private IntrusiveEdge getIntrusiveEdge(E e)
+    {
+        IntrusiveEdge intrusiveEdge = edgeMap.get(e);
+        if (intrusiveEdge == null) {
+            throw new IllegalArgumentException("no such edge in graph");
+        }
+        return intrusiveEdge;
+    }
+
+    /**
+     * @see Graph#containsEdge(Object)
+     */
+    @Override public boolean containsEdge(E e)
+    {
+        return edgeMap.containsKey(e);
+    }
+
+    /**
+     * @see Graph#containsVertex(Object)
+     */
+    @Override public boolean containsVertex(V v)
+    {
+        return vertexMap.containsKey(v);
+    }
+
+    /**
+     * @see Graph#edgeSet()
+     */
+    @Override public Set<E> edgeSet()
+    {
+        return unmodifiableEdgeSet;
+    }
+
+    /**
+     * @see Graph#vertexSet()
+     */
+    @Override public Set<V> vertexSet()
+    {
+        return unmodifiableVertexSet;
+    }
+
+    /**
+     * @see Graph#removeEdge(Object, Object)
+     */
+    @Override public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        E e;
+        do {
+            e = getEdge(sourceVertex, targetVertex);
+        } while ((e != null) && !removeEdge(e));
+
+        return e;
+    }
+
+    /**
+     * @see Graph#removeEdge(Object)
+     */
+    @Override public boolean removeEdge(E e)
+    {
+        for (;;) {
+            IntrusiveEdge intrusiveEdge = edgeMap.get(e);
+            if (intrusiveEdge == null) {
+                return false;
+            }
+            V sourceVertex =
+                TypeUtil.uncheckedCast(intrusiveEdge.source, vertexTypeDecl);
+            V targetVertex =
+                TypeUtil.uncheckedCast(intrusiveEdge.target, vertexTypeDecl);
+
+            int s = stripeOf(sourceVertex);
+            int t = stripeOf(targetVertex);
+            lock(s, t);
+            try {
+                intrusiveEdge = edgeMap.get(e);
+                if (intrusiveEdge == null) {
+                    return false;
+                }
+                if ((intrusiveEdge.source == sourceVertex)
+                    && (intrusiveEdge.target == targetVertex))
+                {
+                    unlink(e, sourceVertex, targetVertex);
+                    return true;
+                }
+
+                // removed and re-added between other vertices meanwhile
+            } finally {
+                unlock(s, t);
+            }
+        }
+    }
+
+    /**
+     * @see Graph#removeVertex(Object)
+     */
+    @Override public boolean removeVertex(V v)
+    {
+        if (!containsVertex(v)) {
+            return false;
+        }
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+        try {
+            Incidences<E> incidences = vertexMap.get(v);
+            if (incidences == null) {
+                return false;
+            }
+            List<E> touchingEdges = new ArrayList<>(incidences.outgoing);
+            if (incidences.incoming != incidences.outgoing) {
+                touchingEdges.addAll(incidences.incoming);
+            }
+            for (E e : touchingEdges) {
+                // a directed self-loop is listed twice
+                if (containsEdge(e)) {
+                    unlink(e, getEdgeSource(e), getEdgeTarget(e));
+                }
+            }
+            vertexMap.remove(v);
+
+            return true;
+        } finally {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * @see Graph#getEdgeWeight(Object)
+     */
+    @Override public double getEdgeWeight(E e)
+    {
+        if (e instanceof DefaultWeightedEdge) {
+            return ((DefaultWeightedEdge) e).getWeight();
+        } else if (e == null) {
+            throw new NullPointerException();
+        } else {
+            return WeightedGraph.DEFAULT_EDGE_WEIGHT;
+        }
+    }
+
+    /**
+     * @see WeightedGraph#setEdgeWeight(Object, double)
+     */
+    public void setEdgeWeight(E e, double weight)
+    {
+        assert (e instanceof DefaultWeightedEdge) : e.getClass();
+        ((DefaultWeightedEdge) e).weight = weight;
+    }
+
+    /**
+     * Returns the incidences of a vertex.
+     *
+     * @param vertex vertex of interest
+     *
+     * @return the incidences of the vertex
+     *
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    Incidences<E> getIncidences(V vertex)
+    {
+        Incidences<E> incidences = vertexMap.get(vertex);
+        if (incidences == null) {
+            if (vertex == null) {
+                throw new NullPointerException();
+            }
+            throw new IllegalArgumentException("no such vertex in graph");
+        }
+        return incidences;
+    }
+
+    /**
+     * Tells whether the edge is a self-loop; an edge removed concurrently is
+     * not.
+     */
+    boolean isSelfLoop(E e)
+    {
+        IntrusiveEdge intrusiveEdge = edgeMap.get(e);
+        return (intrusiveEdge != null)
+            && intrusiveEdge.source.equals(intrusiveEdge.target);
+    }
+
+    private int stripeOf(V v)
+    {
+        int h = v.hashCode();
+        return (h ^ (h >>> 16)) & (locks.length - 1);
+    }
+
+    private void lock(int s, int t)
+    {
+        // always acquire the lower stripe first to avoid deadlocks
+        locks[Math.min(s, t)].lock();
+        if (s != t) {
+            locks[Math.max(s, t)].lock();
+        }
+    }
+
+    private void unlock(int s, int t)
+    {
+        if (s != t) {
+            locks[Math.max(s, t)].unlock();
+        }
+        locks[Math.min(s, t)].unlock();
+    }
+
+    /**
+     * The incidences of a vertex. For undirected graphs both sets are the same
+     * set.
+     */
+    static class Incidences<E>
+        implements Serializable
+    {
+        private static final long serialVersionUID = 5147658929214405562L;
+
+        final Set<E> outgoing;
+        final Set<E> incoming;
+        final Set<E> unmodifiableOutgoing;
+        final Set<E> unmodifiableIncoming;
+
+        Incidences(Set<E> outgoing, Set<E> incoming)
+        {
+            this.outgoing = outgoing;
+            this.incoming = incoming;
+            unmodifiableOutgoing = Collections.unmodifiableSet(outgoing);
+            unmodifiableIncoming =
+                (incoming == outgoing) ? unmodifiableOutgoing
+                : Collections.unmodifiableSet(incoming);
+        }
+    }
+}
+
+// End AbstractConcurrentGraph.java
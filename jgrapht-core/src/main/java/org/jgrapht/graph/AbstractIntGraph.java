@@ -0,0 +1,864 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ----------------------
+ * AbstractIntGraph.java
+ * ----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * Base class of the mutable graphs whose vertices are non-negative <code>
+ * int</code> values. A vertex is its own index: the adjacency of vertex <code>
+ * v</code> lives in slot <code>v</code> of plain arrays, so no vertex map is
+ * consulted on any operation. Edge endpoints and weights are kept in primitive
+ * columns addressed by a dense edge index.
+ *
+ * <p>Besides the {@link Graph} interface, which necessarily works on boxed
+ * {@link Integer} vertices, the class offers an allocation-free view of the
+ * adjacency through the <code>...At</code> methods, e.g.</p>
+ *
+ * <pre>
+ * for (int i = 0; i &lt; g.getOutDegreeAt(v); i++) {
+ *     int u = g.getOutNeighborAt(v, i);
+ *     double w = g.getEdgeWeightAt(g.getOutEdgeIndexAt(v, i));
+ * }
+ * </pre>
+ *
+ * <p>For undirected graphs every incidence of a vertex is "outgoing"; a
+ * self-loop is recorded once. The vertex objects passed to {@link
+ * #addVertex(Integer)} are retained, so reading vertices back through the
+ * {@link Graph} interface does not box either. Edge indices of removed edges
+ * are reused by subsequently added edges.</p>
+ *
+ * <p>Vertex ids should be dense: the arrays are sized by the largest id ever
+ * added.</p>
+ *
+ * @see IntDirectedGraph
+ * @see IntUndirectedGraph
+ */
+public abstract class AbstractIntGraph<E>
+    extends AbstractGraph<Integer, E>
+    implements IndexedGraph<Integer, E>,
+        Serializable
+{
+    private static final long serialVersionUID = 2730186151397745019L;
+
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final EdgeFactory<Integer, E> edgeFactory;
+    private final boolean allowingMultipleEdges;
+    private final boolean allowingLoops;
+
+    private Integer [] vertices;
+    private final BitSet vertexBits;
+    private int vertexCount;
+
+    private Object [] edges;
+    private int [] edgeSources;
+    private int [] edgeTargets;
+    private double [] edgeWeights;
+    private final Map<E, Integer> edgeIndices;
+    private int edgeBound;
+    private int edgeCount;
+    private int [] freeEdges;
+    private int freeEdgeCount;
+
+    /**
+     * Per-vertex incidences. For undirected graphs every incidence is stored
+     * here.
+     */
+    final IntAdjacency out;
+
+    private transient Set<Integer> unmodifiableVertexSet = null;
+    private transient Set<E> unmodifiableEdgeSet = null;
+
+    /**
+     * Construct a new graph.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     *
+     * @throws NullPointerException if the specified edge factory is <code>
+     * null</code>.
+     */
+    AbstractIntGraph(
+        EdgeFactory<Integer, E> ef,
+        boolean allowMultipleEdges,
+        boolean allowLoops)
+    {
+        if (ef == null) {
+            throw new NullPointerException();
+        }
+        edgeFactory = ef;
+        allowingMultipleEdges = allowMultipleEdges;
+        allowingLoops = allowLoops;
+
+        vertices = new Integer[DEFAULT_CAPACITY];
+        vertexBits = new BitSet(DEFAULT_CAPACITY);
+        edges = new Object[DEFAULT_CAPACITY];
+        edgeSources = new int[DEFAULT_CAPACITY];
+        edgeTargets = new int[DEFAULT_CAPACITY];
+        edgeWeights = new double[DEFAULT_CAPACITY];
+        edgeIndices = new HashMap<>();
+        freeEdges = new int[0];
+        out = new IntAdjacency(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Records a new edge in the adjacency of its endpoints.
+     *
+     * @param edge index of the edge
+     * @param source index of the source vertex
+     * @param target index of the target vertex
+     */
+    abstract void addIncidences(int edge, int source, int target);
+
+    /**
+     * Removes an edge from the adjacency of its endpoints.
+     *
+     * @param edge index of the edge
+     * @param source index of the source vertex
+     * @param target index of the target vertex
+     */
+    abstract void removeIncidences(int edge, int source, int target);
+
+    /**
+     * Makes room for vertex indices smaller than the specified capacity in
+     * the adjacency structures.
+     *
+     * @param capacity the new vertex capacity
+     */
+    void ensureVertexCapacity(int capacity)
+    {
+        out.ensureCapacity(capacity);
+    }
+
+    /**
+     * Returns <code>true</code> if and only if self-loops are allowed in this
+     * graph.
+     *
+     * @return <code>true</code> if and only if graph loops are allowed.
+     */
+    public boolean isAllowingLoops()
+    {
+        return allowingLoops;
+    }
+
+    /**
+     * Returns <code>true</code> if and only if multiple edges are allowed in
+     * this graph.
+     *
+     * @return <code>true</code> if and only if multiple edges are allowed.
+     */
+    public boolean isAllowingMultipleEdges()
+    {
+        return allowingMultipleEdges;
+    }
+
+    /**
+     * @see Graph#getEdgeFactory()
+     */
+    @Override public EdgeFactory<Integer, E> getEdgeFactory()
+    {
+        return edgeFactory;
+    }
+
+    /**
+     * @see Graph#addVertex(Object)
+     *
+     * @throws IllegalArgumentException if the vertex is negative.
+     */
+    @Override public boolean addVertex(Integer v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        int index = v;
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                "vertex must be non-negative: " + v);
+        }
+        if ((index < vertices.length) && (vertices[index] != null)) {
+            return false;
+        }
+        if (index >= vertices.length) {
+            int capacity = Math.max(index + 1, 2 * vertices.length);
+            vertices = Arrays.copyOf(vertices, capacity);
+            ensureVertexCapacity(capacity);
+        }
+        vertices[index] = v;
+        vertexBits.set(index);
+        vertexCount++;
+        return true;
+    }
+
+    /**
+     * @see Graph#containsVertex(Object)
+     */
+    @Override public boolean containsVertex(Integer v)
+    {
+        return (v != null) && (v >= 0) && (v < vertices.length)
+            && (vertices[v] != null);
+    }
+
+    /**
+     * @see Graph#removeVertex(Object)
+     */
+    @Override public boolean removeVertex(Integer v)
+    {
+        if (!containsVertex(v)) {
+            return false;
+        }
+        int index = v;
+        removeIncidentEdges(index);
+        vertices[index] = null;
+        vertexBits.clear(index);
+        vertexCount--;
+        return true;
+    }
+
+    /**
+     * Removes every edge touching the specified vertex.
+     *
+     * @param v index of the vertex
+     */
+    void removeIncidentEdges(int v)
+    {
+        while (out.sizes[v] > 0) {
+            removeEdgeAt(out.edges[v][out.sizes[v] - 1]);
+        }
+    }
+
+    /**
+     * @see Graph#vertexSet()
+     */
+    @Override public Set<Integer> vertexSet()
+    {
+        if (unmodifiableVertexSet == null) {
+            unmodifiableVertexSet = new VertexSet();
+        }
+        return unmodifiableVertexSet;
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object)
+     */
+    @Override public E addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        int s = assertVertexIndex(sourceVertex);
+        int t = assertVertexIndex(targetVertex);
+
+        if (!allowingMultipleEdges && (getEdgeIndex(s, t) >= 0)) {
+            return null;
+        }
+
+        if (!allowingLoops && (s == t)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        E e = edgeFactory.createEdge(sourceVertex, targetVertex);
+
+        if (containsEdge(e)) { // this restriction should stay!
+
+            return null;
+        } else {
+            insertEdge(e, s, t);
+
+            return e;
+        }
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object, Object)
+     */
+    @Override public boolean addEdge(
+        Integer sourceVertex,
+        Integer targetVertex,
+        E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        } else if (containsEdge(e)) {
+            return false;
+        }
+
+        int s = assertVertexIndex(sourceVertex);
+        int t = assertVertexIndex(targetVertex);
+
+        if (!allowingMultipleEdges && (getEdgeIndex(s, t) >= 0)) {
+            return false;
+        }
+
+        if (!allowingLoops && (s == t)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        insertEdge(e, s, t);
+
+        return true;
+    }
+
+    private void insertEdge(E e, int s, int t)
+    {
+        int index;
+        if (freeEdgeCount > 0) {
+            index = freeEdges[--freeEdgeCount];
+        } else {
+            if (edgeBound == edges.length) {
+                int capacity = 2 * edges.length;
+                edges = Arrays.copyOf(edges, capacity);
+                edgeSources = Arrays.copyOf(edgeSources, capacity);
+                edgeTargets = Arrays.copyOf(edgeTargets, capacity);
+                edgeWeights = Arrays.copyOf(edgeWeights, capacity);
+            }
+            index = edgeBound++;
+        }
+
+        if (e instanceof IntrusiveEdge) {
+            // keeps DefaultEdge.toString() meaningful
+            IntrusiveEdge intrusiveEdge = (IntrusiveEdge) e;
+            intrusiveEdge.source = vertices[s];
+            intrusiveEdge.target = vertices[t];
+        }
+
+        edges[index] = e;
+        edgeSources[index] = s;
+        edgeTargets[index] = t;
+        edgeWeights[index] =
+            (e instanceof DefaultWeightedEdge)
+            ? ((DefaultWeightedEdge) e).getWeight()
+            : WeightedGraph.DEFAULT_EDGE_WEIGHT;
+        edgeIndices.put(e, index);
+        edgeCount++;
+
+        addIncidences(index, s, t);
+    }
+
+    /**
+     * @see Graph#containsEdge(Object)
+     */
+    @Override public boolean containsEdge(E e)
+    {
+        return edgeIndices.containsKey(e);
+    }
+
+    /**
+     * @see Graph#getEdge(Object, Object)
+     */
+    @Override public E getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int s = sourceVertex;
+        int t = targetVertex;
+        int index = getEdgeIndex(s, t);
+        return (index < 0) ? null : edgeAt(index);
+    }
+
+    /**
+     * @see Graph#getAllEdges(Object, Object)
+     */
+    @Override public Set<E> getAllEdges(
+        Integer sourceVertex,
+        Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int s = sourceVertex;
+        int t = targetVertex;
+        ArrayUnenforcedSet<E> result = new ArrayUnenforcedSet<>();
+        int [] opposite = out.vertices[s];
+        for (int i = 0; i < out.sizes[s]; i++) {
+            if (opposite[i] == t) {
+                result.add(edgeAt(out.edges[s][i]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @see Graph#removeEdge(Object, Object)
+     */
+    @Override public E removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        E e = getEdge(sourceVertex, targetVertex);
+
+        if (e != null) {
+            removeEdgeAt(edgeIndices.get(e));
+        }
+
+        return e;
+    }
+
+    /**
+     * @see Graph#removeEdge(Object)
+     */
+    @Override public boolean removeEdge(E e)
+    {
+        Integer index = edgeIndices.get(e);
+        if (index == null) {
+            return false;
+        }
+        removeEdgeAt(index);
+        return true;
+    }
+
+    void removeEdgeAt(int index)
+    {
+        removeIncidences(index, edgeSources[index], edgeTargets[index]);
+        edgeIndices.remove(edges[index]);
+        edges[index] = null;
+        edgeCount--;
+
+        if (freeEdgeCount == freeEdges.length) {
+            freeEdges =
+                Arrays.copyOf(freeEdges, Math.max(4, 2 * freeEdges.length));
+        }
+        freeEdges[freeEdgeCount++] = index;
+    }
+
+    /**
+     * @see Graph#edgeSet()
+     */
+    @Override public Set<E> edgeSet()
+    {
+        if (unmodifiableEdgeSet == null) {
+            unmodifiableEdgeSet = new EdgeSet();
+        }
+        return unmodifiableEdgeSet;
+    }
+
+    /**
+     * @see Graph#getEdgeSource(Object)
+     */
+    @Override public Integer getEdgeSource(E e)
+    {
+        return vertices[edgeSources[assertEdgeIndex(e)]];
+    }
+
+    /**
+     * @see Graph#getEdgeTarget(Object)
+     */
+    @Override public Integer getEdgeTarget(E e)
+    {
+        return vertices[edgeTargets[assertEdgeIndex(e)]];
+    }
+
+    /**
+     * @see Graph#getEdgeWeight(Object)
+     */
+    @Override public double getEdgeWeight(E e)
+    {
+        return edgeWeights[assertEdgeIndex(e)];
+    }
+
+    /**
+     * @see WeightedGraph#setEdgeWeight(Object, double)
+     */
+    public void setEdgeWeight(E e, double weight)
+    {
+        setEdgeWeightAt(assertEdgeIndex(e), weight);
+    }
+
+    /**
+     * Assigns a weight to the edge at the specified index.
+     *
+     * @param edge an edge index
+     * @param weight new weight for the edge
+     */
+    public void setEdgeWeightAt(int edge, double weight)
+    {
+        edgeWeights[edge] = weight;
+        if (edges[edge] instanceof DefaultWeightedEdge) {
+            // keep the edge object consistent for use in other graphs
+            ((DefaultWeightedEdge) edges[edge]).weight = weight;
+        }
+    }
+
+    /**
+     * Returns the index of the source vertex of the edge at the specified
+     * index.
+     *
+     * @param edge an edge index
+     *
+     * @return the source vertex index
+     */
+    public int getEdgeSourceAt(int edge)
+    {
+        return edgeSources[edge];
+    }
+
+    /**
+     * Returns the index of the target vertex of the edge at the specified
+     * index.
+     *
+     * @param edge an edge index
+     *
+     * @return the target vertex index
+     */
+    public int getEdgeTargetAt(int edge)
+    {
+        return edgeTargets[edge];
+    }
+
+    /**
+     * Returns the weight of the edge at the specified index.
+     *
+     * @param edge an edge index
+     *
+     * @return the edge weight
+     */
+    public double getEdgeWeightAt(int edge)
+    {
+        return edgeWeights[edge];
+    }
+
+    /**
+     * Returns the number of outgoing incidences of the specified vertex. For
+     * undirected graphs this is the number of incident edges, counting
+     * self-loops once.
+     *
+     * @param vertex a vertex index
+     *
+     * @return the out-degree of the vertex
+     */
+    public int getOutDegreeAt(int vertex)
+    {
+        return out.sizes[vertex];
+    }
+
+    /**
+     * Returns the vertex at the opposite end of the i-th outgoing incidence of
+     * the specified vertex.
+     *
+     * @param vertex a vertex index
+     * @param i position in the range <code>[0, getOutDegreeAt(vertex))</code>
+     *
+     * @return the index of the neighbor
+     */
+    public int getOutNeighborAt(int vertex, int i)
+    {
+        return out.vertices[vertex][i];
+    }
+
+    /**
+     * Returns the edge of the i-th outgoing incidence of the specified vertex.
+     *
+     * @param vertex a vertex index
+     * @param i position in the range <code>[0, getOutDegreeAt(vertex))</code>
+     *
+     * @return the index of the edge
+     */
+    public int getOutEdgeIndexAt(int vertex, int i)
+    {
+        return out.edges[vertex][i];
+    }
+
+    /**
+     * Returns the index of an edge connecting the specified vertices, scanning
+     * the adjacency of the source.
+     *
+     * @param source a source vertex index
+     * @param target a target vertex index
+     *
+     * @return the index of an edge, or <code>-1</code> if there is none.
+     */
+    public int getEdgeIndex(int source, int target)
+    {
+        return out.find(source, target);
+    }
+
+    /**
+     * @see IndexedGraph#getVertexIndex(Object)
+     */
+    @Override public int getVertexIndex(Integer vertex)
+    {
+        return containsVertex(vertex) ? vertex : -1;
+    }
+
+    /**
+     * @see IndexedGraph#getVertexAt(int)
+     */
+    @Override public Integer getVertexAt(int index)
+    {
+        if ((index < 0) || (index >= vertices.length)) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return vertices[index];
+    }
+
+    /**
+     * @see IndexedGraph#getVertexIndexBound()
+     */
+    @Override public int getVertexIndexBound()
+    {
+        return vertexBits.length();
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeIndex(Object)
+     */
+    @Override public int getEdgeIndex(E edge)
+    {
+        Integer index = edgeIndices.get(edge);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeAt(int)
+     */
+    @Override public E getEdgeAt(int index)
+    {
+        if ((index < 0) || (index >= edgeBound)) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return edgeAt(index);
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeIndexBound()
+     */
+    @Override public int getEdgeIndexBound()
+    {
+        return edgeBound;
+    }
+
+    E edgeAt(int index)
+    {
+        return TypeUtil.uncheckedCast(edges[index], null);
+    }
+
+    /**
+     * Returns the index of the specified vertex, or throws exception if the
+     * vertex is not in this graph.
+     *
+     * @param v vertex
+     *
+     * @return the vertex index
+     *
+     * @throws NullPointerException if specified vertex is <code>null</code>.
+     * @throws IllegalArgumentException if specified vertex does not exist in
+     * this graph.
+     */
+    int assertVertexIndex(Integer v)
+    {
+        if (!containsVertex(v)) {
+            assertVertexExist(v);
+        }
+        return v;
+    }
+
+    private int assertEdgeIndex(E e)
+    {
+        Integer index = edgeIndices.get(e);
+        if (index == null) {
+            if (e == null) {
+                throw new NullPointerException();
+            }
+            throw new IllegalArgumentException(
+                "no such edge in graph: " + e.toString());
+        }
+        return index;
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the edges of one adjacency list.
+     */
+    Set<E> incidenceSet(IntAdjacency adjacency, int vertex)
+    {
+        return new IncidenceSet(adjacency, vertex);
+    }
+
+    /**
+     * Unmodifiable view of the vertices, in ascending order.
+     */
+    private class VertexSet
+        extends AbstractSet<Integer>
+        implements Serializable
+    {
+        private static final long serialVersionUID = -6240883919312093851L;
+
+        @Override public boolean contains(Object o)
+        {
+            return (o instanceof Integer) && containsVertex((Integer) o);
+        }
+
+        @Override public int size()
+        {
+            return vertexCount;
+        }
+
+        @Override public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>() {
+                private int next = vertexBits.nextSetBit(0);
+
+                @Override public boolean hasNext()
+                {
+                    return next >= 0;
+                }
+
+                @Override public Integer next()
+                {
+                    if (next < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    Integer v = vertices[next];
+                    next = vertexBits.nextSetBit(next + 1);
+                    return v;
+                }
+            };
+        }
+    }
+
+    /**
+     * Unmodifiable view of the edges, in edge index order.
+     */
+    private class EdgeSet
+        extends AbstractSet<E>
+        implements Serializable
+    {
+        private static final long serialVersionUID = 5118240624096385823L;
+
+        @Override public boolean contains(Object o)
+        {
+            return edgeIndices.containsKey(o);
+        }
+
+        @Override public int size()
+        {
+            return edgeCount;
+        }
+
+        @Override public Iterator<E> iterator()
+        {
+            return new Iterator<E>() {
+                private int next = advance(0);
+
+                private int advance(int from)
+                {
+                    while ((from < edgeBound) && (edges[from] == null)) {
+                        from++;
+                    }
+                    return from;
+                }
+
+                @Override public boolean hasNext()
+                {
+                    return next < edgeBound;
+                }
+
+                @Override public E next()
+                {
+                    if (next >= edgeBound) {
+                        throw new NoSuchElementException();
+                    }
+                    E e = edgeAt(next);
+                    next = advance(next + 1);
+                    return e;
+                }
+            };
+        }
+    }
+
+    /**
+     * Unmodifiable view of the edges of one vertex's adjacency list. No copy
+     * of the list is made.
+     */
+    private class IncidenceSet
+        extends AbstractSet<E>
+    {
+        private final IntAdjacency adjacency;
+        private final int vertex;
+
+        IncidenceSet(IntAdjacency adjacency, int vertex)
+        {
+            this.adjacency = adjacency;
+            this.vertex = vertex;
+        }
+
+        @Override public boolean contains(Object o)
+        {
+            Integer index = edgeIndices.get(o);
+            if (index == null) {
+                return false;
+            }
+            int [] e = adjacency.edges[vertex];
+            for (int i = 0; i < adjacency.sizes[vertex]; i++) {
+                if (e[i] == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override public int size()
+        {
+            return adjacency.sizes[vertex];
+        }
+
+        @Override public Iterator<E> iterator()
+        {
+            return new Iterator<E>() {
+                private int next = 0;
+
+                @Override public boolean hasNext()
+                {
+                    return next < adjacency.sizes[vertex];
+                }
+
+                @Override public E next()
+                {
+                    if (next >= adjacency.sizes[vertex]) {
+                        throw new NoSuchElementException();
+                    }
+                    return edgeAt(adjacency.edges[vertex][next++]);
+                }
+            };
+        }
+    }
+}
+
+// End AbstractIntGraph.java
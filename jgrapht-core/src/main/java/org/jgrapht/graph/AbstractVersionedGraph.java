@@ -0,0 +1,764 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ----------------------------
+ * AbstractVersionedGraph.java
+ * ----------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * Base class of the versioned graphs: mutable graphs which hand out immutable
+ * snapshots of themselves in constant time.
+ *
+ * <p>The whole graph state lives in persistent hash maps. A modification
+ * never changes existing structure; it builds a new state sharing all but a
+ * logarithmic part of the old one, and publishes it by a single volatile
+ * write. A snapshot (see <code>snapshot()</code> of the subclasses) is a
+ * read-only graph pinned to the state current at the time of the call:
+ * subsequent modifications of the versioned graph are not visible through
+ * it, and it can be read by any number of threads while the versioned graph
+ * is being modified. Attempts to modify a snapshot result in an <code>
+ * UnsupportedOperationException</code>, like for {@link
+ * UnmodifiableGraph}.</p>
+ *
+ * <p>Modifications are serialized by the monitor of the graph; reads never
+ * lock, so readers never block writers. Every read method observes a single
+ * consistent state. The sets returned by {@link #vertexSet()} and {@link
+ * #edgeSet()} are live views, but each of their iterators works on the state
+ * current at its creation and never throws {@link
+ * ConcurrentModificationException}. The incidence sets, e.g. {@link
+ * #edgesOf(Object)}, are immutable. Iteration order is unspecified.</p>
+ *
+ * <p>Edge weights are versioned too: {@link #setEdgeWeight(Object, double)}
+ * creates a new version, and snapshots report the weights of their own
+ * version.</p>
+ *
+ * @see VersionedDirectedGraph
+ * @see VersionedUndirectedGraph
+ */
+public abstract class AbstractVersionedGraph<V, E>
+    extends AbstractGraph<V, E>
+    implements Graph<V, E>,
+        Serializable
+{
+    private static final long serialVersionUID = 3908410212931725410L;
+
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    private final EdgeFactory<V, E> edgeFactory;
+    private final boolean allowingMultipleEdges;
+    private final boolean allowingLoops;
+    private final boolean directed;
+    private final boolean snapshot;
+    private final Incidences<E> noIncidences;
+
+    private volatile State<V, E> state;
+
+    private transient Set<V> vertexSetView = null;
+    private transient Set<E> edgeSetView = null;
+
+    /**
+     * Construct a new graph.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     *
+     * @throws NullPointerException if the specified edge factory is <code>
+     * null</code>.
+     */
+    AbstractVersionedGraph(
+        EdgeFactory<V, E> ef,
+        boolean allowMultipleEdges,
+        boolean allowLoops)
+    {
+        if (ef == null) {
+            throw new NullPointerException();
+        }
+        edgeFactory = ef;
+        allowingMultipleEdges = allowMultipleEdges;
+        allowingLoops = allowLoops;
+        directed = this instanceof DirectedGraph<?, ?>;
+        snapshot = false;
+        noIncidences =
+            new Incidences<>(
+                PersistentHashMap.<E, E>empty(),
+                PersistentHashMap.<E, E>empty(),
+                !directed);
+        state =
+            new State<>(
+                0,
+                PersistentHashMap.<V, Incidences<E>>empty(),
+                PersistentHashMap.<E, EdgeRecord>empty());
+    }
+
+    /**
+     * Construct a snapshot of the specified graph.
+     *
+     * @param g the versioned graph
+     */
+    AbstractVersionedGraph(AbstractVersionedGraph<V, E> g)
+    {
+        edgeFactory = g.edgeFactory;
+        allowingMultipleEdges = g.allowingMultipleEdges;
+        allowingLoops = g.allowingLoops;
+        directed = g.directed;
+        snapshot = true;
+        noIncidences = g.noIncidences;
+        state = g.state;
+    }
+
+    /**
+     * Returns the version of this graph: the number of modifications made to
+     * it since its creation. The version of a snapshot is the version of the
+     * graph at the time the snapshot was taken.
+     *
+     * @return the version of this graph
+     */
+    public long getVersion()
+    {
+        return state.version;
+    }
+
+    /**
+     * Returns <code>true</code> if and only if this graph is a read-only
+     * snapshot.
+     *
+     * @return <code>true</code> if and only if this graph is a snapshot
+     */
+    public boolean isSnapshot()
+    {
+        return snapshot;
+    }
+
+    /**
+     * Returns <code>true</code> if and only if self-loops are allowed in this
+     * graph. A self loop is an edge that its source and target vertices are the
+     * same.
+     *
+     * @return <code>true</code> if and only if graph loops are allowed.
+     */
+    public boolean isAllowingLoops()
+    {
+        return allowingLoops;
+    }
+
+    /**
+     * Returns <code>true</code> if and only if multiple edges are allowed in
+     * this graph. The meaning of multiple edges is that there can be many edges
+     * going from vertex v1 to vertex v2.
+     *
+     * @return <code>true</code> if and only if multiple edges are allowed.
+     */
+    public boolean isAllowingMultipleEdges()
+    {
+        return allowingMultipleEdges;
+    }
+
+    /**
+     * @see Graph#getAllEdges(Object, Object)
+     */
+    @Override public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        State<V, E> s = state;
+        if (!s.vertices.containsKey(sourceVertex)
+            || !s.vertices.containsKey(targetVertex))
+        {
+            return null;
+        }
+        Set<E> edges = new ArrayUnenforcedSet<>();
+        Iterator<E> it = candidates(s, sourceVertex, targetVertex);
+        while (it.hasNext()) {
+            E e = it.next();
+            if (connects(s.edges.get(e), sourceVertex, targetVertex)) {
+                edges.add(e);
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * @see Graph#getEdge(Object, Object)
+     */
+    @Override public E getEdge(V sourceVertex, V targetVertex)
+    {
+        State<V, E> s = state;
+        if (!s.vertices.containsKey(sourceVertex)
+            || !s.vertices.containsKey(targetVertex))
+        {
+            return null;
+        }
+        Iterator<E> it = candidates(s, sourceVertex, targetVertex);
+        while (it.hasNext()) {
+            E e = it.next();
+            if (connects(s.edges.get(e), sourceVertex, targetVertex)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the shorter of the two incidence lists which contain all the
+     * edges from the source to the target vertex.
+     */
+    private Iterator<E> candidates(
+        State<V, E> s,
+        V sourceVertex,
+        V targetVertex)
+    {
+        PersistentHashMap<E, E> out =
+            s.vertices.get(sourceVertex).outgoing;
+        PersistentHashMap<E, E> in = s.vertices.get(targetVertex).incoming;
+        return ((out.size() <= in.size()) ? out : in).keyIterator();
+    }
+
+    private boolean connects(
+        EdgeRecord r,
+        Object sourceVertex,
+        Object targetVertex)
+    {
+        if (r.source.equals(sourceVertex) && r.target.equals(targetVertex)) {
+            return true;
+        }
+        return !directed
+            && r.source.equals(targetVertex)
+            && r.target.equals(sourceVertex);
+    }
+
+    /**
+     * @see Graph#getEdgeFactory()
+     */
+    @Override public EdgeFactory<V, E> getEdgeFactory()
+    {
+        return edgeFactory;
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object)
+     */
+    @Override public E addEdge(V sourceVertex, V targetVertex)
+    {
+        assertModifiable();
+        synchronized (this) {
+            assertVertexExist(sourceVertex);
+            assertVertexExist(targetVertex);
+
+            if (!allowingMultipleEdges
+                && containsEdge(sourceVertex, targetVertex))
+            {
+                return null;
+            }
+
+            if (!allowingLoops && sourceVertex.equals(targetVertex)) {
+                throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+            }
+
+            E e = edgeFactory.createEdge(sourceVertex, targetVertex);
+
+            if (containsEdge(e)) { // this restriction should stay!
+
+                return null;
+            } else {
+                publish(link(state, e, sourceVertex, targetVertex));
+
+                return e;
+            }
+        }
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object, Object)
+     */
+    @Override public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        assertModifiable();
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        synchronized (this) {
+            if (containsEdge(e)) {
+                return false;
+            }
+
+            assertVertexExist(sourceVertex);
+            assertVertexExist(targetVertex);
+
+            if (!allowingMultipleEdges
+                && containsEdge(sourceVertex, targetVertex))
+            {
+                return false;
+            }
+
+            if (!allowingLoops && sourceVertex.equals(targetVertex)) {
+                throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+            }
+
+            publish(link(state, e, sourceVertex, targetVertex));
+
+            return true;
+        }
+    }
+
+    private State<V, E> link(
+        State<V, E> s,
+        E e,
+        V sourceVertex,
+        V targetVertex)
+    {
+        double weight = WeightedGraph.DEFAULT_EDGE_WEIGHT;
+        if (e instanceof IntrusiveEdge) {
+            IntrusiveEdge intrusiveEdge = (IntrusiveEdge) e;
+            intrusiveEdge.source = sourceVertex;
+            intrusiveEdge.target = targetVertex;
+            if (e instanceof DefaultWeightedEdge) {
+                weight = ((DefaultWeightedEdge) e).getWeight();
+            }
+        }
+
+        PersistentHashMap<V, Incidences<E>> vertices = s.vertices;
+        vertices =
+            vertices.plus(
+                sourceVertex,
+                vertices.get(sourceVertex).plusOutgoing(e));
+        vertices =
+            vertices.plus(
+                targetVertex,
+                vertices.get(targetVertex).plusIncoming(e));
+
+        return new State<>(
+            s.version,
+            vertices,
+            s.edges.plus(
+                e,
+                new EdgeRecord(sourceVertex, targetVertex, weight)));
+    }
+
+    private State<V, E> unlink(State<V, E> s, E e)
+    {
+        EdgeRecord r = s.edges.get(e);
+        V sourceVertex = TypeUtil.uncheckedCast(r.source, null);
+        V targetVertex = TypeUtil.uncheckedCast(r.target, null);
+
+        PersistentHashMap<V, Incidences<E>> vertices = s.vertices;
+        vertices =
+            vertices.plus(
+                sourceVertex,
+                vertices.get(sourceVertex).minusOutgoing(e));
+        vertices =
+            vertices.plus(
+                targetVertex,
+                vertices.get(targetVertex).minusIncoming(e));
+
+        return new State<>(s.version, vertices, s.edges.minus(e));
+    }
+
+    /**
+     * @see Graph#addVertex(Object)
+     */
+    @Override public boolean addVertex(V v)
+    {
+        assertModifiable();
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        synchronized (this) {
+            State<V, E> s = state;
+            if (s.vertices.containsKey(v)) {
+                return false;
+            }
+            publish(
+                new State<>(
+                    s.version,
+                    s.vertices.plus(v, noIncidences),
+                    s.edges));
+
+            return true;
+        }
+    }
+
+    /**
+     * @see Graph#getEdgeSource(Object)
+     */
+    @Override public V getEdgeSource(E e)
+    {
+        return TypeUtil.uncheckedCast(getEdgeRecord(e).source, null);
+    }
+
+    /**
+     * @see Graph#getEdgeTarget(Object)
+     */
+    @Override public V getEdgeTarget(E e)
+    {
+        return TypeUtil.uncheckedCast(getEdgeRecord(e).target, null);
+    }
+
+    private EdgeRecord getEdgeRecord(E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        EdgeRecord r = state.edges.get(e);
+        if (r == null) {
+            throw new IllegalArgumentException("no such edge in graph");
+        }
+        return r;
+    }
+
+    /**
+     * @see Graph#containsEdge(Object)
+     */
+    @Override public boolean containsEdge(E e)
+    {
+        return (e != null) && state.edges.containsKey(e);
+    }
+
+    /**
+     * @see Graph#containsVertex(Object)
+     */
+    @Override public boolean containsVertex(V v)
+    {
+        return (v != null) && state.vertices.containsKey(v);
+    }
+
+    /**
+     * @see Graph#edgeSet()
+     */
+    @Override public Set<E> edgeSet()
+    {
+        if (edgeSetView == null) {
+            edgeSetView =
+                new AbstractSet<E>() {
+                    @Override public int size()
+                    {
+                        return state.edges.size();
+                    }
+
+                    @Override public boolean contains(Object o)
+                    {
+                        return (o != null) && state.edges.containsKey(o);
+                    }
+
+                    @Override public Iterator<E> iterator()
+                    {
+                        return state.edges.keyIterator();
+                    }
+                };
+        }
+        return edgeSetView;
+    }
+
+    /**
+     * @see Graph#vertexSet()
+     */
+    @Override public Set<V> vertexSet()
+    {
+        if (vertexSetView == null) {
+            vertexSetView =
+                new AbstractSet<V>() {
+                    @Override public int size()
+                    {
+                        return state.vertices.size();
+                    }
+
+                    @Override public boolean contains(Object o)
+                    {
+                        return (o != null) && state.vertices.containsKey(o);
+                    }
+
+                    @Override public Iterator<V> iterator()
+                    {
+                        return state.vertices.keyIterator();
+                    }
+                };
+        }
+        return vertexSetView;
+    }
+
+    /**
+     * @see Graph#removeEdge(Object, Object)
+     */
+    @Override public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        assertModifiable();
+        synchronized (this) {
+            E e = getEdge(sourceVertex, targetVertex);
+
+            if (e != null) {
+                publish(unlink(state, e));
+            }
+
+            return e;
+        }
+    }
+
+    /**
+     * @see Graph#removeEdge(Object)
+     */
+    @Override public boolean removeEdge(E e)
+    {
+        assertModifiable();
+        synchronized (this) {
+            if (containsEdge(e)) {
+                publish(unlink(state, e));
+
+                return true;
+            } else {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Removes the vertex and all its touching edges in a single modification.
+     *
+     * @see Graph#removeVertex(Object)
+     */
+    @Override public boolean removeVertex(V v)
+    {
+        assertModifiable();
+        synchronized (this) {
+            State<V, E> s = state;
+            Incidences<E> incidences = (v == null) ? null : s.vertices.get(v);
+            if (incidences == null) {
+                return false;
+            }
+            for (Iterator<E> it = incidences.outgoing.keyIterator();
+                it.hasNext();)
+            {
+                s = unlink(s, it.next());
+            }
+            for (Iterator<E> it = incidences.incoming.keyIterator();
+                it.hasNext();)
+            {
+                E e = it.next();
+
+                // self-loops and undirected edges are already gone
+                if (s.edges.containsKey(e)) {
+                    s = unlink(s, e);
+                }
+            }
+            publish(new State<>(s.version, s.vertices.minus(v), s.edges));
+
+            return true;
+        }
+    }
+
+    /**
+     * @see Graph#getEdgeWeight(Object)
+     */
+    @Override public double getEdgeWeight(E e)
+    {
+        return getEdgeRecord(e).weight;
+    }
+
+    /**
+     * Sets the weight of the edge in a new version of this graph. For a
+     * {@link DefaultWeightedEdge}, the edge object is updated as well.
+     *
+     * @see WeightedGraph#setEdgeWeight(Object, double)
+     */
+    public void setEdgeWeight(E e, double weight)
+    {
+        assertModifiable();
+        synchronized (this) {
+            State<V, E> s = state;
+            EdgeRecord r = getEdgeRecord(e);
+            if (e instanceof DefaultWeightedEdge) {
+                ((DefaultWeightedEdge) e).weight = weight;
+            }
+            publish(
+                new State<>(
+                    s.version,
+                    s.vertices,
+                    s.edges.plus(
+                        e,
+                        new EdgeRecord(r.source, r.target, weight))));
+        }
+    }
+
+    /**
+     * Returns the incidences of a vertex in the current state.
+     *
+     * @param vertex vertex of interest
+     *
+     * @return the incidences of the vertex
+     *
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    Incidences<E> getIncidences(V vertex)
+    {
+        if (vertex == null) {
+            throw new NullPointerException();
+        }
+        Incidences<E> incidences = state.vertices.get(vertex);
+        if (incidences == null) {
+            throw new IllegalArgumentException("no such vertex in graph");
+        }
+        return incidences;
+    }
+
+    /**
+     * Returns the number of edge ends at the vertex in the current state,
+     * counting a self-loop recorded once in the incidences twice.
+     */
+    int undirectedDegreeOf(V vertex)
+    {
+        State<V, E> s = state;
+        Incidences<E> incidences = s.vertices.get(vertex);
+        if (incidences == null) {
+            getIncidences(vertex); // throws
+        }
+        int degree = 0;
+        for (Iterator<E> it = incidences.outgoing.keyIterator();
+            it.hasNext();)
+        {
+            EdgeRecord r = s.edges.get(it.next());
+            degree += r.source.equals(r.target) ? 2 : 1;
+        }
+        return degree;
+    }
+
+    private void assertModifiable()
+    {
+        if (snapshot) {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+    }
+
+    private void publish(State<V, E> s)
+    {
+        state = new State<>(state.version + 1, s.vertices, s.edges);
+    }
+
+    /**
+     * An immutable state of the graph.
+     */
+    private static final class State<V, E>
+        implements Serializable
+    {
+        private static final long serialVersionUID = -1742301526178329051L;
+
+        final long version;
+        final PersistentHashMap<V, Incidences<E>> vertices;
+        final PersistentHashMap<E, EdgeRecord> edges;
+
+        State(
+            long version,
+            PersistentHashMap<V, Incidences<E>> vertices,
+            PersistentHashMap<E, EdgeRecord> edges)
+        {
+            this.version = version;
+            this.vertices = vertices;
+            this.edges = edges;
+        }
+    }
+
+    /**
+     * The immutable endpoints and weight of an edge.
+     */
+    private static final class EdgeRecord
+        implements Serializable
+    {
+        private static final long serialVersionUID = 6151209426932580158L;
+
+        final Object source;
+        final Object target;
+        final double weight;
+
+        EdgeRecord(Object source, Object target, double weight)
+        {
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * The immutable incidences of a vertex. For undirected graphs both maps are
+     * the same map.
+     */
+    static final class Incidences<E>
+        implements Serializable
+    {
+        private static final long serialVersionUID = -6401825638716291302L;
+
+        final PersistentHashMap<E, E> outgoing;
+        final PersistentHashMap<E, E> incoming;
+        private final boolean shared;
+
+        Incidences(
+            PersistentHashMap<E, E> outgoing,
+            PersistentHashMap<E, E> incoming,
+            boolean shared)
+        {
+            this.outgoing = outgoing;
+            this.incoming = incoming;
+            this.shared = shared;
+        }
+
+        Incidences<E> plusOutgoing(E e)
+        {
+            PersistentHashMap<E, E> out = outgoing.plus(e, e);
+            return new Incidences<>(out, shared ? out : incoming, shared);
+        }
+
+        Incidences<E> plusIncoming(E e)
+        {
+            PersistentHashMap<E, E> in = incoming.plus(e, e);
+            return new Incidences<>(shared ? in : outgoing, in, shared);
+        }
+
+        Incidences<E> minusOutgoing(E e)
+        {
+            PersistentHashMap<E, E> out = outgoing.minus(e);
+            return new Incidences<>(out, shared ? out : incoming, shared);
+        }
+
+        Incidences<E> minusIncoming(E e)
+        {
+            PersistentHashMap<E, E> in = incoming.minus(e);
+            return new Incidences<>(shared ? in : outgoing, in, shared);
+        }
+    }
+}
+
+// End AbstractVersionedGraph.java
@@ -0,0 +1,663 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* --------------------
+ * BitSetSubgraph.java
+ * --------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * An unmodifiable induced subgraph of an {@link IndexedGraph}, whose vertex
+ * subset is given by a {@link BitSet} over the vertex indices of the base
+ * graph. Nothing is copied when the subgraph is created: testing whether a
+ * vertex belongs to the subgraph is a single bit test, and the edges of the
+ * subgraph are the edges of the base graph whose endpoints are both members,
+ * filtered lazily while iterating.
+ *
+ * <p>The subgraph reads through to the base graph and to the bit set, so
+ * changes to either are reflected by the subgraph. The size of the vertex set
+ * is a count of the member bits if the base graph has no unused vertex slots,
+ * and the size of the edge set is computed by iteration. The subgraph keeps the
+ * indices of the base graph, so it is an {@link IndexedGraph} itself and can be
+ * used as the base of another bitset subgraph.</p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see MaskSubgraph
+ */
+public class BitSetSubgraph<V, E>
+    extends AbstractGraph<V, E>
+    implements IndexedGraph<V, E>
+{
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    private final IndexedGraph<V, E> base;
+    private final BitSet members;
+    private final boolean directed;
+    private final Set<V> vertices = new VertexSet();
+    private final Set<E> edges = new EdgeSet();
+
+    /**
+     * Creates a new induced subgraph backed by the specified bit set. Bit
+     * <code>i</code> of the set tells whether the base graph vertex with index
+     * <code>i</code> belongs to the subgraph. Running-time = O(1).
+     *
+     * @param base the base (backing) graph on which the subgraph will be based.
+     * @param members the vertex indices of the subgraph.
+     */
+    public BitSetSubgraph(IndexedGraph<V, E> base, BitSet members)
+    {
+        this.base = Objects.requireNonNull(base);
+        this.members = Objects.requireNonNull(members);
+        this.directed = base instanceof DirectedGraph<?, ?>;
+    }
+
+    /**
+     * Creates a new subgraph induced by the specified vertices. Running-time =
+     * O(number of vertices in the collection).
+     *
+     * @param base the base (backing) graph on which the subgraph will be based.
+     * @param vertices the vertices of the subgraph.
+     *
+     * @throws IllegalArgumentException if a vertex is not contained in the base
+     * graph.
+     */
+    public BitSetSubgraph(
+        IndexedGraph<V, E> base,
+        Collection<? extends V> vertices)
+    {
+        this(base, new BitSet(base.getVertexIndexBound()));
+        for (V v : vertices) {
+            int index = base.getVertexIndex(v);
+            if (index < 0) {
+                throw new IllegalArgumentException(
+                    "no such vertex in graph: " + v.toString());
+            }
+            members.set(index);
+        }
+    }
+
+    /**
+     * Returns the bit set backing this subgraph.
+     *
+     * @return the vertex indices of this subgraph
+     */
+    public BitSet getMembers()
+    {
+        return members;
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object)
+     */
+    @Override public E addEdge(V sourceVertex, V targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object, Object)
+     */
+    @Override public boolean addEdge(V sourceVertex, V targetVertex, E edge)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#addVertex(Object)
+     */
+    @Override public boolean addVertex(V v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#containsEdge(Object)
+     */
+    @Override public boolean containsEdge(E e)
+    {
+        return base.containsEdge(e)
+            && containsVertex(base.getEdgeSource(e))
+            && containsVertex(base.getEdgeTarget(e));
+    }
+
+    /**
+     * @see Graph#containsVertex(Object)
+     */
+    @Override public boolean containsVertex(V v)
+    {
+        return isMember(base.getVertexIndex(v));
+    }
+
+    /**
+     * @see UndirectedGraph#degreeOf(Object)
+     */
+    public int degreeOf(V vertex)
+    {
+        return edgesOf(vertex).size();
+    }
+
+    /**
+     * @see Graph#edgeSet()
+     */
+    @Override public Set<E> edgeSet()
+    {
+        return edges;
+    }
+
+    /**
+     * @see Graph#edgesOf(Object)
+     */
+    @Override public Set<E> edgesOf(V vertex)
+    {
+        assertVertexExist(vertex);
+
+        return new IncidenceSet(vertex, base.edgesOf(vertex));
+    }
+
+    /**
+     * @see Graph#forEachEdgeOf(Object, IncidenceConsumer)
+     */
+    @Override public void forEachEdgeOf(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        assertVertexExist(vertex);
+
+        base.forEachEdgeOf(
+            vertex,
+            (e, opposite, weight) -> {
+                if (containsVertex(opposite)) {
+                    consumer.accept(e, opposite, weight);
+                }
+            });
+    }
+
+    /**
+     * @see Graph#getAllEdges(Object, Object)
+     */
+    @Override public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        if (containsVertex(sourceVertex) && containsVertex(targetVertex)) {
+            // the edges connect two members, so all of them are included
+            return base.getAllEdges(sourceVertex, targetVertex);
+        }
+        return null;
+    }
+
+    /**
+     * @see Graph#getEdge(Object, Object)
+     */
+    @Override public E getEdge(V sourceVertex, V targetVertex)
+    {
+        if (containsVertex(sourceVertex) && containsVertex(targetVertex)) {
+            return base.getEdge(sourceVertex, targetVertex);
+        }
+        return null;
+    }
+
+    /**
+     * @see Graph#getEdgeFactory()
+     */
+    @Override public EdgeFactory<V, E> getEdgeFactory()
+    {
+        return base.getEdgeFactory();
+    }
+
+    /**
+     * @see Graph#getEdgeSource(Object)
+     */
+    @Override public V getEdgeSource(E edge)
+    {
+        assert (containsEdge(edge));
+
+        return base.getEdgeSource(edge);
+    }
+
+    /**
+     * @see Graph#getEdgeTarget(Object)
+     */
+    @Override public V getEdgeTarget(E edge)
+    {
+        assert (containsEdge(edge));
+
+        return base.getEdgeTarget(edge);
+    }
+
+    /**
+     * @see Graph#getEdgeWeight(Object)
+     */
+    @Override public double getEdgeWeight(E edge)
+    {
+        assert (containsEdge(edge));
+
+        return base.getEdgeWeight(edge);
+    }
+
+    /**
+     * @see DirectedGraph#incomingEdgesOf(Object)
+     */
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        assertVertexExist(vertex);
+
+        return new IncidenceSet(
+            vertex,
+            ((DirectedGraph<V, E>) base).incomingEdgesOf(vertex));
+    }
+
+    /**
+     * @see DirectedGraph#inDegreeOf(Object)
+     */
+    public int inDegreeOf(V vertex)
+    {
+        return incomingEdgesOf(vertex).size();
+    }
+
+    /**
+     * @see DirectedGraph#outDegreeOf(Object)
+     */
+    public int outDegreeOf(V vertex)
+    {
+        return outgoingEdgesOf(vertex).size();
+    }
+
+    /**
+     * @see DirectedGraph#outgoingEdgesOf(Object)
+     */
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        assertVertexExist(vertex);
+
+        return new IncidenceSet(
+            vertex,
+            ((DirectedGraph<V, E>) base).outgoingEdgesOf(vertex));
+    }
+
+    /**
+     * @see Graph#removeAllEdges(Collection)
+     */
+    @Override public boolean removeAllEdges(Collection<? extends E> edges)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeAllEdges(Object, Object)
+     */
+    @Override public Set<E> removeAllEdges(V sourceVertex, V targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeAllVertices(Collection)
+     */
+    @Override public boolean removeAllVertices(Collection<? extends V> vertices)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeEdge(Object)
+     */
+    @Override public boolean removeEdge(E e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeEdge(Object, Object)
+     */
+    @Override public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeVertex(Object)
+     */
+    @Override public boolean removeVertex(V v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#vertexSet()
+     */
+    @Override public Set<V> vertexSet()
+    {
+        return vertices;
+    }
+
+    /**
+     * @see IndexedGraph#getVertexIndex(Object)
+     */
+    @Override public int getVertexIndex(V vertex)
+    {
+        int index = base.getVertexIndex(vertex);
+        return isMember(index) ? index : -1;
+    }
+
+    /**
+     * @see IndexedGraph#getVertexAt(int)
+     */
+    @Override public V getVertexAt(int index)
+    {
+        V v = base.getVertexAt(index);
+        return members.get(index) ? v : null;
+    }
+
+    /**
+     * @see IndexedGraph#getVertexIndexBound()
+     */
+    @Override public int getVertexIndexBound()
+    {
+        return base.getVertexIndexBound();
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeIndex(Object)
+     */
+    @Override public int getEdgeIndex(E edge)
+    {
+        int index = base.getEdgeIndex(edge);
+        return ((index >= 0) && isInduced(edge)) ? index : -1;
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeAt(int)
+     */
+    @Override public E getEdgeAt(int index)
+    {
+        E e = base.getEdgeAt(index);
+        return ((e != null) && isInduced(e)) ? e : null;
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeIndexBound()
+     */
+    @Override public int getEdgeIndexBound()
+    {
+        return base.getEdgeIndexBound();
+    }
+
+    private boolean isMember(int index)
+    {
+        return (index >= 0) && members.get(index);
+    }
+
+    /**
+     * Tells whether both endpoints of an edge of the base graph are members.
+     */
+    private boolean isInduced(E e)
+    {
+        return containsVertex(base.getEdgeSource(e))
+            && containsVertex(base.getEdgeTarget(e));
+    }
+
+    /**
+     * Returns the index of the next member vertex present in the base graph,
+     * starting from the specified index, or -1 if there is none.
+     */
+    private int nextMember(int from)
+    {
+        int bound = base.getVertexIndexBound();
+        for (int i = members.nextSetBit(from);
+            (i >= 0) && (i < bound);
+            i = members.nextSetBit(i + 1))
+        {
+            if (base.getVertexAt(i) != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the edges of the base graph which are candidates for the edge set
+     * at a member vertex: the outgoing edges in case of a directed graph, and
+     * all touching edges otherwise.
+     */
+    private Iterator<E> candidateEdges(V v)
+    {
+        if (directed) {
+            return ((DirectedGraph<V, E>) base).outgoingEdgesOf(v).iterator();
+        }
+        return base.edgesOf(v).iterator();
+    }
+
+    /**
+     * Unmodifiable view of the member vertices.
+     */
+    private class VertexSet
+        extends AbstractSet<V>
+    {
+        @Override public boolean contains(Object o)
+        {
+            return containsVertex(TypeUtil.uncheckedCast(o, null));
+        }
+
+        @Override public int size()
+        {
+            int bound = base.getVertexIndexBound();
+            if (base.vertexSet().size() == bound) {
+                // no unused slots, so every member bit below the bound counts
+                return (members.length() <= bound) ? members.cardinality()
+                    : members.get(0, bound).cardinality();
+            }
+            int size = 0;
+            for (int i = nextMember(0); i >= 0; i = nextMember(i + 1)) {
+                size++;
+            }
+            return size;
+        }
+
+        @Override public Iterator<V> iterator()
+        {
+            return new Iterator<V>() {
+                private int next = nextMember(0);
+
+                @Override public boolean hasNext()
+                {
+                    return next >= 0;
+                }
+
+                @Override public V next()
+                {
+                    if (next < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    V v = base.getVertexAt(next);
+                    next = nextMember(next + 1);
+                    return v;
+                }
+            };
+        }
+    }
+
+    /**
+     * Unmodifiable view of the edges whose endpoints are both members.
+     */
+    private class EdgeSet
+        extends AbstractSet<E>
+    {
+        @Override public boolean contains(Object o)
+        {
+            return containsEdge(TypeUtil.uncheckedCast(o, null));
+        }
+
+        @Override public int size()
+        {
+            int size = 0;
+            for (Iterator<E> it = iterator(); it.hasNext(); it.next()) {
+                size++;
+            }
+            return size;
+        }
+
+        @Override public Iterator<E> iterator()
+        {
+            return new FilterIterator() {
+                private int index = nextMember(0);
+                private V vertex =
+                    (index >= 0) ? base.getVertexAt(index) : null;
+                private Iterator<E> candidates =
+                    (index >= 0) ? candidateEdges(vertex)
+                    : Collections.<E>emptyIterator();
+
+                @Override protected E nextCandidate()
+                {
+                    while (!candidates.hasNext()) {
+                        if (index >= 0) {
+                            index = nextMember(index + 1);
+                        }
+                        if (index < 0) {
+                            return null;
+                        }
+                        vertex = base.getVertexAt(index);
+                        candidates = candidateEdges(vertex);
+                    }
+                    return candidates.next();
+                }
+
+                @Override protected boolean accept(E e)
+                {
+                    // each edge is reported at its source vertex only
+                    return (directed || base.getEdgeSource(e).equals(vertex))
+                        && containsVertex(base.getEdgeTarget(e));
+                }
+            };
+        }
+    }
+
+    /**
+     * Unmodifiable view of the edges of a base graph edge set which touch a
+     * member vertex at their other end.
+     */
+    private class IncidenceSet
+        extends AbstractSet<E>
+    {
+        private final V vertex;
+        private final Set<E> baseEdges;
+
+        IncidenceSet(V vertex, Set<E> baseEdges)
+        {
+            this.vertex = vertex;
+            this.baseEdges = baseEdges;
+        }
+
+        @Override public boolean contains(Object o)
+        {
+            E e = TypeUtil.uncheckedCast(o, null);
+            return baseEdges.contains(e) && accepts(e);
+        }
+
+        @Override public int size()
+        {
+            int size = 0;
+            for (E e : baseEdges) {
+                if (accepts(e)) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        @Override public Iterator<E> iterator()
+        {
+            Iterator<E> it = baseEdges.iterator();
+            return new FilterIterator() {
+                @Override protected E nextCandidate()
+                {
+                    return it.hasNext() ? it.next() : null;
+                }
+
+                @Override protected boolean accept(E e)
+                {
+                    return accepts(e);
+                }
+            };
+        }
+
+        private boolean accepts(E e)
+        {
+            return containsVertex(Graphs.getOppositeVertex(base, e, vertex));
+        }
+    }
+
+    /**
+     * Iterator over the candidates which pass a filter. Candidates are
+     * produced until <code>null</code> signals the end.
+     */
+    private abstract class FilterIterator
+        implements Iterator<E>
+    {
+        private E next;
+        private boolean ready;
+
+        protected abstract E nextCandidate();
+
+        protected abstract boolean accept(E e);
+
+        @Override public boolean hasNext()
+        {
+            if (!ready) {
+                E e = nextCandidate();
+                while ((e != null) && !accept(e)) {
+                    e = nextCandidate();
+                }
+                next = e;
+                ready = true;
+            }
+            return next != null;
+        }
+
+        @Override public E next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            return next;
+        }
+    }
+}
+
+// End BitSetSubgraph.java
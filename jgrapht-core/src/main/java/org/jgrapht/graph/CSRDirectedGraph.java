@@ -0,0 +1,179 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ----------------------
+ * CSRDirectedGraph.java
+ * ----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * An immutable directed graph stored in compressed sparse row form. Outgoing
+ * and incoming edges of every vertex are kept in two separate CSR structures,
+ * so {@link #outgoingEdgesOf(Object)} and {@link #incomingEdgesOf(Object)} are
+ * views over contiguous array slices.
+ *
+ * <p>Typical usage is to build a graph with one of the mutable
+ * implementations and, once construction is complete, to copy it with <code>
+ * new CSRDirectedGraph&lt;&gt;(graph)</code> (or {@link
+ * org.jgrapht.graph.builder.DirectedGraphBuilderBase#buildCSR()}) for the
+ * read-only phase. Vertex and edge objects are shared with the original
+ * graph.</p>
+ *
+ * @see AbstractCSRGraph
+ */
+public class CSRDirectedGraph<V, E>
+    extends AbstractCSRGraph<V, E>
+    implements DirectedGraph<V, E>
+{
+    private static final long serialVersionUID = 7062475929862341950L;
+
+    private final int [] inOffsets;
+    private final int [] inVertices;
+    private final int [] inEdges;
+
+    /**
+     * Creates a compressed copy of the specified directed graph.
+     *
+     * @param g the graph to copy
+     */
+    public CSRDirectedGraph(DirectedGraph<V, E> g)
+    {
+        this(g, g.getEdgeFactory());
+    }
+
+    /**
+     * Creates a compressed copy of the specified directed graph with the
+     * specified edge factory.
+     *
+     * @param g the graph to copy
+     * @param ef the edge factory reported by the copy
+     */
+    CSRDirectedGraph(DirectedGraph<V, E> g, EdgeFactory<V, E> ef)
+    {
+        super(g, ef, false);
+
+        int n = vertices.length;
+        int m = edges.length;
+        int [] edge = new int[m];
+        for (int j = 0; j < m; j++) {
+            edge[j] = j;
+        }
+        inOffsets = new int[n + 1];
+        inVertices = new int[m];
+        inEdges = new int[m];
+        compress(
+            n,
+            edgeTargets,
+            edgeSources,
+            edge,
+            inOffsets,
+            inVertices,
+            inEdges);
+    }
+
+    /**
+     * @see Graph#edgesOf(Object)
+     */
+    @Override public Set<E> edgesOf(V vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        int outFrom = outOffsets[v];
+        int outTo = outOffsets[v + 1];
+        int inFrom = inOffsets[v];
+        int inTo = inOffsets[v + 1];
+
+        // self-loops appear in both slices; they form a run in the incoming
+        // slice, which is sorted by source vertex
+        int loopFrom = lowerBound(inVertices, inFrom, inTo, v);
+        int loopTo = loopFrom;
+        while ((loopTo < inTo) && (inVertices[loopTo] == v)) {
+            loopTo++;
+        }
+
+        ArrayUnenforcedSet<E> inAndOut =
+            new ArrayUnenforcedSet<>(
+                (outTo - outFrom) + (inTo - inFrom) - (loopTo - loopFrom));
+        for (int i = outFrom; i < outTo; i++) {
+            inAndOut.add(TypeUtil.uncheckedCast(edges[outEdges[i]], null));
+        }
+        for (int i = inFrom; i < inTo; i++) {
+            if ((i < loopFrom) || (i >= loopTo)) {
+                inAndOut.add(TypeUtil.uncheckedCast(edges[inEdges[i]], null));
+            }
+        }
+        return Collections.unmodifiableSet(inAndOut);
+    }
+
+    /**
+     * @see DirectedGraph#inDegreeOf(Object)
+     */
+    @Override public int inDegreeOf(V vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        return inOffsets[v + 1] - inOffsets[v];
+    }
+
+    /**
+     * @see DirectedGraph#incomingEdgesOf(Object)
+     */
+    @Override public Set<E> incomingEdgesOf(V vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        return incidenceSet(inEdges, inOffsets[v], inOffsets[v + 1]);
+    }
+
+    /**
+     * @see DirectedGraph#outDegreeOf(Object)
+     */
+    @Override public int outDegreeOf(V vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        return outOffsets[v + 1] - outOffsets[v];
+    }
+
+    /**
+     * @see DirectedGraph#outgoingEdgesOf(Object)
+     */
+    @Override public Set<E> outgoingEdgesOf(V vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        return incidenceSet(outEdges, outOffsets[v], outOffsets[v + 1]);
+    }
+}
+
+// End CSRDirectedGraph.java
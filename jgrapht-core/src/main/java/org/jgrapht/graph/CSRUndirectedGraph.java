@@ -0,0 +1,114 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ----------------------
+ * CSRUndirectedGraph.java
+ * ----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+
+
+/**
+ * An immutable undirected graph stored in compressed sparse row form. Every
+ * edge is recorded in the adjacency slice of both of its endpoints (self-loops
+ * once), so {@link #edgesOf(Object)} is a view over a contiguous array slice.
+ *
+ * <p>Typical usage is to build a graph with one of the mutable
+ * implementations and, once construction is complete, to copy it with <code>
+ * new CSRUndirectedGraph&lt;&gt;(graph)</code> (or {@link
+ * org.jgrapht.graph.builder.UndirectedGraphBuilderBase#buildCSR()}) for the
+ * read-only phase. Vertex and edge objects are shared with the original
+ * graph.</p>
+ *
+ * @see AbstractCSRGraph
+ */
+public class CSRUndirectedGraph<V, E>
+    extends AbstractCSRGraph<V, E>
+    implements UndirectedGraph<V, E>
+{
+    private static final long serialVersionUID = -5765389254802093622L;
+
+    /**
+     * Creates a compressed copy of the specified undirected graph.
+     *
+     * @param g the graph to copy
+     */
+    public CSRUndirectedGraph(UndirectedGraph<V, E> g)
+    {
+        super(g, true);
+    }
+
+    /**
+     * Creates a compressed copy of the specified undirected graph with the
+     * specified edge factory.
+     *
+     * @param g the graph to copy
+     * @param ef the edge factory reported by the copy
+     */
+    CSRUndirectedGraph(UndirectedGraph<V, E> g, EdgeFactory<V, E> ef)
+    {
+        super(g, ef, true);
+    }
+
+    /**
+     * @see UndirectedGraph#degreeOf(Object)
+     */
+    @Override public int degreeOf(V vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        int from = outOffsets[v];
+        int to = outOffsets[v + 1];
+
+        // self-loops are stored once but count twice
+        int loop = lowerBound(outVertices, from, to, v);
+        int degree = to - from;
+        while ((loop < to) && (outVertices[loop] == v)) {
+            degree++;
+            loop++;
+        }
+        return degree;
+    }
+
+    /**
+     * @see Graph#edgesOf(Object)
+     */
+    @Override public Set<E> edgesOf(V vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        return incidenceSet(outEdges, outOffsets[v], outOffsets[v + 1]);
+    }
+}
+
+// End CSRUndirectedGraph.java
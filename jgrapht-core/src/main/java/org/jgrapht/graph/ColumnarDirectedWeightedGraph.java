@@ -0,0 +1,222 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -----------------------------------
+ * ColumnarDirectedWeightedGraph.java
+ * -----------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * A directed weighted graph whose edges are dense <code>int</code> ids, with
+ * edge endpoints and weights stored in primitive columns. Outgoing and
+ * incoming incidences are kept in separate per-vertex arrays, so both {@link
+ * #outgoingEdgesOf(Object)} and {@link #incomingEdgesOf(Object)} are views
+ * without copying, and the <code>...At</code> methods give allocation-free
+ * access to both directions.
+ *
+ * <p>By default the graph behaves like {@link DefaultDirectedWeightedGraph}:
+ * multiple edges between any two vertices are <i>not</i> permitted, but loops
+ * are.</p>
+ *
+ * @see AbstractColumnarGraph
+ */
+public class ColumnarDirectedWeightedGraph<V>
+    extends AbstractColumnarGraph<V>
+    implements DirectedGraph<V, Integer>
+{
+    private static final long serialVersionUID = 8135003974612740816L;
+
+    final IntAdjacency in;
+
+    /**
+     * Creates a new directed weighted graph.
+     */
+    public ColumnarDirectedWeightedGraph()
+    {
+        this(false, true);
+    }
+
+    /**
+     * Creates a new directed weighted graph with the specified restrictions.
+     *
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     */
+    public ColumnarDirectedWeightedGraph(
+        boolean allowMultipleEdges,
+        boolean allowLoops)
+    {
+        super(allowMultipleEdges, allowLoops);
+        in = new IntAdjacency(out.sizes.length);
+    }
+
+    @Override void addIncidences(int edge, int source, int target)
+    {
+        out.add(source, target, edge);
+        in.add(target, source, edge);
+    }
+
+    @Override void removeIncidences(int edge, int source, int target)
+    {
+        out.remove(source, edge);
+        in.remove(target, edge);
+    }
+
+    @Override void ensureVertexCapacity(int capacity)
+    {
+        super.ensureVertexCapacity(capacity);
+        in.ensureCapacity(capacity);
+    }
+
+    @Override void removeIncidentEdges(int v)
+    {
+        super.removeIncidentEdges(v);
+        while (in.sizes[v] > 0) {
+            removeEdgeAt(in.edges[v][in.sizes[v] - 1]);
+        }
+    }
+
+    /**
+     * Returns the index of an edge from the specified source to the specified
+     * target, scanning whichever of the two adjacency lists is shorter.
+     *
+     * @see AbstractColumnarGraph#getEdgeIndex(int, int)
+     */
+    @Override public int getEdgeIndex(int source, int target)
+    {
+        if (in.sizes[target] < out.sizes[source]) {
+            return in.find(target, source);
+        }
+        return out.find(source, target);
+    }
+
+    /**
+     * @see Graph#edgesOf(Object)
+     */
+    @Override public Set<Integer> edgesOf(V vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        ArrayUnenforcedSet<Integer> inAndOut =
+            new ArrayUnenforcedSet<>(out.sizes[v] + in.sizes[v]);
+        for (int i = 0; i < out.sizes[v]; i++) {
+            inAndOut.add(edgeAt(out.edges[v][i]));
+        }
+
+        // self-loops are in both lists; take them from the outgoing one only
+        for (int i = 0; i < in.sizes[v]; i++) {
+            if (in.vertices[v][i] != v) {
+                inAndOut.add(edgeAt(in.edges[v][i]));
+            }
+        }
+        return Collections.unmodifiableSet(inAndOut);
+    }
+
+    /**
+     * @see DirectedGraph#inDegreeOf(Object)
+     */
+    @Override public int inDegreeOf(V vertex)
+    {
+        return in.sizes[assertVertexIndex(vertex)];
+    }
+
+    /**
+     * @see DirectedGraph#incomingEdgesOf(Object)
+     */
+    @Override public Set<Integer> incomingEdgesOf(V vertex)
+    {
+        return incidenceSet(in, assertVertexIndex(vertex));
+    }
+
+    /**
+     * @see DirectedGraph#outDegreeOf(Object)
+     */
+    @Override public int outDegreeOf(V vertex)
+    {
+        return out.sizes[assertVertexIndex(vertex)];
+    }
+
+    /**
+     * @see DirectedGraph#outgoingEdgesOf(Object)
+     */
+    @Override public Set<Integer> outgoingEdgesOf(V vertex)
+    {
+        return incidenceSet(out, assertVertexIndex(vertex));
+    }
+
+    /**
+     * Returns the number of incoming edges of the vertex at the specified
+     * index.
+     *
+     * @param vertex a vertex index
+     *
+     * @return the in-degree of the vertex
+     */
+    public int getInDegreeAt(int vertex)
+    {
+        return in.sizes[vertex];
+    }
+
+    /**
+     * Returns the index of the source of the i-th incoming edge of the vertex
+     * at the specified index.
+     *
+     * @param vertex a vertex index
+     * @param i position in the range <code>[0, getInDegreeAt(vertex))</code>
+     *
+     * @return the index of the neighbor
+     */
+    public int getInNeighborAt(int vertex, int i)
+    {
+        return in.vertices[vertex][i];
+    }
+
+    /**
+     * Returns the i-th incoming edge of the vertex at the specified index.
+     *
+     * @param vertex a vertex index
+     * @param i position in the range <code>[0, getInDegreeAt(vertex))</code>
+     *
+     * @return the index of the edge
+     */
+    public int getInEdgeIndexAt(int vertex, int i)
+    {
+        return in.edges[vertex][i];
+    }
+}
+
+// End ColumnarDirectedWeightedGraph.java
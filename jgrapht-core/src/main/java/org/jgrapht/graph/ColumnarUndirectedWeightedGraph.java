@@ -0,0 +1,126 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -------------------------------------
+ * ColumnarUndirectedWeightedGraph.java
+ * -------------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+
+
+/**
+ * An undirected weighted graph whose edges are dense <code>int</code> ids, with
+ * edge endpoints and weights stored in primitive columns. Every edge is
+ * recorded in the adjacency of both of its endpoints (self-loops once), which
+ * the <code>...Out...At</code> methods of {@link AbstractColumnarGraph} expose
+ * without allocation.
+ *
+ * <p>By default the graph behaves like {@link SimpleWeightedGraph}: neither
+ * multiple edges nor loops are permitted.</p>
+ *
+ * @see AbstractColumnarGraph
+ */
+public class ColumnarUndirectedWeightedGraph<V>
+    extends AbstractColumnarGraph<V>
+    implements UndirectedGraph<V, Integer>
+{
+    private static final long serialVersionUID = -2811530930786257703L;
+
+    /**
+     * Creates a new undirected weighted graph.
+     */
+    public ColumnarUndirectedWeightedGraph()
+    {
+        this(false, false);
+    }
+
+    /**
+     * Creates a new undirected weighted graph with the specified restrictions.
+     *
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     */
+    public ColumnarUndirectedWeightedGraph(
+        boolean allowMultipleEdges,
+        boolean allowLoops)
+    {
+        super(allowMultipleEdges, allowLoops);
+    }
+
+    @Override void addIncidences(int edge, int source, int target)
+    {
+        out.add(source, target, edge);
+        if (source != target) {
+            out.add(target, source, edge);
+        }
+    }
+
+    @Override void removeIncidences(int edge, int source, int target)
+    {
+        out.remove(source, edge);
+        if (source != target) {
+            out.remove(target, edge);
+        }
+    }
+
+    /**
+     * @see UndirectedGraph#degreeOf(Object)
+     */
+    @Override public int degreeOf(V vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        int degree = out.sizes[v];
+        if (isAllowingLoops()) {
+            // self-loops are stored once but count twice
+            int [] opposite = out.vertices[v];
+            for (int i = 0; i < out.sizes[v]; i++) {
+                if (opposite[i] == v) {
+                    degree++;
+                }
+            }
+        }
+        return degree;
+    }
+
+    /**
+     * @see Graph#edgesOf(Object)
+     */
+    @Override public Set<Integer> edgesOf(V vertex)
+    {
+        return incidenceSet(out, assertVertexIndex(vertex));
+    }
+}
+
+// End ColumnarUndirectedWeightedGraph.java
@@ -0,0 +1,182 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -----------------------------
+ * ConcurrentDirectedGraph.java
+ * -----------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * A thread-safe directed graph. Vertices and edges may be added and removed
+ * by many threads at once while other threads read and traverse the graph;
+ * see {@link AbstractConcurrentGraph} for the consistency guarantees.
+ *
+ * <p>By default the graph behaves like {@link DefaultDirectedGraph}: multiple
+ * edges between any two vertices are <i>not</i> permitted, but loops
+ * are.</p>
+ *
+ * @see AbstractConcurrentGraph
+ */
+public class ConcurrentDirectedGraph<V, E>
+    extends AbstractConcurrentGraph<V, E>
+    implements DirectedGraph<V, E>
+{
+    private static final long serialVersionUID = 6288419862916154632L;
+
+    /**
+     * Creates a new directed graph.
+     *
+     * @param edgeClass class on which to base factory for edges
+     */
+    public ConcurrentDirectedGraph(Class<? extends E> edgeClass)
+    {
+        this(new ClassBasedEdgeFactory<>(edgeClass));
+    }
+
+    /**
+     * Creates a new directed graph with the specified edge factory.
+     *
+     * @param ef the edge factory of the new graph.
+     */
+    public ConcurrentDirectedGraph(EdgeFactory<V, E> ef)
+    {
+        this(ef, false, true);
+    }
+
+    /**
+     * Creates a new directed graph with the specified edge factory and
+     * restrictions.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     */
+    public ConcurrentDirectedGraph(
+        EdgeFactory<V, E> ef,
+        boolean allowMultipleEdges,
+        boolean allowLoops)
+    {
+        this(ef, allowMultipleEdges, allowLoops, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Creates a new directed graph with the specified edge factory,
+     * restrictions and number of lock stripes.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     * @param concurrencyLevel the estimated number of concurrently writing
+     * threads.
+     */
+    public ConcurrentDirectedGraph(
+        EdgeFactory<V, E> ef,
+        boolean allowMultipleEdges,
+        boolean allowLoops,
+        int concurrencyLevel)
+    {
+        super(ef, allowMultipleEdges, allowLoops, concurrencyLevel);
+    }
+
+    @Override Incidences<E> createIncidences()
+    {
+        return new Incidences<>(
+            ConcurrentHashMap.<E>newKeySet(),
+            ConcurrentHashMap.<E>newKeySet());
+    }
+
+    @Override VertexPair<V> createVertexPair(V sourceVertex, V targetVertex)
+    {
+        return new VertexPair<>(sourceVertex, targetVertex);
+    }
+
+    /**
+     * Returns a snapshot of the edges touching the vertex; unlike the
+     * directional methods, this is not a live view.
+     *
+     * @see Graph#edgesOf(Object)
+     */
+    @Override public Set<E> edgesOf(V vertex)
+    {
+        Incidences<E> incidences = getIncidences(vertex);
+        ArrayUnenforcedSet<E> inAndOut =
+            new ArrayUnenforcedSet<>(incidences.outgoing);
+        for (E e : incidences.incoming) {
+            // self-loops are already among the outgoing edges
+            if (containsEdge(e) && !isSelfLoop(e)) {
+                inAndOut.add(e);
+            }
+        }
+        return Collections.unmodifiableSet(inAndOut);
+    }
+
+    /**
+     * @see DirectedGraph#inDegreeOf(Object)
+     */
+    @Override public int inDegreeOf(V vertex)
+    {
+        return getIncidences(vertex).incoming.size();
+    }
+
+    /**
+     * @see DirectedGraph#incomingEdgesOf(Object)
+     */
+    @Override public Set<E> incomingEdgesOf(V vertex)
+    {
+        return getIncidences(vertex).unmodifiableIncoming;
+    }
+
+    /**
+     * @see DirectedGraph#outDegreeOf(Object)
+     */
+    @Override public int outDegreeOf(V vertex)
+    {
+        return getIncidences(vertex).outgoing.size();
+    }
+
+    /**
+     * @see DirectedGraph#outgoingEdgesOf(Object)
+     */
+    @Override public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return getIncidences(vertex).unmodifiableOutgoing;
+    }
+}
+
+// End ConcurrentDirectedGraph.java
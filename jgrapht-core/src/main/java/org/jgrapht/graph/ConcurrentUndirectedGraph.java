@@ -0,0 +1,149 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -------------------------------
+ * ConcurrentUndirectedGraph.java
+ * -------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * A thread-safe undirected graph. Vertices and edges may be added and
+ * removed by many threads at once while other threads read and traverse the
+ * graph; see {@link AbstractConcurrentGraph} for the consistency guarantees.
+ *
+ * <p>By default the graph is simple: neither multiple edges between any two
+ * vertices nor loops are permitted.</p>
+ *
+ * @see AbstractConcurrentGraph
+ */
+public class ConcurrentUndirectedGraph<V, E>
+    extends AbstractConcurrentGraph<V, E>
+    implements UndirectedGraph<V, E>
+{
+    private static final long serialVersionUID = -2154710926310434613L;
+
+    /**
+     * Creates a new undirected graph.
+     *
+     * @param edgeClass class on which to base factory for edges
+     */
+    public ConcurrentUndirectedGraph(Class<? extends E> edgeClass)
+    {
+        this(new ClassBasedEdgeFactory<>(edgeClass));
+    }
+
+    /**
+     * Creates a new undirected graph with the specified edge factory.
+     *
+     * @param ef the edge factory of the new graph.
+     */
+    public ConcurrentUndirectedGraph(EdgeFactory<V, E> ef)
+    {
+        this(ef, false, false);
+    }
+
+    /**
+     * Creates a new undirected graph with the specified edge factory and
+     * restrictions.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     */
+    public ConcurrentUndirectedGraph(
+        EdgeFactory<V, E> ef,
+        boolean allowMultipleEdges,
+        boolean allowLoops)
+    {
+        this(ef, allowMultipleEdges, allowLoops, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Creates a new undirected graph with the specified edge factory,
+     * restrictions and number of lock stripes.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     * @param concurrencyLevel the estimated number of concurrently writing
+     * threads.
+     */
+    public ConcurrentUndirectedGraph(
+        EdgeFactory<V, E> ef,
+        boolean allowMultipleEdges,
+        boolean allowLoops,
+        int concurrencyLevel)
+    {
+        super(ef, allowMultipleEdges, allowLoops, concurrencyLevel);
+    }
+
+    @Override Incidences<E> createIncidences()
+    {
+        Set<E> edges = ConcurrentHashMap.newKeySet();
+        return new Incidences<>(edges, edges);
+    }
+
+    @Override VertexPair<V> createVertexPair(V sourceVertex, V targetVertex)
+    {
+        return new UnorderedVertexPair<>(sourceVertex, targetVertex);
+    }
+
+    /**
+     * @see UndirectedGraph#degreeOf(Object)
+     */
+    @Override public int degreeOf(V vertex)
+    {
+        int degree = 0;
+        for (E e : getIncidences(vertex).outgoing) {
+            // a self-loop is recorded once but counts twice
+            degree += isSelfLoop(e) ? 2 : 1;
+        }
+        return degree;
+    }
+
+    /**
+     * @see Graph#edgesOf(Object)
+     */
+    @Override public Set<E> edgesOf(V vertex)
+    {
+        return getIncidences(vertex).unmodifiableOutgoing;
+    }
+}
+
+// End ConcurrentUndirectedGraph.java
@@ -62,38 +62,66 @@ public class DirectedGraphUnion<V, E>
 
     @Override public int inDegreeOf(V vertex)
     {
-        Set<E> res = incomingEdgesOf(vertex);
-        return res.size();
+        return UnionSet.unionSize(
+            incomingEdgesOf(getG1(), vertex),
+            incomingEdgesOf(getG2(), vertex),
+            getG1()::containsEdge);
     }
 
     @Override public Set<E> incomingEdgesOf(V vertex)
     {
-        Set<E> res = new HashSet<>();
-        if (getG1().containsVertex(vertex)) {
-            res.addAll(getG1().incomingEdgesOf(vertex));
-        }
-        if (getG2().containsVertex(vertex)) {
-            res.addAll(getG2().incomingEdgesOf(vertex));
-        }
-        return Collections.unmodifiableSet(res);
+        return new UnionSet<>(
+            incomingEdgesOf(getG1(), vertex),
+            incomingEdgesOf(getG2(), vertex),
+            getG1()::containsEdge);
     }
 
     @Override public int outDegreeOf(V vertex)
     {
-        Set<E> res = outgoingEdgesOf(vertex);
-        return res.size();
+        return UnionSet.unionSize(
+            outgoingEdgesOf(getG1(), vertex),
+            outgoingEdgesOf(getG2(), vertex),
+            getG1()::containsEdge);
     }
 
     @Override public Set<E> outgoingEdgesOf(V vertex)
     {
-        Set<E> res = new HashSet<>();
-        if (getG1().containsVertex(vertex)) {
-            res.addAll(getG1().outgoingEdgesOf(vertex));
+        return new UnionSet<>(
+            outgoingEdgesOf(getG1(), vertex),
+            outgoingEdgesOf(getG2(), vertex),
+            getG1()::containsEdge);
+    }
+
+    /**
+     * Copies this union into a compact immutable graph. Both operands are
+     * traversed once, and the weights of the copy are the combined weights of
+     * the union.
+     *
+     * @return a compressed copy of this union
+     */
+    public CSRDirectedGraph<V, E> materialize()
+    {
+        return new CSRDirectedGraph<>(this, getG1().getEdgeFactory());
+    }
+
+    private static <V, E> Set<E> incomingEdgesOf(
+        DirectedGraph<V, E> g,
+        V vertex)
+    {
+        if (g.containsVertex(vertex)) {
+            return g.incomingEdgesOf(vertex);
         }
-        if (getG2().containsVertex(vertex)) {
-            res.addAll(getG2().outgoingEdgesOf(vertex));
+        return Collections.emptySet();
+    }
+
+    private static <V, E> Set<E> outgoingEdgesOf(
+        DirectedGraph<V, E> g,
+        V vertex)
+    {
+        if (g.containsVertex(vertex)) {
+            return g.outgoingEdgesOf(vertex);
         }
-        return Collections.unmodifiableSet(res);
+        return Collections.emptySet();
     }
 }
 
@@ -63,6 +63,22 @@ public interface EdgeSetFactory<V, E>
      * @return new set
      */
     Set<E> createEdgeSet(V vertex);
+
+    /**
+     * Create a new edge set for a particular vertex, which is expected to hold
+     * the specified number of edges. Factories which can allocate sets of a
+     * given capacity should override this method; by default the expected
+     * size is ignored.
+     *
+     * @param vertex the vertex for which the edge set is being created
+     * @param expectedSize the expected number of edges of the vertex
+     *
+     * @return new set
+     */
+    default Set<E> createEdgeSet(V vertex, int expectedSize)
+    {
+        return createEdgeSet(vertex);
+    }
 }
 
 // End EdgeSetFactory.java
@@ -53,6 +53,12 @@ import org.jgrapht.util.*;
  * <p><tt>GraphUnion</tt> implements <tt>Graph</tt> interface. <tt>
  * GraphUnion</tt> uses <tt>WeightCombiner</tt> to choose policy for calculating
  * edge weight.</p>
+ *
+ * <p>The vertex and edge sets returned by a union are live views which chain
+ * the corresponding sets of both operands and drop duplicates while iterating;
+ * nothing is copied. Their sizes are computed by probing the larger operand
+ * set with the elements of the smaller one, so layering a small graph over a
+ * large one keeps queries cheap.</p>
  */
 public class GraphUnion<V, E, G extends Graph<V, E>>
     extends AbstractGraph<V, E>
@@ -89,18 +95,19 @@ public class GraphUnion<V, E, G extends Graph<V, E>>
 
     @Override public Set<E> getAllEdges(V sourceVertex, V targetVertex)
     {
-        Set<E> res = new LinkedHashSet<>();
+        Set<E> res1 = Collections.emptySet();
         if (g1.containsVertex(sourceVertex)
             && g1.containsVertex(targetVertex))
         {
-            res.addAll(g1.getAllEdges(sourceVertex, targetVertex));
+            res1 = g1.getAllEdges(sourceVertex, targetVertex);
         }
+        Set<E> res2 = Collections.emptySet();
         if (g2.containsVertex(sourceVertex)
             && g2.containsVertex(targetVertex))
         {
-            res.addAll(g2.getAllEdges(sourceVertex, targetVertex));
+            res2 = g2.getAllEdges(sourceVertex, targetVertex);
         }
-        return Collections.unmodifiableSet(res);
+        return new UnionSet<>(res1, res2, g1::containsEdge);
     }
 
     @Override public E getEdge(V sourceVertex, V targetVertex)
@@ -168,22 +175,15 @@ public class GraphUnion<V, E, G extends Graph<V, E>>
 
     @Override public Set<E> edgeSet()
     {
-        Set<E> res = new LinkedHashSet<>();
-        res.addAll(g1.edgeSet());
-        res.addAll(g2.edgeSet());
-        return Collections.unmodifiableSet(res);
+        return new UnionSet<>(g1.edgeSet(), g2.edgeSet());
     }
 
     @Override public Set<E> edgesOf(V vertex)
     {
-        Set<E> res = new LinkedHashSet<>();
-        if (g1.containsVertex(vertex)) {
-            res.addAll(g1.edgesOf(vertex));
-        }
-        if (g2.containsVertex(vertex)) {
-            res.addAll(g2.edgesOf(vertex));
-        }
-        return Collections.unmodifiableSet(res);
+        return new UnionSet<>(
+            edgesOf(g1, vertex),
+            edgesOf(g2, vertex),
+            g1::containsEdge);
     }
 
     /**
@@ -215,10 +215,7 @@ public class GraphUnion<V, E, G extends Graph<V, E>>
 
     @Override public Set<V> vertexSet()
     {
-        Set<V> res = new HashSet<>();
-        res.addAll(g1.vertexSet());
-        res.addAll(g2.vertexSet());
-        return Collections.unmodifiableSet(res);
+        return new UnionSet<>(g1.vertexSet(), g2.vertexSet());
     }
 
     @Override public V getEdgeSource(E e)
@@ -272,6 +269,18 @@ public class GraphUnion<V, E, G extends Graph<V, E>>
     {
         return g2;
     }
+
+    /**
+     * Returns the edges touching a vertex in an operand graph, or an empty set
+     * if the operand does not contain the vertex.
+     */
+    static <V, E> Set<E> edgesOf(Graph<V, E> g, V vertex)
+    {
+        if (g.containsVertex(vertex)) {
+            return g.edgesOf(vertex);
+        }
+        return Collections.emptySet();
+    }
 }
 
 // End GraphUnion.java
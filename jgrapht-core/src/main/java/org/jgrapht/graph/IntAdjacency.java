@@ -0,0 +1,124 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ------------------
+ * IntAdjacency.java
+ * ------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+
+import java.util.*;
+
+
+/**
+ * Growable per-vertex lists of (opposite vertex, edge) pairs, stored as
+ * two parallel <code>int</code> arrays per vertex.
+ */
+final class IntAdjacency
+    implements Serializable
+{
+    private static final long serialVersionUID = -4716395185063420128L;
+
+    private static final int [] EMPTY = new int[0];
+
+    int [][] vertices;
+    int [][] edges;
+    int [] sizes;
+
+    IntAdjacency(int capacity)
+    {
+        vertices = new int[capacity][];
+        edges = new int[capacity][];
+        sizes = new int[capacity];
+        Arrays.fill(vertices, EMPTY);
+        Arrays.fill(edges, EMPTY);
+    }
+
+    void ensureCapacity(int capacity)
+    {
+        int old = sizes.length;
+        if (capacity <= old) {
+            return;
+        }
+        vertices = Arrays.copyOf(vertices, capacity);
+        edges = Arrays.copyOf(edges, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        Arrays.fill(vertices, old, capacity, EMPTY);
+        Arrays.fill(edges, old, capacity, EMPTY);
+    }
+
+    void add(int owner, int opposite, int edge)
+    {
+        int size = sizes[owner];
+        if (size == vertices[owner].length) {
+            // NOTE:  start with size 1 to keep memory usage under control
+            // for the common case of vertices with low degree
+            int capacity = Math.max(1, 2 * size);
+            vertices[owner] = Arrays.copyOf(vertices[owner], capacity);
+            edges[owner] = Arrays.copyOf(edges[owner], capacity);
+        }
+        vertices[owner][size] = opposite;
+        edges[owner][size] = edge;
+        sizes[owner] = size + 1;
+    }
+
+    void remove(int owner, int edge)
+    {
+        int [] e = edges[owner];
+        int size = sizes[owner];
+        for (int i = 0; i < size; i++) {
+            if (e[i] == edge) {
+                // preserve the order of the remaining incidences
+                int tail = size - i - 1;
+                int [] v = vertices[owner];
+                System.arraycopy(e, i + 1, e, i, tail);
+                System.arraycopy(v, i + 1, v, i, tail);
+                sizes[owner] = size - 1;
+                return;
+            }
+        }
+    }
+
+    int find(int owner, int opposite)
+    {
+        int [] v = vertices[owner];
+        for (int i = 0; i < sizes[owner]; i++) {
+            if (v[i] == opposite) {
+                return edges[owner][i];
+            }
+        }
+        return -1;
+    }
+}
+
+// End IntAdjacency.java
@@ -0,0 +1,234 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ----------------------
+ * IntDirectedGraph.java
+ * ----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * A directed graph whose vertices are non-negative <code>int</code> values,
+ * stored in plain arrays indexed by vertex. Outgoing and incoming incidences
+ * are kept in separate lists, so both {@link #outgoingEdgesOf(Integer)} and
+ * {@link #incomingEdgesOf(Integer)} are views without copying, and the
+ * <code>...At</code> methods give allocation-free access to both directions.
+ *
+ * <p>By default the graph behaves like {@link DefaultDirectedGraph}: multiple
+ * edges between any two vertices are <i>not</i> permitted, but loops
+ * are.</p>
+ *
+ * @see AbstractIntGraph
+ */
+public class IntDirectedGraph<E>
+    extends AbstractIntGraph<E>
+    implements DirectedGraph<Integer, E>
+{
+    private static final long serialVersionUID = -3526102390497913375L;
+
+    final IntAdjacency in;
+
+    /**
+     * Creates a new directed graph.
+     *
+     * @param edgeClass class on which to base factory for edges
+     */
+    public IntDirectedGraph(Class<? extends E> edgeClass)
+    {
+        this(new ClassBasedEdgeFactory<>(edgeClass));
+    }
+
+    /**
+     * Creates a new directed graph with the specified edge factory.
+     *
+     * @param ef the edge factory of the new graph.
+     */
+    public IntDirectedGraph(EdgeFactory<Integer, E> ef)
+    {
+        this(ef, false, true);
+    }
+
+    /**
+     * Creates a new directed graph with the specified edge factory and
+     * restrictions.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     */
+    public IntDirectedGraph(
+        EdgeFactory<Integer, E> ef,
+        boolean allowMultipleEdges,
+        boolean allowLoops)
+    {
+        super(ef, allowMultipleEdges, allowLoops);
+        in = new IntAdjacency(out.sizes.length);
+    }
+
+    @Override void addIncidences(int edge, int source, int target)
+    {
+        out.add(source, target, edge);
+        in.add(target, source, edge);
+    }
+
+    @Override void removeIncidences(int edge, int source, int target)
+    {
+        out.remove(source, edge);
+        in.remove(target, edge);
+    }
+
+    @Override void ensureVertexCapacity(int capacity)
+    {
+        super.ensureVertexCapacity(capacity);
+        in.ensureCapacity(capacity);
+    }
+
+    @Override void removeIncidentEdges(int v)
+    {
+        super.removeIncidentEdges(v);
+        while (in.sizes[v] > 0) {
+            removeEdgeAt(in.edges[v][in.sizes[v] - 1]);
+        }
+    }
+
+    /**
+     * Returns the index of an edge from the specified source to the specified
+     * target, scanning whichever of the two adjacency lists is shorter.
+     *
+     * @see AbstractIntGraph#getEdgeIndex(int, int)
+     */
+    @Override public int getEdgeIndex(int source, int target)
+    {
+        if (in.sizes[target] < out.sizes[source]) {
+            return in.find(target, source);
+        }
+        return out.find(source, target);
+    }
+
+    /**
+     * @see Graph#edgesOf(Object)
+     */
+    @Override public Set<E> edgesOf(Integer vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        ArrayUnenforcedSet<E> inAndOut =
+            new ArrayUnenforcedSet<>(out.sizes[v] + in.sizes[v]);
+        for (int i = 0; i < out.sizes[v]; i++) {
+            inAndOut.add(edgeAt(out.edges[v][i]));
+        }
+
+        // self-loops are in both lists; take them from the outgoing one only
+        for (int i = 0; i < in.sizes[v]; i++) {
+            if (in.vertices[v][i] != v) {
+                inAndOut.add(edgeAt(in.edges[v][i]));
+            }
+        }
+        return Collections.unmodifiableSet(inAndOut);
+    }
+
+    /**
+     * @see DirectedGraph#inDegreeOf(Object)
+     */
+    @Override public int inDegreeOf(Integer vertex)
+    {
+        return in.sizes[assertVertexIndex(vertex)];
+    }
+
+    /**
+     * @see DirectedGraph#incomingEdgesOf(Object)
+     */
+    @Override public Set<E> incomingEdgesOf(Integer vertex)
+    {
+        return incidenceSet(in, assertVertexIndex(vertex));
+    }
+
+    /**
+     * @see DirectedGraph#outDegreeOf(Object)
+     */
+    @Override public int outDegreeOf(Integer vertex)
+    {
+        return out.sizes[assertVertexIndex(vertex)];
+    }
+
+    /**
+     * @see DirectedGraph#outgoingEdgesOf(Object)
+     */
+    @Override public Set<E> outgoingEdgesOf(Integer vertex)
+    {
+        return incidenceSet(out, assertVertexIndex(vertex));
+    }
+
+    /**
+     * Returns the number of incoming edges of the specified vertex.
+     *
+     * @param vertex a vertex index
+     *
+     * @return the in-degree of the vertex
+     */
+    public int getInDegreeAt(int vertex)
+    {
+        return in.sizes[vertex];
+    }
+
+    /**
+     * Returns the source of the i-th incoming edge of the specified vertex.
+     *
+     * @param vertex a vertex index
+     * @param i position in the range <code>[0, getInDegreeAt(vertex))</code>
+     *
+     * @return the index of the neighbor
+     */
+    public int getInNeighborAt(int vertex, int i)
+    {
+        return in.vertices[vertex][i];
+    }
+
+    /**
+     * Returns the i-th incoming edge of the specified vertex.
+     *
+     * @param vertex a vertex index
+     * @param i position in the range <code>[0, getInDegreeAt(vertex))</code>
+     *
+     * @return the index of the edge
+     */
+    public int getInEdgeIndexAt(int vertex, int i)
+    {
+        return in.edges[vertex][i];
+    }
+}
+
+// End IntDirectedGraph.java
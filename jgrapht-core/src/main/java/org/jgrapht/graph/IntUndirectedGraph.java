@@ -0,0 +1,141 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ------------------------
+ * IntUndirectedGraph.java
+ * ------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+
+
+/**
+ * An undirected graph whose vertices are non-negative <code>int</code> values,
+ * stored in plain arrays indexed by vertex. Every edge is recorded in the
+ * adjacency list of both of its endpoints (self-loops once), which the
+ * <code>...Out...At</code> methods of {@link AbstractIntGraph} expose without
+ * allocation.
+ *
+ * <p>By default the graph behaves like {@link SimpleGraph}: neither multiple
+ * edges nor loops are permitted.</p>
+ *
+ * @see AbstractIntGraph
+ */
+public class IntUndirectedGraph<E>
+    extends AbstractIntGraph<E>
+    implements UndirectedGraph<Integer, E>
+{
+    private static final long serialVersionUID = 6710843625716582041L;
+
+    /**
+     * Creates a new undirected graph.
+     *
+     * @param edgeClass class on which to base factory for edges
+     */
+    public IntUndirectedGraph(Class<? extends E> edgeClass)
+    {
+        this(new ClassBasedEdgeFactory<>(edgeClass));
+    }
+
+    /**
+     * Creates a new undirected graph with the specified edge factory.
+     *
+     * @param ef the edge factory of the new graph.
+     */
+    public IntUndirectedGraph(EdgeFactory<Integer, E> ef)
+    {
+        this(ef, false, false);
+    }
+
+    /**
+     * Creates a new undirected graph with the specified edge factory and
+     * restrictions.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     */
+    public IntUndirectedGraph(
+        EdgeFactory<Integer, E> ef,
+        boolean allowMultipleEdges,
+        boolean allowLoops)
+    {
+        super(ef, allowMultipleEdges, allowLoops);
+    }
+
+    @Override void addIncidences(int edge, int source, int target)
+    {
+        out.add(source, target, edge);
+        if (source != target) {
+            out.add(target, source, edge);
+        }
+    }
+
+    @Override void removeIncidences(int edge, int source, int target)
+    {
+        out.remove(source, edge);
+        if (source != target) {
+            out.remove(target, edge);
+        }
+    }
+
+    /**
+     * @see UndirectedGraph#degreeOf(Object)
+     */
+    @Override public int degreeOf(Integer vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        int degree = out.sizes[v];
+        if (isAllowingLoops()) {
+            // self-loops are stored once but count twice
+            int [] opposite = out.vertices[v];
+            for (int i = 0; i < out.sizes[v]; i++) {
+                if (opposite[i] == v) {
+                    degree++;
+                }
+            }
+        }
+        return degree;
+    }
+
+    /**
+     * @see Graph#edgesOf(Object)
+     */
+    @Override public Set<E> edgesOf(Integer vertex)
+    {
+        return incidenceSet(out, assertVertexIndex(vertex));
+    }
+}
+
+// End IntUndirectedGraph.java
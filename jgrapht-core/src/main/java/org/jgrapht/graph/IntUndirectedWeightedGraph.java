@@ -0,0 +1,92 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* --------------------------------
+ * IntUndirectedWeightedGraph.java
+ * --------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+
+
+/**
+ * An undirected weighted graph whose vertices are non-negative <code>
+ * int</code> values. Edge weights are kept in a primitive column of the graph,
+ * readable without a map lookup through {@link #getEdgeWeightAt(int)}.
+ *
+ * @see IntUndirectedGraph
+ */
+public class IntUndirectedWeightedGraph<E>
+    extends IntUndirectedGraph<E>
+    implements WeightedGraph<Integer, E>
+{
+    private static final long serialVersionUID = -1970338423985305717L;
+
+    /**
+     * Creates a new undirected weighted graph.
+     *
+     * @param edgeClass class on which to base factory for edges
+     */
+    public IntUndirectedWeightedGraph(Class<? extends E> edgeClass)
+    {
+        this(new ClassBasedEdgeFactory<>(edgeClass));
+    }
+
+    /**
+     * Creates a new undirected weighted graph with the specified edge
+     * factory.
+     *
+     * @param ef the edge factory of the new graph.
+     */
+    public IntUndirectedWeightedGraph(EdgeFactory<Integer, E> ef)
+    {
+        super(ef);
+    }
+
+    /**
+     * Creates a new undirected weighted graph with the specified edge factory
+     * and restrictions.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     */
+    public IntUndirectedWeightedGraph(
+        EdgeFactory<Integer, E> ef,
+        boolean allowMultipleEdges,
+        boolean allowLoops)
+    {
+        super(ef, allowMultipleEdges, allowLoops);
+    }
+}
+
+// End IntUndirectedWeightedGraph.java
@@ -0,0 +1,927 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------------------
+ * MappedDirectedWeightedGraph.java
+ * ---------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+
+import java.nio.*;
+import java.nio.channels.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * A directed weighted graph whose structure lives in a memory-mapped file
+ * rather than on the Java heap. Vertices are the <code>int</code> values
+ * <code>0..n-1</code> and edges the <code>int</code> values <code>
+ * 0..m-1</code>; edge endpoints, edge weights and the adjacency of every vertex
+ * in compressed sparse row form are read straight from the mapped regions, so
+ * heap usage does not depend on the size of the graph and opening a graph is a
+ * mapping rather than a parse. The operating system pages the file in on
+ * demand and may share it between processes.
+ *
+ * <p>A file is produced by {@link #write(DirectedGraph, File)} from any
+ * directed graph. Vertex <code>i</code> is the <code>i</code>-th vertex of the
+ * source graph's vertex set; edges are numbered by source vertex, then by
+ * target vertex, so that the outgoing edges of every vertex form a contiguous
+ * range of edge ids. Writing needs memory proportional to the graph, opening
+ * does not.</p>
+ *
+ * <p>The structure of the graph is immutable and attempts to modify it result
+ * in an <code>UnsupportedOperationException</code>. Edge weights may be
+ * updated when the graph is opened writable; updates go to the file and are
+ * made durable by {@link #force()}. Besides the {@link Graph} interface, which
+ * necessarily boxes vertices and edges, the class offers an allocation-free
+ * view of the adjacency through the <code>...At</code> methods.</p>
+ *
+ * <p>A mapping stays valid until the graph is garbage collected, even after
+ * the file is deleted. Every section of the file is mapped separately and must
+ * fit in a single buffer, which limits a graph to about 268 million edges.</p>
+ *
+ * @see CSRDirectedGraph
+ */
+public class MappedDirectedWeightedGraph
+    extends AbstractGraph<Integer, Integer>
+    implements DirectedGraph<Integer, Integer>,
+        WeightedGraph<Integer, Integer>,
+        IndexedGraph<Integer, Integer>
+{
+    static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    private static final int MAGIC = 0x4A47524D;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+
+    private static final EdgeFactory<Integer, Integer> EDGE_FACTORY =
+        (sourceVertex, targetVertex) -> {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        };
+
+    private final int vertexCount;
+    private final int edgeCount;
+    private final boolean writable;
+
+    private final DoubleBuffer weights;
+    private final MappedByteBuffer weightRegion;
+    private final IntBuffer sources;
+    private final IntBuffer targets;
+    private final IntBuffer outOffsets;
+    private final IntBuffer inOffsets;
+    private final IntBuffer inEdges;
+
+    private Set<Integer> unmodifiableVertexSet = null;
+    private Set<Integer> unmodifiableEdgeSet = null;
+
+    /**
+     * Opens a graph file for reading.
+     *
+     * @param file a file written by {@link #write(DirectedGraph, File)}
+     *
+     * @throws IOException if the file cannot be read or is not a graph file
+     */
+    public MappedDirectedWeightedGraph(File file)
+        throws IOException
+    {
+        this(file, false);
+    }
+
+    /**
+     * Opens a graph file.
+     *
+     * @param file a file written by {@link #write(DirectedGraph, File)}
+     * @param writable whether edge weights may be updated
+     *
+     * @throws IOException if the file cannot be opened or is not a graph file
+     */
+    public MappedDirectedWeightedGraph(File file, boolean writable)
+        throws IOException
+    {
+        this.writable = writable;
+        FileChannel.MapMode mode =
+            writable ? FileChannel.MapMode.READ_WRITE
+            : FileChannel.MapMode.READ_ONLY;
+        try (RandomAccessFile raf =
+                new RandomAccessFile(file, writable ? "rw" : "r");
+            FileChannel channel = raf.getChannel())
+        {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("not a graph file: " + file);
+            }
+            ByteBuffer header =
+                map(channel, FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if ((header.getInt() != MAGIC) || (header.getInt() != VERSION)) {
+                throw new IOException("not a graph file: " + file);
+            }
+            vertexCount = header.getInt();
+            edgeCount = header.getInt();
+            if ((vertexCount < 0)
+                || (edgeCount < 0)
+                || (channel.size() != fileSize(vertexCount, edgeCount)))
+            {
+                throw new IOException("corrupt graph file: " + file);
+            }
+
+            long position = HEADER_SIZE;
+            weightRegion = map(channel, mode, position, 8L * edgeCount);
+            weights = weightRegion.asDoubleBuffer();
+            position += 8L * edgeCount;
+            sources = mapInts(channel, position, edgeCount);
+            position += 4L * edgeCount;
+            targets = mapInts(channel, position, edgeCount);
+            position += 4L * edgeCount;
+            outOffsets = mapInts(channel, position, vertexCount + 1);
+            position += 4L * (vertexCount + 1);
+            inOffsets = mapInts(channel, position, vertexCount + 1);
+            position += 4L * (vertexCount + 1);
+            inEdges = mapInts(channel, position, edgeCount);
+        }
+    }
+
+    /**
+     * Writes the specified directed graph to a file which can then be opened
+     * as a <code>MappedDirectedWeightedGraph</code>. An existing file is
+     * overwritten.
+     *
+     * @param g the graph to write
+     * @param file the file to write to
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public static <V, E> void write(DirectedGraph<V, E> g, File file)
+        throws IOException
+    {
+        int n = g.vertexSet().size();
+        Map<V, Integer> vertexIndices = new HashMap<>(MathUtil.hashCapacity(n));
+        for (V v : g.vertexSet()) {
+            vertexIndices.put(v, vertexIndices.size());
+        }
+
+        int m = g.edgeSet().size();
+        int [] edgeSources = new int[m];
+        int [] edgeTargets = new int[m];
+        double [] edgeWeights = new double[m];
+        int [] edge = new int[m];
+        int j = 0;
+        for (E e : g.edgeSet()) {
+            edgeSources[j] = vertexIndices.get(g.getEdgeSource(e));
+            edgeTargets[j] = vertexIndices.get(g.getEdgeTarget(e));
+            edgeWeights[j] = g.getEdgeWeight(e);
+            edge[j] = j;
+            j++;
+        }
+
+        // number the edges in outgoing adjacency order
+        int [] outOffsets = new int[n + 1];
+        int [] targets = new int[m];
+        int [] order = new int[m];
+        AbstractCSRGraph.compress(
+            n,
+            edgeSources,
+            edgeTargets,
+            edge,
+            outOffsets,
+            targets,
+            order);
+        int [] sources = edgeSources;
+        double [] weights = new double[m];
+        for (j = 0; j < m; j++) {
+            weights[j] = edgeWeights[order[j]];
+        }
+        for (int v = 0; v < n; v++) {
+            for (j = outOffsets[v]; j < outOffsets[v + 1]; j++) {
+                sources[j] = v;
+            }
+        }
+
+        int [] inOffsets = new int[n + 1];
+        int [] inSources = edgeTargets;
+        int [] inEdges = order;
+        for (j = 0; j < m; j++) {
+            edge[j] = j;
+        }
+        AbstractCSRGraph.compress(
+            n,
+            targets,
+            sources,
+            edge,
+            inOffsets,
+            inSources,
+            inEdges);
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            FileChannel channel = raf.getChannel())
+        {
+            raf.setLength(0);
+            raf.setLength(fileSize(n, m));
+            FileChannel.MapMode mode = FileChannel.MapMode.READ_WRITE;
+
+            ByteBuffer header = map(channel, mode, 0, HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(m);
+            long position = HEADER_SIZE;
+            map(channel, mode, position, 8L * m).asDoubleBuffer().put(weights);
+            position += 8L * m;
+            map(channel, mode, position, 4L * m).asIntBuffer().put(sources);
+            position += 4L * m;
+            map(channel, mode, position, 4L * m).asIntBuffer().put(targets);
+            position += 4L * m;
+            map(channel, mode, position, 4L * (n + 1)).asIntBuffer().put(
+                outOffsets);
+            position += 4L * (n + 1);
+            map(channel, mode, position, 4L * (n + 1)).asIntBuffer().put(
+                inOffsets);
+            position += 4L * (n + 1);
+            map(channel, mode, position, 4L * m).asIntBuffer().put(inEdges);
+            channel.force(false);
+        }
+    }
+
+    private static long fileSize(int n, int m)
+    {
+        return HEADER_SIZE + (16L * m) + (8L * (n + 1)) + (4L * m);
+    }
+
+    private static MappedByteBuffer map(
+        FileChannel channel,
+        FileChannel.MapMode mode,
+        long position,
+        long size)
+        throws IOException
+    {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("graph too large to map");
+        }
+        MappedByteBuffer buffer = channel.map(mode, position, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private static IntBuffer mapInts(FileChannel channel, long position, int n)
+        throws IOException
+    {
+        return map(channel, FileChannel.MapMode.READ_ONLY, position, 4L * n)
+            .asIntBuffer();
+    }
+
+    /**
+     * Returns whether edge weights may be updated.
+     *
+     * @return <code>true</code> if the graph was opened writable
+     */
+    public boolean isWritable()
+    {
+        return writable;
+    }
+
+    /**
+     * Writes updated edge weights through to the file.
+     */
+    public void force()
+    {
+        if (writable) {
+            weightRegion.force();
+        }
+    }
+
+    /**
+     * @see Graph#getEdgeFactory()
+     */
+    @Override public EdgeFactory<Integer, Integer> getEdgeFactory()
+    {
+        return EDGE_FACTORY;
+    }
+
+    /**
+     * @see Graph#addVertex(Object)
+     */
+    @Override public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object)
+     */
+    @Override public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#addEdge(Object, Object, Object)
+     */
+    @Override public boolean addEdge(
+        Integer sourceVertex,
+        Integer targetVertex,
+        Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeAllEdges(Collection)
+     */
+    @Override public boolean removeAllEdges(Collection<? extends Integer> edges)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeAllEdges(Object, Object)
+     */
+    @Override public Set<Integer> removeAllEdges(
+        Integer sourceVertex,
+        Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeAllVertices(Collection)
+     */
+    @Override public boolean removeAllVertices(
+        Collection<? extends Integer> vertices)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeEdge(Object, Object)
+     */
+    @Override public Integer removeEdge(
+        Integer sourceVertex,
+        Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeEdge(Object)
+     */
+    @Override public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#removeVertex(Object)
+     */
+    @Override public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * @see Graph#containsVertex(Object)
+     */
+    @Override public boolean containsVertex(Integer v)
+    {
+        return (v != null) && (v >= 0) && (v < vertexCount);
+    }
+
+    /**
+     * @see Graph#containsEdge(Object)
+     */
+    @Override public boolean containsEdge(Integer e)
+    {
+        return (e != null) && (e >= 0) && (e < edgeCount);
+    }
+
+    /**
+     * @see Graph#vertexSet()
+     */
+    @Override public Set<Integer> vertexSet()
+    {
+        if (unmodifiableVertexSet == null) {
+            unmodifiableVertexSet = new RangeSet(0, vertexCount);
+        }
+        return unmodifiableVertexSet;
+    }
+
+    /**
+     * @see Graph#edgeSet()
+     */
+    @Override public Set<Integer> edgeSet()
+    {
+        if (unmodifiableEdgeSet == null) {
+            unmodifiableEdgeSet = new RangeSet(0, edgeCount);
+        }
+        return unmodifiableEdgeSet;
+    }
+
+    /**
+     * @see Graph#getEdge(Object, Object)
+     */
+    @Override public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int e = getEdgeIndex(sourceVertex, targetVertex);
+        return (e < 0) ? null : e;
+    }
+
+    /**
+     * @see Graph#getAllEdges(Object, Object)
+     */
+    @Override public Set<Integer> getAllEdges(
+        Integer sourceVertex,
+        Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int end = outOffsets.get(sourceVertex + 1);
+        int from =
+            lowerBound(
+                targets,
+                outOffsets.get(sourceVertex),
+                end,
+                targetVertex);
+        int to = from;
+        while ((to < end) && (targets.get(to) == targetVertex)) {
+            to++;
+        }
+        return new RangeSet(from, to);
+    }
+
+    /**
+     * @see Graph#getEdgeSource(Object)
+     */
+    @Override public Integer getEdgeSource(Integer e)
+    {
+        return sources.get(assertEdgeIndex(e));
+    }
+
+    /**
+     * @see Graph#getEdgeTarget(Object)
+     */
+    @Override public Integer getEdgeTarget(Integer e)
+    {
+        return targets.get(assertEdgeIndex(e));
+    }
+
+    /**
+     * @see Graph#getEdgeWeight(Object)
+     */
+    @Override public double getEdgeWeight(Integer e)
+    {
+        return weights.get(assertEdgeIndex(e));
+    }
+
+    /**
+     * Sets the weight of the specified edge in the mapped file.
+     *
+     * @throws UnsupportedOperationException if the graph was not opened
+     * writable
+     *
+     * @see WeightedGraph#setEdgeWeight(Object, double)
+     */
+    @Override public void setEdgeWeight(Integer e, double weight)
+    {
+        setEdgeWeightAt(assertEdgeIndex(e), weight);
+    }
+
+    /**
+     * @see Graph#edgesOf(Object)
+     */
+    @Override public Set<Integer> edgesOf(Integer vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        int outFrom = outOffsets.get(v);
+        int outTo = outOffsets.get(v + 1);
+        int inFrom = inOffsets.get(v);
+        int inTo = inOffsets.get(v + 1);
+
+        // self-loops appear in both slices; they are skipped in the incoming
+        // slice, where their source is the vertex itself
+        ArrayUnenforcedSet<Integer> inAndOut =
+            new ArrayUnenforcedSet<>((outTo - outFrom) + (inTo - inFrom));
+        for (int e = outFrom; e < outTo; e++) {
+            inAndOut.add(e);
+        }
+        for (int i = inFrom; i < inTo; i++) {
+            int e = inEdges.get(i);
+            if (sources.get(e) != v) {
+                inAndOut.add(e);
+            }
+        }
+        return Collections.unmodifiableSet(inAndOut);
+    }
+
+    /**
+     * @see DirectedGraph#inDegreeOf(Object)
+     */
+    @Override public int inDegreeOf(Integer vertex)
+    {
+        return getInDegreeAt(assertVertexIndex(vertex));
+    }
+
+    /**
+     * @see DirectedGraph#incomingEdgesOf(Object)
+     */
+    @Override public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        return new InEdgeSet(v);
+    }
+
+    /**
+     * @see DirectedGraph#outDegreeOf(Object)
+     */
+    @Override public int outDegreeOf(Integer vertex)
+    {
+        return getOutDegreeAt(assertVertexIndex(vertex));
+    }
+
+    /**
+     * @see DirectedGraph#outgoingEdgesOf(Object)
+     */
+    @Override public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        return new RangeSet(outOffsets.get(v), outOffsets.get(v + 1));
+    }
+
+    /**
+     * Returns the source vertex of the edge at the specified index.
+     *
+     * @param edge an edge index
+     *
+     * @return the source vertex
+     */
+    public int getEdgeSourceAt(int edge)
+    {
+        return sources.get(edge);
+    }
+
+    /**
+     * Returns the target vertex of the edge at the specified index.
+     *
+     * @param edge an edge index
+     *
+     * @return the target vertex
+     */
+    public int getEdgeTargetAt(int edge)
+    {
+        return targets.get(edge);
+    }
+
+    /**
+     * Returns the weight of the edge at the specified index.
+     *
+     * @param edge an edge index
+     *
+     * @return the edge weight
+     */
+    public double getEdgeWeightAt(int edge)
+    {
+        return weights.get(edge);
+    }
+
+    /**
+     * Sets the weight of the edge at the specified index in the mapped file.
+     *
+     * @param edge an edge index
+     * @param weight the new weight
+     *
+     * @throws UnsupportedOperationException if the graph was not opened
+     * writable
+     */
+    public void setEdgeWeightAt(int edge, double weight)
+    {
+        if (!writable) {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+        weights.put(edge, weight);
+    }
+
+    /**
+     * Returns the number of outgoing edges of the specified vertex.
+     *
+     * @param vertex a vertex
+     *
+     * @return the out-degree
+     */
+    public int getOutDegreeAt(int vertex)
+    {
+        return outOffsets.get(vertex + 1) - outOffsets.get(vertex);
+    }
+
+    /**
+     * Returns the target of the <code>i</code>-th outgoing edge of the
+     * specified vertex. Outgoing edges are ordered by target vertex.
+     *
+     * @param vertex a vertex
+     * @param i the position in the adjacency, smaller than the out-degree
+     *
+     * @return the neighbor
+     */
+    public int getOutNeighborAt(int vertex, int i)
+    {
+        return targets.get(outOffsets.get(vertex) + i);
+    }
+
+    /**
+     * Returns the <code>i</code>-th outgoing edge of the specified vertex.
+     *
+     * @param vertex a vertex
+     * @param i the position in the adjacency, smaller than the out-degree
+     *
+     * @return the edge index
+     */
+    public int getOutEdgeIndexAt(int vertex, int i)
+    {
+        return outOffsets.get(vertex) + i;
+    }
+
+    /**
+     * Returns the number of incoming edges of the specified vertex.
+     *
+     * @param vertex a vertex
+     *
+     * @return the in-degree
+     */
+    public int getInDegreeAt(int vertex)
+    {
+        return inOffsets.get(vertex + 1) - inOffsets.get(vertex);
+    }
+
+    /**
+     * Returns the source of the <code>i</code>-th incoming edge of the
+     * specified vertex. Incoming edges are ordered by source vertex.
+     *
+     * @param vertex a vertex
+     * @param i the position in the adjacency, smaller than the in-degree
+     *
+     * @return the neighbor
+     */
+    public int getInNeighborAt(int vertex, int i)
+    {
+        return sources.get(inEdges.get(inOffsets.get(vertex) + i));
+    }
+
+    /**
+     * Returns the <code>i</code>-th incoming edge of the specified vertex.
+     *
+     * @param vertex a vertex
+     * @param i the position in the adjacency, smaller than the in-degree
+     *
+     * @return the edge index
+     */
+    public int getInEdgeIndexAt(int vertex, int i)
+    {
+        return inEdges.get(inOffsets.get(vertex) + i);
+    }
+
+    /**
+     * Returns the index of an edge from the source to the target vertex.
+     *
+     * @param source a vertex
+     * @param target a vertex
+     *
+     * @return an edge index, or <code>-1</code> if there is no such edge
+     */
+    public int getEdgeIndex(int source, int target)
+    {
+        int end = outOffsets.get(source + 1);
+        int pos = lowerBound(targets, outOffsets.get(source), end, target);
+        if ((pos < end) && (targets.get(pos) == target)) {
+            return pos;
+        }
+        return -1;
+    }
+
+    /**
+     * @see IndexedGraph#getVertexIndex(Object)
+     */
+    @Override public int getVertexIndex(Integer vertex)
+    {
+        return containsVertex(vertex) ? vertex : -1;
+    }
+
+    /**
+     * @see IndexedGraph#getVertexAt(int)
+     */
+    @Override public Integer getVertexAt(int index)
+    {
+        if ((index < 0) || (index >= vertexCount)) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return index;
+    }
+
+    /**
+     * @see IndexedGraph#getVertexIndexBound()
+     */
+    @Override public int getVertexIndexBound()
+    {
+        return vertexCount;
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeIndex(Object)
+     */
+    @Override public int getEdgeIndex(Integer edge)
+    {
+        return containsEdge(edge) ? edge : -1;
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeAt(int)
+     */
+    @Override public Integer getEdgeAt(int index)
+    {
+        if ((index < 0) || (index >= edgeCount)) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return index;
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeIndexBound()
+     */
+    @Override public int getEdgeIndexBound()
+    {
+        return edgeCount;
+    }
+
+    /**
+     * Returns the position of the first entry of the slice [from, to) which is
+     * not smaller than the specified value.
+     */
+    private static int lowerBound(IntBuffer values, int from, int to, int value)
+    {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values.get(mid) < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int assertVertexIndex(Integer v)
+    {
+        if (!containsVertex(v)) {
+            assertVertexExist(v);
+        }
+        return v;
+    }
+
+    private int assertEdgeIndex(Integer e)
+    {
+        if (!containsEdge(e)) {
+            if (e == null) {
+                throw new NullPointerException();
+            }
+            throw new IllegalArgumentException(
+                "no such edge in graph: " + e.toString());
+        }
+        return e;
+    }
+
+    /**
+     * Unmodifiable set of the consecutive integers [from, to).
+     */
+    private static class RangeSet
+        extends AbstractSet<Integer>
+    {
+        private final int from;
+        private final int to;
+
+        RangeSet(int from, int to)
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            int i = (Integer) o;
+            return (i >= from) && (i < to);
+        }
+
+        @Override public int size()
+        {
+            return to - from;
+        }
+
+        @Override public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>() {
+                private int next = from;
+
+                @Override public boolean hasNext()
+                {
+                    return next < to;
+                }
+
+                @Override public Integer next()
+                {
+                    if (next >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    return next++;
+                }
+            };
+        }
+    }
+
+    /**
+     * Unmodifiable view of the edges of one incoming slice. No copy of the
+     * slice is made.
+     */
+    private class InEdgeSet
+        extends AbstractSet<Integer>
+    {
+        private final int vertex;
+        private final int from;
+        private final int to;
+
+        InEdgeSet(int vertex)
+        {
+            this.vertex = vertex;
+            this.from = inOffsets.get(vertex);
+            this.to = inOffsets.get(vertex + 1);
+        }
+
+        @Override public boolean contains(Object o)
+        {
+            return (o instanceof Integer)
+                && containsEdge((Integer) o)
+                && (targets.get((Integer) o) == vertex);
+        }
+
+        @Override public int size()
+        {
+            return to - from;
+        }
+
+        @Override public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>() {
+                private int next = from;
+
+                @Override public boolean hasNext()
+                {
+                    return next < to;
+                }
+
+                @Override public Integer next()
+                {
+                    if (next >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    return inEdges.get(next++);
+                }
+            };
+        }
+    }
+}
+
+// End MappedDirectedWeightedGraph.java
@@ -78,38 +78,58 @@ public class MixedGraphUnion<V, E>
 
     @Override public int inDegreeOf(V vertex)
     {
-        Set<E> res = incomingEdgesOf(vertex);
-        return res.size();
+        return UnionSet.unionSize(
+            incomingEdgesOf(directedGraph, vertex),
+            edgesOf(undirectedGraph, vertex),
+            e -> directedGraph.containsEdge(e)
+                && directedGraph.getEdgeTarget(e).equals(vertex));
     }
 
     @Override public Set<E> incomingEdgesOf(V vertex)
     {
-        Set<E> res = new LinkedHashSet<>();
-        if (directedGraph.containsVertex(vertex)) {
-            res.addAll(directedGraph.incomingEdgesOf(vertex));
-        }
-        if (undirectedGraph.containsVertex(vertex)) {
-            res.addAll(undirectedGraph.edgesOf(vertex));
-        }
-        return Collections.unmodifiableSet(res);
+        return new UnionSet<>(
+            incomingEdgesOf(directedGraph, vertex),
+            edgesOf(undirectedGraph, vertex),
+            e -> directedGraph.containsEdge(e)
+                && directedGraph.getEdgeTarget(e).equals(vertex));
     }
 
     @Override public int outDegreeOf(V vertex)
     {
-        Set<E> res = outgoingEdgesOf(vertex);
-        return res.size();
+        return UnionSet.unionSize(
+            outgoingEdgesOf(directedGraph, vertex),
+            edgesOf(undirectedGraph, vertex),
+            e -> directedGraph.containsEdge(e)
+                && directedGraph.getEdgeSource(e).equals(vertex));
     }
 
     @Override public Set<E> outgoingEdgesOf(V vertex)
     {
-        Set<E> res = new LinkedHashSet<>();
-        if (directedGraph.containsVertex(vertex)) {
-            res.addAll(directedGraph.outgoingEdgesOf(vertex));
+        return new UnionSet<>(
+            outgoingEdgesOf(directedGraph, vertex),
+            edgesOf(undirectedGraph, vertex),
+            e -> directedGraph.containsEdge(e)
+                && directedGraph.getEdgeSource(e).equals(vertex));
+    }
+
+    private static <V, E> Set<E> incomingEdgesOf(
+        DirectedGraph<V, E> g,
+        V vertex)
+    {
+        if (g.containsVertex(vertex)) {
+            return g.incomingEdgesOf(vertex);
         }
-        if (undirectedGraph.containsVertex(vertex)) {
-            res.addAll(undirectedGraph.edgesOf(vertex));
+        return Collections.emptySet();
+    }
+
+    private static <V, E> Set<E> outgoingEdgesOf(
+        DirectedGraph<V, E> g,
+        V vertex)
+    {
+        if (g.containsVertex(vertex)) {
+            return g.outgoingEdgesOf(vertex);
         }
-        return Collections.unmodifiableSet(res);
+        return Collections.emptySet();
     }
 }
 
@@ -0,0 +1,437 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -----------------------
+ * PersistentHashMap.java
+ * -----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+
+import java.util.*;
+
+import org.jgrapht.util.*;
+
+
+/**
+ * An immutable hash map in which every update returns a new map sharing all
+ * but <code>O(log n)</code> of its structure with the old one (a hash array
+ * mapped trie). Neither keys nor values may be <code>null</code>. Iteration
+ * order is unspecified but stable for a given map instance.
+ *
+ * @see AbstractVersionedGraph
+ */
+final class PersistentHashMap<K, V>
+    implements Serializable
+{
+    private static final long serialVersionUID = 7526018416731845902L;
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    /**
+     * Deepest level of the trie: levels at shift 0, 5, ..., 30 consume the
+     * hash, one more level holds the keys whose hashes collide.
+     */
+    private static final int MAX_DEPTH = 8;
+
+    private static final Node EMPTY_NODE = new Node(0, new Object[0]);
+
+    private static final PersistentHashMap<?, ?> EMPTY =
+        new PersistentHashMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @return the empty map
+     */
+    static <K, V> PersistentHashMap<K, V> empty()
+    {
+        return TypeUtil.uncheckedCast(EMPTY, null);
+    }
+
+    int size()
+    {
+        return size;
+    }
+
+    boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    V get(Object key)
+    {
+        if (root == null) {
+            return null;
+        }
+        return TypeUtil.uncheckedCast(
+            root.find(0, hash(key), key),
+            null);
+    }
+
+    boolean containsKey(Object key)
+    {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map which associates the key with the value and otherwise
+     * equals this map.
+     *
+     * @param key the key
+     * @param value the value
+     *
+     * @return the updated map, or this map if it already holds the mapping
+     */
+    PersistentHashMap<K, V> plus(K key, V value)
+    {
+        if ((key == null) || (value == null)) {
+            throw new NullPointerException();
+        }
+        Node r = (root == null) ? EMPTY_NODE : root;
+        boolean [] added = new boolean[1];
+        Node n = r.put(0, hash(key), key, value, added);
+        if (n == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(n, added[0] ? (size + 1) : size);
+    }
+
+    /**
+     * Returns a map without the key which otherwise equals this map.
+     *
+     * @param key the key
+     *
+     * @return the updated map, or this map if it does not contain the key
+     */
+    PersistentHashMap<K, V> minus(Object key)
+    {
+        if (root == null) {
+            return this;
+        }
+        Node n = root.remove(0, hash(key), key);
+        if (n == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(n, size - 1);
+    }
+
+    Iterator<K> keyIterator()
+    {
+        return new EntryIterator<>(root, true);
+    }
+
+    Iterator<V> valueIterator()
+    {
+        return new EntryIterator<>(root, false);
+    }
+
+    /**
+     * Returns an unmodifiable set view of the keys of this map.
+     *
+     * @return the keys of this map
+     */
+    Set<K> keySet()
+    {
+        return new AbstractSet<K>() {
+            @Override public int size()
+            {
+                return size;
+            }
+
+            @Override public boolean contains(Object o)
+            {
+                return (o != null) && containsKey(o);
+            }
+
+            @Override public Iterator<K> iterator()
+            {
+                return keyIterator();
+            }
+        };
+    }
+
+    private static int hash(Object key)
+    {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * A trie node. Below the collision level, the array holds a pair of slots
+     * for every bit set in the bitmap: either a key and its value, or <code>
+     * null</code> and a child node. At the collision level the bitmap is unused
+     * and the array holds key/value pairs only.
+     */
+    private static final class Node
+        implements Serializable
+    {
+        private static final long serialVersionUID = -2983650146325167347L;
+
+        final int bitmap;
+        final Object [] array;
+
+        Node(int bitmap, Object [] array)
+        {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int index(int bit)
+        {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        Object find(int shift, int hash, Object key)
+        {
+            if (shift >= Integer.SIZE) {
+                for (int i = 0; i < array.length; i += 2) {
+                    if (key.equals(array[i])) {
+                        return array[i + 1];
+                    }
+                }
+                return null;
+            }
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int i = index(bit);
+            Object k = array[i];
+            if (k == null) {
+                return ((Node) array[i + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? array[i + 1] : null;
+        }
+
+        Node put(
+            int shift,
+            int hash,
+            Object key,
+            Object value,
+            boolean [] added)
+        {
+            if (shift >= Integer.SIZE) {
+                for (int i = 0; i < array.length; i += 2) {
+                    if (key.equals(array[i])) {
+                        return (array[i + 1] == value) ? this
+                            : with(i + 1, value);
+                    }
+                }
+                added[0] = true;
+                Object [] a = Arrays.copyOf(array, array.length + 2);
+                a[array.length] = key;
+                a[array.length + 1] = value;
+                return new Node(0, a);
+            }
+
+            int bit = 1 << ((hash >>> shift) & MASK);
+            int i = index(bit);
+            if ((bitmap & bit) == 0) {
+                added[0] = true;
+                Object [] a = new Object[array.length + 2];
+                System.arraycopy(array, 0, a, 0, i);
+                a[i] = key;
+                a[i + 1] = value;
+                System.arraycopy(array, i, a, i + 2, array.length - i);
+                return new Node(bitmap | bit, a);
+            }
+
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == null) {
+                Node child = (Node) v;
+                Node n = child.put(shift + BITS, hash, key, value, added);
+                return (n == child) ? this : with(i + 1, n);
+            }
+            if (key.equals(k)) {
+                return (v == value) ? this : with(i + 1, value);
+            }
+
+            // push both pairs one level down
+            added[0] = true;
+            boolean [] ignored = new boolean[1];
+            Node child =
+                EMPTY_NODE.put(shift + BITS, hash(k), k, v, ignored).put(
+                    shift + BITS,
+                    hash,
+                    key,
+                    value,
+                    ignored);
+            Object [] a = array.clone();
+            a[i] = null;
+            a[i + 1] = child;
+            return new Node(bitmap, a);
+        }
+
+        /**
+         * @return the updated node, this node if the key is absent, or <code>
+         * null</code> if the node became empty
+         */
+        Node remove(int shift, int hash, Object key)
+        {
+            if (shift >= Integer.SIZE) {
+                for (int i = 0; i < array.length; i += 2) {
+                    if (key.equals(array[i])) {
+                        if (array.length == 2) {
+                            return null;
+                        }
+                        return new Node(0, without(i));
+                    }
+                }
+                return this;
+            }
+
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = index(bit);
+            Object k = array[i];
+            if (k == null) {
+                Node child = (Node) array[i + 1];
+                Node n = child.remove(shift + BITS, hash, key);
+                if (n == child) {
+                    return this;
+                } else if (n == null) {
+                    return removePair(bit, i);
+                } else if ((n.array.length == 2) && (n.array[0] != null)) {
+                    // a single remaining pair moves back up
+                    Object [] a = array.clone();
+                    a[i] = n.array[0];
+                    a[i + 1] = n.array[1];
+                    return new Node(bitmap, a);
+                } else {
+                    return with(i + 1, n);
+                }
+            }
+            return key.equals(k) ? removePair(bit, i) : this;
+        }
+
+        private Node removePair(int bit, int i)
+        {
+            if (bitmap == bit) {
+                return null;
+            }
+            return new Node(bitmap ^ bit, without(i));
+        }
+
+        private Object [] without(int i)
+        {
+            Object [] a = new Object[array.length - 2];
+            System.arraycopy(array, 0, a, 0, i);
+            System.arraycopy(array, i + 2, a, i, array.length - i - 2);
+            return a;
+        }
+
+        private Node with(int i, Object o)
+        {
+            Object [] a = array.clone();
+            a[i] = o;
+            return new Node(bitmap, a);
+        }
+    }
+
+    private static final class EntryIterator<T>
+        implements Iterator<T>
+    {
+        private final boolean keys;
+        private final Node [] nodes = new Node[MAX_DEPTH];
+        private final int [] positions = new int[MAX_DEPTH];
+        private int depth;
+        private Object nextKey;
+        private Object nextValue;
+
+        EntryIterator(Node root, boolean keys)
+        {
+            this.keys = keys;
+            if (root == null) {
+                depth = -1;
+            } else {
+                nodes[0] = root;
+            }
+            advance();
+        }
+
+        private void advance()
+        {
+            while (depth >= 0) {
+                Node n = nodes[depth];
+                int p = positions[depth];
+                if (p >= n.array.length) {
+                    depth--;
+                    continue;
+                }
+                positions[depth] = p + 2;
+                Object k = n.array[p];
+                if (k == null) {
+                    depth++;
+                    nodes[depth] = (Node) n.array[p + 1];
+                    positions[depth] = 0;
+                } else {
+                    nextKey = k;
+                    nextValue = n.array[p + 1];
+                    return;
+                }
+            }
+            nextKey = null;
+            nextValue = null;
+        }
+
+        @Override public boolean hasNext()
+        {
+            return nextKey != null;
+        }
+
+        @Override public T next()
+        {
+            if (nextKey == null) {
+                throw new NoSuchElementException();
+            }
+            Object result = keys ? nextKey : nextValue;
+            advance();
+            return TypeUtil.uncheckedCast(result, null);
+        }
+    }
+}
+
+// End PersistentHashMap.java
@@ -0,0 +1,84 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ------------------------------
+ * UndirectedBitSetSubgraph.java
+ * ------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+
+
+/**
+ * An undirected graph that is a {@link BitSetSubgraph} on another graph.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class UndirectedBitSetSubgraph<V, E>
+    extends BitSetSubgraph<V, E>
+    implements UndirectedGraph<V, E>
+{
+    /**
+     * Creates a new induced subgraph backed by the specified bit set.
+     *
+     * @param base the base (backing) graph on which the subgraph will be based.
+     * @param members the vertex indices of the subgraph.
+     * @param <G> the type of the base graph
+     */
+    public <G extends IndexedGraph<V, E> & UndirectedGraph<V, E>>
+    UndirectedBitSetSubgraph(
+        G base,
+        BitSet members)
+    {
+        super(base, members);
+    }
+
+    /**
+     * Creates a new subgraph induced by the specified vertices.
+     *
+     * @param base the base (backing) graph on which the subgraph will be based.
+     * @param vertices the vertices of the subgraph.
+     * @param <G> the type of the base graph
+     */
+    public <G extends IndexedGraph<V, E> & UndirectedGraph<V, E>>
+    UndirectedBitSetSubgraph(
+        G base,
+        Collection<? extends V> vertices)
+    {
+        super(base, vertices);
+    }
+}
+
+// End UndirectedBitSetSubgraph.java
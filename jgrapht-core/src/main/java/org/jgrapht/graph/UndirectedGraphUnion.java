@@ -79,8 +79,22 @@ public class UndirectedGraphUnion<V, E>
 
     @Override public int degreeOf(V vertex)
     {
-        Set<E> res = edgesOf(vertex);
-        return res.size();
+        return UnionSet.unionSize(
+            edgesOf(getG1(), vertex),
+            edgesOf(getG2(), vertex),
+            getG1()::containsEdge);
+    }
+
+    /**
+     * Copies this union into a compact immutable graph. Both operands are
+     * traversed once, and the weights of the copy are the combined weights of
+     * the union.
+     *
+     * @return a compressed copy of this union
+     */
+    public CSRUndirectedGraph<V, E> materialize()
+    {
+        return new CSRUndirectedGraph<>(this, getG1().getEdgeFactory());
     }
 }
 
@@ -0,0 +1,199 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* --------------
+ * UnionSet.java
+ * --------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+import java.util.function.*;
+
+
+/**
+ * Helper for {@link GraphUnion}: an unmodifiable live view of the union of two
+ * sets. Iteration yields the elements of the first set followed by the
+ * elements of the second set which are not contained in the first one, so
+ * duplicates are dropped lazily without copying either set.
+ *
+ * <p>The size is computed by probing the larger set with the elements of the
+ * smaller one, which is cheap when a small set is layered over a large one.
+ * Sets whose <code>contains</code> is not a hash lookup, such as the incidence
+ * sets of an {@link AbstractBaseGraph}, come with a separate membership test
+ * for the first set, so that neither iteration nor size are quadratic.</p>
+ */
+class UnionSet<T>
+    extends AbstractSet<T>
+{
+    private final Set<? extends T> first;
+    private final Set<? extends T> second;
+    private final Predicate<? super T> inFirst;
+
+    UnionSet(Set<? extends T> first, Set<? extends T> second)
+    {
+        this(first, second, null);
+    }
+
+    /**
+     * Creates a union which decides whether an element of the second set is
+     * also in the first one with the specified test.
+     *
+     * @param first the first set
+     * @param second the second set
+     * @param inFirst test for membership of an element of the second set in
+     * the first one, or <code>null</code> to use the first set itself
+     */
+    UnionSet(
+        Set<? extends T> first,
+        Set<? extends T> second,
+        Predicate<? super T> inFirst)
+    {
+        this.first = first;
+        this.second = second;
+        this.inFirst = inFirst;
+    }
+
+    /**
+     * Returns the size of the union of two sets without materializing it.
+     *
+     * @param a a set
+     * @param b another set
+     *
+     * @return the number of distinct elements of both sets
+     */
+    static int unionSize(Set<?> a, Set<?> b)
+    {
+        Set<?> small = a;
+        Set<?> large = b;
+        if (small.size() > large.size()) {
+            small = b;
+            large = a;
+        }
+        int size = large.size();
+        for (Object o : small) {
+            if (!large.contains(o)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the size of the union of two sets without materializing it,
+     * testing membership in the first set with the specified test.
+     *
+     * @param a a set
+     * @param b another set
+     * @param inA test for membership of an element of <code>b</code> in
+     * <code>a</code>
+     *
+     * @return the number of distinct elements of both sets
+     */
+    static <T> int unionSize(
+        Set<? extends T> a,
+        Set<? extends T> b,
+        Predicate<? super T> inA)
+    {
+        int size = a.size();
+        for (T t : b) {
+            if (!inA.test(t)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @see java.util.Collection#contains(java.lang.Object)
+     */
+    @Override public boolean contains(Object o)
+    {
+        return first.contains(o) || second.contains(o);
+    }
+
+    /**
+     * @see java.util.Set#size()
+     */
+    @Override public int size()
+    {
+        return (inFirst == null) ? unionSize(first, second)
+            : unionSize(first, second, inFirst);
+    }
+
+    private boolean isInFirst(T t)
+    {
+        return (inFirst == null) ? first.contains(t) : inFirst.test(t);
+    }
+
+    /**
+     * @see java.util.Set#iterator()
+     */
+    @Override public Iterator<T> iterator()
+    {
+        return new Iterator<T>() {
+            private Iterator<? extends T> it = first.iterator();
+            private boolean inSecond = false;
+            private T next;
+            private boolean ready;
+
+            @Override public boolean hasNext()
+            {
+                while (!ready) {
+                    if (it.hasNext()) {
+                        T t = it.next();
+                        if (!inSecond || !isInFirst(t)) {
+                            next = t;
+                            ready = true;
+                        }
+                    } else if (!inSecond) {
+                        it = second.iterator();
+                        inSecond = true;
+                    } else {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override public T next()
+            {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ready = false;
+                return next;
+            }
+        };
+    }
+}
+
+// End UnionSet.java
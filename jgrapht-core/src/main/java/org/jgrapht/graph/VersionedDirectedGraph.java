@@ -0,0 +1,167 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ----------------------------
+ * VersionedDirectedGraph.java
+ * ----------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * A directed graph which hands out immutable snapshots of itself in constant
+ * time. A snapshot can be analyzed at length while this graph keeps being
+ * modified; see {@link AbstractVersionedGraph} for details.
+ *
+ * <p>By default the graph behaves like {@link DefaultDirectedGraph}: multiple
+ * edges between any two vertices are <i>not</i> permitted, but loops
+ * are.</p>
+ *
+ * @see AbstractVersionedGraph
+ */
+public class VersionedDirectedGraph<V, E>
+    extends AbstractVersionedGraph<V, E>
+    implements DirectedGraph<V, E>
+{
+    private static final long serialVersionUID = -8214364307150938261L;
+
+    /**
+     * Creates a new directed graph.
+     *
+     * @param edgeClass class on which to base factory for edges
+     */
+    public VersionedDirectedGraph(Class<? extends E> edgeClass)
+    {
+        this(new ClassBasedEdgeFactory<>(edgeClass));
+    }
+
+    /**
+     * Creates a new directed graph with the specified edge factory.
+     *
+     * @param ef the edge factory of the new graph.
+     */
+    public VersionedDirectedGraph(EdgeFactory<V, E> ef)
+    {
+        this(ef, false, true);
+    }
+
+    /**
+     * Creates a new directed graph with the specified edge factory and
+     * restrictions.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     */
+    public VersionedDirectedGraph(
+        EdgeFactory<V, E> ef,
+        boolean allowMultipleEdges,
+        boolean allowLoops)
+    {
+        super(ef, allowMultipleEdges, allowLoops);
+    }
+
+    private VersionedDirectedGraph(VersionedDirectedGraph<V, E> g)
+    {
+        super(g);
+    }
+
+    /**
+     * Returns an immutable snapshot of the current version of this graph.
+     * Taking a snapshot does not copy any part of the graph.
+     *
+     * @return a read-only view of the current version of this graph
+     */
+    public VersionedDirectedGraph<V, E> snapshot()
+    {
+        return isSnapshot() ? this : new VersionedDirectedGraph<>(this);
+    }
+
+    /**
+     * @see Graph#edgesOf(Object)
+     */
+    @Override public Set<E> edgesOf(V vertex)
+    {
+        Incidences<E> incidences = getIncidences(vertex);
+        ArrayUnenforcedSet<E> inAndOut =
+            new ArrayUnenforcedSet<>(incidences.outgoing.keySet());
+        for (Iterator<E> it = incidences.incoming.keyIterator();
+            it.hasNext();)
+        {
+            E e = it.next();
+
+            // self-loops are already among the outgoing edges
+            if (!incidences.outgoing.containsKey(e)) {
+                inAndOut.add(e);
+            }
+        }
+        return Collections.unmodifiableSet(inAndOut);
+    }
+
+    /**
+     * @see DirectedGraph#inDegreeOf(Object)
+     */
+    @Override public int inDegreeOf(V vertex)
+    {
+        return getIncidences(vertex).incoming.size();
+    }
+
+    /**
+     * @see DirectedGraph#incomingEdgesOf(Object)
+     */
+    @Override public Set<E> incomingEdgesOf(V vertex)
+    {
+        return getIncidences(vertex).incoming.keySet();
+    }
+
+    /**
+     * @see DirectedGraph#outDegreeOf(Object)
+     */
+    @Override public int outDegreeOf(V vertex)
+    {
+        return getIncidences(vertex).outgoing.size();
+    }
+
+    /**
+     * @see DirectedGraph#outgoingEdgesOf(Object)
+     */
+    @Override public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return getIncidences(vertex).outgoing.keySet();
+    }
+}
+
+// End VersionedDirectedGraph.java
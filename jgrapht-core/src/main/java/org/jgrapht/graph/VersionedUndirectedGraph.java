@@ -0,0 +1,128 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ------------------------------
+ * VersionedUndirectedGraph.java
+ * ------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+
+
+/**
+ * An undirected graph which hands out immutable snapshots of itself in
+ * constant time. A snapshot can be analyzed at length while this graph keeps
+ * being modified; see {@link AbstractVersionedGraph} for details.
+ *
+ * <p>By default the graph is simple: neither multiple edges between any two
+ * vertices nor loops are permitted.</p>
+ *
+ * @see AbstractVersionedGraph
+ */
+public class VersionedUndirectedGraph<V, E>
+    extends AbstractVersionedGraph<V, E>
+    implements UndirectedGraph<V, E>
+{
+    private static final long serialVersionUID = 2431575012837162943L;
+
+    /**
+     * Creates a new undirected graph.
+     *
+     * @param edgeClass class on which to base factory for edges
+     */
+    public VersionedUndirectedGraph(Class<? extends E> edgeClass)
+    {
+        this(new ClassBasedEdgeFactory<>(edgeClass));
+    }
+
+    /**
+     * Creates a new undirected graph with the specified edge factory.
+     *
+     * @param ef the edge factory of the new graph.
+     */
+    public VersionedUndirectedGraph(EdgeFactory<V, E> ef)
+    {
+        this(ef, false, false);
+    }
+
+    /**
+     * Creates a new undirected graph with the specified edge factory and
+     * restrictions.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     */
+    public VersionedUndirectedGraph(
+        EdgeFactory<V, E> ef,
+        boolean allowMultipleEdges,
+        boolean allowLoops)
+    {
+        super(ef, allowMultipleEdges, allowLoops);
+    }
+
+    private VersionedUndirectedGraph(VersionedUndirectedGraph<V, E> g)
+    {
+        super(g);
+    }
+
+    /**
+     * Returns an immutable snapshot of the current version of this graph.
+     * Taking a snapshot does not copy any part of the graph.
+     *
+     * @return a read-only view of the current version of this graph
+     */
+    public VersionedUndirectedGraph<V, E> snapshot()
+    {
+        return isSnapshot() ? this : new VersionedUndirectedGraph<>(this);
+    }
+
+    /**
+     * @see UndirectedGraph#degreeOf(Object)
+     */
+    @Override public int degreeOf(V vertex)
+    {
+        return undirectedDegreeOf(vertex);
+    }
+
+    /**
+     * @see Graph#edgesOf(Object)
+     */
+    @Override public Set<E> edgesOf(V vertex)
+    {
+        return getIncidences(vertex).outgoing.keySet();
+    }
+}
+
+// End VersionedUndirectedGraph.java
@@ -0,0 +1,125 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------
+ * AttributeColumn.java
+ * ---------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph.attributes;
+
+import java.util.function.*;
+
+
+/**
+ * A column of attribute values, one per vertex or per edge of an {@link
+ * org.jgrapht.IndexedGraph}. Values are stored in arrays indexed by the
+ * element indices of the graph, so reading or writing a value costs one
+ * index lookup and one array access instead of a hash map entry per element.
+ *
+ * <p>A column grows on demand as the index bound of its graph grows. Values
+ * are not cleared when an element is removed from the graph; an element which
+ * is later assigned the same index sees the old value until it is
+ * overwritten.</p>
+ *
+ * @param <T> the vertex or edge type the column is keyed by
+ *
+ * @see AttributeStore
+ */
+public abstract class AttributeColumn<T>
+{
+    private final String name;
+    private final ToIntFunction<? super T> indexer;
+    private final IntSupplier indexBound;
+
+    AttributeColumn(
+        String name,
+        ToIntFunction<? super T> indexer,
+        IntSupplier indexBound)
+    {
+        this.name = name;
+        this.indexer = indexer;
+        this.indexBound = indexBound;
+    }
+
+    /**
+     * Returns the name under which this column is registered.
+     *
+     * @return the column name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Returns the graph index of the specified element.
+     *
+     * @param element a vertex or edge of the graph
+     *
+     * @return the index of the element
+     *
+     * @throws IllegalArgumentException if the element is not in the graph
+     */
+    public int indexOf(T element)
+    {
+        int index = indexer.applyAsInt(element);
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                "no such element in graph: " + element);
+        }
+        return index;
+    }
+
+    /**
+     * Resets the value at the specified index to the column default.
+     *
+     * @param index an element index
+     */
+    public abstract void clearAt(int index);
+
+    /**
+     * Resets every value of this column to the column default.
+     */
+    public abstract void clear();
+
+    /**
+     * Returns the capacity a column must grow to in order to hold the
+     * specified index.
+     */
+    int grownCapacity(int capacity, int index)
+    {
+        return Math.max(
+            index + 1,
+            Math.max(indexBound.getAsInt(), capacity + (capacity >> 1)));
+    }
+}
+
+// End AttributeColumn.java
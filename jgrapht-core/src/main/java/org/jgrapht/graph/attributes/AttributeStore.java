@@ -0,0 +1,530 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* --------------------
+ * AttributeStore.java
+ * --------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph.attributes;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * Named vertex and edge attributes of an {@link IndexedGraph}, kept in
+ * columns of primitive or object values indexed by the graph's vertex and
+ * edge indices. This replaces per-element side tables such as a <code>
+ * HashMap&lt;E, Double&gt;</code> with one array per attribute, and lets
+ * several attributes (capacities, costs, timestamps, labels) be attached to
+ * a graph without subclassing its vertex or edge classes.
+ *
+ * <p>Columns are created on first request and are shared afterwards; asking
+ * for an existing name with a different column type fails. A <code>
+ * double</code> edge column can serve as the weight function of any weighted
+ * algorithm through {@link ColumnWeightedGraph}.</p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class AttributeStore<V, E>
+{
+    private final IndexedGraph<V, E> graph;
+    private final Map<String, AttributeColumn<V>> vertexColumns;
+    private final Map<String, AttributeColumn<E>> edgeColumns;
+
+    /**
+     * Creates an empty attribute store for the specified graph.
+     *
+     * @param graph the graph whose elements the attributes belong to
+     */
+    public AttributeStore(IndexedGraph<V, E> graph)
+    {
+        this.graph = Objects.requireNonNull(graph, "graph must not be null");
+        this.vertexColumns = new LinkedHashMap<>();
+        this.edgeColumns = new LinkedHashMap<>();
+    }
+
+    /**
+     * Returns the graph whose elements the attributes belong to.
+     *
+     * @return the graph
+     */
+    public IndexedGraph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Returns the <code>double</code> vertex column with the specified name,
+     * creating it with a default value of <code>0.0</code> if it does not
+     * exist yet.
+     *
+     * @param name the column name
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a vertex column of another type is
+     * registered under the name
+     */
+    public DoubleColumn<V> doubleVertexColumn(String name)
+    {
+        return doubleVertexColumn(name, 0.0);
+    }
+
+    /**
+     * Returns the <code>double</code> vertex column with the specified name,
+     * creating it with the specified default value if it does not exist yet.
+     *
+     * @param name the column name
+     * @param defaultValue the value of vertexs which have none set; ignored
+     * if the column already exists
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a vertex column of another type is
+     * registered under the name
+     */
+    public DoubleColumn<V> doubleVertexColumn(String name, double defaultValue)
+    {
+        return column(
+            vertexColumns,
+            name,
+            DoubleColumn.class,
+            () -> new DoubleColumn<>(
+                name,
+                graph::getVertexIndex,
+                graph::getVertexIndexBound,
+                defaultValue));
+    }
+
+    /**
+     * Returns the <code>long</code> vertex column with the specified name,
+     * creating it with a default value of <code>0</code> if it does not
+     * exist yet.
+     *
+     * @param name the column name
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a vertex column of another type is
+     * registered under the name
+     */
+    public LongColumn<V> longVertexColumn(String name)
+    {
+        return longVertexColumn(name, 0L);
+    }
+
+    /**
+     * Returns the <code>long</code> vertex column with the specified name,
+     * creating it with the specified default value if it does not exist yet.
+     *
+     * @param name the column name
+     * @param defaultValue the value of vertexs which have none set; ignored
+     * if the column already exists
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a vertex column of another type is
+     * registered under the name
+     */
+    public LongColumn<V> longVertexColumn(String name, long defaultValue)
+    {
+        return column(
+            vertexColumns,
+            name,
+            LongColumn.class,
+            () -> new LongColumn<>(
+                name,
+                graph::getVertexIndex,
+                graph::getVertexIndexBound,
+                defaultValue));
+    }
+
+    /**
+     * Returns the <code>int</code> vertex column with the specified name,
+     * creating it with a default value of <code>0</code> if it does not
+     * exist yet.
+     *
+     * @param name the column name
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a vertex column of another type is
+     * registered under the name
+     */
+    public IntColumn<V> intVertexColumn(String name)
+    {
+        return intVertexColumn(name, 0);
+    }
+
+    /**
+     * Returns the <code>int</code> vertex column with the specified name,
+     * creating it with the specified default value if it does not exist yet.
+     *
+     * @param name the column name
+     * @param defaultValue the value of vertexs which have none set; ignored
+     * if the column already exists
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a vertex column of another type is
+     * registered under the name
+     */
+    public IntColumn<V> intVertexColumn(String name, int defaultValue)
+    {
+        return column(
+            vertexColumns,
+            name,
+            IntColumn.class,
+            () -> new IntColumn<>(
+                name,
+                graph::getVertexIndex,
+                graph::getVertexIndexBound,
+                defaultValue));
+    }
+
+    /**
+     * Returns the <code>boolean</code> vertex column with the specified name,
+     * creating it if it does not exist yet.
+     *
+     * @param name the column name
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a vertex column of another type is
+     * registered under the name
+     */
+    public BooleanColumn<V> booleanVertexColumn(String name)
+    {
+        return column(
+            vertexColumns,
+            name,
+            BooleanColumn.class,
+            () -> new BooleanColumn<>(
+                name,
+                graph::getVertexIndex,
+                graph::getVertexIndexBound));
+    }
+
+    /**
+     * Returns the object vertex column with the specified name, creating it if
+     * it does not exist yet.
+     *
+     * @param name the column name
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a vertex column of another type is
+     * registered under the name
+     */
+    public <A> ObjectColumn<V, A> objectVertexColumn(String name)
+    {
+        return column(
+            vertexColumns,
+            name,
+            ObjectColumn.class,
+            () -> new ObjectColumn<V, A>(
+                name,
+                graph::getVertexIndex,
+                graph::getVertexIndexBound));
+    }
+
+    /**
+     * Returns the vertex column registered under the specified name.
+     *
+     * @param name the column name
+     *
+     * @return the column, or <code>null</code> if there is none
+     */
+    public AttributeColumn<V> getVertexColumn(String name)
+    {
+        return vertexColumns.get(name);
+    }
+
+    /**
+     * Removes the vertex column registered under the specified name.
+     *
+     * @param name the column name
+     *
+     * @return the removed column, or <code>null</code> if there was none
+     */
+    public AttributeColumn<V> removeVertexColumn(String name)
+    {
+        return vertexColumns.remove(name);
+    }
+
+    /**
+     * Returns the names of the registered vertex columns, in the order they
+     * were created.
+     *
+     * @return an unmodifiable view of the column names
+     */
+    public Set<String> getVertexColumnNames()
+    {
+        return Collections.unmodifiableSet(vertexColumns.keySet());
+    }
+
+    /**
+     * Returns the <code>double</code> edge column with the specified name,
+     * creating it with a default value of <code>0.0</code> if it does not
+     * exist yet.
+     *
+     * @param name the column name
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a edge column of another type is
+     * registered under the name
+     */
+    public DoubleColumn<E> doubleEdgeColumn(String name)
+    {
+        return doubleEdgeColumn(name, 0.0);
+    }
+
+    /**
+     * Returns the <code>double</code> edge column with the specified name,
+     * creating it with the specified default value if it does not exist yet.
+     *
+     * @param name the column name
+     * @param defaultValue the value of edges which have none set; ignored
+     * if the column already exists
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a edge column of another type is
+     * registered under the name
+     */
+    public DoubleColumn<E> doubleEdgeColumn(String name, double defaultValue)
+    {
+        return column(
+            edgeColumns,
+            name,
+            DoubleColumn.class,
+            () -> new DoubleColumn<>(
+                name,
+                graph::getEdgeIndex,
+                graph::getEdgeIndexBound,
+                defaultValue));
+    }
+
+    /**
+     * Returns the <code>long</code> edge column with the specified name,
+     * creating it with a default value of <code>0</code> if it does not
+     * exist yet.
+     *
+     * @param name the column name
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a edge column of another type is
+     * registered under the name
+     */
+    public LongColumn<E> longEdgeColumn(String name)
+    {
+        return longEdgeColumn(name, 0L);
+    }
+
+    /**
+     * Returns the <code>long</code> edge column with the specified name,
+     * creating it with the specified default value if it does not exist yet.
+     *
+     * @param name the column name
+     * @param defaultValue the value of edges which have none set; ignored
+     * if the column already exists
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a edge column of another type is
+     * registered under the name
+     */
+    public LongColumn<E> longEdgeColumn(String name, long defaultValue)
+    {
+        return column(
+            edgeColumns,
+            name,
+            LongColumn.class,
+            () -> new LongColumn<>(
+                name,
+                graph::getEdgeIndex,
+                graph::getEdgeIndexBound,
+                defaultValue));
+    }
+
+    /**
+     * Returns the <code>int</code> edge column with the specified name,
+     * creating it with a default value of <code>0</code> if it does not
+     * exist yet.
+     *
+     * @param name the column name
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a edge column of another type is
+     * registered under the name
+     */
+    public IntColumn<E> intEdgeColumn(String name)
+    {
+        return intEdgeColumn(name, 0);
+    }
+
+    /**
+     * Returns the <code>int</code> edge column with the specified name,
+     * creating it with the specified default value if it does not exist yet.
+     *
+     * @param name the column name
+     * @param defaultValue the value of edges which have none set; ignored
+     * if the column already exists
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a edge column of another type is
+     * registered under the name
+     */
+    public IntColumn<E> intEdgeColumn(String name, int defaultValue)
+    {
+        return column(
+            edgeColumns,
+            name,
+            IntColumn.class,
+            () -> new IntColumn<>(
+                name,
+                graph::getEdgeIndex,
+                graph::getEdgeIndexBound,
+                defaultValue));
+    }
+
+    /**
+     * Returns the <code>boolean</code> edge column with the specified name,
+     * creating it if it does not exist yet.
+     *
+     * @param name the column name
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a edge column of another type is
+     * registered under the name
+     */
+    public BooleanColumn<E> booleanEdgeColumn(String name)
+    {
+        return column(
+            edgeColumns,
+            name,
+            BooleanColumn.class,
+            () -> new BooleanColumn<>(
+                name,
+                graph::getEdgeIndex,
+                graph::getEdgeIndexBound));
+    }
+
+    /**
+     * Returns the object edge column with the specified name, creating it if
+     * it does not exist yet.
+     *
+     * @param name the column name
+     *
+     * @return the column
+     *
+     * @throws IllegalArgumentException if a edge column of another type is
+     * registered under the name
+     */
+    public <A> ObjectColumn<E, A> objectEdgeColumn(String name)
+    {
+        return column(
+            edgeColumns,
+            name,
+            ObjectColumn.class,
+            () -> new ObjectColumn<E, A>(
+                name,
+                graph::getEdgeIndex,
+                graph::getEdgeIndexBound));
+    }
+
+    /**
+     * Returns the edge column registered under the specified name.
+     *
+     * @param name the column name
+     *
+     * @return the column, or <code>null</code> if there is none
+     */
+    public AttributeColumn<E> getEdgeColumn(String name)
+    {
+        return edgeColumns.get(name);
+    }
+
+    /**
+     * Removes the edge column registered under the specified name.
+     *
+     * @param name the column name
+     *
+     * @return the removed column, or <code>null</code> if there was none
+     */
+    public AttributeColumn<E> removeEdgeColumn(String name)
+    {
+        return edgeColumns.remove(name);
+    }
+
+    /**
+     * Returns the names of the registered edge columns, in the order they
+     * were created.
+     *
+     * @return an unmodifiable view of the column names
+     */
+    public Set<String> getEdgeColumnNames()
+    {
+        return Collections.unmodifiableSet(edgeColumns.keySet());
+    }
+
+    private static <T, C extends AttributeColumn<T>> C column(
+        Map<String, AttributeColumn<T>> columns,
+        String name,
+        Class<?> type,
+        Supplier<C> factory)
+    {
+        AttributeColumn<T> column = columns.get(name);
+        if (column == null) {
+            C created = factory.get();
+            columns.put(name, created);
+            return created;
+        }
+        if (!type.isInstance(column)) {
+            throw new IllegalArgumentException(
+                "column " + name + " is a "
+                + column.getClass().getSimpleName());
+        }
+        return TypeUtil.uncheckedCast(column, null);
+    }
+}
+
+// End AttributeStore.java
@@ -0,0 +1,130 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -------------------
+ * BooleanColumn.java
+ * -------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph.attributes;
+
+import java.util.*;
+import java.util.function.*;
+
+
+/**
+ * An attribute column of <code>boolean</code> values, stored as a bit set.
+ * Elements are <code>false</code> until set.
+ *
+ * @param <T> the vertex or edge type the column is keyed by
+ */
+public class BooleanColumn<T>
+    extends AttributeColumn<T>
+{
+    private final BitSet values;
+
+    BooleanColumn(
+        String name,
+        ToIntFunction<? super T> indexer,
+        IntSupplier indexBound)
+    {
+        super(name, indexer, indexBound);
+        this.values = new BitSet();
+    }
+
+    /**
+     * Returns the value of the specified element.
+     *
+     * @param element a vertex or edge of the graph
+     *
+     * @return the value
+     */
+    public boolean get(T element)
+    {
+        return values.get(indexOf(element));
+    }
+
+    /**
+     * Sets the value of the specified element.
+     *
+     * @param element a vertex or edge of the graph
+     * @param value the new value
+     */
+    public void set(T element, boolean value)
+    {
+        values.set(indexOf(element), value);
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index an element index
+     *
+     * @return the value
+     */
+    public boolean getAt(int index)
+    {
+        return values.get(index);
+    }
+
+    /**
+     * Sets the value at the specified index.
+     *
+     * @param index an element index
+     * @param value the new value
+     */
+    public void setAt(int index, boolean value)
+    {
+        values.set(index, value);
+    }
+
+    /**
+     * Returns a live view of the indices whose value is <code>true</code>.
+     * The bit set must not be modified.
+     *
+     * @return the set indices
+     */
+    public BitSet getIndices()
+    {
+        return values;
+    }
+
+    @Override public void clearAt(int index)
+    {
+        values.clear(index);
+    }
+
+    @Override public void clear()
+    {
+        values.clear();
+    }
+}
+
+// End BooleanColumn.java
@@ -0,0 +1,105 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------------------
+ * ColumnWeightedDirectedGraph.java
+ * ---------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph.attributes;
+
+import org.jgrapht.*;
+
+
+/**
+ * A directed view of an indexed graph whose edge weights are read from a
+ * <code>double</code> edge column.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see ColumnWeightedGraph
+ */
+public class ColumnWeightedDirectedGraph<V, E>
+    extends ColumnWeightedGraph<V, E>
+    implements DirectedGraph<V, E>
+{
+    private static final long serialVersionUID = -2978125497012163398L;
+
+    private final DirectedGraph<V, E> directed;
+
+    /**
+     * Creates a weighted view of the specified directed graph.
+     *
+     * @param g the backing graph
+     * @param weights the column holding the edge weights, keyed by the edge
+     * indices of the backing graph
+     */
+    public <G extends IndexedGraph<V, E> & DirectedGraph<V, E>>
+    ColumnWeightedDirectedGraph(G g, DoubleColumn<E> weights)
+    {
+        super(g, weights);
+        this.directed = g;
+    }
+
+    /**
+     * @see DirectedGraph#forEachIncoming(Object, IncidenceConsumer)
+     */
+    @Override public void forEachIncoming(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        DoubleColumn<E> weights = getWeights();
+        directed.forEachIncoming(
+            vertex,
+            (e, source, weight) -> consumer.accept(
+                e,
+                source,
+                weights.get(e)));
+    }
+
+    /**
+     * @see DirectedGraph#forEachOutgoing(Object, IncidenceConsumer)
+     */
+    @Override public void forEachOutgoing(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        DoubleColumn<E> weights = getWeights();
+        directed.forEachOutgoing(
+            vertex,
+            (e, target, weight) -> consumer.accept(
+                e,
+                target,
+                weights.get(e)));
+    }
+}
+
+// End ColumnWeightedDirectedGraph.java
@@ -0,0 +1,173 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -------------------------
+ * ColumnWeightedGraph.java
+ * -------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph.attributes;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+
+/**
+ * A view of an {@link IndexedGraph} whose edge weights are read from a
+ * <code>double</code> edge column. Unlike {@link AsWeightedGraph}, which
+ * looks weights up in a map, the column is an array indexed by edge index,
+ * and several views over different columns of the same {@link
+ * AttributeStore} let one algorithm run against several cost metrics
+ * without copying the graph.
+ *
+ * <p>Query and modification operations pass through to the backing graph;
+ * setting an edge weight writes to the column only.</p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class ColumnWeightedGraph<V, E>
+    extends GraphDelegator<V, E>
+    implements IndexedGraph<V, E>,
+        WeightedGraph<V, E>
+{
+    private static final long serialVersionUID = 5368915346094811245L;
+
+    private final IndexedGraph<V, E> graph;
+    private final DoubleColumn<E> weights;
+
+    /**
+     * Creates a weighted view of the specified graph.
+     *
+     * @param g the backing graph
+     * @param weights the column holding the edge weights, keyed by the edge
+     * indices of the backing graph
+     */
+    public ColumnWeightedGraph(IndexedGraph<V, E> g, DoubleColumn<E> weights)
+    {
+        super(g);
+        if (weights == null) {
+            throw new IllegalArgumentException("weights must not be null.");
+        }
+        this.graph = g;
+        this.weights = weights;
+    }
+
+    /**
+     * Returns the column holding the edge weights.
+     *
+     * @return the weight column
+     */
+    public DoubleColumn<E> getWeights()
+    {
+        return weights;
+    }
+
+    /**
+     * @see Graph#getEdgeWeight
+     */
+    @Override public double getEdgeWeight(E e)
+    {
+        return weights.get(e);
+    }
+
+    /**
+     * @see WeightedGraph#setEdgeWeight
+     */
+    @Override public void setEdgeWeight(E e, double weight)
+    {
+        weights.set(e, weight);
+    }
+
+    /**
+     * @see Graph#forEachEdgeOf(Object, IncidenceConsumer)
+     */
+    @Override public void forEachEdgeOf(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        graph.forEachEdgeOf(
+            vertex,
+            (e, opposite, weight) -> consumer.accept(
+                e,
+                opposite,
+                weights.get(e)));
+    }
+
+    /**
+     * @see IndexedGraph#getVertexIndex(Object)
+     */
+    @Override public int getVertexIndex(V vertex)
+    {
+        return graph.getVertexIndex(vertex);
+    }
+
+    /**
+     * @see IndexedGraph#getVertexAt(int)
+     */
+    @Override public V getVertexAt(int index)
+    {
+        return graph.getVertexAt(index);
+    }
+
+    /**
+     * @see IndexedGraph#getVertexIndexBound()
+     */
+    @Override public int getVertexIndexBound()
+    {
+        return graph.getVertexIndexBound();
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeIndex(Object)
+     */
+    @Override public int getEdgeIndex(E edge)
+    {
+        return graph.getEdgeIndex(edge);
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeAt(int)
+     */
+    @Override public E getEdgeAt(int index)
+    {
+        return graph.getEdgeAt(index);
+    }
+
+    /**
+     * @see IndexedGraph#getEdgeIndexBound()
+     */
+    @Override public int getEdgeIndexBound()
+    {
+        return graph.getEdgeIndexBound();
+    }
+}
+
+// End ColumnWeightedGraph.java
@@ -0,0 +1,138 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ----------------
+ * LongColumn.java
+ * ----------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph.attributes;
+
+import java.util.*;
+import java.util.function.*;
+
+
+/**
+ * An attribute column of <code>long</code> values.
+ *
+ * @param <T> the vertex or edge type the column is keyed by
+ */
+public class LongColumn<T>
+    extends AttributeColumn<T>
+{
+    private final long defaultValue;
+    private long [] values;
+
+    LongColumn(
+        String name,
+        ToIntFunction<? super T> indexer,
+        IntSupplier indexBound,
+        long defaultValue)
+    {
+        super(name, indexer, indexBound);
+        this.defaultValue = defaultValue;
+        this.values = new long[0];
+    }
+
+    /**
+     * Returns the value that elements have before one is set.
+     *
+     * @return the default value
+     */
+    public long getDefaultValue()
+    {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the value of the specified element.
+     *
+     * @param element a vertex or edge of the graph
+     *
+     * @return the value
+     */
+    public long get(T element)
+    {
+        return getAt(indexOf(element));
+    }
+
+    /**
+     * Sets the value of the specified element.
+     *
+     * @param element a vertex or edge of the graph
+     * @param value the new value
+     */
+    public void set(T element, long value)
+    {
+        setAt(indexOf(element), value);
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index an element index
+     *
+     * @return the value
+     */
+    public long getAt(int index)
+    {
+        return (index < values.length) ? values[index] : defaultValue;
+    }
+
+    /**
+     * Sets the value at the specified index.
+     *
+     * @param index an element index
+     * @param value the new value
+     */
+    public void setAt(int index, long value)
+    {
+        if (index >= values.length) {
+            int length = values.length;
+            values = Arrays.copyOf(values, grownCapacity(length, index));
+            Arrays.fill(values, length, values.length, defaultValue);
+        }
+        values[index] = value;
+    }
+
+    @Override public void clearAt(int index)
+    {
+        if (index < values.length) {
+            values[index] = defaultValue;
+        }
+    }
+
+    @Override public void clear()
+    {
+        Arrays.fill(values, defaultValue);
+    }
+}
+
+// End LongColumn.java
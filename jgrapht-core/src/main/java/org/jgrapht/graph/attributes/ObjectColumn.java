@@ -0,0 +1,132 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ------------------
+ * ObjectColumn.java
+ * ------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph.attributes;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.jgrapht.util.*;
+
+
+/**
+ * An attribute column of object values. Elements are <code>null</code> until
+ * set.
+ *
+ * @param <T> the vertex or edge type the column is keyed by
+ * @param <A> the attribute value type
+ */
+public class ObjectColumn<T, A>
+    extends AttributeColumn<T>
+{
+    private Object [] values;
+
+    ObjectColumn(
+        String name,
+        ToIntFunction<? super T> indexer,
+        IntSupplier indexBound)
+    {
+        super(name, indexer, indexBound);
+        this.values = new Object[0];
+    }
+
+    /**
+     * Returns the value of the specified element.
+     *
+     * @param element a vertex or edge of the graph
+     *
+     * @return the value, or <code>null</code> if none is set
+     */
+    public A get(T element)
+    {
+        return getAt(indexOf(element));
+    }
+
+    /**
+     * Sets the value of the specified element.
+     *
+     * @param element a vertex or edge of the graph
+     * @param value the new value
+     */
+    public void set(T element, A value)
+    {
+        setAt(indexOf(element), value);
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index an element index
+     *
+     * @return the value, or <code>null</code> if none is set
+     */
+    public A getAt(int index)
+    {
+        if (index >= values.length) {
+            return null;
+        }
+        return TypeUtil.uncheckedCast(values[index], null);
+    }
+
+    /**
+     * Sets the value at the specified index.
+     *
+     * @param index an element index
+     * @param value the new value
+     */
+    public void setAt(int index, A value)
+    {
+        if (index >= values.length) {
+            values = Arrays.copyOf(
+                values,
+                grownCapacity(values.length, index));
+        }
+        values[index] = value;
+    }
+
+    @Override public void clearAt(int index)
+    {
+        if (index < values.length) {
+            values[index] = null;
+        }
+    }
+
+    @Override public void clear()
+    {
+        Arrays.fill(values, null);
+    }
+}
+
+// End ObjectColumn.java
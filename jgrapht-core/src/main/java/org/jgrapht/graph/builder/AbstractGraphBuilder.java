@@ -36,8 +36,11 @@
  */
 package org.jgrapht.graph.builder;
 
+import java.util.*;
+
 import org.jgrapht.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.graph.specifics.*;
 
 
 /**
@@ -116,6 +119,47 @@ public abstract class AbstractGraphBuilder<V,
         return this.self();
     }
 
+    /**
+     * Adds the edges <code>(sources.get(i), targets.get(i))</code> to the graph
+     * being built. The vertices are added to the graph, if not already
+     * included. If the graph being built is an {@link AbstractBaseGraph}, the
+     * edges are added in one batch, which is much faster than adding them one
+     * by one.
+     *
+     * @param sources source vertices of the edges
+     * @param targets target vertices of the edges
+     *
+     * @return this builder object
+     *
+     * @throws IllegalArgumentException if the lists differ in size
+     *
+     * @see AbstractBaseGraph#addEdgesBulk(List, List, List, boolean)
+     */
+    public B addEdges(List<? extends V> sources, List<? extends V> targets)
+    {
+        if (sources.size() != targets.size()) {
+            throw new IllegalArgumentException("sizes of the lists differ");
+        }
+        for (V vertex : sources) {
+            this.graph.addVertex(vertex);
+        }
+        for (V vertex : targets) {
+            this.graph.addVertex(vertex);
+        }
+        if (this.graph instanceof AbstractBaseGraph<?, ?>) {
+            ((AbstractBaseGraph<V, E>) this.graph).addEdgesBulk(
+                sources,
+                targets,
+                null,
+                false);
+        } else {
+            for (int i = 0; i < sources.size(); i++) {
+                this.graph.addEdge(sources.get(i), targets.get(i));
+            }
+        }
+        return this.self();
+    }
+
     /**
      * Adds a chain of edges to the graph being built. The vertices are added to
      * the graph, if not already included.
@@ -200,6 +244,59 @@ public abstract class AbstractGraphBuilder<V,
         return this.self();
     }
 
+    /**
+     * Sets the internal adjacency layout of the graph being built. Best called
+     * before any vertex is added, as the adjacency of a non-empty graph must
+     * be rebuilt.
+     *
+     * @param specificsFactory the factory of the adjacency layout, e.g. <code>
+     * SpecificsStrategy.SORTED.factory()</code>
+     *
+     * @return this builder object
+     *
+     * @throws UnsupportedOperationException if the graph being built is not an
+     * {@link AbstractBaseGraph}.
+     *
+     * @see AbstractBaseGraph#setSpecificsFactory(SpecificsFactory)
+     */
+    public B setSpecificsFactory(SpecificsFactory<V, E> specificsFactory)
+    {
+        if (!(this.graph instanceof AbstractBaseGraph<?, ?>)) {
+            throw new UnsupportedOperationException(
+                "graph does not support specifics factories");
+        }
+        ((AbstractBaseGraph<V, E>) this.graph).setSpecificsFactory(
+            specificsFactory);
+        return this.self();
+    }
+
+    /**
+     * Sizes the graph being built for the specified number of vertices and
+     * edges, so that its internal structures need not grow while it is
+     * filled.
+     *
+     * @param vertexCount the expected number of vertices
+     * @param edgeCount the expected number of edges
+     *
+     * @return this builder object
+     *
+     * @throws UnsupportedOperationException if the graph being built is not an
+     * {@link AbstractBaseGraph}.
+     *
+     * @see AbstractBaseGraph#ensureCapacity(int, int)
+     */
+    public B ensureCapacity(int vertexCount, int edgeCount)
+    {
+        if (!(this.graph instanceof AbstractBaseGraph<?, ?>)) {
+            throw new UnsupportedOperationException(
+                "graph does not support capacity hints");
+        }
+        ((AbstractBaseGraph<?, ?>) this.graph).ensureCapacity(
+            vertexCount,
+            edgeCount);
+        return this.self();
+    }
+
     /**
      * Build the graph. Calling any method (including this method) on this
      * builder object after calling this method is undefined behaviour.
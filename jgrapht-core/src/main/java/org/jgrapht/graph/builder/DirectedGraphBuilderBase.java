@@ -64,6 +64,20 @@ public abstract class DirectedGraphBuilderBase<V,
     {
         return new UnmodifiableDirectedGraph<>(this.graph);
     }
+
+    /**
+     * Build an immutable, compressed copy of the graph. Calling any method
+     * (including this method) on this builder object after calling this method
+     * is undefined behaviour.
+     *
+     * @return the built compressed graph.
+     *
+     * @see CSRDirectedGraph
+     */
+    public CSRDirectedGraph<V, E> buildCSR()
+    {
+        return new CSRDirectedGraph<>(this.graph);
+    }
 }
 
 // End DirectedGraphBuilderBase.java
@@ -64,6 +64,20 @@ public abstract class UndirectedGraphBuilderBase<V,
     {
         return new UnmodifiableUndirectedGraph<>(this.graph);
     }
+
+    /**
+     * Build an immutable, compressed copy of the graph. Calling any method
+     * (including this method) on this builder object after calling this method
+     * is undefined behaviour.
+     *
+     * @return the built compressed graph.
+     *
+     * @see CSRUndirectedGraph
+     */
+    public CSRUndirectedGraph<V, E> buildCSR()
+    {
+        return new CSRUndirectedGraph<>(this.graph);
+    }
 }
 
 // End UndirectedGraphBuilderBase.java
@@ -37,6 +37,7 @@ package org.jgrapht.graph.specifics;
 import org.jgrapht.graph.EdgeSetFactory;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Set;
 
@@ -65,6 +66,14 @@ public class DirectedEdgeContainer<V, E>
         outgoing = edgeSetFactory.createEdgeSet(vertex);
     }
 
+    DirectedEdgeContainer(EdgeSetFactory<V, E> edgeSetFactory,
+                          V vertex,
+                          int expectedDegree)
+    {
+        incoming = edgeSetFactory.createEdgeSet(vertex, expectedDegree);
+        outgoing = edgeSetFactory.createEdgeSet(vertex, expectedDegree);
+    }
+
     /**
      * A lazy build of unmodifiable incoming edge set.
      *
@@ -132,4 +141,17 @@ public class DirectedEdgeContainer<V, E>
     {
         outgoing.remove(e);
     }
+
+    /**
+     * Releases the excess capacity of array based edge sets.
+     */
+    public void trimToSize()
+    {
+        if (incoming instanceof ArrayList<?>) {
+            ((ArrayList<?>) incoming).trimToSize();
+        }
+        if (outgoing instanceof ArrayList<?>) {
+            ((ArrayList<?>) outgoing).trimToSize();
+        }
+    }
 }
@@ -36,6 +36,7 @@ package org.jgrapht.graph.specifics;
 
 import org.jgrapht.DirectedGraph;
 import org.jgrapht.Graph;
+import org.jgrapht.IncidenceConsumer;
 import org.jgrapht.UndirectedGraph;
 import org.jgrapht.graph.AbstractBaseGraph;
 import org.jgrapht.graph.EdgeSetFactory;
@@ -64,6 +65,8 @@ public class DirectedSpecifics<V,E>
     protected AbstractBaseGraph<V,E> abstractBaseGraph;
     protected Map<V, DirectedEdgeContainer<V, E>> vertexMapDirected;
     protected EdgeSetFactory<V, E> edgeSetFactory;
+    private int vertexCapacity = 0;
+    private int expectedDegree = 0;
 
     public DirectedSpecifics(AbstractBaseGraph<V, E> abstractBaseGraph)
     {
@@ -209,6 +212,61 @@ public class DirectedSpecifics<V,E>
         return getEdgeContainer(vertex).getUnmodifiableOutgoingEdges();
     }
 
+    /**
+     * @see Graph#forEachEdgeOf(Object, IncidenceConsumer)
+     */
+    @Override public void forEachEdgeOf(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        DirectedEdgeContainer<V, E> ec = getEdgeContainer(vertex);
+        for (E e : ec.outgoing) {
+            consumer.accept(
+                e,
+                abstractBaseGraph.getEdgeTarget(e),
+                abstractBaseGraph.getEdgeWeight(e));
+        }
+
+        // self-loops were visited as outgoing edges
+        boolean loops = abstractBaseGraph.isAllowingLoops();
+        for (E e : ec.incoming) {
+            V source = abstractBaseGraph.getEdgeSource(e);
+            if (!loops || !source.equals(vertex)) {
+                consumer.accept(e, source, abstractBaseGraph.getEdgeWeight(e));
+            }
+        }
+    }
+
+    /**
+     * @see DirectedGraph#forEachIncoming(Object, IncidenceConsumer)
+     */
+    @Override public void forEachIncoming(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        for (E e : getEdgeContainer(vertex).incoming) {
+            consumer.accept(
+                e,
+                abstractBaseGraph.getEdgeSource(e),
+                abstractBaseGraph.getEdgeWeight(e));
+        }
+    }
+
+    /**
+     * @see DirectedGraph#forEachOutgoing(Object, IncidenceConsumer)
+     */
+    @Override public void forEachOutgoing(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        for (E e : getEdgeContainer(vertex).outgoing) {
+            consumer.accept(
+                e,
+                abstractBaseGraph.getEdgeTarget(e),
+                abstractBaseGraph.getEdgeWeight(e));
+        }
+    }
+
     @Override public void removeEdgeFromTouchingVertices(E e)
     {
         V source = abstractBaseGraph.getEdgeSource(e);
@@ -218,6 +276,32 @@ public class DirectedSpecifics<V,E>
         getEdgeContainer(target).removeIncomingEdge(e);
     }
 
+    @Override public void ensureCapacity(int vertexCount, int edgeCount)
+    {
+        if (vertexCount > Math.max(vertexCapacity, vertexMapDirected.size())) {
+            vertexMapDirected = resize(vertexMapDirected, vertexCount);
+            vertexCapacity = vertexCount;
+        }
+        if (vertexCount > 0) {
+            // edge sets created from now on are sized for the average degree
+            expectedDegree =
+                (int) Math.min(
+                    Integer.MAX_VALUE,
+                    (((long) edgeCount) + vertexCount - 1) / vertexCount);
+        }
+    }
+
+    @Override public void trimToSize()
+    {
+        vertexMapDirected = resize(vertexMapDirected, vertexMapDirected.size());
+        vertexCapacity = vertexMapDirected.size();
+        for (DirectedEdgeContainer<V, E> ec : vertexMapDirected.values()) {
+            if (ec != null) {
+                ec.trimToSize();
+            }
+        }
+    }
+
     /**
      * A lazy build of edge container for specified vertex.
      *
@@ -232,7 +316,12 @@ public class DirectedSpecifics<V,E>
         DirectedEdgeContainer<V, E> ec = vertexMapDirected.get(vertex);
 
         if (ec == null) {
-            ec = new DirectedEdgeContainer<>(edgeSetFactory, vertex);
+            ec = (expectedDegree > 0)
+                ? new DirectedEdgeContainer<>(
+                    edgeSetFactory,
+                    vertex,
+                    expectedDegree)
+                : new DirectedEdgeContainer<>(edgeSetFactory, vertex);
             vertexMapDirected.put(vertex, ec);
         }
 
@@ -36,8 +36,6 @@ package org.jgrapht.graph.specifics;
 
 import org.jgrapht.Graph;
 import org.jgrapht.graph.AbstractBaseGraph;
-import org.jgrapht.util.ArrayUnenforcedSet;
-import org.jgrapht.util.VertexPair;
 
 import java.io.Serializable;
 import java.util.*;
@@ -55,8 +53,8 @@ public class FastLookupDirectedSpecifics<V,E>
 {
     private static final long serialVersionUID = 4089085208843722263L;
 
-    /* Maps a pair of vertices <u,v> to a set of edges {(u,v)}. In case of a multigraph, all edges which touch both u,v are included in the set */
-    protected Map<VertexPair<V>, ArrayUnenforcedSet<E>> touchingVerticesToEdgeMap;
+    /* Indexes the edges {(u,v)} by the ordered pair of vertices <u,v>. In case of a multigraph, all edges from u to v are included */
+    private final VertexPairIndex<V, E> touchingVerticesToEdgeIndex;
 
     public FastLookupDirectedSpecifics(AbstractBaseGraph<V, E> abstractBaseGraph)
     {
@@ -66,7 +64,7 @@ public class FastLookupDirectedSpecifics<V,E>
     public FastLookupDirectedSpecifics(AbstractBaseGraph<V, E> abstractBaseGraph, Map<V, DirectedEdgeContainer<V, E>> vertexMap)
     {
         super(abstractBaseGraph, vertexMap);
-        this.touchingVerticesToEdgeMap=new HashMap<>();
+        this.touchingVerticesToEdgeIndex = new VertexPairIndex<>(true);
     }
 
 
@@ -76,8 +74,7 @@ public class FastLookupDirectedSpecifics<V,E>
     @Override public Set<E> getAllEdges(V sourceVertex, V targetVertex)
     {
         if (abstractBaseGraph.containsVertex(sourceVertex)&& abstractBaseGraph.containsVertex(targetVertex)) {
-            Set<E> edges = touchingVerticesToEdgeMap.get(new VertexPair<>(sourceVertex, targetVertex));
-            return edges == null ? Collections.emptySet() : new ArrayUnenforcedSet<>(edges);
+            return touchingVerticesToEdgeIndex.getAllEdges(sourceVertex, targetVertex);
         }else{
             return null;
         }
@@ -88,11 +85,7 @@ public class FastLookupDirectedSpecifics<V,E>
      */
     @Override public E getEdge(V sourceVertex, V targetVertex)
     {
-        List<E> edges = touchingVerticesToEdgeMap.get(new VertexPair<>(sourceVertex, targetVertex));
-        if(edges==null || edges.isEmpty())
-            return null;
-        else
-            return edges.get(0);
+        return touchingVerticesToEdgeIndex.getEdge(sourceVertex, targetVertex);
     }
 
     @Override public void addEdgeToTouchingVertices(E e)
@@ -103,13 +96,7 @@ public class FastLookupDirectedSpecifics<V,E>
         getEdgeContainer(source).addOutgoingEdge(e);
         getEdgeContainer(target).addIncomingEdge(e);
 
-        VertexPair<V> vertexPair=new VertexPair<>(source, target);
-        if(!touchingVerticesToEdgeMap.containsKey(vertexPair)) {
-            ArrayUnenforcedSet<E> edgeSet=new ArrayUnenforcedSet<>();
-            edgeSet.add(e);
-            touchingVerticesToEdgeMap.put(vertexPair, edgeSet);
-        }else
-            touchingVerticesToEdgeMap.get(vertexPair).add(e);
+        touchingVerticesToEdgeIndex.add(source, target, e);
     }
 
 
@@ -121,15 +108,23 @@ public class FastLookupDirectedSpecifics<V,E>
         getEdgeContainer(source).removeOutgoingEdge(e);
         getEdgeContainer(target).removeIncomingEdge(e);
 
-        //Remove the edge from the touchingVerticesToEdgeMap. If there are no more remaining edges for a pair
-        //of touching vertices, remove the pair from the map.
-        VertexPair<V> vertexPair=new VertexPair<>(source, target);
-        if(touchingVerticesToEdgeMap.containsKey(vertexPair)){
-            ArrayUnenforcedSet<E> edgeSet=touchingVerticesToEdgeMap.get(vertexPair);
-            edgeSet.remove(e);
-            if(edgeSet.isEmpty())
-                touchingVerticesToEdgeMap.remove(vertexPair);
-        }
+        //Remove the edge from the index. If there are no more remaining edges for a pair
+        //of touching vertices, the index drops the pair.
+        touchingVerticesToEdgeIndex.remove(source, target, e);
     }
 
+    @Override public void ensureCapacity(int vertexCount, int edgeCount)
+    {
+        super.ensureCapacity(vertexCount, edgeCount);
+
+        // there are at most as many vertex pairs as edges
+        touchingVerticesToEdgeIndex.ensureCapacity(edgeCount);
+    }
+
+    @Override public void trimToSize()
+    {
+        super.trimToSize();
+
+        touchingVerticesToEdgeIndex.trimToSize();
+    }
 }
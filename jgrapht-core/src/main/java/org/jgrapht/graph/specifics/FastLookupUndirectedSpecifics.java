@@ -36,9 +36,6 @@ package org.jgrapht.graph.specifics;
 
 import org.jgrapht.Graph;
 import org.jgrapht.graph.AbstractBaseGraph;
-import org.jgrapht.util.ArrayUnenforcedSet;
-import org.jgrapht.util.UnorderedVertexPair;
-import org.jgrapht.util.VertexPair;
 
 import java.io.Serializable;
 import java.util.*;
@@ -56,8 +53,8 @@ public class FastLookupUndirectedSpecifics<V,E>
 {
     private static final long serialVersionUID = 225772727571597846L;
 
-    /* Maps a pair of vertices <u,v> to a set of edges {(u,v)}. In case of a multigraph, all edges which touch both u,v are included in the set */
-    protected Map<VertexPair<V>, ArrayUnenforcedSet<E>> touchingVerticesToEdgeMap;
+    /* Indexes the edges {(u,v)} by the unordered pair of vertices {u,v}. In case of a multigraph, all edges which touch both u,v are included */
+    private final VertexPairIndex<V, E> touchingVerticesToEdgeIndex;
 
     public FastLookupUndirectedSpecifics(AbstractBaseGraph<V, E> abstractBaseGraph)
     {
@@ -67,7 +64,7 @@ public class FastLookupUndirectedSpecifics<V,E>
     public FastLookupUndirectedSpecifics(AbstractBaseGraph<V, E> abstractBaseGraph, Map<V, UndirectedEdgeContainer<V, E>> vertexMap)
     {
         super(abstractBaseGraph, vertexMap);
-        this.touchingVerticesToEdgeMap=new HashMap<>();
+        this.touchingVerticesToEdgeIndex = new VertexPairIndex<>(false);
     }
 
     /**
@@ -76,8 +73,7 @@ public class FastLookupUndirectedSpecifics<V,E>
     @Override public Set<E> getAllEdges(V sourceVertex, V targetVertex)
     {
         if (abstractBaseGraph.containsVertex(sourceVertex)&& abstractBaseGraph.containsVertex(targetVertex)) {
-            Set<E> edges = touchingVerticesToEdgeMap.get(new UnorderedVertexPair<>(sourceVertex, targetVertex));
-            return edges == null ? Collections.emptySet() : new ArrayUnenforcedSet<>(edges);
+            return touchingVerticesToEdgeIndex.getAllEdges(sourceVertex, targetVertex);
         }else{
             return null;
         }
@@ -88,11 +84,7 @@ public class FastLookupUndirectedSpecifics<V,E>
      */
     @Override public E getEdge(V sourceVertex, V targetVertex)
     {
-        List<E> edges = touchingVerticesToEdgeMap.get(new UnorderedVertexPair<>(sourceVertex, targetVertex));
-        if(edges==null || edges.isEmpty())
-            return null;
-        else
-            return edges.get(0);
+        return touchingVerticesToEdgeIndex.getEdge(sourceVertex, targetVertex);
     }
 
     @Override public void addEdgeToTouchingVertices(E e)
@@ -103,14 +95,8 @@ public class FastLookupUndirectedSpecifics<V,E>
         getEdgeContainer(source).addEdge(e);
 
 
-        //Add edge to touchingVerticesToEdgeMap for the UnorderedPair {u,v}
-        VertexPair<V> vertexPair=new UnorderedVertexPair<>(source, target);
-        if(!touchingVerticesToEdgeMap.containsKey(vertexPair)) {
-            ArrayUnenforcedSet<E> edgeSet=new ArrayUnenforcedSet<>();
-            edgeSet.add(e);
-            touchingVerticesToEdgeMap.put(vertexPair, edgeSet);
-        }else
-            touchingVerticesToEdgeMap.get(vertexPair).add(e);
+        //Add edge to the index for the unordered pair {u,v}
+        touchingVerticesToEdgeIndex.add(source, target, e);
 
         if (!source.equals(target)) { //If not a self loop
             getEdgeContainer(target).addEdge(e);
@@ -127,15 +113,23 @@ public class FastLookupUndirectedSpecifics<V,E>
         if (!source.equals(target))
             getEdgeContainer(target).removeEdge(e);
 
-        //Remove the edge from the touchingVerticesToEdgeMap. If there are no more remaining edges for a pair
-        //of touching vertices, remove the pair from the map.
-        VertexPair<V> vertexPair=new UnorderedVertexPair<>(source, target);
-        if(touchingVerticesToEdgeMap.containsKey(vertexPair)){
-            ArrayUnenforcedSet<E> edgeSet=touchingVerticesToEdgeMap.get(vertexPair);
-            edgeSet.remove(e);
-            if(edgeSet.isEmpty())
-                touchingVerticesToEdgeMap.remove(vertexPair);
-        }
+        //Remove the edge from the index. If there are no more remaining edges for a pair
+        //of touching vertices, the index drops the pair.
+        touchingVerticesToEdgeIndex.remove(source, target, e);
     }
 
+    @Override public void ensureCapacity(int vertexCount, int edgeCount)
+    {
+        super.ensureCapacity(vertexCount, edgeCount);
+
+        // there are at most as many vertex pairs as edges
+        touchingVerticesToEdgeIndex.ensureCapacity(edgeCount);
+    }
+
+    @Override public void trimToSize()
+    {
+        super.trimToSize();
+
+        touchingVerticesToEdgeIndex.trimToSize();
+    }
 }
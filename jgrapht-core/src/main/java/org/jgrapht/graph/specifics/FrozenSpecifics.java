@@ -0,0 +1,413 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------
+ * FrozenSpecifics.java
+ * ---------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph.specifics;
+
+import java.io.Serializable;
+import java.util.*;
+
+import org.jgrapht.DirectedGraph;
+import org.jgrapht.Graph;
+import org.jgrapht.IncidenceConsumer;
+import org.jgrapht.UndirectedGraph;
+import org.jgrapht.graph.AbstractBaseGraph;
+import org.jgrapht.util.MathUtil;
+import org.jgrapht.util.TypeUtil;
+
+/**
+ * Read-only specifics of a frozen graph (see {@link
+ * AbstractBaseGraph#freeze()}). The edges of every vertex are packed into
+ * exact-size arrays, in the order of the specifics they were copied from,
+ * and the unmodifiable views over them are created once and then reused.
+ * Degrees are array lengths, or precomputed in case of undirected graphs, and
+ * edge retrievals go through a {@link VertexPairIndex}. All modifying
+ * operations throw an <code>UnsupportedOperationException</code>.
+ *
+ * <p>Since nothing is modified after construction, a frozen graph may be read
+ * by several threads at once.</p>
+ */
+public class FrozenSpecifics<V, E>
+    extends Specifics<V, E>
+    implements Serializable
+{
+    private static final long serialVersionUID = -3871287658395471529L;
+    private static final String FROZEN = "this graph is frozen";
+    private static final String NOT_IN_DIRECTED_GRAPH =
+        "no such operation in a directed graph";
+    private static final String NOT_IN_UNDIRECTED_GRAPH =
+        "no such operation in an undirected graph";
+
+    private static final Object [] NO_EDGES = new Object[0];
+
+    private final AbstractBaseGraph<V, E> abstractBaseGraph;
+    private final boolean directed;
+    private final Map<V, FrozenVertex<E>> vertexMap;
+    private final Set<V> vertexSet;
+    private final VertexPairIndex<V, E> pairIndex;
+
+    /**
+     * Packs the adjacency held by the specified specifics.
+     *
+     * @param abstractBaseGraph the graph which is frozen
+     * @param source the specifics holding the adjacency of the graph
+     * @param ordered whether vertex iteration order is to be preserved
+     */
+    public FrozenSpecifics(
+        AbstractBaseGraph<V, E> abstractBaseGraph,
+        Specifics<V, E> source,
+        boolean ordered)
+    {
+        this.abstractBaseGraph = abstractBaseGraph;
+        this.directed = abstractBaseGraph instanceof DirectedGraph<?, ?>;
+
+        Set<V> vertices = source.getVertexSet();
+        int capacity = MathUtil.hashCapacity(vertices.size());
+        vertexMap =
+            ordered ? new LinkedHashMap<>(capacity) : new HashMap<>(capacity);
+        for (V v : vertices) {
+            FrozenVertex<E> fv;
+            if (directed) {
+                Object [] incoming = pack(source.incomingEdgesOf(v));
+                Object [] outgoing = pack(source.outgoingEdgesOf(v));
+                Object [] edges;
+                if (incoming.length == 0) {
+                    edges = outgoing;
+                } else if (outgoing.length == 0) {
+                    edges = incoming;
+                } else {
+                    edges = pack(source.edgesOf(v));
+                }
+                fv = new FrozenVertex<>(edges, incoming, outgoing, 0);
+            } else {
+                Object [] edges = pack(source.edgesOf(v));
+                fv = new FrozenVertex<>(
+                    edges,
+                    null,
+                    null,
+                    source.degreeOf(v));
+            }
+            vertexMap.put(v, fv);
+        }
+        vertexSet = Collections.unmodifiableSet(vertexMap.keySet());
+
+        pairIndex = new VertexPairIndex<>(directed);
+        pairIndex.ensureCapacity(abstractBaseGraph.edgeSet().size());
+        for (E e : abstractBaseGraph.edgeSet()) {
+            pairIndex.add(
+                abstractBaseGraph.getEdgeSource(e),
+                abstractBaseGraph.getEdgeTarget(e),
+                e);
+        }
+    }
+
+    private static Object [] pack(Set<?> edges)
+    {
+        return edges.isEmpty() ? NO_EDGES : edges.toArray();
+    }
+
+    @Override public void addVertex(V vertex)
+    {
+        throw new UnsupportedOperationException(FROZEN);
+    }
+
+    @Override public Set<V> getVertexSet()
+    {
+        return vertexSet;
+    }
+
+    /**
+     * @see Graph#getAllEdges(Object, Object)
+     */
+    @Override public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        if (vertexMap.containsKey(sourceVertex)
+            && vertexMap.containsKey(targetVertex))
+        {
+            return pairIndex.getAllEdges(sourceVertex, targetVertex);
+        }
+        return null;
+    }
+
+    /**
+     * @see Graph#getEdge(Object, Object)
+     */
+    @Override public E getEdge(V sourceVertex, V targetVertex)
+    {
+        return pairIndex.getEdge(sourceVertex, targetVertex);
+    }
+
+    @Override public void addEdgeToTouchingVertices(E e)
+    {
+        throw new UnsupportedOperationException(FROZEN);
+    }
+
+    /**
+     * @see UndirectedGraph#degreeOf(Object)
+     */
+    @Override public int degreeOf(V vertex)
+    {
+        if (directed) {
+            throw new UnsupportedOperationException(NOT_IN_DIRECTED_GRAPH);
+        }
+        return vertexMap.get(vertex).degree;
+    }
+
+    /**
+     * @see Graph#edgesOf(Object)
+     */
+    @Override public Set<E> edgesOf(V vertex)
+    {
+        return vertexMap.get(vertex).getEdgeView();
+    }
+
+    /**
+     * @see DirectedGraph#inDegreeOf(Object)
+     */
+    @Override public int inDegreeOf(V vertex)
+    {
+        return getDirectedVertex(vertex).incoming.length;
+    }
+
+    /**
+     * @see DirectedGraph#incomingEdgesOf(Object)
+     */
+    @Override public Set<E> incomingEdgesOf(V vertex)
+    {
+        return getDirectedVertex(vertex).getIncomingView();
+    }
+
+    /**
+     * @see DirectedGraph#outDegreeOf(Object)
+     */
+    @Override public int outDegreeOf(V vertex)
+    {
+        return getDirectedVertex(vertex).outgoing.length;
+    }
+
+    /**
+     * @see DirectedGraph#outgoingEdgesOf(Object)
+     */
+    @Override public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return getDirectedVertex(vertex).getOutgoingView();
+    }
+
+    /**
+     * @see Graph#forEachEdgeOf(Object, IncidenceConsumer)
+     */
+    @Override public void forEachEdgeOf(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        for (Object o : vertexMap.get(vertex).edges) {
+            E e = TypeUtil.uncheckedCast(o, null);
+            V source = abstractBaseGraph.getEdgeSource(e);
+            consumer.accept(
+                e,
+                vertex.equals(source) ? abstractBaseGraph.getEdgeTarget(e)
+                : source,
+                abstractBaseGraph.getEdgeWeight(e));
+        }
+    }
+
+    /**
+     * @see DirectedGraph#forEachIncoming(Object, IncidenceConsumer)
+     */
+    @Override public void forEachIncoming(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        for (Object o : getDirectedVertex(vertex).incoming) {
+            E e = TypeUtil.uncheckedCast(o, null);
+            consumer.accept(
+                e,
+                abstractBaseGraph.getEdgeSource(e),
+                abstractBaseGraph.getEdgeWeight(e));
+        }
+    }
+
+    /**
+     * @see DirectedGraph#forEachOutgoing(Object, IncidenceConsumer)
+     */
+    @Override public void forEachOutgoing(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        for (Object o : getDirectedVertex(vertex).outgoing) {
+            E e = TypeUtil.uncheckedCast(o, null);
+            consumer.accept(
+                e,
+                abstractBaseGraph.getEdgeTarget(e),
+                abstractBaseGraph.getEdgeWeight(e));
+        }
+    }
+
+    @Override public void removeEdgeFromTouchingVertices(E e)
+    {
+        throw new UnsupportedOperationException(FROZEN);
+    }
+
+    @Override public void ensureCapacity(int vertexCount, int edgeCount)
+    {
+        throw new UnsupportedOperationException(FROZEN);
+    }
+
+    private FrozenVertex<E> getDirectedVertex(V vertex)
+    {
+        if (!directed) {
+            throw new UnsupportedOperationException(NOT_IN_UNDIRECTED_GRAPH);
+        }
+        return vertexMap.get(vertex);
+    }
+
+    /**
+     * The packed edges of a single vertex. For directed graphs, the incoming
+     * and outgoing edges are kept as well; the array of all edges is shared
+     * with one of them if the other is empty.
+     */
+    private static class FrozenVertex<E>
+        implements Serializable
+    {
+        private static final long serialVersionUID = 2591866154434781703L;
+
+        final Object [] edges;
+        final Object [] incoming;
+        final Object [] outgoing;
+        final int degree;
+
+        // views only hold final fields, so racy initialization is safe
+        private transient Set<E> edgeView;
+        private transient Set<E> incomingView;
+        private transient Set<E> outgoingView;
+
+        FrozenVertex(
+            Object [] edges,
+            Object [] incoming,
+            Object [] outgoing,
+            int degree)
+        {
+            this.edges = edges;
+            this.incoming = incoming;
+            this.outgoing = outgoing;
+            this.degree = degree;
+        }
+
+        Set<E> getEdgeView()
+        {
+            Set<E> view = edgeView;
+            if (view == null) {
+                view = new ArraySetView<>(edges);
+                edgeView = view;
+            }
+            return view;
+        }
+
+        Set<E> getIncomingView()
+        {
+            Set<E> view = incomingView;
+            if (view == null) {
+                view = new ArraySetView<>(incoming);
+                incomingView = view;
+            }
+            return view;
+        }
+
+        Set<E> getOutgoingView()
+        {
+            Set<E> view = outgoingView;
+            if (view == null) {
+                view = new ArraySetView<>(outgoing);
+                outgoingView = view;
+            }
+            return view;
+        }
+    }
+
+    /**
+     * Unmodifiable set view of an array of distinct elements.
+     */
+    private static class ArraySetView<T>
+        extends AbstractSet<T>
+    {
+        private final Object [] elements;
+
+        ArraySetView(Object [] elements)
+        {
+            this.elements = elements;
+        }
+
+        @Override public int size()
+        {
+            return elements.length;
+        }
+
+        @Override public boolean contains(Object o)
+        {
+            for (Object element : elements) {
+                if (element.equals(o)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override public Object [] toArray()
+        {
+            return elements.clone();
+        }
+
+        @Override public Iterator<T> iterator()
+        {
+            return new Iterator<T>() {
+                private int next = 0;
+
+                @Override public boolean hasNext()
+                {
+                    return next < elements.length;
+                }
+
+                @Override public T next()
+                {
+                    if (next >= elements.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return TypeUtil.uncheckedCast(elements[next++], null);
+                }
+            };
+        }
+    }
+}
+
+// End FrozenSpecifics.java
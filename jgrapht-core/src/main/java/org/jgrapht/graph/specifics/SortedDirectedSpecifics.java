@@ -0,0 +1,137 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -----------------------------
+ * SortedDirectedSpecifics.java
+ * -----------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph.specifics;
+
+import java.io.Serializable;
+import java.util.*;
+
+import org.jgrapht.Graph;
+import org.jgrapht.graph.AbstractBaseGraph;
+import org.jgrapht.util.ArrayUnenforcedSet;
+
+/**
+ * Implementation of DirectedSpecifics which keeps the outgoing edges of every
+ * vertex ordered by the hash code of their target, and the incoming edges by
+ * the hash code of their source. Edge retrievals, e.g. getEdge(V u, V v),
+ * containsEdge(V u, V v), addEdge(V u, V v), are a binary search over the edges
+ * of u, without the extra memory of {@link FastLookupDirectedSpecifics}.
+ * Adding and removing edges costs time linear in the degree, and {@link
+ * #outgoingEdgesOf(Object)} and {@link #incomingEdgesOf(Object)} iterate in
+ * hash code order rather than insertion order.
+ *
+ * <p>The edge sets of this class are always array based; the {@link
+ * org.jgrapht.graph.EdgeSetFactory} of the graph is not used.</p>
+ */
+public class SortedDirectedSpecifics<V, E>
+    extends DirectedSpecifics<V, E>
+    implements Serializable
+{
+    private static final long serialVersionUID = -5618346932158370164L;
+
+    public SortedDirectedSpecifics(AbstractBaseGraph<V, E> abstractBaseGraph)
+    {
+        this(abstractBaseGraph, new LinkedHashMap<>());
+    }
+
+    public SortedDirectedSpecifics(
+        AbstractBaseGraph<V, E> abstractBaseGraph,
+        Map<V, DirectedEdgeContainer<V, E>> vertexMap)
+    {
+        super(abstractBaseGraph, vertexMap);
+        this.edgeSetFactory = new SortedEdgeList.ListFactory<>();
+    }
+
+    /**
+     * @see Graph#getAllEdges(Object, Object)
+     */
+    @Override public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        if (abstractBaseGraph.containsVertex(sourceVertex)
+            && abstractBaseGraph.containsVertex(targetVertex))
+        {
+            return SortedEdgeList.findAll(
+                outgoing(sourceVertex),
+                targetVertex,
+                abstractBaseGraph::getEdgeTarget);
+        }
+        return null;
+    }
+
+    /**
+     * @see Graph#getEdge(Object, Object)
+     */
+    @Override public E getEdge(V sourceVertex, V targetVertex)
+    {
+        if (abstractBaseGraph.containsVertex(sourceVertex)
+            && abstractBaseGraph.containsVertex(targetVertex))
+        {
+            return SortedEdgeList.find(
+                outgoing(sourceVertex),
+                targetVertex,
+                abstractBaseGraph::getEdgeTarget);
+        }
+        return null;
+    }
+
+    @Override public void addEdgeToTouchingVertices(E e)
+    {
+        V source = abstractBaseGraph.getEdgeSource(e);
+        V target = abstractBaseGraph.getEdgeTarget(e);
+
+        SortedEdgeList.insert(
+            outgoing(source),
+            e,
+            target,
+            abstractBaseGraph::getEdgeTarget);
+        SortedEdgeList.insert(
+            incoming(target),
+            e,
+            source,
+            abstractBaseGraph::getEdgeSource);
+    }
+
+    private ArrayUnenforcedSet<E> outgoing(V vertex)
+    {
+        return (ArrayUnenforcedSet<E>) getEdgeContainer(vertex).outgoing;
+    }
+
+    private ArrayUnenforcedSet<E> incoming(V vertex)
+    {
+        return (ArrayUnenforcedSet<E>) getEdgeContainer(vertex).incoming;
+    }
+}
+
+// End SortedDirectedSpecifics.java
@@ -0,0 +1,171 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* --------------------
+ * SortedEdgeList.java
+ * --------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph.specifics;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jgrapht.graph.EdgeSetFactory;
+import org.jgrapht.util.ArrayUnenforcedSet;
+
+/**
+ * Helpers for edge lists kept ordered by the hash code of the vertex at the
+ * opposite end of each edge. Edges with equal hash codes keep their insertion
+ * order.
+ */
+final class SortedEdgeList
+{
+    private SortedEdgeList()
+    {
+    }
+
+    /**
+     * Returns the position of the first edge whose opposite vertex has a hash
+     * code not smaller than the specified one.
+     */
+    static <V, E> int lowerBound(
+        List<E> edges,
+        int hash,
+        Function<? super E, V> opposite)
+    {
+        int lo = 0;
+        int hi = edges.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (opposite.apply(edges.get(mid)).hashCode() < hash) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Inserts an edge after all edges whose opposite vertex has a hash code not
+     * greater than the one of the specified vertex.
+     */
+    static <V, E> void insert(
+        List<E> edges,
+        E e,
+        V oppositeVertex,
+        Function<? super E, V> opposite)
+    {
+        int hash = oppositeVertex.hashCode();
+        int pos = lowerBound(edges, hash, opposite);
+        while ((pos < edges.size())
+            && (opposite.apply(edges.get(pos)).hashCode() == hash))
+        {
+            pos++;
+        }
+        edges.add(pos, e);
+    }
+
+    /**
+     * Returns the first edge leading to the specified vertex, or <code>
+     * null</code>.
+     */
+    static <V, E> E find(
+        List<E> edges,
+        V oppositeVertex,
+        Function<? super E, V> opposite)
+    {
+        int hash = oppositeVertex.hashCode();
+        for (int pos = lowerBound(edges, hash, opposite);
+            pos < edges.size();
+            pos++)
+        {
+            V v = opposite.apply(edges.get(pos));
+            if (v.hashCode() != hash) {
+                break;
+            }
+            if (v.equals(oppositeVertex)) {
+                return edges.get(pos);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns all edges leading to the specified vertex.
+     */
+    static <V, E> Set<E> findAll(
+        List<E> edges,
+        V oppositeVertex,
+        Function<? super E, V> opposite)
+    {
+        Set<E> result = new ArrayUnenforcedSet<>();
+        int hash = oppositeVertex.hashCode();
+        for (int pos = lowerBound(edges, hash, opposite);
+            pos < edges.size();
+            pos++)
+        {
+            V v = opposite.apply(edges.get(pos));
+            if (v.hashCode() != hash) {
+                break;
+            }
+            if (v.equals(oppositeVertex)) {
+                result.add(edges.get(pos));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The sorted specifics need random access to their edge sets, so they use
+     * this factory instead of the one of the graph.
+     */
+    static class ListFactory<V, E>
+        implements EdgeSetFactory<V, E>,
+            Serializable
+    {
+        private static final long serialVersionUID = 1284096134782557318L;
+
+        @Override public Set<E> createEdgeSet(V vertex)
+        {
+            return new ArrayUnenforcedSet<>(1);
+        }
+
+        @Override public Set<E> createEdgeSet(V vertex, int expectedSize)
+        {
+            return new ArrayUnenforcedSet<>(Math.max(1, expectedSize));
+        }
+    }
+}
+
+// End SortedEdgeList.java
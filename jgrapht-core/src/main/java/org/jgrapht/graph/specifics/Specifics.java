@@ -35,8 +35,14 @@
 package org.jgrapht.graph.specifics;
 
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
+import org.jgrapht.IncidenceConsumer;
+import org.jgrapht.util.MathUtil;
+
 /**
  * .
  *
@@ -134,6 +140,39 @@ public abstract class Specifics<V, E>
      */
     public abstract Set<E> outgoingEdgesOf(V vertex);
 
+    /**
+     * Calls the consumer for every edge touching the vertex, with the opposite
+     * vertex and the weight of the edge, without building an edge set.
+     *
+     * @param vertex the vertex
+     * @param consumer the consumer of the edges
+     */
+    public abstract void forEachEdgeOf(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer);
+
+    /**
+     * Calls the consumer for every edge incoming to the vertex, with its source
+     * vertex and weight.
+     *
+     * @param vertex the vertex
+     * @param consumer the consumer of the edges
+     */
+    public abstract void forEachIncoming(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer);
+
+    /**
+     * Calls the consumer for every edge outgoing from the vertex, with its
+     * target vertex and weight.
+     *
+     * @param vertex the vertex
+     * @param consumer the consumer of the edges
+     */
+    public abstract void forEachOutgoing(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer);
+
     /**
      * Removes the specified edge from the edge containers of its source and
      * target vertices.
@@ -141,4 +180,48 @@ public abstract class Specifics<V, E>
      * @param e
      */
     public abstract void removeEdgeFromTouchingVertices(E e);
+
+    /**
+     * Sizes the internal structures for the specified number of vertices and
+     * edges. The default implementation does nothing.
+     *
+     * @param vertexCount the expected number of vertices
+     * @param edgeCount the expected number of edges
+     */
+    public void ensureCapacity(int vertexCount, int edgeCount)
+    {
+    }
+
+    /**
+     * Releases the excess capacity of the internal structures, preserving
+     * iteration order. The default implementation does nothing.
+     */
+    public void trimToSize()
+    {
+    }
+
+    /**
+     * Returns a copy of a {@link HashMap} or {@link LinkedHashMap} with room
+     * for the specified number of entries, preserving its class and iteration
+     * order. Maps of other classes cannot be resized and are returned as is.
+     *
+     * @param map the map to copy
+     * @param capacity the number of entries the copy should hold without
+     * growing
+     *
+     * @return the resized copy, or the map itself
+     */
+    protected static <K, T> Map<K, T> resize(Map<K, T> map, int capacity)
+    {
+        Map<K, T> copy;
+        if (map.getClass() == LinkedHashMap.class) {
+            copy = new LinkedHashMap<>(MathUtil.hashCapacity(capacity));
+        } else if (map.getClass() == HashMap.class) {
+            copy = new HashMap<>(MathUtil.hashCapacity(capacity));
+        } else {
+            return map;
+        }
+        copy.putAll(map);
+        return copy;
+    }
 }
@@ -0,0 +1,84 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ----------------------
+ * SpecificsFactory.java
+ * ----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph.specifics;
+
+import org.jgrapht.graph.AbstractBaseGraph;
+
+/**
+ * A factory for the {@link Specifics} of a graph. This interface allows the
+ * creator of a graph to choose the adjacency layout used internally by an
+ * {@link AbstractBaseGraph}, trading memory consumption against the speed of
+ * edge retrievals such as getEdge(V u, V v), without subclassing the graph.
+ * The built-in layouts are available through {@link SpecificsStrategy}.
+ * A graph that is to be serialized needs a serializable factory, which the
+ * built-in ones are.
+ *
+ * @see AbstractBaseGraph#setSpecificsFactory(SpecificsFactory)
+ */
+public interface SpecificsFactory<V, E>
+{
+    /**
+     * Create the specifics of a directed graph.
+     *
+     * @param graph the graph the specifics are created for
+     *
+     * @return new specifics
+     */
+    Specifics<V, E> createDirectedSpecifics(AbstractBaseGraph<V, E> graph);
+
+    /**
+     * Create the specifics of an undirected graph.
+     *
+     * @param graph the graph the specifics are created for
+     *
+     * @return new specifics
+     */
+    Specifics<V, E> createUndirectedSpecifics(AbstractBaseGraph<V, E> graph);
+
+    /**
+     * Tells whether the graphs using this factory iterate over their vertices
+     * and edges in insertion order. Unordered graphs use plain hash maps,
+     * which take less memory than linked ones.
+     *
+     * @return <code>true</code> if iteration follows insertion order
+     */
+    default boolean isOrdered()
+    {
+        return true;
+    }
+}
+
+// End SpecificsFactory.java
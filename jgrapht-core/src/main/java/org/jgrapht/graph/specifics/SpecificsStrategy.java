@@ -0,0 +1,164 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -----------------------
+ * SpecificsStrategy.java
+ * -----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph.specifics;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jgrapht.graph.AbstractBaseGraph;
+
+/**
+ * The adjacency layouts shipped with JGraphT.
+ *
+ * @see SpecificsFactory
+ */
+public enum SpecificsStrategy
+{
+    /**
+     * Plain per-vertex edge lists ({@link DirectedSpecifics}, {@link
+     * UndirectedSpecifics}). Uses the least memory; edge retrievals scan the
+     * edges of the source vertex.
+     */
+    COMPACT,
+
+    /**
+     * Per-vertex edge lists plus a hash index over vertex pairs ({@link
+     * FastLookupDirectedSpecifics}, {@link FastLookupUndirectedSpecifics}).
+     * Edge retrievals take constant time at the cost of one index entry per
+     * connected vertex pair. This is the default.
+     */
+    FAST_LOOKUP,
+
+    /**
+     * Per-vertex edge lists ordered by the hash code of the opposite vertex
+     * ({@link SortedDirectedSpecifics}, {@link SortedUndirectedSpecifics}).
+     * Edge retrievals are a binary search; memory use is that of {@link
+     * #COMPACT}.
+     */
+    SORTED;
+
+    /**
+     * Returns a factory creating specifics with this layout.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     *
+     * @return the factory
+     */
+    public <V, E> SpecificsFactory<V, E> factory()
+    {
+        return new StrategyFactory<>(this, false);
+    }
+
+    /**
+     * Returns a factory creating specifics with this layout, whose vertex and
+     * edge indices are plain hash maps. Graphs using it take less memory, but
+     * iterate over their vertices and edges in no particular order.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     *
+     * @return the factory
+     *
+     * @see SpecificsFactory#isOrdered()
+     */
+    public <V, E> SpecificsFactory<V, E> unorderedFactory()
+    {
+        return new StrategyFactory<>(this, true);
+    }
+
+    private static class StrategyFactory<V, E>
+        implements SpecificsFactory<V, E>,
+            Serializable
+    {
+        private static final long serialVersionUID = -2154734417468236705L;
+
+        private final SpecificsStrategy strategy;
+        private final boolean unordered;
+
+        StrategyFactory(SpecificsStrategy strategy, boolean unordered)
+        {
+            this.strategy = strategy;
+            this.unordered = unordered;
+        }
+
+        private <K, T> Map<K, T> createVertexMap()
+        {
+            return unordered ? new HashMap<>() : new LinkedHashMap<>();
+        }
+
+        @Override public Specifics<V, E> createDirectedSpecifics(
+            AbstractBaseGraph<V, E> graph)
+        {
+            switch (strategy) {
+            case COMPACT:
+                return new DirectedSpecifics<>(graph, createVertexMap());
+            case SORTED:
+                return new SortedDirectedSpecifics<>(graph, createVertexMap());
+            default:
+                return new FastLookupDirectedSpecifics<>(
+                    graph,
+                    createVertexMap());
+            }
+        }
+
+        @Override public Specifics<V, E> createUndirectedSpecifics(
+            AbstractBaseGraph<V, E> graph)
+        {
+            switch (strategy) {
+            case COMPACT:
+                return new UndirectedSpecifics<>(graph, createVertexMap());
+            case SORTED:
+                return new SortedUndirectedSpecifics<>(
+                    graph,
+                    createVertexMap());
+            default:
+                return new FastLookupUndirectedSpecifics<>(
+                    graph,
+                    createVertexMap());
+            }
+        }
+
+        @Override public boolean isOrdered()
+        {
+            return !unordered;
+        }
+    }
+}
+
+// End SpecificsStrategy.java
@@ -37,6 +37,7 @@ package org.jgrapht.graph.specifics;
 import org.jgrapht.graph.EdgeSetFactory;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Set;
 
@@ -63,6 +64,14 @@ public class UndirectedEdgeContainer<V, E>
         vertexEdges = edgeSetFactory.createEdgeSet(vertex);
     }
 
+    UndirectedEdgeContainer(
+            EdgeSetFactory<V, E> edgeSetFactory,
+            V vertex,
+            int expectedDegree)
+    {
+        vertexEdges = edgeSetFactory.createEdgeSet(vertex, expectedDegree);
+    }
+
     /**
      * A lazy build of unmodifiable list of vertex edges
      *
@@ -105,4 +114,14 @@ public class UndirectedEdgeContainer<V, E>
     {
         vertexEdges.remove(e);
     }
+
+    /**
+     * Releases the excess capacity of an array based edge set.
+     */
+    public void trimToSize()
+    {
+        if (vertexEdges instanceof ArrayList<?>) {
+            ((ArrayList<?>) vertexEdges).trimToSize();
+        }
+    }
 }
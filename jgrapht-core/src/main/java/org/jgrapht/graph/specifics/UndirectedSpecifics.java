@@ -36,6 +36,7 @@ package org.jgrapht.graph.specifics;
 
 import org.jgrapht.DirectedGraph;
 import org.jgrapht.Graph;
+import org.jgrapht.IncidenceConsumer;
 import org.jgrapht.graph.AbstractBaseGraph;
 import org.jgrapht.graph.EdgeSetFactory;
 import org.jgrapht.util.ArrayUnenforcedSet;
@@ -65,6 +66,8 @@ public class UndirectedSpecifics<V,E>
     protected AbstractBaseGraph<V,E> abstractBaseGraph;
     protected Map<V, UndirectedEdgeContainer<V, E>> vertexMapUndirected;
     protected EdgeSetFactory<V, E> edgeSetFactory;
+    private int vertexCapacity = 0;
+    private int expectedDegree = 0;
 
     public UndirectedSpecifics(AbstractBaseGraph<V,E> abstractBaseGraph)
     {
@@ -231,6 +234,43 @@ public class UndirectedSpecifics<V,E>
         throw new UnsupportedOperationException(NOT_IN_UNDIRECTED_GRAPH);
     }
 
+    /**
+     * @see Graph#forEachEdgeOf(Object, IncidenceConsumer)
+     */
+    @Override public void forEachEdgeOf(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        for (E e : getEdgeContainer(vertex).vertexEdges) {
+            V source = abstractBaseGraph.getEdgeSource(e);
+            consumer.accept(
+                e,
+                vertex.equals(source) ? abstractBaseGraph.getEdgeTarget(e)
+                : source,
+                abstractBaseGraph.getEdgeWeight(e));
+        }
+    }
+
+    /**
+     * @see DirectedGraph#forEachIncoming(Object, IncidenceConsumer)
+     */
+    @Override public void forEachIncoming(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        throw new UnsupportedOperationException(NOT_IN_UNDIRECTED_GRAPH);
+    }
+
+    /**
+     * @see DirectedGraph#forEachOutgoing(Object, IncidenceConsumer)
+     */
+    @Override public void forEachOutgoing(
+        V vertex,
+        IncidenceConsumer<? super V, ? super E> consumer)
+    {
+        throw new UnsupportedOperationException(NOT_IN_UNDIRECTED_GRAPH);
+    }
+
     @Override public void removeEdgeFromTouchingVertices(E e)
     {
         V source = abstractBaseGraph.getEdgeSource(e);
@@ -243,6 +283,32 @@ public class UndirectedSpecifics<V,E>
         }
     }
 
+    @Override public void ensureCapacity(int vertexCount, int edgeCount)
+    {
+        if (vertexCount > Math.max(vertexCapacity, vertexMapUndirected.size())) {
+            vertexMapUndirected = resize(vertexMapUndirected, vertexCount);
+            vertexCapacity = vertexCount;
+        }
+        if (vertexCount > 0) {
+            // edge sets created from now on are sized for the average degree
+            expectedDegree =
+                (int) Math.min(
+                    Integer.MAX_VALUE,
+                    ((2L * edgeCount) + vertexCount - 1) / vertexCount);
+        }
+    }
+
+    @Override public void trimToSize()
+    {
+        vertexMapUndirected = resize(vertexMapUndirected, vertexMapUndirected.size());
+        vertexCapacity = vertexMapUndirected.size();
+        for (UndirectedEdgeContainer<V, E> ec : vertexMapUndirected.values()) {
+            if (ec != null) {
+                ec.trimToSize();
+            }
+        }
+    }
+
     /**
      * A lazy build of edge container for specified vertex.
      *
@@ -257,9 +323,12 @@ public class UndirectedSpecifics<V,E>
         UndirectedEdgeContainer<V, E> ec = vertexMapUndirected.get(vertex);
 
         if (ec == null) {
-            ec = new UndirectedEdgeContainer<>(
+            ec = (expectedDegree > 0)
+                ? new UndirectedEdgeContainer<>(
                     edgeSetFactory,
-                    vertex);
+                    vertex,
+                    expectedDegree)
+                : new UndirectedEdgeContainer<>(edgeSetFactory, vertex);
             vertexMapUndirected.put(vertex, ec);
         }
 
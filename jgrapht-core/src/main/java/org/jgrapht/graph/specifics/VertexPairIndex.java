@@ -0,0 +1,407 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------
+ * VertexPairIndex.java
+ * ---------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph.specifics;
+
+import java.io.*;
+import java.util.*;
+
+import org.jgrapht.util.*;
+
+
+/**
+ * An index from pairs of vertices to the edges connecting them, used by the
+ * fast lookup specifics. Unlike a map keyed by {@link VertexPair}, lookups do
+ * not allocate: the table is an open-addressing hash table with linear
+ * probing which stores both vertices of a pair inline. The single edge of a
+ * pair, the common case, is stored inline as well; only pairs connected by
+ * several edges get an edge list.
+ *
+ * <p>For undirected graphs the pairs are unordered: the index finds an edge
+ * added for <code>(u, v)</code> when asked for <code>(v, u)</code>.</p>
+ *
+ * @see FastLookupDirectedSpecifics
+ * @see FastLookupUndirectedSpecifics
+ */
+public class VertexPairIndex<V, E>
+    implements Serializable
+{
+    private static final long serialVersionUID = -1047352870293717463L;
+
+    /**
+     * Slots per entry: first vertex, second vertex, edge or edge list.
+     */
+    private static final int STRIDE = 3;
+
+    private static final int MIN_CAPACITY = 8;
+
+    /**
+     * The largest capacity, keeping the length of the table below <code>
+     * Integer.MAX_VALUE</code>.
+     */
+    private static final int MAX_CAPACITY = 1 << 29;
+
+    private final boolean directed;
+
+    /**
+     * The table. Its capacity, a power of two, is kept at least twice the
+     * number of entries so that probe sequences stay short.
+     */
+    private transient Object [] table;
+    private transient int size;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param directed whether the pairs are ordered
+     */
+    public VertexPairIndex(boolean directed)
+    {
+        this.directed = directed;
+        this.table = new Object[MIN_CAPACITY * STRIDE];
+    }
+
+    /**
+     * Returns the number of connected vertex pairs.
+     *
+     * @return the number of pairs in the index
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns an edge connecting the two vertices, or <code>null</code> if
+     * there is none.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     *
+     * @return an edge connecting the vertices
+     */
+    public E getEdge(Object u, Object v)
+    {
+        int i = find(u, v);
+        if (i < 0) {
+            return null;
+        }
+        Object edges = table[i + 2];
+        if (edges instanceof EdgeList<?>) {
+            return TypeUtil.uncheckedCast(((EdgeList<?>) edges).get(0), null);
+        }
+        return TypeUtil.uncheckedCast(edges, null);
+    }
+
+    /**
+     * Returns a new set of all edges connecting the two vertices.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     *
+     * @return the edges connecting the vertices, possibly empty
+     */
+    public Set<E> getAllEdges(Object u, Object v)
+    {
+        int i = find(u, v);
+        if (i < 0) {
+            return Collections.emptySet();
+        }
+        Object edges = table[i + 2];
+        if (edges instanceof EdgeList<?>) {
+            EdgeList<E> list = TypeUtil.uncheckedCast(edges, null);
+            return new ArrayUnenforcedSet<>(list);
+        }
+        ArrayUnenforcedSet<E> single = new ArrayUnenforcedSet<>(1);
+        single.add(TypeUtil.uncheckedCast(edges, null));
+        return single;
+    }
+
+    /**
+     * Adds an edge connecting the two vertices.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @param e the edge
+     *
+     * @throws IllegalStateException if the pair is new and the table has
+     * reached its largest capacity
+     */
+    public void add(V u, V v, E e)
+    {
+        int i = find(u, v);
+        if (i >= 0) {
+            Object edges = table[i + 2];
+            EdgeList<E> list;
+            if (edges instanceof EdgeList<?>) {
+                list = TypeUtil.uncheckedCast(edges, null);
+            } else {
+                list = new EdgeList<>();
+                list.add(TypeUtil.uncheckedCast(edges, null));
+                table[i + 2] = list;
+            }
+            list.add(e);
+            return;
+        }
+
+        int capacity = table.length / STRIDE;
+        if ((2L * (size + 1)) > capacity) {
+            if (capacity == MAX_CAPACITY) {
+                throw new IllegalStateException(
+                    "too many connected vertex pairs: " + (size + 1));
+            }
+            rehash(capacityFor(size + 1));
+        }
+        insert(u, v, e);
+        size++;
+    }
+
+    /**
+     * Removes an edge connecting the two vertices.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @param e the edge
+     */
+    public void remove(Object u, Object v, E e)
+    {
+        int i = find(u, v);
+        if (i < 0) {
+            return;
+        }
+        Object edges = table[i + 2];
+        if (edges instanceof EdgeList<?>) {
+            EdgeList<?> list = (EdgeList<?>) edges;
+            list.remove(e);
+            if (list.size() == 1) {
+                table[i + 2] = list.get(0);
+            }
+            return;
+        }
+        if (!edges.equals(e)) {
+            return;
+        }
+        delete(i);
+        size--;
+    }
+
+    /**
+     * Sizes the table for the specified number of connected vertex pairs.
+     *
+     * @param pairs the expected number of pairs
+     */
+    public void ensureCapacity(int pairs)
+    {
+        int capacity = capacityFor(pairs);
+        if (capacity > (table.length / STRIDE)) {
+            rehash(capacity);
+        }
+    }
+
+    /**
+     * Shrinks the table to the smallest capacity holding its pairs, and trims
+     * the edge lists of multiple edges.
+     */
+    public void trimToSize()
+    {
+        int capacity = capacityFor(size);
+        if (capacity < (table.length / STRIDE)) {
+            rehash(capacity);
+        }
+        for (int i = 2; i < table.length; i += STRIDE) {
+            if (table[i] instanceof EdgeList<?>) {
+                ((EdgeList<?>) table[i]).trimToSize();
+            }
+        }
+    }
+
+    private static int capacityFor(int pairs)
+    {
+        int capacity = MIN_CAPACITY;
+        while ((capacity < (2L * pairs)) && (capacity < MAX_CAPACITY)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private int hash(Object u, Object v)
+    {
+        int a = u.hashCode();
+        int b = v.hashCode();
+        int h;
+        if (directed || (a <= b)) {
+            h = (a * 31) + b;
+        } else {
+            h = (b * 31) + a;
+        }
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private boolean matches(int i, Object u, Object v)
+    {
+        Object first = table[i];
+        Object second = table[i + 1];
+        if (u.equals(first) && v.equals(second)) {
+            return true;
+        }
+        return !directed && u.equals(second) && v.equals(first);
+    }
+
+    /**
+     * Returns the table index of the entry of the pair, or -1.
+     */
+    private int find(Object u, Object v)
+    {
+        if ((u == null) || (v == null)) {
+            return -1;
+        }
+        int mask = (table.length / STRIDE) - 1;
+        int slot = hash(u, v) & mask;
+        for (;;) {
+            int i = slot * STRIDE;
+            if (table[i] == null) {
+                return -1;
+            }
+            if (matches(i, u, v)) {
+                return i;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insert(Object u, Object v, Object edges)
+    {
+        int mask = (table.length / STRIDE) - 1;
+        int slot = hash(u, v) & mask;
+        while (table[slot * STRIDE] != null) {
+            slot = (slot + 1) & mask;
+        }
+        int i = slot * STRIDE;
+        table[i] = u;
+        table[i + 1] = v;
+        table[i + 2] = edges;
+    }
+
+    /**
+     * Empties the entry at the table index, shifting back the entries of the
+     * probe sequence behind it so that no tombstone is needed.
+     */
+    private void delete(int i)
+    {
+        int mask = (table.length / STRIDE) - 1;
+        int hole = i / STRIDE;
+        int slot = hole;
+        for (;;) {
+            slot = (slot + 1) & mask;
+            int j = slot * STRIDE;
+            if (table[j] == null) {
+                break;
+            }
+            int home = hash(table[j], table[j + 1]) & mask;
+
+            // move the entry into the hole unless its home lies cyclically
+            // after the hole and not after the entry
+            boolean movable =
+                (hole <= slot) ? ((home <= hole) || (home > slot))
+                : ((home <= hole) && (home > slot));
+            if (movable) {
+                int h = hole * STRIDE;
+                table[h] = table[j];
+                table[h + 1] = table[j + 1];
+                table[h + 2] = table[j + 2];
+                hole = slot;
+            }
+        }
+        int h = hole * STRIDE;
+        table[h] = null;
+        table[h + 1] = null;
+        table[h + 2] = null;
+    }
+
+    private void rehash(int capacity)
+    {
+        Object [] old = table;
+        table = new Object[capacity * STRIDE];
+        for (int i = 0; i < old.length; i += STRIDE) {
+            if (old[i] != null) {
+                insert(old[i], old[i + 1], old[i + 2]);
+            }
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out)
+        throws IOException
+    {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < table.length; i += STRIDE) {
+            if (table[i] != null) {
+                out.writeObject(table[i]);
+                out.writeObject(table[i + 1]);
+                out.writeObject(table[i + 2]);
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in)
+        throws IOException, ClassNotFoundException
+    {
+        // hash codes may differ between virtual machines, so rehash
+        in.defaultReadObject();
+        int n = in.readInt();
+        table = new Object[capacityFor(n) * STRIDE];
+        for (int k = 0; k < n; k++) {
+            insert(in.readObject(), in.readObject(), in.readObject());
+        }
+        size = n;
+    }
+
+    /**
+     * The edges of a pair connected by more than one edge.
+     */
+    private static class EdgeList<E>
+        extends ArrayUnenforcedSet<E>
+    {
+        private static final long serialVersionUID = 2816104757395413782L;
+
+        EdgeList()
+        {
+            super(2);
+        }
+    }
+}
+
+// End VertexPairIndex.java
@@ -43,6 +43,7 @@ import java.util.*;
 
 import org.jgrapht.DirectedGraph;
 import org.jgrapht.Graph;
+import org.jgrapht.IncidenceConsumer;
 import org.jgrapht.event.*;
 
 
@@ -310,6 +311,19 @@ public abstract class AbstractGraphIterator<V, E>
          * undirected graph.
          */
         public abstract Set<? extends EE> edgesOf(VV vertex);
+
+        /**
+         * Calls the consumer for the edges outgoing from the specified vertex
+         * in case of directed graph, and for the edges touching the specified
+         * vertex in case of undirected graph, with the opposite vertex and the
+         * weight of each edge.
+         *
+         * @param vertex the vertex whose outgoing edges are to be visited.
+         * @param consumer the consumer of the edges.
+         */
+        public abstract void forEachEdgeOf(
+            VV vertex,
+            IncidenceConsumer<? super VV, ? super EE> consumer);
     }
 
     /**
@@ -337,6 +351,17 @@ public abstract class AbstractGraphIterator<V, E>
         {
             return graph.outgoingEdgesOf(vertex);
         }
+
+        /**
+         * @see CrossComponentIterator.Specifics#forEachEdgeOf(Object,
+         * IncidenceConsumer)
+         */
+        @Override public void forEachEdgeOf(
+            VV vertex,
+            IncidenceConsumer<? super VV, ? super EE> consumer)
+        {
+            graph.forEachOutgoing(vertex, consumer);
+        }
     }
 
     /**
@@ -365,6 +390,17 @@ public abstract class AbstractGraphIterator<V, E>
         {
             return graph.edgesOf(vertex);
         }
+
+        /**
+         * @see CrossComponentIterator.Specifics#forEachEdgeOf(Object,
+         * IncidenceConsumer)
+         */
+        @Override public void forEachEdgeOf(
+            VV vertex,
+            IncidenceConsumer<? super VV, ? super EE> consumer)
+        {
+            graph.forEachEdgeOf(vertex, consumer);
+        }
     }
 }
 
@@ -243,9 +243,9 @@ public class ClosestFirstIterator<V, E>
         return node.getData().vertex;
     }
 
-    private void assertNonNegativeEdge(E edge)
+    private void assertNonNegativeWeight(double weight)
     {
-        if (getGraph().getEdgeWeight(edge) < 0) {
+        if (weight < 0) {
             throw new IllegalArgumentException(
                 "negative edge weights not allowed");
         }
@@ -262,14 +262,22 @@ public class ClosestFirstIterator<V, E>
      */
     private double calculatePathLength(V vertex, E edge)
     {
-        assertNonNegativeEdge(edge);
+        V otherVertex;
+        double weight;
+        if (edge == encounterEdge) {
+            // the traversal has looked up the edge already
+            otherVertex = encounterSource;
+            weight = encounterWeight;
+        } else {
+            otherVertex = Graphs.getOppositeVertex(getGraph(), edge, vertex);
+            weight = getGraph().getEdgeWeight(edge);
+        }
+        assertNonNegativeWeight(weight);
 
-        V otherVertex = Graphs.getOppositeVertex(getGraph(), edge, vertex);
         FibonacciHeapNode<QueueEntry<V, E>> otherEntry =
             getSeenData(otherVertex);
 
-        return otherEntry.getKey()
-            + getGraph().getEdgeWeight(edge);
+        return otherEntry.getKey() + weight;
     }
 
     private void checkRadiusTraversal(boolean crossComponentTraversal)
@@ -116,6 +116,18 @@ public abstract class CrossComponentIterator<V, E, D>
      */
     private int state = CCS_BEFORE_COMPONENT;
 
+    /**
+     * The edge via which a child vertex is being encountered, together with
+     * the vertex being expanded and the weight of the edge. Valid only during
+     * the calls of {@link #encounterVertex(Object, Object)} and {@link
+     * #encounterVertexAgain(Object, Object)} for that edge.
+     */
+    E encounterEdge = null;
+    V encounterSource = null;
+    double encounterWeight;
+
+    private final IncidenceConsumer<V, E> childVisitor = this::visitChild;
+
     /**
      * Creates a new iterator for the specified graph. Iteration will start at
      * the specified start vertex. If the specified start vertex is <code>
@@ -327,18 +339,24 @@ public abstract class CrossComponentIterator<V, E, D>
 
     private void addUnseenChildrenOf(V vertex)
     {
-        for (E edge : specifics.edgesOf(vertex)) {
-            if (nListeners != 0) {
-                fireEdgeTraversed(createEdgeTraversalEvent(edge));
-            }
+        encounterSource = vertex;
+        specifics.forEachEdgeOf(vertex, childVisitor);
+        encounterEdge = null;
+        encounterSource = null;
+    }
 
-            V oppositeV = Graphs.getOppositeVertex(graph, edge, vertex);
+    private void visitChild(E edge, V oppositeV, double weight)
+    {
+        if (nListeners != 0) {
+            fireEdgeTraversed(createEdgeTraversalEvent(edge));
+        }
 
-            if (isSeenVertex(oppositeV)) {
-                encounterVertexAgain(oppositeV, edge);
-            } else {
-                encounterVertex(oppositeV, edge);
-            }
+        encounterEdge = edge;
+        encounterWeight = weight;
+        if (isSeenVertex(oppositeV)) {
+            encounterVertexAgain(oppositeV, edge);
+        } else {
+            encounterVertex(oppositeV, edge);
         }
     }
 
@@ -0,0 +1,313 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -----------------
+ * IntDaryHeap.java
+ * -----------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+
+/**
+ * An indexed d-ary min-heap of <code>int</code> elements with <code>
+ * double</code> keys. Elements are drawn from the range <code>[0,
+ * capacity)</code>, so the heap can track the position of every element in a
+ * plain array and support {@link #decreaseKey(int, double)} without node
+ * objects. Keys are stored next to the elements in heap order, which keeps
+ * the sift operations within a few cache lines; an arity of 4 is usually a
+ * good default.
+ *
+ * <p>Unlike {@link FibonacciHeap}, this heap allocates nothing after
+ * construction, and {@link #clear()} costs time proportional to the number of
+ * elements still in the heap rather than to its capacity.</p>
+ *
+ * <p><b>Note that this implementation is not synchronized.</b></p>
+ */
+public class IntDaryHeap
+{
+    private final int arity;
+    private final int [] heap;
+    private final double [] keys;
+    private final int [] positions;
+    private int size;
+
+    /**
+     * Constructs an empty heap.
+     *
+     * @param arity the number of children of each heap node, at least 2
+     * @param capacity the exclusive upper bound of the elements
+     */
+    public IntDaryHeap(int arity, int capacity)
+    {
+        if (arity < 2) {
+            throw new IllegalArgumentException("arity must be at least 2");
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.keys = new double[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Returns the exclusive upper bound of the elements of this heap.
+     *
+     * @return the capacity
+     */
+    public int capacity()
+    {
+        return heap.length;
+    }
+
+    /**
+     * Tests whether the heap is empty.
+     *
+     * @return <code>true</code> if the heap holds no elements
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return the number of elements
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Tests whether the specified element is in the heap.
+     *
+     * @param element an element
+     *
+     * @return <code>true</code> if the element is in the heap
+     */
+    public boolean contains(int element)
+    {
+        return positions[element] >= 0;
+    }
+
+    /**
+     * Returns the key of an element in the heap.
+     *
+     * @param element an element in the heap
+     *
+     * @return the key of the element
+     *
+     * @throws NoSuchElementException if the element is not in the heap
+     */
+    public double getKey(int element)
+    {
+        int pos = positions[element];
+        if (pos < 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[pos];
+    }
+
+    /**
+     * Inserts an element.
+     *
+     * @param element an element which is not in the heap
+     * @param key the key of the element
+     *
+     * @throws IllegalArgumentException if the element is already in the heap
+     */
+    public void insert(int element, double key)
+    {
+        if (positions[element] >= 0) {
+            throw new IllegalArgumentException(
+                "element already in heap: " + element);
+        }
+        siftUp(size++, element, key);
+    }
+
+    /**
+     * Lowers the key of an element in the heap.
+     *
+     * @param element an element in the heap
+     * @param key the new key, not greater than the current one
+     *
+     * @throws IllegalArgumentException if the new key is greater than the
+     * current one
+     * @throws NoSuchElementException if the element is not in the heap
+     */
+    public void decreaseKey(int element, double key)
+    {
+        int pos = positions[element];
+        if (pos < 0) {
+            throw new NoSuchElementException();
+        }
+        if (key > keys[pos]) {
+            throw new IllegalArgumentException(
+                "decreaseKey() got larger key value");
+        }
+        siftUp(pos, element, key);
+    }
+
+    /**
+     * Inserts an element, or lowers its key if it is already in the heap and
+     * the new key is smaller.
+     *
+     * @param element an element
+     * @param key the key of the element
+     *
+     * @return <code>true</code> if the heap changed
+     */
+    public boolean insertOrDecreaseKey(int element, double key)
+    {
+        int pos = positions[element];
+        if (pos < 0) {
+            siftUp(size++, element, key);
+            return true;
+        }
+        if (key < keys[pos]) {
+            siftUp(pos, element, key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the element with the smallest key without removing it.
+     *
+     * @return the minimum element
+     *
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int peekMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * Returns the smallest key in the heap.
+     *
+     * @return the minimum key
+     *
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public double getMinKey()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[0];
+    }
+
+    /**
+     * Removes the element with the smallest key.
+     *
+     * @return the removed element
+     *
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int removeMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int min = heap[0];
+        positions[min] = -1;
+        size--;
+        if (size > 0) {
+            siftDown(0, heap[size], keys[size]);
+        }
+        return min;
+    }
+
+    /**
+     * Removes all elements from the heap.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int pos, int element, double key)
+    {
+        while (pos > 0) {
+            int parent = (pos - 1) / arity;
+            if (keys[parent] <= key) {
+                break;
+            }
+            move(heap[parent], keys[parent], pos);
+            pos = parent;
+        }
+        move(element, key, pos);
+    }
+
+    private void siftDown(int pos, int element, double key)
+    {
+        while (true) {
+            int first = (pos * arity) + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int child = first;
+            double childKey = keys[first];
+            for (int c = first + 1; c < last; c++) {
+                if (keys[c] < childKey) {
+                    child = c;
+                    childKey = keys[c];
+                }
+            }
+            if (key <= childKey) {
+                break;
+            }
+            move(heap[child], childKey, pos);
+            pos = child;
+        }
+        move(element, key, pos);
+    }
+
+    private void move(int element, double key, int pos)
+    {
+        heap[pos] = element;
+        keys[pos] = key;
+        positions[element] = pos;
+    }
+}
+
+// End IntDaryHeap.java
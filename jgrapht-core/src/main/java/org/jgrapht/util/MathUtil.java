@@ -39,6 +39,7 @@ package org.jgrapht.util;
  *
  * <ol>
  * <li>factorial(int N) - caclulate the factorial of N (aka N!)</li>
+ * <li>hashCapacity(int n) - initial capacity of a hash table for n entries</li>
  * </ol>
  *
  * @author Assaf
@@ -54,6 +55,25 @@ public class MathUtil
         }
         return multi;
     }
+
+    /**
+     * Returns the initial capacity with which a {@link java.util.HashMap} or
+     * {@link java.util.HashSet} (default load factor) can hold the specified
+     * number of entries without rehashing.
+     *
+     * @param expectedSize the number of entries to be stored
+     *
+     * @return a suitable initial capacity
+     */
+    public static int hashCapacity(int expectedSize)
+    {
+        if (expectedSize < 3) {
+            return expectedSize + 1;
+        }
+        return (int) Math.min(
+            ((long) expectedSize * 4 / 3) + 1,
+            Integer.MAX_VALUE);
+    }
 }
 
 // End MathUtil.java
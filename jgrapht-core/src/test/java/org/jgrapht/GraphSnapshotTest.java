@@ -0,0 +1,131 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -----------------------
+ * GraphSnapshotTest.java
+ * -----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht;
+
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.SimpleDirectedWeightedGraph;
+import org.jgrapht.graph.SimpleGraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link GraphSnapshot}.
+ */
+public class GraphSnapshotTest
+{
+    @Test
+    public void testDirectedSnapshot()
+    {
+        SimpleDirectedWeightedGraph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("c");
+        g.setEdgeWeight(g.addEdge("a", "b"), 2.0);
+        g.setEdgeWeight(g.addEdge("a", "c"), 3.0);
+        g.setEdgeWeight(g.addEdge("c", "b"), 5.0);
+
+        GraphSnapshot<String, DefaultWeightedEdge> s = GraphSnapshot.of(g);
+        Assert.assertTrue(s.isDirected());
+        Assert.assertEquals(3, s.vertexCount());
+        Assert.assertEquals(3, s.edgeCount());
+        Assert.assertEquals(-1, s.getVertexIndex("d"));
+
+        int [] out = s.getOutOffsets();
+        for (int i = 0; i < s.vertexCount(); i++) {
+            String v = s.getVertex(i);
+            Assert.assertEquals(i, s.getVertexIndex(v));
+            Assert.assertEquals(g.outDegreeOf(v), out[i + 1] - out[i]);
+            for (int j = out[i]; j < out[i + 1]; j++) {
+                DefaultWeightedEdge e = s.getEdge(j);
+                Assert.assertEquals(i, s.getSources()[j]);
+                Assert.assertEquals(
+                    g.getEdgeTarget(e),
+                    s.getVertex(s.getTargets()[j]));
+                Assert.assertEquals(
+                    g.getEdgeWeight(e),
+                    s.getWeights()[j],
+                    0.0);
+            }
+        }
+
+        int [] in = s.getInOffsets();
+        int b = s.getVertexIndex("b");
+        Assert.assertEquals(2, in[b + 1] - in[b]);
+        for (int k = in[b]; k < in[b + 1]; k++) {
+            Assert.assertEquals(b, s.getTargets()[s.getInEdges()[k]]);
+        }
+        Assert.assertSame(in, s.getInOffsets());
+        Assert.assertSame(s.getInEdges(), s.getInEdges());
+    }
+
+    @Test
+    public void testUndirectedSnapshot()
+    {
+        SimpleGraph<Integer, DefaultEdge> g =
+            new SimpleGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 4; i++) {
+            g.addVertex(i);
+        }
+        g.addEdge(0, 1);
+        g.addEdge(2, 1);
+        g.addEdge(3, 2);
+        g.addEdge(0, 3);
+
+        GraphSnapshot<Integer, DefaultEdge> s = GraphSnapshot.of(g);
+        Assert.assertFalse(s.isDirected());
+        Assert.assertEquals(g.edgeSet().size(), s.edgeCount());
+
+        int [] out = s.getOutOffsets();
+        int [] in = s.getInOffsets();
+        for (int i = 0; i < s.vertexCount(); i++) {
+            Integer v = s.getVertex(i);
+            Assert.assertEquals(
+                g.degreeOf(v),
+                (out[i + 1] - out[i]) + (in[i + 1] - in[i]));
+        }
+        for (int j = 0; j < s.edgeCount(); j++) {
+            Assert.assertTrue(s.getSources()[j] <= s.getTargets()[j]);
+            Assert.assertTrue(
+                g.containsEdge(
+                    s.getVertex(s.getSources()[j]),
+                    s.getVertex(s.getTargets()[j])));
+        }
+    }
+}
+
+// End GraphSnapshotTest.java
@@ -0,0 +1,152 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* --------------------------------
+ * ALTAdmissibleHeuristicTest.java
+ * --------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import junit.framework.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+
+/**
+ * .
+ */
+public class ALTAdmissibleHeuristicTest
+    extends TestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    private DirectedWeightedPseudograph<Integer, DefaultWeightedEdge>
+    createRandomGraph(Random rng, int n, int m)
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < m; i++) {
+            Graphs.addEdge(g, rng.nextInt(n), rng.nextInt(n), rng.nextInt(20));
+        }
+        return g;
+    }
+
+    public void testAdmissible()
+    {
+        Random rng = new Random(3);
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            createRandomGraph(rng, 30, 90);
+        ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h =
+            new ALTAdmissibleHeuristic<>(g, 4);
+        assertEquals(4, h.getLandmarks().size());
+        assertEquals(4, new HashSet<>(h.getLandmarks()).size());
+        for (int s = 0; s < 30; s++) {
+            for (int t = 0; t < 30; t++) {
+                double d = new DijkstraShortestPath<>(g, s, t).getPathLength();
+                assertTrue(h.getCostEstimate(s, t) <= d);
+            }
+        }
+        for (Integer landmark : h.getLandmarks()) {
+            for (int t = 0; t < 30; t++) {
+                assertEquals(
+                    new DijkstraShortestPath<>(g, landmark, t).getPathLength(),
+                    h.getCostEstimate(landmark, t),
+                    1e-9);
+            }
+        }
+    }
+
+    public void testAStarWithLandmarks()
+    {
+        Random rng = new Random(11);
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            createRandomGraph(rng, 100, 400);
+        ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h =
+            new ALTAdmissibleHeuristic<>(g, Arrays.asList(0, 50, 99));
+        AStarShortestPath<Integer, DefaultWeightedEdge> alg =
+            new AStarShortestPath<>(g);
+        for (int i = 0; i < 100; i++) {
+            int s = rng.nextInt(100);
+            int t = rng.nextInt(100);
+            GraphPath<Integer, DefaultWeightedEdge> path =
+                alg.getShortestPath(s, t, h);
+            double expected =
+                new DijkstraShortestPath<>(g, s, t).getPathLength();
+            if (path == null) {
+                assertEquals(Double.POSITIVE_INFINITY, expected, 0);
+            } else {
+                assertEquals(expected, path.getWeight(), 1e-9);
+            }
+        }
+        try {
+            new ALTAdmissibleHeuristic<>(g, Arrays.asList(0, 100));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    public void testFewerExpandedNodes()
+    {
+        Random rng = new Random(19);
+        int side = 30;
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < (side * side); i++) {
+            g.addVertex(i);
+            if ((i % side) > 0) {
+                Graphs.addEdge(g, i - 1, i, 1 + rng.nextInt(5));
+            }
+            if (i >= side) {
+                Graphs.addEdge(g, i - side, i, 1 + rng.nextInt(5));
+            }
+        }
+        AStarShortestPath<Integer, DefaultWeightedEdge> alg =
+            new AStarShortestPath<>(g);
+        int s = 0;
+        int t = (side * side) - 1;
+        GraphPath<Integer, DefaultWeightedEdge> plain =
+            alg.getShortestPath(s, t, (v, target) -> 0.0);
+        int plainExpanded = alg.getNumberOfExpandedNodes();
+        GraphPath<Integer, DefaultWeightedEdge> landmarks =
+            alg.getShortestPath(s, t, new ALTAdmissibleHeuristic<>(g, 8));
+        assertEquals(plain.getWeight(), landmarks.getWeight(), 1e-9);
+        assertTrue(alg.getNumberOfExpandedNodes() < plainExpanded);
+    }
+}
+
+// End ALTAdmissibleHeuristicTest.java
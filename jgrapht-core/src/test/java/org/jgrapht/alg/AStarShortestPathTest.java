@@ -154,6 +154,25 @@ public class AStarShortestPathTest extends TestCase{
         assertNull(path);
     }
 
+    /**
+     * Test that repeated queries of different sizes on the same instance, which reuses or replaces its data
+     * structures in between, do not see the state of earlier queries.
+     */
+    public void testRepeatedQueries(){
+        this.readLabyrinth(labyrinth1);
+        AStarShortestPath<Node, DefaultWeightedEdge> aStarShortestPath= new AStarShortestPath<>(graph);
+        Node neighbor=Graphs.neighborListOf(graph, sourceNode).get(0);
+        for(int i=0; i<3; i++){
+            GraphPath<Node, DefaultWeightedEdge> path=aStarShortestPath.getShortestPath(sourceNode, targetNode, new ManhattanDistance());
+            assertEquals(47, (int)path.getWeight());
+            for(int j=0; j<5; j++){
+                path=aStarShortestPath.getShortestPath(sourceNode, neighbor, new ManhattanDistance());
+                assertEquals(1, (int)path.getWeight());
+                assertEquals(1, path.getEdgeList().size());
+            }
+        }
+    }
+
     /**
      * This test verifies whether multigraphs are processed correctly. In a multigraph, there are multiple edges between the same vertex pair.
      * Each of these edges can have a different cost. Here we create a simple multigraph A-B-C with multiple edges between (A,B) and (B,C) and
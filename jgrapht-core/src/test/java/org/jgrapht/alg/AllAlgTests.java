@@ -48,14 +48,17 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+    ALTAdmissibleHeuristicTest.class,
     AStarShortestPathTest.class,
     AllDirectedPathsTest.class,
     BellmanFordShortestPathTest.class,
     BiconnectivityInspectorTest.class,
+    BidirectionalDijkstraShortestPathTest.class,
     BlockCutpointGraphTest.class,
     BronKerboschCliqueFinderTest.class,
     ChromaticNumberTest.class,
     ConnectivityInspectorTest.class,
+    ContractionHierarchyTest.class,
     CycleDetectorTest.class,
     DijkstraShortestPathTest.class,
     EdmondsBlossomShrinkingTest.class,
@@ -65,6 +68,7 @@ import org.junit.runners.Suite;
     FloydWarshallShortestPathsTest.class,
     HamiltonianCycleTest.class,
     HopcroftKarpBipartiteMatchingTest.class,
+    IndexedDijkstraShortestPathTest.class,
     KShortestPathCostTest.class,
     KShortestPathKValuesTest.class,
     KSPDiscardsValidPathsTest.class,
@@ -74,6 +78,7 @@ import org.junit.runners.Suite;
     MinSourceSinkCutTest.class,
     NaiveLcaFinderTest.class,
     NeighborIndexTest.class,
+    ShortestPathWorkspaceTest.class,
     StoerWagnerMinimumCutTest.class,
     StrongConnectivityAlgorithmTest.class,
     TarjanLowestCommonAncestorTest.class,
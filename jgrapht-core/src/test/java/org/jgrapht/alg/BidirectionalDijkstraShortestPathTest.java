@@ -0,0 +1,149 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -------------------------------------------
+ * BidirectionalDijkstraShortestPathTest.java
+ * -------------------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+
+/**
+ * .
+ */
+public class BidirectionalDijkstraShortestPathTest
+    extends ShortestPathTestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    public void testPathEnds()
+    {
+        Graph<String, DefaultWeightedEdge> g = create();
+        BidirectionalDijkstraShortestPath<String, DefaultWeightedEdge> alg =
+            new BidirectionalDijkstraShortestPath<>(g);
+        GraphPath<String, DefaultWeightedEdge> path = alg.getPath(V3, V5);
+        assertEquals(15.0, path.getWeight(), 0);
+        assertEquals(V3, path.getStartVertex());
+        assertEquals(V5, path.getEndVertex());
+        assertEquals(
+            Arrays.asList(e13, e12, e24, e45),
+            path.getEdgeList());
+        assertEquals(0.0, alg.getPathLength(V2, V2), 0);
+
+        g.addVertex("v6");
+        alg = new BidirectionalDijkstraShortestPath<>(g);
+        assertNull(alg.getPath(V1, "v6"));
+    }
+
+    public void testAgreesWithDijkstra()
+    {
+        Random rng = new Random(23);
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < 60; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < 240; i++) {
+            Graphs.addEdge(
+                g,
+                rng.nextInt(60),
+                rng.nextInt(60),
+                rng.nextInt(20));
+        }
+        BidirectionalDijkstraShortestPath<Integer, DefaultWeightedEdge> alg =
+            new BidirectionalDijkstraShortestPath<>(g);
+        for (int i = 0; i < 200; i++) {
+            int s = rng.nextInt(60);
+            int t = rng.nextInt(60);
+            GraphPath<Integer, DefaultWeightedEdge> path = alg.getPath(s, t);
+            double expected =
+                new DijkstraShortestPath<>(g, s, t).getPathLength();
+            if (path == null) {
+                assertEquals(Double.POSITIVE_INFINITY, expected, 0);
+                continue;
+            }
+            assertEquals(expected, path.getWeight(), 1e-9);
+            double sum = 0;
+            Integer v = s;
+            for (DefaultWeightedEdge e : path.getEdgeList()) {
+                assertEquals(v, g.getEdgeSource(e));
+                v = g.getEdgeTarget(e);
+                sum += g.getEdgeWeight(e);
+            }
+            assertEquals(Integer.valueOf(t), v);
+            assertEquals(expected, sum, 1e-9);
+        }
+    }
+
+    public void testSettlesFewerVertices()
+    {
+        int side = 41;
+        SimpleGraph<Integer, DefaultEdge> g =
+            new SimpleGraph<>(DefaultEdge.class);
+        for (int i = 0; i < (side * side); i++) {
+            g.addVertex(i);
+            if ((i % side) > 0) {
+                g.addEdge(i - 1, i);
+            }
+            if (i >= side) {
+                g.addEdge(i - side, i);
+            }
+        }
+        int s = ((side / 2) * side) + 10;
+        int t = s + 20;
+        IndexedDijkstraShortestPath<Integer, DefaultEdge> uni =
+            new IndexedDijkstraShortestPath<>(g);
+        BidirectionalDijkstraShortestPath<Integer, DefaultEdge> bi =
+            new BidirectionalDijkstraShortestPath<>(g);
+        assertEquals(20.0, uni.getPathLength(s, t), 0);
+        assertEquals(20.0, bi.getPathLength(s, t), 0);
+        assertTrue(
+            bi.getNumberOfSettledVertices()
+            < uni.getNumberOfSettledVertices());
+    }
+
+    @Override
+    protected List findPathBetween(
+        Graph<String, DefaultWeightedEdge> g,
+        String src,
+        String dest)
+    {
+        return new BidirectionalDijkstraShortestPath<>(g).getPath(src, dest)
+            .getEdgeList();
+    }
+}
+
+// End BidirectionalDijkstraShortestPathTest.java
@@ -0,0 +1,138 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ------------------------------
+ * ContractionHierarchyTest.java
+ * ------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+
+/**
+ * .
+ */
+public class ContractionHierarchyTest
+    extends ShortestPathTestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    public void testRandomDirectedGraph()
+    {
+        Random rng = new Random(31);
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < 80; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < 320; i++) {
+            Graphs.addEdge(
+                g,
+                rng.nextInt(80),
+                rng.nextInt(80),
+                rng.nextInt(25));
+        }
+        ContractionHierarchyShortestPath<Integer, DefaultWeightedEdge> alg =
+            new ContractionHierarchyShortestPath<>(g);
+        for (int i = 0; i < 300; i++) {
+            int s = rng.nextInt(80);
+            int t = rng.nextInt(80);
+            assertPath(g, alg.getPath(s, t), s, t);
+        }
+    }
+
+    public void testGrid()
+    {
+        Random rng = new Random(5);
+        int side = 15;
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < (side * side); i++) {
+            g.addVertex(i);
+            if ((i % side) > 0) {
+                Graphs.addEdge(g, i - 1, i, 1 + rng.nextInt(9));
+            }
+            if (i >= side) {
+                Graphs.addEdge(g, i - side, i, 1 + rng.nextInt(9));
+            }
+        }
+        ContractionHierarchyShortestPath<Integer, DefaultWeightedEdge> alg =
+            new ContractionHierarchyShortestPath<>(g);
+        assertTrue(alg.getHierarchy().getNumberOfShortcuts() > 0);
+        for (int i = 0; i < 100; i++) {
+            int s = rng.nextInt(side * side);
+            int t = rng.nextInt(side * side);
+            assertPath(g, alg.getPath(s, t), s, t);
+        }
+        assertEquals(0.0, alg.getPathLength(7, 7), 0);
+    }
+
+    private void assertPath(
+        Graph<Integer, DefaultWeightedEdge> g,
+        GraphPath<Integer, DefaultWeightedEdge> path,
+        int s,
+        int t)
+    {
+        double expected = new DijkstraShortestPath<>(g, s, t).getPathLength();
+        if (path == null) {
+            assertEquals(Double.POSITIVE_INFINITY, expected, 0);
+            return;
+        }
+        assertEquals(expected, path.getWeight(), 1e-9);
+        double sum = 0;
+        Integer v = s;
+        for (DefaultWeightedEdge e : path.getEdgeList()) {
+            v = Graphs.getOppositeVertex(g, e, v);
+            sum += g.getEdgeWeight(e);
+        }
+        assertEquals(Integer.valueOf(t), v);
+        assertEquals(expected, sum, 1e-9);
+        List<Integer> vertices = path.getVertexList();
+        assertEquals(path.getEdgeList().size() + 1, vertices.size());
+        assertEquals(Integer.valueOf(t), vertices.get(vertices.size() - 1));
+    }
+
+    @Override
+    protected List findPathBetween(
+        Graph<String, DefaultWeightedEdge> g,
+        String src,
+        String dest)
+    {
+        return new ContractionHierarchyShortestPath<>(g).getPath(src, dest)
+            .getEdgeList();
+    }
+}
+
+// End ContractionHierarchyTest.java
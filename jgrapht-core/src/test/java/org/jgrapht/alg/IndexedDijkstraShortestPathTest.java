@@ -0,0 +1,120 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -------------------------------------
+ * IndexedDijkstraShortestPathTest.java
+ * -------------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+
+/**
+ * .
+ */
+public class IndexedDijkstraShortestPathTest
+    extends ShortestPathTestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    public void testPathLength()
+    {
+        Graph<String, DefaultWeightedEdge> g = create();
+        IndexedDijkstraShortestPath<String, DefaultWeightedEdge> alg =
+            new IndexedDijkstraShortestPath<>(g);
+        GraphPath<String, DefaultWeightedEdge> path = alg.getPath(V3, V4);
+        assertEquals(10.0, path.getWeight(), 0);
+        assertEquals(V3, path.getStartVertex());
+        assertEquals(V4, path.getEndVertex());
+        assertEquals(0.0, alg.getPathLength(V2, V2), 0);
+
+        g.addVertex("v6");
+        alg = new IndexedDijkstraShortestPath<>(g);
+        assertNull(alg.getPath(V1, "v6"));
+        assertEquals(
+            Double.POSITIVE_INFINITY,
+            alg.getPathLength(V1, "v6"),
+            0);
+    }
+
+    public void testNegativeWeight()
+    {
+        try {
+            new IndexedDijkstraShortestPath<>(createWithBias(true));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    public void testAgreesWithDijkstra()
+    {
+        Random rng = new Random(17);
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < 60; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < 300; i++) {
+            Graphs.addEdge(
+                g,
+                rng.nextInt(60),
+                rng.nextInt(60),
+                rng.nextInt(20));
+        }
+        IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> alg =
+            new IndexedDijkstraShortestPath<>(g);
+        for (int i = 0; i < 100; i++) {
+            int s = rng.nextInt(60);
+            int t = rng.nextInt(60);
+            assertEquals(
+                new DijkstraShortestPath<>(g, s, t).getPathLength(),
+                alg.getPathLength(s, t),
+                1e-9);
+        }
+    }
+
+    @Override
+    protected List findPathBetween(
+        Graph<String, DefaultWeightedEdge> g,
+        String src,
+        String dest)
+    {
+        return new IndexedDijkstraShortestPath<>(g).getPath(src, dest)
+            .getEdgeList();
+    }
+}
+
+// End IndexedDijkstraShortestPathTest.java
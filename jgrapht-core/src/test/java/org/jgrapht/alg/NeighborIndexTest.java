@@ -145,6 +145,70 @@ public class NeighborIndexTest
 
         assertEquals(0, s.size());
     }
+    public void testMultigraphNeighborList()
+    {
+        ListenableUndirectedGraph<String, DefaultEdge> g =
+            new ListenableUndirectedGraph<>(
+                new Pseudograph<>(DefaultEdge.class));
+        g.addVertex(V1);
+        g.addVertex(V2);
+        g.addVertex(V3);
+        g.addEdge(V1, V2);
+        g.addEdge(V1, V2);
+        g.addEdge(V1, V1);
+
+        NeighborIndex<String, DefaultEdge> index = new NeighborIndex<>(g);
+        g.addGraphListener(index);
+
+        assertEquals(Arrays.asList(V1, V2, V2), index.neighborListOf(V1));
+        assertEquals(2, index.neighborsOf(V1).size());
+
+        g.addEdge(V1, V1);
+        g.addEdge(V3, V1);
+        assertEquals(5, index.neighborListOf(V1).size());
+        assertTrue(index.neighborsOf(V1).contains(V3));
+
+        g.removeVertex(V2);
+        assertEquals(Arrays.asList(V1, V1, V3), index.neighborListOf(V1));
+
+        // the id of the removed vertex is recycled
+        g.addVertex("v4");
+        g.addEdge("v4", V1);
+        assertEquals(
+            Arrays.asList(V1, "v4", V3),
+            new ArrayList<>(index.neighborsOf(V1)));
+        assertFalse(index.neighborsOf(V1).contains(V2));
+        assertEquals(Arrays.asList(V1), index.neighborListOf("v4"));
+    }
+
+    public void testDirectedMultigraphNeighborList()
+    {
+        ListenableDirectedGraph<String, DefaultEdge> g =
+            new ListenableDirectedGraph<>(
+                new DirectedPseudograph<>(DefaultEdge.class));
+        g.addVertex(V1);
+        g.addVertex(V2);
+        g.addEdge(V1, V2);
+        g.addEdge(V1, V2);
+        g.addEdge(V1, V1);
+
+        DirectedNeighborIndex<String, DefaultEdge> index =
+            new DirectedNeighborIndex<>(g);
+        g.addGraphListener(index);
+
+        assertEquals(3, index.successorListOf(V1).size());
+        assertEquals(Arrays.asList(V1), index.predecessorListOf(V1));
+        assertEquals(Arrays.asList(V1, V1), index.predecessorListOf(V2));
+
+        g.removeEdge(g.getEdge(V1, V1));
+        assertEquals(Arrays.asList(V2, V2), index.successorListOf(V1));
+        assertEquals(0, index.predecessorsOf(V1).size());
+
+        g.addEdge(V2, V1);
+        assertEquals(
+            Collections.singleton(V2),
+            index.predecessorsOf(V1));
+    }
 }
 
 // End NeighborIndexTest.java
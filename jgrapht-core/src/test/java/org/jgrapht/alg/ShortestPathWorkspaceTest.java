@@ -0,0 +1,152 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -------------------------------
+ * ShortestPathWorkspaceTest.java
+ * -------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import junit.framework.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+
+/**
+ * .
+ */
+public class ShortestPathWorkspaceTest
+    extends TestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    public void testReuseAcrossQueries()
+    {
+        Random rng = new Random(29);
+        Graph<Integer, DefaultWeightedEdge> g =
+            randomGraph(rng, 80, 240);
+        IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new IndexedDijkstraShortestPath<>(g);
+        BidirectionalDijkstraShortestPath<Integer, DefaultWeightedEdge> bidi =
+            new BidirectionalDijkstraShortestPath<>(g);
+        ContractionHierarchyShortestPath<Integer, DefaultWeightedEdge> ch =
+            new ContractionHierarchyShortestPath<>(g);
+
+        // one workspace shared by all three engines
+        ShortestPathWorkspace workspace = dijkstra.createWorkspace();
+        for (int i = 0; i < 200; i++) {
+            int s = rng.nextInt(80);
+            int t = rng.nextInt(80);
+            double expected =
+                new DijkstraShortestPath<>(g, s, t).getPathLength();
+            assertEquals(
+                expected,
+                length(dijkstra.getPath(s, t, workspace)),
+                0);
+            assertEquals(
+                expected,
+                length(bidi.getPath(s, t, workspace)),
+                0);
+            assertEquals(
+                expected,
+                length(ch.getPath(s, t, workspace)),
+                0);
+        }
+    }
+
+    public void testStaleEntriesIgnored()
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < 4; i++) {
+            g.addVertex(i);
+        }
+        Graphs.addEdge(g, 0, 1, 1.0);
+        Graphs.addEdge(g, 1, 2, 1.0);
+        Graphs.addEdge(g, 3, 0, 1.0);
+        IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new IndexedDijkstraShortestPath<>(g);
+        BidirectionalDijkstraShortestPath<Integer, DefaultWeightedEdge> bidi =
+            new BidirectionalDijkstraShortestPath<>(g);
+        ShortestPathWorkspace workspace = new ShortestPathWorkspace(10);
+
+        assertEquals(3.0, length(dijkstra.getPath(3, 2, workspace)), 0);
+        assertNull(dijkstra.getPath(0, 3, workspace));
+        assertEquals(3.0, length(bidi.getPath(3, 2, workspace)), 0);
+        assertNull(bidi.getPath(2, 3, workspace));
+        assertEquals(1.0, length(bidi.getPath(1, 2, workspace)), 0);
+    }
+
+    public void testCapacity()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            randomGraph(new Random(3), 10, 20);
+        IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new IndexedDijkstraShortestPath<>(g);
+        assertEquals(10, dijkstra.createWorkspace().getCapacity());
+        try {
+            dijkstra.getPath(0, 1, new ShortestPathWorkspace(9));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> randomGraph(
+        Random rng,
+        int vertices,
+        int edges)
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < vertices; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < edges; i++) {
+            Graphs.addEdge(
+                g,
+                rng.nextInt(vertices),
+                rng.nextInt(vertices),
+                rng.nextInt(20));
+        }
+        return g;
+    }
+
+    private static double length(GraphPath<?, ?> path)
+    {
+        return (path == null) ? Double.POSITIVE_INFINITY : path.getWeight();
+    }
+}
+
+// End ShortestPathWorkspaceTest.java
@@ -153,6 +153,45 @@ public class DirectedAcyclicGraphTest
         }
     }
 
+    /**
+     * Copying a cyclic graph into a DAG must still be rejected, even though
+     * the copy goes through the bulk edge loading of AbstractBaseGraph.
+     */
+    public void testAddGraphRejectsCycle()
+    {
+        DirectedGraph<String, DefaultEdge> cyclic =
+            new DefaultDirectedGraph<>(DefaultEdge.class);
+        cyclic.addVertex("a");
+        cyclic.addVertex("b");
+        cyclic.addEdge("a", "b");
+        cyclic.addEdge("b", "a");
+
+        DirectedAcyclicGraph<String, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        try {
+            Graphs.addGraph(dag, cyclic);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getCause() instanceof CycleFoundException);
+        }
+        assertEquals(1, dag.edgeSet().size());
+
+        DirectedAcyclicGraph<String, DefaultEdge> dag2 =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        dag2.addVertex("a");
+        dag2.addVertex("b");
+        try {
+            dag2.addEdgesBulk(
+                Arrays.asList("a", "b"),
+                Arrays.asList("b", "a"),
+                null,
+                true);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getCause() instanceof CycleFoundException);
+        }
+    }
+
     /**
      * trivial test of topological order using a linear graph
      */
@@ -50,19 +50,28 @@ import org.junit.runners.*;
     AsUndirectedGraphTest.class,
     AsUnweightedGraphTest.class,
     AsWeightedGraphTest.class,
+    AttributeStoreTest.class,
     CloneTest.class,
+    ColumnarGraphTest.class,
+    ConcurrentGraphTest.class,
     DefaultDirectedGraphTest.class,
     EqualsAndHashCodeTest.class,
     GenericGraphsTest.class,
     ListenableGraphTest.class,
     MaskEdgeSetTest.class,
     MaskVertexSetTest.class,
+    BitSetSubgraphTest.class,
     SerializationTest.class,
     SimpleDirectedGraphTest.class,
     GraphWalkTest.class,
     SubgraphTest.class,
+    CSRGraphTest.class,
+    IntGraphTest.class,
+    MappedGraphTest.class,
     SimpleIdentityDirectedGraphTest.class,
-    UnionGraphTest.class
+    SpecificsStrategyTest.class,
+    UnionGraphTest.class,
+    VersionedGraphTest.class
 })
 public final class AllGraphTests
 {
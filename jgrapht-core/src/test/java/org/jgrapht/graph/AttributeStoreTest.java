@@ -0,0 +1,152 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ------------------------
+ * AttributeStoreTest.java
+ * ------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.*;
+import org.jgrapht.graph.attributes.*;
+
+
+/**
+ * Tests for {@link AttributeStore} and {@link ColumnWeightedGraph}.
+ */
+public class AttributeStoreTest
+    extends EnhancedTestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    private CSRDirectedGraph<String, DefaultEdge> createGraph()
+    {
+        DefaultDirectedGraph<String, DefaultEdge> g =
+            new DefaultDirectedGraph<>(DefaultEdge.class);
+        for (String v : new String[] { "a", "b", "c", "d" }) {
+            g.addVertex(v);
+        }
+        g.addEdge("a", "b");
+        g.addEdge("b", "d");
+        g.addEdge("a", "c");
+        g.addEdge("c", "d");
+        return new CSRDirectedGraph<>(g);
+    }
+
+    public void testColumns()
+    {
+        CSRDirectedGraph<String, DefaultEdge> g = createGraph();
+        AttributeStore<String, DefaultEdge> store = new AttributeStore<>(g);
+
+        DoubleColumn<DefaultEdge> cost = store.doubleEdgeColumn("cost", 1.0);
+        DefaultEdge ab = g.getEdge("a", "b");
+        assertEquals(1.0, cost.get(ab), 0.0);
+        cost.set(ab, 4.5);
+        assertEquals(4.5, cost.get(ab), 0.0);
+        assertEquals(1.0, cost.get(g.getEdge("c", "d")), 0.0);
+        assertSame(cost, store.doubleEdgeColumn("cost"));
+
+        LongColumn<String> stamp = store.longVertexColumn("stamp");
+        stamp.set("c", 1L << 40);
+        assertEquals(1L << 40, stamp.get("c"));
+        assertEquals(0L, stamp.get("d"));
+
+        BooleanColumn<String> visited = store.booleanVertexColumn("visited");
+        visited.set("b", true);
+        assertTrue(visited.get("b"));
+        assertFalse(visited.get("a"));
+        assertEquals(1, visited.getIndices().cardinality());
+
+        ObjectColumn<String, String> label = store.objectVertexColumn("label");
+        label.set("a", "start");
+        assertEquals("start", label.get("a"));
+        assertNull(label.get("b"));
+        label.clear();
+        assertNull(label.get("a"));
+
+        assertEquals(
+            "[stamp, visited, label]",
+            store.getVertexColumnNames().toString());
+        try {
+            store.intVertexColumn("label");
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            stamp.get("z");
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertSame(stamp, store.removeVertexColumn("stamp"));
+        assertNull(store.getVertexColumn("stamp"));
+    }
+
+    public void testWeightsFromColumns()
+    {
+        CSRDirectedGraph<String, DefaultEdge> g = createGraph();
+        AttributeStore<String, DefaultEdge> store = new AttributeStore<>(g);
+        DoubleColumn<DefaultEdge> time = store.doubleEdgeColumn("time");
+        DoubleColumn<DefaultEdge> toll = store.doubleEdgeColumn("toll");
+        time.set(g.getEdge("a", "b"), 1.0);
+        time.set(g.getEdge("b", "d"), 1.0);
+        time.set(g.getEdge("a", "c"), 2.0);
+        time.set(g.getEdge("c", "d"), 2.0);
+        toll.set(g.getEdge("a", "b"), 5.0);
+        toll.set(g.getEdge("b", "d"), 5.0);
+        toll.set(g.getEdge("a", "c"), 1.0);
+        toll.set(g.getEdge("c", "d"), 1.0);
+
+        DirectedGraph<String, DefaultEdge> byTime =
+            new ColumnWeightedDirectedGraph<>(g, time);
+        DirectedGraph<String, DefaultEdge> byToll =
+            new ColumnWeightedDirectedGraph<>(g, toll);
+
+        DijkstraShortestPath<String, DefaultEdge> fast =
+            new DijkstraShortestPath<>(byTime, "a", "d");
+        assertEquals(2.0, fast.getPathLength(), 0.0);
+        assertEquals(g.getEdge("a", "b"), fast.getPathEdgeList().get(0));
+
+        DijkstraShortestPath<String, DefaultEdge> cheap =
+            new DijkstraShortestPath<>(byToll, "a", "d");
+        assertEquals(2.0, cheap.getPathLength(), 0.0);
+        assertEquals(g.getEdge("a", "c"), cheap.getPathEdgeList().get(0));
+
+        assertEquals(
+            WeightedGraph.DEFAULT_EDGE_WEIGHT,
+            g.getEdgeWeight(g.getEdge("a", "c")),
+            0.0);
+    }
+}
+
+// End AttributeStoreTest.java
@@ -0,0 +1,192 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ------------------------
+ * BitSetSubgraphTest.java
+ * ------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+
+
+/**
+ * Tests for {@link BitSetSubgraph}.
+ */
+public class BitSetSubgraphTest
+    extends EnhancedTestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    private DirectedPseudograph<String, DefaultEdge> createDirected()
+    {
+        DirectedPseudograph<String, DefaultEdge> g =
+            new DirectedPseudograph<>(DefaultEdge.class);
+        for (String v : new String[] { "a", "b", "c", "d", "e" }) {
+            g.addVertex(v);
+        }
+        g.addEdge("a", "b");
+        g.addEdge("a", "c");
+        g.addEdge("b", "c");
+        g.addEdge("c", "d");
+        g.addEdge("b", "d");
+        g.addEdge("d", "a");
+        g.addEdge("c", "c");
+        g.addEdge("b", "c");
+        return g;
+    }
+
+    private <V, E> void assertInduced(
+        Graph<V, E> expected,
+        Graph<V, E> actual)
+    {
+        assertEquals(expected.vertexSet(), actual.vertexSet());
+        assertEquals(expected.vertexSet().size(), actual.vertexSet().size());
+        assertEquals(expected.edgeSet().size(), actual.edgeSet().size());
+        assertEquals(expected.edgeSet(), actual.edgeSet());
+        for (V v : expected.vertexSet()) {
+            assertEquals(expected.edgesOf(v), actual.edgesOf(v));
+            assertEquals(expected.edgesOf(v).size(), actual.edgesOf(v).size());
+        }
+    }
+
+    public void testDirected()
+    {
+        CSRDirectedGraph<String, DefaultEdge> g =
+            new CSRDirectedGraph<>(createDirected());
+        Set<String> vertices = new HashSet<>(Arrays.asList("a", "b", "c"));
+        DirectedBitSetSubgraph<String, DefaultEdge> sub =
+            new DirectedBitSetSubgraph<>(g, vertices);
+
+        assertInduced(new DirectedSubgraph<>(g, vertices, null), sub);
+        assertEquals(4, sub.inDegreeOf("c"));
+        assertEquals(2, sub.outDegreeOf("a"));
+        assertFalse(sub.containsVertex("d"));
+        assertFalse(sub.containsEdge(g.getEdge("c", "d")));
+        assertTrue(sub.containsEdge(g.getEdge("c", "c")));
+        assertNull(sub.getEdge("c", "d"));
+        assertEquals(2, sub.getAllEdges("b", "c").size());
+        assertEquals(-1, sub.getVertexIndex("d"));
+        assertNull(sub.getVertexAt(g.getVertexIndex("e")));
+        assertNull(sub.getEdgeAt(g.getEdgeIndex(g.getEdge("d", "a"))));
+
+        List<String> seen = new ArrayList<>();
+        sub.forEachEdgeOf("c", (e, opposite, weight) -> seen.add(opposite));
+        Collections.sort(seen);
+        assertEquals(Arrays.asList("a", "b", "b", "c"), seen);
+
+        try {
+            sub.addVertex("f");
+            fail("subgraph is modifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    public void testUndirected()
+    {
+        Pseudograph<String, DefaultEdge> u =
+            new Pseudograph<>(DefaultEdge.class);
+        Graphs.addGraph(u, createDirected());
+        CSRUndirectedGraph<String, DefaultEdge> g =
+            new CSRUndirectedGraph<>(u);
+        Set<String> vertices = new HashSet<>(Arrays.asList("b", "c", "d"));
+        UndirectedBitSetSubgraph<String, DefaultEdge> sub =
+            new UndirectedBitSetSubgraph<>(g, vertices);
+
+        assertInduced(new UndirectedSubgraph<>(g, vertices, null), sub);
+        assertEquals(5, sub.edgeSet().size());
+        assertEquals(3, sub.degreeOf("b"));
+    }
+
+    public void testLiveMembers()
+    {
+        IntDirectedGraph<DefaultEdge> g =
+            new IntDirectedGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 6; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < 5; i++) {
+            g.addEdge(i, i + 1);
+        }
+        BitSet members = new BitSet();
+        DirectedBitSetSubgraph<Integer, DefaultEdge> sub =
+            new DirectedBitSetSubgraph<>(g, members);
+        assertTrue(sub.vertexSet().isEmpty());
+        assertTrue(sub.edgeSet().isEmpty());
+
+        members.set(g.getVertexIndex(1), g.getVertexIndex(4) + 1);
+        assertEquals(4, sub.vertexSet().size());
+        assertEquals(3, sub.edgeSet().size());
+
+        // vertices removed from the base graph disappear from the view
+        g.removeVertex(2);
+        assertEquals(3, sub.vertexSet().size());
+        assertEquals(1, sub.edgeSet().size());
+        assertEquals(g.getEdge(3, 4), sub.edgeSet().iterator().next());
+
+        // sizes follow edge changes of the base graph
+        g.removeEdge(3, 4);
+        assertTrue(sub.edgeSet().isEmpty());
+        g.addEdge(4, 3);
+        assertEquals(1, sub.edgeSet().size());
+        members.clear(g.getVertexIndex(4));
+        assertEquals(2, sub.vertexSet().size());
+        assertEquals(0, sub.edgeSet().size());
+        members.set(g.getVertexIndex(4));
+
+        // an edge swapped for another keeps the counts of the base graph
+        BitSet low = new BitSet();
+        low.set(g.getVertexIndex(0));
+        low.set(g.getVertexIndex(1));
+        low.set(g.getVertexIndex(3));
+        DirectedBitSetSubgraph<Integer, DefaultEdge> swapped =
+            new DirectedBitSetSubgraph<>(g, low);
+        assertEquals(1, swapped.edgeSet().size());
+        g.removeEdge(0, 1);
+        g.addEdge(4, 0);
+        assertEquals(0, swapped.edgeSet().size());
+        assertFalse(swapped.edgeSet().iterator().hasNext());
+
+        // subgraphs of subgraphs intersect the memberships
+        BitSet inner = new BitSet();
+        inner.set(g.getVertexIndex(3));
+        inner.set(g.getVertexIndex(5));
+        DirectedBitSetSubgraph<Integer, DefaultEdge> nested =
+            new DirectedBitSetSubgraph<>(sub, inner);
+        assertEquals(Collections.singleton(3), nested.vertexSet());
+        assertTrue(nested.edgeSet().isEmpty());
+    }
+}
+
+// End BitSetSubgraphTest.java
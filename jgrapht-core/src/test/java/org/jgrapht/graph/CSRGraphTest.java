@@ -0,0 +1,281 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ----------------------
+ * CSRGraphTest.java
+ * ----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.*;
+
+
+/**
+ * Tests for {@link CSRDirectedGraph} and {@link CSRUndirectedGraph}.
+ */
+public class CSRGraphTest
+    extends EnhancedTestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    private DirectedWeightedPseudograph<String, DefaultWeightedEdge>
+        createDirected()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (String v : new String[] { "a", "b", "c", "d", "e" }) {
+            g.addVertex(v);
+        }
+        Graphs.addEdge(g, "a", "b", 1.0);
+        Graphs.addEdge(g, "a", "c", 4.0);
+        Graphs.addEdge(g, "b", "c", 2.0);
+        Graphs.addEdge(g, "c", "d", 1.0);
+        Graphs.addEdge(g, "b", "d", 7.0);
+        Graphs.addEdge(g, "d", "a", 3.0);
+        Graphs.addEdge(g, "c", "c", 5.0);
+        Graphs.addEdge(g, "b", "c", 6.0);
+        return g;
+    }
+
+    private WeightedPseudograph<String, DefaultWeightedEdge> createUndirected()
+    {
+        WeightedPseudograph<String, DefaultWeightedEdge> g =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> d =
+            createDirected();
+        for (String v : d.vertexSet()) {
+            g.addVertex(v);
+        }
+        for (DefaultWeightedEdge e : d.edgeSet()) {
+            Graphs.addEdge(
+                g,
+                d.getEdgeSource(e),
+                d.getEdgeTarget(e),
+                d.getEdgeWeight(e));
+        }
+        return g;
+    }
+
+    public void testDirectedStructure()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            createDirected();
+        CSRDirectedGraph<String, DefaultWeightedEdge> csr =
+            new CSRDirectedGraph<>(g);
+
+        assertEquals(g.vertexSet(), csr.vertexSet());
+        assertEquals(g.edgeSet(), csr.edgeSet());
+        assertEquals(
+            new ArrayList<>(g.vertexSet()),
+            new ArrayList<>(csr.vertexSet()));
+        for (String v : g.vertexSet()) {
+            assertEquals(g.outgoingEdgesOf(v), csr.outgoingEdgesOf(v));
+            assertEquals(g.incomingEdgesOf(v), csr.incomingEdgesOf(v));
+            assertEquals(g.edgesOf(v), csr.edgesOf(v));
+            assertEquals(g.edgesOf(v).size(), csr.edgesOf(v).size());
+            assertEquals(g.outDegreeOf(v), csr.outDegreeOf(v));
+            assertEquals(g.inDegreeOf(v), csr.inDegreeOf(v));
+            for (String u : g.vertexSet()) {
+                assertEquals(g.getAllEdges(v, u), csr.getAllEdges(v, u));
+                assertEquals(g.containsEdge(v, u), csr.containsEdge(v, u));
+                if (g.containsEdge(v, u)) {
+                    assertTrue(
+                        g.getAllEdges(v, u).contains(csr.getEdge(v, u)));
+                } else {
+                    assertNull(csr.getEdge(v, u));
+                }
+            }
+        }
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            assertEquals(g.getEdgeSource(e), csr.getEdgeSource(e));
+            assertEquals(g.getEdgeTarget(e), csr.getEdgeTarget(e));
+            assertEquals(g.getEdgeWeight(e), csr.getEdgeWeight(e));
+        }
+        assertNull(csr.getEdge("a", "x"));
+        assertNull(csr.getAllEdges("x", "a"));
+    }
+
+    public void testUndirectedStructure()
+    {
+        WeightedPseudograph<String, DefaultWeightedEdge> g =
+            createUndirected();
+        CSRUndirectedGraph<String, DefaultWeightedEdge> csr =
+            new CSRUndirectedGraph<>(g);
+
+        assertEquals(g.vertexSet(), csr.vertexSet());
+        assertEquals(g.edgeSet(), csr.edgeSet());
+        for (String v : g.vertexSet()) {
+            assertEquals(g.edgesOf(v), csr.edgesOf(v));
+            assertEquals(g.degreeOf(v), csr.degreeOf(v));
+            for (String u : g.vertexSet()) {
+                assertEquals(g.getAllEdges(v, u), csr.getAllEdges(v, u));
+                assertEquals(g.containsEdge(v, u), csr.containsEdge(v, u));
+            }
+        }
+        assertEquals(5, csr.edgesOf("c").size());
+        assertEquals(6, csr.degreeOf("c"));
+    }
+
+    public void testIndices()
+    {
+        CSRDirectedGraph<String, DefaultWeightedEdge> csr =
+            new CSRDirectedGraph<>(createDirected());
+        assertEquals(5, csr.getVertexIndexBound());
+        assertEquals(8, csr.getEdgeIndexBound());
+        for (String v : csr.vertexSet()) {
+            assertEquals(v, csr.getVertexAt(csr.getVertexIndex(v)));
+        }
+        for (DefaultWeightedEdge e : csr.edgeSet()) {
+            assertSame(e, csr.getEdgeAt(csr.getEdgeIndex(e)));
+        }
+        assertEquals(-1, csr.getVertexIndex("x"));
+        assertEquals(-1, csr.getEdgeIndex(new DefaultWeightedEdge()));
+    }
+
+    public void testEdgeIndicesWithoutRecordedEndpoints()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            createDirected();
+        EdgeReversedGraph<String, DefaultWeightedEdge> reversed =
+            new EdgeReversedGraph<>(g);
+        CSRDirectedGraph<String, DefaultWeightedEdge> csr =
+            new CSRDirectedGraph<>(reversed);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            assertTrue(csr.containsEdge(e));
+            assertTrue(csr.edgeSet().contains(e));
+            assertSame(e, csr.getEdgeAt(csr.getEdgeIndex(e)));
+            assertEquals(g.getEdgeTarget(e), csr.getEdgeSource(e));
+            assertTrue(csr.outgoingEdgesOf(g.getEdgeTarget(e)).contains(e));
+        }
+        assertEquals(-1, csr.getEdgeIndex(new DefaultWeightedEdge()));
+    }
+
+    public void testForeignEdges()
+    {
+        CSRDirectedGraph<String, DefaultWeightedEdge> csr =
+            new CSRDirectedGraph<>(createDirected());
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> other =
+            createDirected();
+        for (DefaultWeightedEdge e : other.edgeSet()) {
+            assertFalse(csr.containsEdge(e));
+            assertFalse(csr.edgeSet().contains(e));
+            assertEquals(-1, csr.getEdgeIndex(e));
+        }
+        assertFalse(csr.containsEdge(null));
+        try {
+            csr.getEdgeSource(other.getEdge("a", "b"));
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testUnmodifiable()
+    {
+        CSRDirectedGraph<String, DefaultWeightedEdge> csr =
+            new CSRDirectedGraph<>(createDirected());
+        try {
+            csr.addVertex("x");
+            fail();
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            csr.removeEdge("a", "b");
+            fail();
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            csr.outgoingEdgesOf("a").clear();
+            fail();
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            csr.edgesOf("x");
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testShortestPath()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            createDirected();
+        CSRDirectedGraph<String, DefaultWeightedEdge> csr =
+            new CSRDirectedGraph<>(g);
+        for (String s : g.vertexSet()) {
+            for (String t : g.vertexSet()) {
+                assertEquals(
+                    new DijkstraShortestPath<>(g, s, t).getPathLength(),
+                    new DijkstraShortestPath<>(csr, s, t).getPathLength());
+            }
+        }
+    }
+
+    public void testBuilder()
+    {
+        CSRDirectedGraph<Integer, DefaultEdge> csr =
+            DefaultDirectedGraph.<Integer, DefaultEdge>builder(
+                DefaultEdge.class).addEdgeChain(1, 2, 3, 4).buildCSR();
+        assertEquals(4, csr.vertexSet().size());
+        assertEquals(3, csr.edgeSet().size());
+        assertTrue(csr.containsEdge(2, 3));
+        assertFalse(csr.containsEdge(3, 2));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testSerialization()
+        throws Exception
+    {
+        CSRDirectedGraph<String, DefaultWeightedEdge> csr =
+            new CSRDirectedGraph<>(createDirected());
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bout);
+        out.writeObject(csr);
+        out.flush();
+        ObjectInputStream in =
+            new ObjectInputStream(
+                new ByteArrayInputStream(bout.toByteArray()));
+        CSRDirectedGraph<String, DefaultWeightedEdge> copy =
+            (CSRDirectedGraph<String, DefaultWeightedEdge>) in.readObject();
+
+        assertEquals(csr.vertexSet(), copy.vertexSet());
+        assertEquals(csr.edgeSet().size(), copy.edgeSet().size());
+        assertEquals(3, copy.outDegreeOf("b"));
+        assertTrue(copy.containsEdge("d", "a"));
+    }
+}
+
+// End CSRGraphTest.java
@@ -0,0 +1,266 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -----------------------
+ * ColumnarGraphTest.java
+ * -----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.*;
+
+
+/**
+ * Tests for {@link ColumnarDirectedWeightedGraph} and {@link
+ * ColumnarUndirectedWeightedGraph}.
+ */
+public class ColumnarGraphTest
+    extends EnhancedTestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    private static final String [] VERTICES = { "a", "b", "c", "d", "e" };
+
+    private static final int [][] EDGES =
+        {
+            { 0, 1, 1 }, { 0, 2, 4 }, { 1, 2, 2 }, { 2, 3, 1 }, { 1, 3, 7 },
+            { 3, 0, 3 }, { 4, 1, 5 }
+        };
+
+    private <E> void fill(WeightedGraph<String, E> g)
+    {
+        for (String v : VERTICES) {
+            g.addVertex(v);
+        }
+        for (int [] e : EDGES) {
+            g.setEdgeWeight(g.addEdge(VERTICES[e[0]], VERTICES[e[1]]), e[2]);
+        }
+    }
+
+    public void testDirectedStructure()
+    {
+        DefaultDirectedWeightedGraph<String, DefaultWeightedEdge> g =
+            new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        fill(g);
+        ColumnarDirectedWeightedGraph<String> cg =
+            new ColumnarDirectedWeightedGraph<>();
+        fill(cg);
+
+        assertEquals(g.vertexSet(), cg.vertexSet());
+        assertEquals(
+            new ArrayList<>(g.vertexSet()),
+            new ArrayList<>(cg.vertexSet()));
+        assertEquals(g.edgeSet().size(), cg.edgeSet().size());
+        for (String v : VERTICES) {
+            assertEquals(g.outDegreeOf(v), cg.outDegreeOf(v));
+            assertEquals(g.inDegreeOf(v), cg.inDegreeOf(v));
+            assertEquals(g.edgesOf(v).size(), cg.edgesOf(v).size());
+            for (String u : VERTICES) {
+                assertEquals(g.containsEdge(v, u), cg.containsEdge(v, u));
+                if (g.containsEdge(v, u)) {
+                    assertEquals(
+                        g.getEdgeWeight(g.getEdge(v, u)),
+                        cg.getEdgeWeight(cg.getEdge(v, u)));
+                }
+            }
+        }
+
+        // edges are their own dense indices, in insertion order
+        int i = 0;
+        for (Integer e : cg.edgeSet()) {
+            assertEquals(i, e.intValue());
+            assertEquals(VERTICES[EDGES[i][0]], cg.getEdgeSource(e));
+            assertEquals(VERTICES[EDGES[i][1]], cg.getEdgeTarget(e));
+            assertEquals(
+                cg.getVertexIndex(cg.getEdgeSource(e)),
+                cg.getEdgeSourceAt(e));
+            assertEquals((double) EDGES[i][2], cg.getEdgeWeightAt(e));
+            assertSame(e, cg.getEdgeAt(i));
+            i++;
+        }
+        assertNull(cg.addEdge("a", "b"));
+        assertNull(cg.getEdge("a", "x"));
+    }
+
+    public void testIntAdjacency()
+    {
+        ColumnarDirectedWeightedGraph<String> cg =
+            new ColumnarDirectedWeightedGraph<>();
+        fill(cg);
+        int b = cg.getVertexIndex("b");
+        double out = 0;
+        for (int i = 0; i < cg.getOutDegreeAt(b); i++) {
+            out += cg.getEdgeWeightAt(cg.getOutEdgeIndexAt(b, i));
+        }
+        assertEquals(9.0, out);
+        Set<String> predecessors = new HashSet<>();
+        for (int i = 0; i < cg.getInDegreeAt(b); i++) {
+            predecessors.add(cg.getVertexAt(cg.getInNeighborAt(b, i)));
+        }
+        assertEquals(new HashSet<>(Arrays.asList("a", "e")), predecessors);
+    }
+
+    public void testRemovalAndReuse()
+    {
+        ColumnarDirectedWeightedGraph<String> cg =
+            new ColumnarDirectedWeightedGraph<>();
+        fill(cg);
+
+        assertTrue(cg.removeVertex("c"));
+        assertEquals(4, cg.vertexSet().size());
+        assertEquals(4, cg.edgeSet().size());
+        assertFalse(cg.containsEdge(1));
+        assertFalse(cg.containsEdge(2));
+        assertNull(cg.getEdgeAt(1));
+
+        // the smallest free ids are handed out first
+        assertEquals(
+            Integer.valueOf(1),
+            cg.getEdgeFactory().createEdge("a", "d"));
+        assertEquals(Integer.valueOf(1), cg.addEdge("a", "d"));
+        assertEquals(WeightedGraph.DEFAULT_EDGE_WEIGHT, cg.getEdgeWeight(1));
+        assertEquals(Integer.valueOf(2), cg.addEdge("d", "e"));
+        assertTrue(cg.addVertex("f"));
+        assertEquals(2, cg.getVertexIndex("f"));
+
+        assertTrue(cg.addEdge("f", "a", 40));
+        assertFalse(cg.addEdge("e", "a", 40));
+        assertEquals("f", cg.getEdgeSource(40));
+        assertEquals(41, cg.getEdgeIndexBound());
+        assertEquals(Integer.valueOf(3), cg.addEdge("a", "f"));
+
+        try {
+            cg.getEdgeWeight(30);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            cg.addEdge("a", "b", -1);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+
+        // only live edges and the next factory id take a weight
+        try {
+            cg.setEdgeWeight(1 << 30, 2.0);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+        assertEquals(41, cg.getEdgeIndexBound());
+        Integer free = cg.getEdgeFactory().createEdge("b", "f");
+        Integer next = Graphs.addEdge(cg, "b", "f", 9.0);
+        assertEquals(free, next);
+        assertEquals(9.0, cg.getEdgeWeight(next));
+        cg.setEdgeWeight(cg.getEdgeFactory().createEdge("c", "d"), 6.0);
+        Integer plain = cg.addEdge("e", "f");
+        assertEquals(
+            WeightedGraph.DEFAULT_EDGE_WEIGHT,
+            cg.getEdgeWeight(plain));
+
+        // removed vertex slots are reused before the end is extended
+        cg.removeVertex("b");
+        cg.removeVertex("a");
+        assertTrue(cg.addVertex("g"));
+        assertEquals(0, cg.getVertexIndex("g"));
+        assertTrue(cg.addVertex("h"));
+        assertEquals(1, cg.getVertexIndex("h"));
+        assertTrue(cg.addVertex("i"));
+        assertEquals(5, cg.getVertexIndex("i"));
+    }
+
+    public void testUndirected()
+    {
+        SimpleWeightedGraph<String, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        fill(g);
+        ColumnarUndirectedWeightedGraph<String> cg =
+            new ColumnarUndirectedWeightedGraph<>();
+        fill(cg);
+
+        for (String v : VERTICES) {
+            assertEquals(g.degreeOf(v), cg.degreeOf(v));
+            for (String u : VERTICES) {
+                assertEquals(g.containsEdge(v, u), cg.containsEdge(v, u));
+            }
+        }
+        assertEquals(
+            new KruskalMinimumSpanningTree<>(g)
+                .getMinimumSpanningTreeTotalWeight(),
+            new KruskalMinimumSpanningTree<>(cg)
+                .getMinimumSpanningTreeTotalWeight());
+    }
+
+    public void testShortestPath()
+    {
+        DefaultDirectedWeightedGraph<String, DefaultWeightedEdge> g =
+            new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        fill(g);
+        ColumnarDirectedWeightedGraph<String> cg =
+            new ColumnarDirectedWeightedGraph<>();
+        fill(cg);
+        for (String s : VERTICES) {
+            for (String t : VERTICES) {
+                assertEquals(
+                    new DijkstraShortestPath<>(g, s, t).getPathLength(),
+                    new DijkstraShortestPath<>(cg, s, t).getPathLength());
+            }
+        }
+    }
+
+    public void testCopy()
+    {
+        DefaultDirectedWeightedGraph<String, DefaultWeightedEdge> g =
+            new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        fill(g);
+        ColumnarDirectedWeightedGraph<String> cg =
+            new ColumnarDirectedWeightedGraph<>();
+        Graphs.addAllVertices(cg, g.vertexSet());
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            Graphs.addEdge(
+                cg,
+                g.getEdgeSource(e),
+                g.getEdgeTarget(e),
+                g.getEdgeWeight(e));
+        }
+        assertEquals(7, cg.edgeSet().size());
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            assertEquals(
+                g.getEdgeWeight(e),
+                cg.getEdgeWeight(
+                    cg.getEdge(g.getEdgeSource(e), g.getEdgeTarget(e))));
+        }
+    }
+}
+
+// End ColumnarGraphTest.java
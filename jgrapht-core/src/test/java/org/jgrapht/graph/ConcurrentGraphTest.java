@@ -0,0 +1,202 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -------------------------
+ * ConcurrentGraphTest.java
+ * -------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+
+
+/**
+ * Tests for {@link ConcurrentDirectedGraph} and {@link
+ * ConcurrentUndirectedGraph}.
+ */
+public class ConcurrentGraphTest
+    extends EnhancedTestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    private static final int [][] EDGES =
+        {
+            { 0, 1 }, { 0, 2 }, { 1, 2 }, { 2, 3 }, { 1, 3 }, { 3, 0 },
+            { 2, 2 }, { 4, 1 }
+        };
+
+    private <G extends Graph<Integer, DefaultEdge>> G fill(G g)
+    {
+        for (int v = 0; v < 5; v++) {
+            g.addVertex(v);
+        }
+        for (int [] e : EDGES) {
+            g.addEdge(e[0], e[1]);
+        }
+        return g;
+    }
+
+    public void testDirectedStructure()
+    {
+        DirectedPseudograph<Integer, DefaultEdge> g =
+            fill(new DirectedPseudograph<Integer, DefaultEdge>(
+                    DefaultEdge.class));
+        ConcurrentDirectedGraph<Integer, DefaultEdge> cg =
+            fill(new ConcurrentDirectedGraph<Integer, DefaultEdge>(
+                    DefaultEdge.class));
+
+        assertEquals(g.vertexSet(), cg.vertexSet());
+        assertEquals(g.edgeSet().size(), cg.edgeSet().size());
+        for (Integer v : g.vertexSet()) {
+            assertEquals(g.outDegreeOf(v), cg.outDegreeOf(v));
+            assertEquals(g.inDegreeOf(v), cg.inDegreeOf(v));
+            assertEquals(g.edgesOf(v).size(), cg.edgesOf(v).size());
+            for (Integer u : g.vertexSet()) {
+                assertEquals(g.containsEdge(v, u), cg.containsEdge(v, u));
+            }
+        }
+
+        assertNull(cg.addEdge(0, 1));
+        assertFalse(cg.addVertex(3));
+        assertNull(cg.getAllEdges(7, 0));
+        assertTrue(cg.getAllEdges(1, 0).isEmpty());
+
+        DefaultEdge e = cg.getEdge(2, 3);
+        assertEquals(Integer.valueOf(2), cg.getEdgeSource(e));
+        assertEquals(Integer.valueOf(3), cg.getEdgeTarget(e));
+        assertTrue(cg.removeEdge(e));
+        assertFalse(cg.removeEdge(e));
+        assertFalse(cg.containsEdge(2, 3));
+
+        assertTrue(cg.removeVertex(2));
+        assertFalse(cg.removeVertex(2));
+        assertEquals(4, cg.vertexSet().size());
+        assertEquals(4, cg.edgeSet().size());
+        assertEquals(1, cg.outDegreeOf(0));
+        assertEquals(1, cg.inDegreeOf(3));
+    }
+
+    public void testUndirectedStructure()
+    {
+        Pseudograph<Integer, DefaultEdge> g =
+            fill(new Pseudograph<Integer, DefaultEdge>(DefaultEdge.class));
+        ConcurrentUndirectedGraph<Integer, DefaultEdge> cg =
+            fill(new ConcurrentUndirectedGraph<Integer, DefaultEdge>(
+                    new ClassBasedEdgeFactory<Integer, DefaultEdge>(
+                        DefaultEdge.class),
+                    false,
+                    true));
+
+        assertEquals(g.edgeSet().size(), cg.edgeSet().size());
+        for (Integer v : g.vertexSet()) {
+            assertEquals(g.degreeOf(v), cg.degreeOf(v));
+            assertEquals(g.edgesOf(v).size(), cg.edgesOf(v).size());
+        }
+        assertTrue(cg.containsEdge(1, 0));
+        assertNull(cg.addEdge(1, 0));
+
+        ConcurrentUndirectedGraph<Integer, DefaultEdge> simple =
+            new ConcurrentUndirectedGraph<>(DefaultEdge.class);
+        simple.addVertex(0);
+        try {
+            simple.addEdge(0, 0);
+            fail("loop accepted");
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testIterationDuringModification()
+    {
+        ConcurrentDirectedGraph<Integer, DefaultEdge> cg =
+            fill(new ConcurrentDirectedGraph<Integer, DefaultEdge>(
+                    DefaultEdge.class));
+
+        // weakly consistent iterators tolerate modification
+        for (Integer v : cg.vertexSet()) {
+            cg.addVertex(v + 10);
+        }
+        for (DefaultEdge e : cg.outgoingEdgesOf(0)) {
+            cg.removeEdge(e);
+        }
+        assertEquals(0, cg.outDegreeOf(0));
+    }
+
+    public void testConcurrentIngest()
+        throws Exception
+    {
+        final int threads = 8;
+        final int n = 200;
+        final ConcurrentUndirectedGraph<Integer, DefaultEdge> cg =
+            new ConcurrentUndirectedGraph<>(DefaultEdge.class);
+        for (int v = 0; v < n; v++) {
+            cg.addVertex(v);
+        }
+
+        // every thread tries to add every edge of the complete graph, so
+        // insertions of the same pair race against each other
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final int offset = i;
+            futures.add(
+                pool.submit(
+                    new Runnable() {
+                        @Override public void run()
+                        {
+                            for (int k = 0; k < n; k++) {
+                                int u = (k + offset) % n;
+                                for (int v = 0; v < n; v++) {
+                                    if (u != v) {
+                                        cg.addEdge(u, v);
+                                    }
+                                }
+                                cg.edgesOf(u).size();
+                            }
+                        }
+                    }));
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        pool.shutdown();
+
+        assertEquals((n * (n - 1)) / 2, cg.edgeSet().size());
+        for (int v = 0; v < n; v++) {
+            assertEquals(n - 1, cg.degreeOf(v));
+        }
+    }
+}
+
+// End ConcurrentGraphTest.java
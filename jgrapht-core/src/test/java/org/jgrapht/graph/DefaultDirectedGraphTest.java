@@ -155,6 +155,166 @@ public class DefaultDirectedGraphTest
         assertEquals(v3, iter.next());
     }
 
+    /**
+     * .
+     */
+    public void testAddEdgesBulk()
+    {
+        SimpleDirectedGraph<String, DefaultEdge> g =
+            new SimpleDirectedGraph<>(DefaultEdge.class);
+        g.addVertex(v1);
+        g.addVertex(v2);
+        g.addVertex(v3);
+        g.addEdge(v1, v2);
+
+        // the existing edge and the repeated one are skipped
+        assertEquals(
+            3,
+            g.addEdgesBulk(
+                Arrays.asList(v1, v2, v2, v3, v2),
+                Arrays.asList(v2, v1, v3, v1, v3),
+                null,
+                false));
+        assertEquals(4, g.edgeSet().size());
+        assertEquals(2, g.outDegreeOf(v2));
+        assertEquals(2, g.inDegreeOf(v1));
+
+        // validation happens before any modification
+        try {
+            g.addEdgesBulk(
+                Arrays.asList(v3, v1),
+                Arrays.asList(v2, v1),
+                null,
+                false);
+            fail("loop accepted");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertFalse(g.containsEdge(v3, v2));
+
+        DirectedGraph<String, DefaultEdge> copy =
+            new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addGraph(copy, g);
+        assertEquals(g.vertexSet(), copy.vertexSet());
+        assertEquals(g.edgeSet(), copy.edgeSet());
+
+        SimpleDirectedGraph<String, DefaultEdge> trusted =
+            new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(trusted, g.vertexSet());
+        assertEquals(
+            1,
+            trusted.addEdgesBulk(
+                Collections.singletonList(v3),
+                Collections.singletonList(v2),
+                null,
+                true));
+        assertTrue(trusted.containsEdge(v3, v2));
+    }
+
+    /**
+     * .
+     */
+    public void testCapacity()
+    {
+        DirectedMultigraph<String, DefaultEdge> g =
+            new DirectedMultigraph<>(DefaultEdge.class);
+        Set<String> vertices = g.vertexSet();
+        Set<DefaultEdge> edges = g.edgeSet();
+        g.ensureCapacity(100, 400);
+        initMultiTriangle(g);
+
+        // views obtained before resizing still read through
+        assertEquals(3, vertices.size());
+        assertEquals(4, edges.size());
+
+        g.removeVertex(v3);
+        List<DefaultEdge> order = new ArrayList<>(g.edgeSet());
+        g.trimToSize();
+        assertEquals(2, vertices.size());
+        assertEquals(2, edges.size());
+        assertEquals(order, new ArrayList<>(g.edgeSet()));
+        assertEquals(1, g.outDegreeOf(v1));
+        assertTrue(g.containsEdge(v2, v1));
+
+        try {
+            g.ensureCapacity(-1, 0);
+            fail("negative capacity accepted");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * .
+     */
+    public void testForEachEdge()
+    {
+        DirectedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedPseudograph<>(DefaultWeightedEdge.class);
+        g.addVertex(v1);
+        g.addVertex(v2);
+        g.addVertex(v3);
+        g.setEdgeWeight(g.addEdge(v1, v2), 2.0);
+        g.setEdgeWeight(g.addEdge(v2, v1), 3.0);
+        g.addEdge(v2, v3);
+        g.setEdgeWeight(g.addEdge(v2, v2), 5.0);
+
+        List<DefaultWeightedEdge> edges = new ArrayList<>();
+        double [] sum = new double[1];
+        g.forEachEdgeOf(
+            v2,
+            (e, opposite, weight) -> {
+                edges.add(e);
+                assertEquals(
+                    Graphs.getOppositeVertex(g, e, v2),
+                    opposite);
+                assertEquals(g.getEdgeWeight(e), weight);
+                sum[0] += weight;
+            });
+        assertEquals(g.edgesOf(v2), new HashSet<>(edges));
+        assertEquals(4, edges.size());
+        assertEquals(11.0, sum[0]);
+
+        edges.clear();
+        g.forEachOutgoing(
+            v2,
+            (e, target, weight) -> {
+                edges.add(e);
+                assertEquals(g.getEdgeTarget(e), target);
+            });
+        assertEquals(new ArrayList<>(g.outgoingEdgesOf(v2)), edges);
+
+        edges.clear();
+        g.forEachIncoming(
+            v2,
+            (e, source, weight) -> {
+                edges.add(e);
+                assertEquals(g.getEdgeSource(e), source);
+            });
+        assertEquals(new ArrayList<>(g.incomingEdgesOf(v2)), edges);
+
+        Pseudograph<String, DefaultWeightedEdge> u =
+            new Pseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addGraph(u, g);
+        edges.clear();
+        u.forEachEdgeOf(
+            v2,
+            (e, opposite, weight) -> {
+                edges.add(e);
+                assertEquals(
+                    Graphs.getOppositeVertex(u, e, v2),
+                    opposite);
+            });
+        assertEquals(new ArrayList<>(u.edgesOf(v2)), edges);
+
+        try {
+            u.forEachOutgoing(v2, (e, target, weight) -> { });
+            fail("directed iteration over undirected graph");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
     private DirectedGraph<String, DefaultEdge>
     createMultiTriangle()
     {
@@ -90,6 +90,21 @@ public class GraphBuilderTest
         assertEquals(10.0, g.getEdgeWeight(g.getEdge(v7, v8)));
     }
 
+    public void testAddEdges() {
+        Graph<String, DefaultEdge> g =
+                new UndirectedGraphBuilder<>
+                        (new SimpleGraph<String, DefaultEdge>(DefaultEdge.class))
+                .ensureCapacity(3, 3)
+                .addEdges(
+                        Arrays.asList(v1, v2, v3, v2),
+                        Arrays.asList(v2, v3, v1, v1))
+                .build();
+
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(3, g.edgeSet().size());
+        assertTrue(g.containsEdge(v3, v1));
+    }
+
     public void testAddGraph() {
         Graph<String, DefaultEdge> g1 =
                 DefaultDirectedGraph.<String, DefaultEdge>builder(DefaultEdge.class)
@@ -0,0 +1,235 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ------------------
+ * IntGraphTest.java
+ * ------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.*;
+
+
+/**
+ * Tests for {@link IntDirectedGraph} and {@link IntUndirectedGraph}.
+ */
+public class IntGraphTest
+    extends EnhancedTestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    private static final int [][] EDGES =
+        {
+            { 0, 1 }, { 0, 2 }, { 1, 2 }, { 2, 3 }, { 1, 3 }, { 3, 0 },
+            { 2, 2 }, { 4, 1 }
+        };
+
+    private <G extends Graph<Integer, DefaultWeightedEdge>> G fill(G g)
+    {
+        for (int v = 0; v < 5; v++) {
+            g.addVertex(v);
+        }
+        for (int [] e : EDGES) {
+            DefaultWeightedEdge edge = g.addEdge(e[0], e[1]);
+            if (g instanceof WeightedGraph<?, ?>) {
+                ((WeightedGraph<Integer, DefaultWeightedEdge>) g).setEdgeWeight(
+                    edge,
+                    e[0] + (2 * e[1]));
+            }
+        }
+        return g;
+    }
+
+    public void testDirectedStructure()
+    {
+        DefaultDirectedWeightedGraph<Integer, DefaultWeightedEdge> g =
+            fill(
+                new DefaultDirectedWeightedGraph<Integer, DefaultWeightedEdge>(
+                    DefaultWeightedEdge.class));
+        IntDirectedWeightedGraph<DefaultWeightedEdge> ig =
+            fill(
+                new IntDirectedWeightedGraph<DefaultWeightedEdge>(
+                    DefaultWeightedEdge.class));
+
+        assertEquals(g.vertexSet(), ig.vertexSet());
+        assertEquals(g.edgeSet().size(), ig.edgeSet().size());
+        for (Integer v : g.vertexSet()) {
+            assertEquals(g.outDegreeOf(v), ig.outDegreeOf(v));
+            assertEquals(g.inDegreeOf(v), ig.inDegreeOf(v));
+            assertEquals(g.edgesOf(v).size(), ig.edgesOf(v).size());
+            for (Integer u : g.vertexSet()) {
+                assertEquals(g.containsEdge(v, u), ig.containsEdge(v, u));
+                assertEquals(
+                    g.getAllEdges(v, u).size(),
+                    ig.getAllEdges(v, u).size());
+            }
+        }
+        for (DefaultWeightedEdge e : ig.edgeSet()) {
+            int s = ig.getEdgeSource(e);
+            int t = ig.getEdgeTarget(e);
+            assertEquals(s + (2.0 * t), ig.getEdgeWeight(e));
+            assertEquals(
+                g.getEdgeWeight(g.getEdge(s, t)),
+                ig.getEdgeWeight(e));
+        }
+
+        // a simple directed graph with loops rejects a second a->b edge
+        assertNull(ig.addEdge(0, 1));
+        assertFalse(ig.addVertex(3));
+        assertNull(ig.getEdge(0, 7));
+        assertNull(ig.getAllEdges(7, 0));
+    }
+
+    public void testIntAdjacency()
+    {
+        IntDirectedWeightedGraph<DefaultWeightedEdge> ig =
+            fill(
+                new IntDirectedWeightedGraph<DefaultWeightedEdge>(
+                    DefaultWeightedEdge.class));
+
+        Set<Integer> successors = new HashSet<>();
+        for (int i = 0; i < ig.getOutDegreeAt(1); i++) {
+            int e = ig.getOutEdgeIndexAt(1, i);
+            assertEquals(1, ig.getEdgeSourceAt(e));
+            assertEquals(ig.getOutNeighborAt(1, i), ig.getEdgeTargetAt(e));
+            assertEquals(
+                1 + (2.0 * ig.getOutNeighborAt(1, i)),
+                ig.getEdgeWeightAt(e));
+            successors.add(ig.getOutNeighborAt(1, i));
+        }
+        assertEquals(new HashSet<>(Arrays.asList(2, 3)), successors);
+
+        Set<Integer> predecessors = new HashSet<>();
+        for (int i = 0; i < ig.getInDegreeAt(1); i++) {
+            predecessors.add(ig.getInNeighborAt(1, i));
+            assertEquals(1, ig.getEdgeTargetAt(ig.getInEdgeIndexAt(1, i)));
+        }
+        assertEquals(new HashSet<>(Arrays.asList(0, 4)), predecessors);
+
+        assertEquals(ig.getEdgeIndex(ig.getEdge(2, 3)), ig.getEdgeIndex(2, 3));
+        assertEquals(-1, ig.getEdgeIndex(3, 2));
+    }
+
+    public void testRemoval()
+    {
+        IntDirectedWeightedGraph<DefaultWeightedEdge> ig =
+            fill(
+                new IntDirectedWeightedGraph<DefaultWeightedEdge>(
+                    DefaultWeightedEdge.class));
+
+        assertTrue(ig.removeVertex(2));
+        assertFalse(ig.containsVertex(2));
+        assertEquals(4, ig.vertexSet().size());
+        assertEquals(4, ig.edgeSet().size());
+        assertEquals(1, ig.outDegreeOf(1));
+        assertEquals(1, ig.inDegreeOf(3));
+        assertNull(ig.getVertexAt(2));
+        assertEquals(-1, ig.getVertexIndex(2));
+
+        DefaultWeightedEdge e = ig.getEdge(3, 0);
+        int index = ig.getEdgeIndex(e);
+        assertTrue(ig.removeEdge(e));
+        assertFalse(ig.containsEdge(3, 0));
+        assertNull(ig.getEdgeAt(index));
+
+        // freed edge slots are reused
+        DefaultWeightedEdge f = ig.addEdge(0, 3);
+        assertTrue(ig.getEdgeIndex(f) < 8);
+        assertEquals(WeightedGraph.DEFAULT_EDGE_WEIGHT, ig.getEdgeWeight(f));
+        assertEquals(4, ig.edgeSet().size());
+
+        try {
+            ig.addEdge(0, 2);
+            fail();
+        } catch (IllegalArgumentException ex) {
+        }
+        try {
+            ig.addVertex(-1);
+            fail();
+        } catch (IllegalArgumentException ex) {
+        }
+    }
+
+    public void testUndirectedStructure()
+    {
+        WeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            fill(
+                new WeightedPseudograph<Integer, DefaultWeightedEdge>(
+                    DefaultWeightedEdge.class));
+        IntUndirectedWeightedGraph<DefaultWeightedEdge> ig =
+            fill(
+                new IntUndirectedWeightedGraph<DefaultWeightedEdge>(
+                    new ClassBasedEdgeFactory<Integer, DefaultWeightedEdge>(
+                        DefaultWeightedEdge.class),
+                    true,
+                    true));
+
+        assertEquals(g.vertexSet(), ig.vertexSet());
+        assertEquals(g.edgeSet().size(), ig.edgeSet().size());
+        for (Integer v : g.vertexSet()) {
+            assertEquals(g.degreeOf(v), ig.degreeOf(v));
+            assertEquals(g.edgesOf(v).size(), ig.edgesOf(v).size());
+            for (Integer u : g.vertexSet()) {
+                assertEquals(g.containsEdge(v, u), ig.containsEdge(v, u));
+            }
+        }
+        assertEquals(5, ig.degreeOf(2));
+        assertEquals(4, ig.getOutDegreeAt(2));
+
+        assertTrue(ig.removeVertex(1));
+        assertEquals(0, ig.degreeOf(4));
+        assertEquals(2, ig.degreeOf(3));
+    }
+
+    public void testShortestPath()
+    {
+        DefaultDirectedWeightedGraph<Integer, DefaultWeightedEdge> g =
+            fill(
+                new DefaultDirectedWeightedGraph<Integer, DefaultWeightedEdge>(
+                    DefaultWeightedEdge.class));
+        IntDirectedWeightedGraph<DefaultWeightedEdge> ig =
+            fill(
+                new IntDirectedWeightedGraph<DefaultWeightedEdge>(
+                    DefaultWeightedEdge.class));
+        for (Integer s : g.vertexSet()) {
+            for (Integer t : g.vertexSet()) {
+                assertEquals(
+                    new DijkstraShortestPath<>(g, s, t).getPathLength(),
+                    new DijkstraShortestPath<>(ig, s, t).getPathLength());
+            }
+        }
+    }
+}
+
+// End IntGraphTest.java
@@ -0,0 +1,261 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------
+ * MappedGraphTest.java
+ * ---------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.*;
+
+
+/**
+ * Tests for {@link MappedDirectedWeightedGraph}.
+ */
+public class MappedGraphTest
+    extends EnhancedTestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    private File file;
+
+    @Override protected void setUp()
+        throws Exception
+    {
+        file = File.createTempFile("graph", ".bin");
+        file.deleteOnExit();
+    }
+
+    @Override protected void tearDown()
+    {
+        file.delete();
+    }
+
+    private DirectedWeightedPseudograph<String, DefaultWeightedEdge> create()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (String v : new String[] { "a", "b", "c", "d", "e" }) {
+            g.addVertex(v);
+        }
+        Graphs.addEdge(g, "a", "b", 1.0);
+        Graphs.addEdge(g, "a", "c", 4.0);
+        Graphs.addEdge(g, "b", "c", 2.0);
+        Graphs.addEdge(g, "c", "d", 1.0);
+        Graphs.addEdge(g, "b", "d", 7.0);
+        Graphs.addEdge(g, "d", "a", 3.0);
+        Graphs.addEdge(g, "c", "c", 5.0);
+        Graphs.addEdge(g, "b", "c", 6.0);
+        return g;
+    }
+
+    private static <T> Map<T, Integer> count(Collection<T> items)
+    {
+        Map<T, Integer> counts = new HashMap<>();
+        for (T item : items) {
+            counts.merge(item, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    public void testStructure()
+        throws IOException
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g = create();
+        MappedDirectedWeightedGraph.write(g, file);
+        MappedDirectedWeightedGraph mapped =
+            new MappedDirectedWeightedGraph(file);
+
+        List<String> names = new ArrayList<>(g.vertexSet());
+        assertEquals(names.size(), mapped.vertexSet().size());
+        assertEquals(g.edgeSet().size(), mapped.edgeSet().size());
+        for (int v = 0; v < names.size(); v++) {
+            String name = names.get(v);
+            assertEquals(g.outDegreeOf(name), mapped.outDegreeOf(v));
+            assertEquals(g.inDegreeOf(name), mapped.inDegreeOf(v));
+            assertEquals(g.edgesOf(name).size(), mapped.edgesOf(v).size());
+            assertEquals(
+                mapped.incomingEdgesOf(v).size(),
+                new HashSet<>(mapped.incomingEdgesOf(v)).size());
+
+            int previous = -1;
+            for (int i = 0; i < mapped.getOutDegreeAt(v); i++) {
+                int u = mapped.getOutNeighborAt(v, i);
+                int e = mapped.getOutEdgeIndexAt(v, i);
+                assertTrue(previous <= u);
+                assertEquals(v, mapped.getEdgeSourceAt(e));
+                assertEquals(u, mapped.getEdgeTargetAt(e));
+                assertTrue(mapped.outgoingEdgesOf(v).contains(e));
+                assertTrue(mapped.incomingEdgesOf(u).contains(e));
+                previous = u;
+            }
+            for (int i = 0; i < mapped.getInDegreeAt(v); i++) {
+                int e = mapped.getInEdgeIndexAt(v, i);
+                assertEquals(v, mapped.getEdgeTargetAt(e));
+                assertEquals(
+                    mapped.getEdgeSourceAt(e),
+                    mapped.getInNeighborAt(v, i));
+            }
+
+            for (int u = 0; u < names.size(); u++) {
+                List<Double> expected = new ArrayList<>();
+                for (DefaultWeightedEdge e
+                    : g.getAllEdges(name, names.get(u)))
+                {
+                    expected.add(g.getEdgeWeight(e));
+                }
+                List<Double> actual = new ArrayList<>();
+                for (Integer e : mapped.getAllEdges(v, u)) {
+                    actual.add(mapped.getEdgeWeight(e));
+                }
+                assertEquals(count(expected), count(actual));
+                assertEquals(
+                    g.containsEdge(name, names.get(u)),
+                    mapped.containsEdge(v, u));
+                Integer e = mapped.getEdge(v, u);
+                assertEquals(expected.isEmpty(), e == null);
+                if (e != null) {
+                    assertEquals(v, (int) mapped.getEdgeSource(e));
+                    assertEquals(u, (int) mapped.getEdgeTarget(e));
+                }
+            }
+        }
+
+        assertFalse(mapped.containsVertex(names.size()));
+        assertFalse(mapped.containsEdge(-1));
+        assertNull(mapped.getEdge(0, names.size()));
+        assertNull(mapped.getAllEdges(names.size(), 0));
+        assertEquals(-1, mapped.getVertexIndex(-1));
+        assertEquals(3, (int) mapped.getEdgeAt(3));
+
+        for (String s : g.vertexSet()) {
+            for (String t : g.vertexSet()) {
+                assertEquals(
+                    new DijkstraShortestPath<>(g, s, t).getPathLength(),
+                    new DijkstraShortestPath<>(
+                        mapped,
+                        names.indexOf(s),
+                        names.indexOf(t)).getPathLength());
+            }
+        }
+    }
+
+    public void testUnmodifiable()
+        throws IOException
+    {
+        MappedDirectedWeightedGraph.write(create(), file);
+        MappedDirectedWeightedGraph mapped =
+            new MappedDirectedWeightedGraph(file);
+        assertFalse(mapped.isWritable());
+        try {
+            mapped.addVertex(10);
+            fail();
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            mapped.removeEdge(0);
+            fail();
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            mapped.setEdgeWeight(0, 2.0);
+            fail();
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            mapped.getEdgeWeight(100);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testWritableWeights()
+        throws IOException
+    {
+        MappedDirectedWeightedGraph.write(create(), file);
+        MappedDirectedWeightedGraph mapped =
+            new MappedDirectedWeightedGraph(file, true);
+        assertTrue(mapped.isWritable());
+        mapped.setEdgeWeight(2, 42.0);
+        mapped.setEdgeWeightAt(5, -1.5);
+        mapped.force();
+
+        MappedDirectedWeightedGraph reopened =
+            new MappedDirectedWeightedGraph(file);
+        assertEquals(42.0, reopened.getEdgeWeight(2));
+        assertEquals(-1.5, reopened.getEdgeWeightAt(5));
+    }
+
+    public void testEmptyGraph()
+        throws IOException
+    {
+        MappedDirectedWeightedGraph.write(
+            new DirectedWeightedPseudograph<String, DefaultWeightedEdge>(
+                DefaultWeightedEdge.class),
+            file);
+        MappedDirectedWeightedGraph mapped =
+            new MappedDirectedWeightedGraph(file);
+        assertTrue(mapped.vertexSet().isEmpty());
+        assertTrue(mapped.edgeSet().isEmpty());
+    }
+
+    public void testInvalidFile()
+        throws IOException
+    {
+        try (OutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[64]);
+        }
+        try {
+            new MappedDirectedWeightedGraph(file);
+            fail();
+        } catch (IOException e) {
+        }
+
+        // truncated graph file
+        MappedDirectedWeightedGraph.write(create(), file);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 4);
+        }
+        try {
+            new MappedDirectedWeightedGraph(file);
+            fail();
+        } catch (IOException e) {
+        }
+    }
+}
+
+// End MappedGraphTest.java
@@ -38,6 +38,8 @@ package org.jgrapht.graph;
 
 import java.io.*;
 
+import java.util.*;
+
 import org.jgrapht.*;
 
 
@@ -97,6 +99,66 @@ public class SerializationTest
         assertEquals(2, graph.edgesOf(v3).size());
     }
 
+    /**
+     * Tests that a long path, weights and iteration order survive
+     * serialization.
+     */
+    @SuppressWarnings("unchecked")
+    public void testLongWeightedPath()
+        throws Exception
+    {
+        SimpleDirectedWeightedGraph<Integer, DefaultWeightedEdge> graph =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        int n = 100000;
+        for (int i = 0; i < n; i++) {
+            graph.addVertex(i);
+            if (i > 0) {
+                Graphs.addEdge(graph, i - 1, i, i / 2.0);
+            }
+        }
+
+        SimpleDirectedWeightedGraph<Integer, DefaultWeightedEdge> copy =
+            (SimpleDirectedWeightedGraph<Integer, DefaultWeightedEdge>)
+            serializeAndDeserialize(graph);
+        assertEquals(
+            new ArrayList<>(graph.vertexSet()),
+            new ArrayList<>(copy.vertexSet()));
+        assertEquals(n - 1, copy.edgeSet().size());
+        for (int i = 1; i < n; i++) {
+            DefaultWeightedEdge e = copy.getEdge(i - 1, i);
+            assertEquals(i / 2.0, copy.getEdgeWeight(e), 0);
+            assertEquals(i - 1, (int) copy.getEdgeSource(e));
+            assertEquals(1, copy.inDegreeOf(i));
+        }
+        assertNull(copy.addEdge(0, 1));
+        assertNotNull(copy.addEdge(1, 0));
+    }
+
+    /**
+     * Tests serialization of a graph whose edges do not carry their endpoints.
+     */
+    @SuppressWarnings("unchecked")
+    public void testNonIntrusiveEdges()
+        throws Exception
+    {
+        EdgeFactory<String, String> ef =
+            (EdgeFactory<String, String> & Serializable) (s, t) -> s + t;
+        Pseudograph<String, String> graph = new Pseudograph<>(ef);
+        graph.addVertex(v1);
+        graph.addVertex(v2);
+        graph.addVertex(v3);
+        graph.addEdge(v1, v2, "a");
+        graph.addEdge(v2, v1, "b");
+        graph.addEdge(v3, v3, "c");
+
+        graph = (Pseudograph<String, String>) serializeAndDeserialize(graph);
+        assertEquals(v2, graph.getEdgeSource("b"));
+        assertEquals(v1, graph.getEdgeTarget("b"));
+        assertEquals(2, graph.getAllEdges(v1, v2).size());
+        assertEquals(2, graph.degreeOf(v3));
+        assertEquals("v2v3", graph.addEdge(v2, v3));
+    }
+
     private Object serializeAndDeserialize(Object obj)
         throws Exception
     {
@@ -0,0 +1,399 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------------
+ * SpecificsStrategyTest.java
+ * ---------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.specifics.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * Tests the adjacency layouts of {@link SpecificsStrategy}.
+ */
+public class SpecificsStrategyTest
+    extends EnhancedTestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    // "Aa" and "BB" have the same hash code
+    private static final String [] VERTICES = { "Aa", "BB", "c", "d", "e" };
+
+    private <G extends Graph<String, DefaultEdge>> G fill(G g)
+    {
+        for (String v : VERTICES) {
+            g.addVertex(v);
+        }
+        g.addEdge("Aa", "BB");
+        g.addEdge("BB", "Aa");
+        g.addEdge("Aa", "c");
+        g.addEdge("c", "Aa");
+        g.addEdge("BB", "c");
+        g.addEdge("c", "BB");
+        g.addEdge("c", "c");
+        g.addEdge("d", "e");
+        g.addEdge("e", "BB");
+        g.addEdge("BB", "Aa");
+        return g;
+    }
+
+    private static <T> T serializeAndDeserialize(T obj)
+        throws Exception
+    {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bout);
+        out.writeObject(obj);
+        out.flush();
+        ObjectInputStream in =
+            new ObjectInputStream(
+                new ByteArrayInputStream(bout.toByteArray()));
+        return TypeUtil.uncheckedCast(in.readObject(), null);
+    }
+
+    private void assertSameAdjacency(
+        Graph<String, DefaultEdge> expected,
+        Graph<String, DefaultEdge> actual)
+    {
+        assertEquals(
+            new ArrayList<>(expected.vertexSet()),
+            new ArrayList<>(actual.vertexSet()));
+        for (String v : expected.vertexSet()) {
+            assertEquals(expected.edgesOf(v).size(), actual.edgesOf(v).size());
+            for (String u : expected.vertexSet()) {
+                assertEquals(
+                    expected.getAllEdges(v, u).size(),
+                    actual.getAllEdges(v, u).size());
+                assertEquals(
+                    expected.containsEdge(v, u),
+                    actual.containsEdge(v, u));
+                DefaultEdge e = actual.getEdge(v, u);
+                if (e != null) {
+                    assertTrue(
+                        (actual.getEdgeSource(e).equals(v)
+                            && actual.getEdgeTarget(e).equals(u))
+                        || (!(actual instanceof DirectedGraph<?, ?>)
+                            && actual.getEdgeSource(e).equals(u)
+                            && actual.getEdgeTarget(e).equals(v)));
+                }
+            }
+        }
+        assertNull(actual.getEdge("Aa", "x"));
+        assertNull(actual.getAllEdges("x", "Aa"));
+    }
+
+    public void testDirectedStrategies()
+    {
+        DirectedPseudograph<String, DefaultEdge> expected =
+            fill(new DirectedPseudograph<>(DefaultEdge.class));
+        for (SpecificsStrategy strategy : SpecificsStrategy.values()) {
+            DirectedPseudograph<String, DefaultEdge> g =
+                new DirectedPseudograph<>(DefaultEdge.class);
+            g.setSpecificsFactory(strategy.factory());
+            fill(g);
+            assertSameAdjacency(expected, g);
+            for (String v : VERTICES) {
+                assertEquals(expected.inDegreeOf(v), g.inDegreeOf(v));
+                assertEquals(expected.outDegreeOf(v), g.outDegreeOf(v));
+            }
+
+            g.removeEdge("BB", "Aa");
+            expected.removeEdge("BB", "Aa");
+            g.removeVertex("c");
+            expected.removeVertex("c");
+            assertSameAdjacency(expected, g);
+            expected = fill(new DirectedPseudograph<>(DefaultEdge.class));
+        }
+    }
+
+    public void testUndirectedStrategies()
+    {
+        Pseudograph<String, DefaultEdge> expected =
+            fill(new Pseudograph<>(DefaultEdge.class));
+        for (SpecificsStrategy strategy : SpecificsStrategy.values()) {
+            Pseudograph<String, DefaultEdge> g =
+                new Pseudograph<>(DefaultEdge.class);
+            g.setSpecificsFactory(strategy.factory());
+            fill(g);
+            assertSameAdjacency(expected, g);
+            for (String v : VERTICES) {
+                assertEquals(expected.degreeOf(v), g.degreeOf(v));
+            }
+        }
+    }
+
+    public void testUnorderedStrategies()
+    {
+        DirectedPseudograph<String, DefaultEdge> expected =
+            fill(new DirectedPseudograph<>(DefaultEdge.class));
+        for (SpecificsStrategy strategy : SpecificsStrategy.values()) {
+            DirectedPseudograph<String, DefaultEdge> g =
+                new DirectedPseudograph<>(DefaultEdge.class);
+            g.setSpecificsFactory(strategy.unorderedFactory());
+            assertFalse(g.getSpecificsFactory().isOrdered());
+            fill(g);
+            g.ensureCapacity(100, 200);
+            g.trimToSize();
+
+            assertEquals(expected.vertexSet(), g.vertexSet());
+            assertEquals(expected.edgeSet().size(), g.edgeSet().size());
+            for (String v : expected.vertexSet()) {
+                assertEquals(expected.outDegreeOf(v), g.outDegreeOf(v));
+                for (String u : expected.vertexSet()) {
+                    assertEquals(
+                        expected.getAllEdges(v, u).size(),
+                        g.getAllEdges(v, u).size());
+                }
+            }
+
+            Graph<String, DefaultEdge> copy =
+                TypeUtil.uncheckedCast(g.clone(), null);
+            assertEquals(g.edgeSet(), copy.edgeSet());
+
+            // back to insertion order, keeping the contents
+            g.setSpecificsFactory(strategy.factory());
+            assertTrue(g.getSpecificsFactory().isOrdered());
+            assertEquals(expected.vertexSet(), g.vertexSet());
+            assertEquals(copy.edgeSet(), g.edgeSet());
+        }
+    }
+
+    public void testFreeze()
+        throws Exception
+    {
+        for (SpecificsStrategy strategy : SpecificsStrategy.values()) {
+            // the frozen graph keeps the edge order of its former layout
+            DirectedPseudograph<String, DefaultEdge> expected =
+                new DirectedPseudograph<>(DefaultEdge.class);
+            expected.setSpecificsFactory(strategy.factory());
+            fill(expected);
+            DirectedPseudograph<String, DefaultEdge> g =
+                new DirectedPseudograph<>(DefaultEdge.class);
+            g.setSpecificsFactory(strategy.factory());
+            fill(g);
+            assertFalse(g.isFrozen());
+            g.freeze();
+            g.freeze();
+            assertTrue(g.isFrozen());
+
+            assertSameAdjacency(expected, g);
+            assertEquals(
+                expected.edgeSet().toString(),
+                g.edgeSet().toString());
+            for (String v : VERTICES) {
+                assertEquals(expected.inDegreeOf(v), g.inDegreeOf(v));
+                assertEquals(expected.outDegreeOf(v), g.outDegreeOf(v));
+                assertEquals(
+                    expected.edgesOf(v).toString(),
+                    g.edgesOf(v).toString());
+                assertSame(g.outgoingEdgesOf(v), g.outgoingEdgesOf(v));
+                List<DefaultEdge> visited = new ArrayList<>();
+                g.forEachEdgeOf(v, (e, opposite, weight) -> visited.add(e));
+                assertEquals(new ArrayList<>(g.edgesOf(v)), visited);
+            }
+
+            try {
+                g.addEdge("d", "d");
+                fail("frozen graph modified");
+            } catch (UnsupportedOperationException e) {
+                // expected
+            }
+            try {
+                g.removeVertex("c");
+                fail("frozen graph modified");
+            } catch (UnsupportedOperationException e) {
+                // expected
+            }
+            assertEquals(expected.edgeSet().size(), g.edgeSet().size());
+
+            DirectedPseudograph<String, DefaultEdge> copy =
+                serializeAndDeserialize(g);
+            assertTrue(copy.isFrozen());
+            assertSameAdjacency(expected, copy);
+
+            DirectedPseudograph<String, DefaultEdge> clone =
+                TypeUtil.uncheckedCast(g.clone(), null);
+            assertFalse(clone.isFrozen());
+            assertTrue(clone.removeVertex("c"));
+        }
+
+        Pseudograph<String, DefaultEdge> expected =
+            fill(new Pseudograph<>(DefaultEdge.class));
+        Pseudograph<String, DefaultEdge> g =
+            fill(new Pseudograph<>(DefaultEdge.class));
+        g.freeze();
+        assertSameAdjacency(expected, g);
+        for (String v : VERTICES) {
+            assertEquals(expected.degreeOf(v), g.degreeOf(v));
+        }
+        try {
+            g.outgoingEdgesOf("c");
+            fail("directed operation on undirected graph");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    public void testSortedOrder()
+    {
+        SimpleDirectedGraph<Integer, DefaultEdge> g =
+            new SimpleDirectedGraph<>(DefaultEdge.class);
+        g.setSpecificsFactory(SpecificsStrategy.SORTED.factory());
+        for (int v : new int[] { 5, 3, 9, 1, 7 }) {
+            g.addVertex(v);
+            if (v != 5) {
+                g.addEdge(5, v);
+            }
+        }
+        List<Integer> targets = new ArrayList<>();
+        for (DefaultEdge e : g.outgoingEdgesOf(5)) {
+            targets.add(g.getEdgeTarget(e));
+        }
+        assertEquals(Arrays.asList(1, 3, 7, 9), targets);
+        assertNull(g.addEdge(5, 7));
+    }
+
+    public void testSwitchNonEmptyGraph()
+    {
+        DirectedPseudograph<String, DefaultEdge> g =
+            fill(new DirectedPseudograph<>(DefaultEdge.class));
+        DirectedPseudograph<String, DefaultEdge> expected =
+            fill(new DirectedPseudograph<>(DefaultEdge.class));
+        g.setSpecificsFactory(SpecificsStrategy.COMPACT.factory());
+        assertSameAdjacency(expected, g);
+        g.setSpecificsFactory(SpecificsStrategy.SORTED.factory());
+        assertSameAdjacency(expected, g);
+
+        DirectedPseudograph<String, DefaultEdge> clone =
+            TypeUtil.uncheckedCast(g.clone(), null);
+        assertSame(g.getSpecificsFactory(), clone.getSpecificsFactory());
+        assertSameAdjacency(expected, clone);
+    }
+
+    public void testVertexPairIndex()
+        throws Exception
+    {
+        // half of the vertices share a hash code, so that probe sequences
+        // collide and wrap around the table
+        String [] vertices = new String[32];
+        for (int i = 0; i < 16; i++) {
+            StringBuilder b = new StringBuilder();
+            for (int bit = 0; bit < 4; bit++) {
+                b.append(((i >> bit) & 1) == 0 ? "Aa" : "BB");
+            }
+            vertices[i] = b.toString();
+            vertices[i + 16] = "v" + i;
+        }
+        VertexPairIndex<String, String> directed = new VertexPairIndex<>(true);
+        VertexPairIndex<String, String> undirected =
+            new VertexPairIndex<>(false);
+        Map<List<String>, List<String>> expected = new HashMap<>();
+        Random rng = new Random(17);
+        for (int round = 0; round < 5000; round++) {
+            String u = vertices[rng.nextInt(vertices.length)];
+            String v = vertices[rng.nextInt(vertices.length)];
+            List<String> pair = Arrays.asList(u, v);
+            List<String> edges = expected.get(pair);
+            if ((edges != null) && rng.nextBoolean()) {
+                String e = edges.remove(rng.nextInt(edges.size()));
+                if (edges.isEmpty()) {
+                    expected.remove(pair);
+                }
+                directed.remove(u, v, e);
+                undirected.remove(v, u, e);
+            } else {
+                String e = u + "-" + v + "#" + round;
+                expected.computeIfAbsent(pair, k -> new ArrayList<>()).add(e);
+                directed.add(u, v, e);
+                undirected.add(u, v, e);
+            }
+            if ((round % 1000) == 0) {
+                directed.trimToSize();
+            }
+        }
+
+        assertEquals(expected.size(), directed.size());
+        for (String u : vertices) {
+            for (String v : vertices) {
+                List<String> edges = expected.get(Arrays.asList(u, v));
+                if (edges == null) {
+                    assertNull(directed.getEdge(u, v));
+                    assertTrue(directed.getAllEdges(u, v).isEmpty());
+                } else {
+                    assertTrue(edges.contains(directed.getEdge(u, v)));
+                    assertEquals(
+                        new HashSet<>(edges),
+                        new HashSet<>(directed.getAllEdges(u, v)));
+                }
+                Set<String> both = new HashSet<>();
+                if (edges != null) {
+                    both.addAll(edges);
+                }
+                List<String> reverse = expected.get(Arrays.asList(v, u));
+                if ((reverse != null) && !u.equals(v)) {
+                    both.addAll(reverse);
+                }
+                assertEquals(
+                    both,
+                    new HashSet<>(undirected.getAllEdges(v, u)));
+            }
+        }
+        assertNull(directed.getEdge(null, vertices[0]));
+
+        VertexPairIndex<String, String> copy = serializeAndDeserialize(directed);
+        assertEquals(directed.size(), copy.size());
+        for (List<String> pair : expected.keySet()) {
+            assertEquals(
+                directed.getAllEdges(pair.get(0), pair.get(1)),
+                copy.getAllEdges(pair.get(0), pair.get(1)));
+        }
+    }
+
+    public void testBuilder()
+    {
+        DirectedGraph<String, DefaultEdge> g =
+            DirectedPseudograph.<String, DefaultEdge>builder(DefaultEdge.class)
+            .setSpecificsFactory(SpecificsStrategy.SORTED.factory())
+            .addEdgeChain("Aa", "BB", "c", "Aa")
+            .build();
+        assertTrue(g.containsEdge("BB", "c"));
+        assertFalse(g.containsEdge("c", "BB"));
+        assertEquals(3, g.edgeSet().size());
+    }
+}
+
+// End SpecificsStrategyTest.java
@@ -40,10 +40,13 @@ import junit.framework.TestCase;
 import org.jgrapht.*;
 import org.jgrapht.util.WeightCombiner;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Unit test for the {@link DirectedGraphUnion} class, {@link UndirectedGraphUnion} class, {@link MixedGraphUnion} class.
@@ -176,6 +179,30 @@ public class UnionGraphTest extends TestCase {
 
     }
 
+    /**
+     * Test incidences and degrees of edges contained in both operands.
+     */
+    public void testSharedEdges(){
+        directedGraph2.addVertex(v0);
+        directedGraph2.addEdge(v0, v1, e1);
+        DirectedGraphUnion<String, DefaultEdge> directedUnion= new DirectedGraphUnion<>(directedGraph1, directedGraph2);
+        assertEquals(new HashSet<>(Arrays.asList(e1, e3)), directedUnion.edgesOf(v0));
+        assertEquals(Arrays.asList(e1), new ArrayList<>(directedUnion.outgoingEdgesOf(v0)));
+        assertEquals(1, directedUnion.outDegreeOf(v0));
+        assertEquals(2, directedUnion.inDegreeOf(v1));
+        assertEquals(2, directedUnion.incomingEdgesOf(v1).size());
+
+        //e1 runs from v0 to v1 in the directed graph and touches both in the undirected one
+        MixedGraphUnion<String, DefaultEdge> mixedUnion= new MixedGraphUnion<>(undirectedGraph1, directedGraph2);
+        assertEquals(2, mixedUnion.outDegreeOf(v0));
+        assertEquals(new HashSet<>(Arrays.asList(e1, e3)), mixedUnion.outgoingEdgesOf(v0));
+        assertEquals(2, mixedUnion.outgoingEdgesOf(v0).size());
+        assertEquals(2, mixedUnion.inDegreeOf(v0));
+        assertEquals(new HashSet<>(Arrays.asList(e1, e3)), mixedUnion.incomingEdgesOf(v0));
+        assertEquals(3, mixedUnion.inDegreeOf(v1));
+        assertEquals(3, new ArrayList<>(mixedUnion.incomingEdgesOf(v1)).size());
+    }
+
     /**
      * Test the weight combiner for graphs having an edge in common.
      */
@@ -212,4 +239,36 @@ public class UnionGraphTest extends TestCase {
         assertEquals(20.0, g2Masked.getEdgeWeight(edge));
     }
 
+    /**
+     * Test that unions are live views and can be materialized.
+     */
+    public void testMaterialize(){
+        DirectedGraphUnion<String, DefaultEdge> graphUnion= new DirectedGraphUnion<>(directedGraph1, directedGraph2);
+        Set<DefaultEdge> outgoing= graphUnion.outgoingEdgesOf(v1);
+        assertEquals(2, outgoing.size());
+
+        DefaultEdge e8= new DefaultEdge();
+        directedGraph2.addEdge(v1, v3, e8);
+        assertEquals(3, outgoing.size());
+        assertTrue(outgoing.contains(e8));
+        assertEquals(3, graphUnion.outDegreeOf(v1));
+        assertEquals(8, graphUnion.edgeSet().size());
+
+        List<DefaultEdge> iterated= new ArrayList<>(graphUnion.edgeSet());
+        assertEquals(8, iterated.size());
+        assertEquals(new HashSet<>(iterated), graphUnion.edgeSet());
+
+        CSRDirectedGraph<String, DefaultEdge> compact= graphUnion.materialize();
+        assertEquals(graphUnion.vertexSet(), compact.vertexSet());
+        assertEquals(graphUnion.edgeSet(), compact.edgeSet());
+        assertEquals(graphUnion.outgoingEdgesOf(v4), compact.outgoingEdgesOf(v4));
+        assertEquals(graphUnion.incomingEdgesOf(v4), compact.incomingEdgesOf(v4));
+
+        UndirectedGraphUnion<String, DefaultEdge> undirectedUnion= new UndirectedGraphUnion<>(undirectedGraph1, undirectedGraph2);
+        CSRUndirectedGraph<String, DefaultEdge> undirectedCompact= undirectedUnion.materialize();
+        assertEquals(4, undirectedUnion.degreeOf(v4));
+        assertEquals(4, undirectedCompact.degreeOf(v4));
+        assertEquals(undirectedUnion.edgeSet(), undirectedCompact.edgeSet());
+    }
+
 }
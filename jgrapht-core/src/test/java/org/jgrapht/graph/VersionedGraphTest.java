@@ -0,0 +1,229 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ------------------------
+ * VersionedGraphTest.java
+ * ------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+import org.jgrapht.*;
+
+
+/**
+ * Tests for {@link VersionedDirectedGraph}, {@link VersionedUndirectedGraph}
+ * and {@link PersistentHashMap}.
+ */
+public class VersionedGraphTest
+    extends EnhancedTestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    private static final int [][] EDGES =
+        {
+            { 0, 1 }, { 0, 2 }, { 1, 2 }, { 2, 3 }, { 1, 3 }, { 3, 0 },
+            { 2, 2 }, { 4, 1 }
+        };
+
+    private <G extends Graph<Integer, DefaultWeightedEdge>> G fill(G g)
+    {
+        for (int v = 0; v < 5; v++) {
+            g.addVertex(v);
+        }
+        for (int [] e : EDGES) {
+            g.addEdge(e[0], e[1]);
+        }
+        return g;
+    }
+
+    public void testDirectedStructure()
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            fill(new DirectedWeightedPseudograph<Integer, DefaultWeightedEdge>(
+                    DefaultWeightedEdge.class));
+        VersionedDirectedGraph<Integer, DefaultWeightedEdge> vg =
+            fill(new VersionedDirectedGraph<Integer, DefaultWeightedEdge>(
+                    DefaultWeightedEdge.class));
+
+        assertEquals(g.vertexSet(), vg.vertexSet());
+        assertEquals(g.edgeSet().size(), vg.edgeSet().size());
+        for (Integer v : g.vertexSet()) {
+            assertEquals(g.outDegreeOf(v), vg.outDegreeOf(v));
+            assertEquals(g.inDegreeOf(v), vg.inDegreeOf(v));
+            assertEquals(g.edgesOf(v).size(), vg.edgesOf(v).size());
+            for (Integer u : g.vertexSet()) {
+                assertEquals(g.containsEdge(v, u), vg.containsEdge(v, u));
+                assertEquals(
+                    g.getAllEdges(v, u).size(),
+                    vg.getAllEdges(v, u).size());
+            }
+        }
+        assertNull(vg.addEdge(0, 1));
+        assertNull(vg.getAllEdges(7, 0));
+
+        assertTrue(vg.removeVertex(2));
+        assertEquals(4, vg.vertexSet().size());
+        assertEquals(4, vg.edgeSet().size());
+        assertEquals(1, vg.outDegreeOf(0));
+        assertEquals(1, vg.inDegreeOf(3));
+    }
+
+    public void testUndirectedStructure()
+    {
+        WeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            fill(new WeightedPseudograph<Integer, DefaultWeightedEdge>(
+                    DefaultWeightedEdge.class));
+        VersionedUndirectedGraph<Integer, DefaultWeightedEdge> vg =
+            fill(new VersionedUndirectedGraph<Integer, DefaultWeightedEdge>(
+                    new ClassBasedEdgeFactory<Integer, DefaultWeightedEdge>(
+                        DefaultWeightedEdge.class),
+                    false,
+                    true));
+
+        assertEquals(g.edgeSet().size(), vg.edgeSet().size());
+        for (Integer v : g.vertexSet()) {
+            assertEquals(g.degreeOf(v), vg.degreeOf(v));
+            assertEquals(g.edgesOf(v).size(), vg.edgesOf(v).size());
+        }
+        assertTrue(vg.containsEdge(1, 0));
+        assertNull(vg.addEdge(1, 0));
+        assertEquals(vg.getEdge(0, 1), vg.removeEdge(1, 0));
+        assertFalse(vg.containsEdge(0, 1));
+    }
+
+    public void testSnapshotIsolation()
+    {
+        VersionedDirectedGraph<Integer, DefaultWeightedEdge> vg =
+            fill(new VersionedDirectedGraph<Integer, DefaultWeightedEdge>(
+                    DefaultWeightedEdge.class));
+        long version = vg.getVersion();
+        VersionedDirectedGraph<Integer, DefaultWeightedEdge> snapshot =
+            vg.snapshot();
+        assertTrue(snapshot.isSnapshot());
+        assertSame(snapshot, snapshot.snapshot());
+
+        DefaultWeightedEdge e = vg.getEdge(0, 1);
+        vg.setEdgeWeight(e, 5.0);
+        vg.removeVertex(3);
+        vg.addVertex(9);
+        vg.addEdge(9, 0);
+
+        assertEquals(version + 4, vg.getVersion());
+        assertEquals(version, snapshot.getVersion());
+        assertEquals(5, snapshot.vertexSet().size());
+        assertEquals(EDGES.length, snapshot.edgeSet().size());
+        assertTrue(snapshot.containsEdge(2, 3));
+        assertFalse(snapshot.containsVertex(9));
+        assertEquals(1.0, snapshot.getEdgeWeight(e));
+        assertEquals(5.0, vg.getEdgeWeight(e));
+
+        try {
+            snapshot.addVertex(10);
+            fail("snapshot modified");
+        } catch (UnsupportedOperationException ex) {
+            // expected
+        }
+
+        // iterators of the live graph see the state of their creation
+        Iterator<Integer> it = vg.vertexSet().iterator();
+        vg.addVertex(10);
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        assertEquals(5, count);
+        assertEquals(6, vg.vertexSet().size());
+    }
+
+    public void testPersistentHashMap()
+    {
+        Random random = new Random(17);
+        Map<Object, Integer> expected = new HashMap<>();
+        PersistentHashMap<Object, Integer> map = PersistentHashMap.empty();
+        List<PersistentHashMap<Object, Integer>> versions = new ArrayList<>();
+        List<Map<Object, Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 20000; i++) {
+            // few distinct hashes force collisions at every trie level
+            Object key =
+                (random.nextInt(4) == 0) ? new Colliding(random.nextInt(40))
+                : Integer.valueOf(random.nextInt(3000));
+            if (random.nextInt(3) == 0) {
+                map = map.minus(key);
+                expected.remove(key);
+            } else {
+                map = map.plus(key, i);
+                expected.put(key, i);
+            }
+            if ((i % 2000) == 0) {
+                versions.add(map);
+                expectedVersions.add(new HashMap<>(expected));
+            }
+        }
+        versions.add(map);
+        expectedVersions.add(expected);
+
+        for (int i = 0; i < versions.size(); i++) {
+            PersistentHashMap<Object, Integer> m = versions.get(i);
+            Map<Object, Integer> x = expectedVersions.get(i);
+            assertEquals(x.size(), m.size());
+            assertEquals(x.keySet(), m.keySet());
+            for (Map.Entry<Object, Integer> entry : x.entrySet()) {
+                assertEquals(entry.getValue(), m.get(entry.getKey()));
+            }
+        }
+    }
+
+    private static final class Colliding
+    {
+        private final int id;
+
+        Colliding(int id)
+        {
+            this.id = id;
+        }
+
+        @Override public int hashCode()
+        {
+            return id % 3;
+        }
+
+        @Override public boolean equals(Object o)
+        {
+            return (o instanceof Colliding) && (((Colliding) o).id == id);
+        }
+    }
+}
+
+// End VersionedGraphTest.java
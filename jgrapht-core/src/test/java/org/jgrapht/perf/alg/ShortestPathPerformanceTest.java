@@ -0,0 +1,214 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------------------
+ * ShortestPathPerformanceTest.java
+ * ---------------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.perf.alg;
+
+import junit.framework.TestCase;
+import org.jgrapht.Graphs;
+import org.jgrapht.alg.ALTAdmissibleHeuristic;
+import org.jgrapht.alg.AStarShortestPath;
+import org.jgrapht.alg.BidirectionalDijkstraShortestPath;
+import org.jgrapht.alg.ContractionHierarchy;
+import org.jgrapht.alg.ContractionHierarchyShortestPath;
+import org.jgrapht.alg.DijkstraShortestPath;
+import org.jgrapht.alg.IndexedDijkstraShortestPath;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.SimpleDirectedWeightedGraph;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark class to compare the point to point shortest path algorithms on a road-like graph: a square grid whose
+ * vertices are connected in both directions with independent random weights. Each benchmark invocation answers the
+ * same set of random queries; preprocessing, where an algorithm needs it, happens during setup.
+ */
+public class ShortestPathPerformanceTest extends TestCase {
+
+    public static final int PERF_BENCHMARK_GRID_SIDE = 100;
+    public static final int PERF_BENCHMARK_QUERY_COUNT = 100;
+    public static final long SEED = 1446523573696201013l;
+
+    @State(Scope.Benchmark)
+    private static abstract class GridBenchmarkBase {
+
+        protected SimpleDirectedWeightedGraph<Integer, DefaultWeightedEdge> graph;
+        protected int[] sources;
+        protected int[] targets;
+
+        /**
+         * Prepares the algorithm for the queries on the graph
+         */
+        abstract void prepare();
+
+        /**
+         * Computes the length of a shortest path
+         * @return the path length
+         */
+        abstract double query(Integer source, Integer target);
+
+        @Setup
+        public void setup() {
+            Random rng = new Random(SEED);
+            int n = PERF_BENCHMARK_GRID_SIDE * PERF_BENCHMARK_GRID_SIDE;
+            graph = new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+            for (int i = 0; i < n; i++) {
+                graph.addVertex(i);
+                if (i % PERF_BENCHMARK_GRID_SIDE > 0) {
+                    Graphs.addEdge(graph, i - 1, i, 1 + rng.nextInt(100));
+                    Graphs.addEdge(graph, i, i - 1, 1 + rng.nextInt(100));
+                }
+                if (i >= PERF_BENCHMARK_GRID_SIDE) {
+                    Graphs.addEdge(graph, i - PERF_BENCHMARK_GRID_SIDE, i, 1 + rng.nextInt(100));
+                    Graphs.addEdge(graph, i, i - PERF_BENCHMARK_GRID_SIDE, 1 + rng.nextInt(100));
+                }
+            }
+            sources = new int[PERF_BENCHMARK_QUERY_COUNT];
+            targets = new int[PERF_BENCHMARK_QUERY_COUNT];
+            for (int i = 0; i < PERF_BENCHMARK_QUERY_COUNT; i++) {
+                sources[i] = rng.nextInt(n);
+                targets[i] = rng.nextInt(n);
+            }
+            prepare();
+        }
+
+        @Benchmark
+        public void run(Blackhole blackhole) {
+            for (int i = 0; i < PERF_BENCHMARK_QUERY_COUNT; i++) {
+                blackhole.consume(query(sources[i], targets[i]));
+            }
+        }
+    }
+
+    public static class DijkstraGridBenchmark extends GridBenchmarkBase {
+        @Override
+        void prepare() {
+        }
+
+        @Override
+        double query(Integer source, Integer target) {
+            return new DijkstraShortestPath<>(graph, source, target).getPathLength();
+        }
+    }
+
+    public static class IndexedDijkstraGridBenchmark extends GridBenchmarkBase {
+        private IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> alg;
+
+        @Override
+        void prepare() {
+            alg = new IndexedDijkstraShortestPath<>(graph);
+        }
+
+        @Override
+        double query(Integer source, Integer target) {
+            return alg.getPathLength(source, target);
+        }
+    }
+
+    public static class BidirectionalDijkstraGridBenchmark extends GridBenchmarkBase {
+        private BidirectionalDijkstraShortestPath<Integer, DefaultWeightedEdge> alg;
+
+        @Override
+        void prepare() {
+            alg = new BidirectionalDijkstraShortestPath<>(graph);
+        }
+
+        @Override
+        double query(Integer source, Integer target) {
+            return alg.getPathLength(source, target);
+        }
+    }
+
+    public static class ContractionHierarchyGridBenchmark extends GridBenchmarkBase {
+        private ContractionHierarchyShortestPath<Integer, DefaultWeightedEdge> alg;
+
+        @Override
+        void prepare() {
+            alg = new ContractionHierarchyShortestPath<>(new ContractionHierarchy<>(graph));
+        }
+
+        @Override
+        double query(Integer source, Integer target) {
+            return alg.getPathLength(source, target);
+        }
+    }
+
+    public static class LandmarkAStarGridBenchmark extends GridBenchmarkBase {
+        private AStarShortestPath<Integer, DefaultWeightedEdge> alg;
+        private ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> heuristic;
+
+        @Override
+        void prepare() {
+            alg = new AStarShortestPath<>(graph);
+            heuristic = new ALTAdmissibleHeuristic<>(graph, 8);
+        }
+
+        @Override
+        double query(Integer source, Integer target) {
+            return alg.getShortestPath(source, target, heuristic).getWeight();
+        }
+    }
+
+    public void testGridBenchmark() throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + DijkstraGridBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + IndexedDijkstraGridBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + BidirectionalDijkstraGridBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + ContractionHierarchyGridBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + LandmarkAStarGridBenchmark.class.getSimpleName() + ".*")
+
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(3)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(5)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+}
+
+// End ShortestPathPerformanceTest.java
@@ -129,6 +129,39 @@ public class GraphPerformanceTest extends TestCase{
             }
         }
 
+        /**
+         * Benchmark 3: read-only graph usage: Create a graph, prepare it for reading and run various algorithms on it
+         */
+        @Benchmark
+        public void readOnlyBenchmark() {
+            for(int i=0; i<NR_GRAPHS; i++) {
+                rgg = new RandomGraphGenerator<>(PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT, SEED + i);
+                //Create a graph
+                graph = constructGraph();
+                prepareForReading(graph);
+
+                Integer[] vertices = graph.vertexSet().toArray(new Integer[graph.vertexSet().size()]);
+                Integer source = vertices[0];
+                Integer sink = vertices[vertices.length - 1];
+
+                double length = this.calculateShorestPath(graph, source, sink);
+                blackhole.consume(length);
+
+                double maxFlow = this.calculateMaxFlow(graph, source, sink);
+                blackhole.consume(maxFlow);
+
+                boolean isStronglyConnected = this.isStronglyConnected(graph);
+                blackhole.consume(isStronglyConnected);
+            }
+        }
+
+        /**
+         * Called on the graph before the read-only benchmark runs its algorithms.
+         * @param graph graph which will only be read from now on
+         */
+        void prepareForReading(SimpleDirectedWeightedGraph<Integer, DefaultWeightedEdge> graph){
+        }
+
         private double calculateShorestPath(SimpleDirectedWeightedGraph<Integer, DefaultWeightedEdge> graph, Integer source, Integer sink){
             DijkstraShortestPath<Integer, DefaultWeightedEdge> shortestPathAlg=new DijkstraShortestPath<>(graph, source, sink);
             return shortestPathAlg.getPathLength();
@@ -201,10 +234,22 @@ public class GraphPerformanceTest extends TestCase{
         }
     }
 
+    /**
+     * Graph class which relies on the FastLookupDirectedSpecifics, and which is frozen before it is read by the read-only
+     * benchmark.
+     */
+    public static class FrozenDirectedGraphBenchmark extends FastLookupDirectedGraphBenchmark {
+        @Override
+        void prepareForReading(SimpleDirectedWeightedGraph<Integer, DefaultWeightedEdge> graph) {
+            graph.freeze();
+        }
+    }
+
     public void testRandomGraphBenchmark() throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(".*" + MemoryEfficientDirectedGraphBenchmark.class.getSimpleName() + ".*")
                 .include(".*" + FastLookupDirectedGraphBenchmark.class.getSimpleName() + ".*")
+                .include(".*" + FrozenDirectedGraphBenchmark.class.getSimpleName() + ".*")
 
                 .mode(Mode.AverageTime)
                 .timeUnit(TimeUnit.MILLISECONDS)
@@ -40,6 +40,7 @@ import org.junit.runners.*;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
     FibonacciHeapTest.class,
+    IntDaryHeapTest.class,
     PrefetchIteratorTest.class
 })
 public class AllUtilTests
@@ -0,0 +1,98 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------
+ * IntDaryHeapTest.java
+ * ---------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+import junit.framework.*;
+
+
+public class IntDaryHeapTest
+    extends TestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    public void testDecreaseKeyAndClear()
+    {
+        IntDaryHeap h = new IntDaryHeap(4, 10);
+        assertTrue(h.isEmpty());
+        h.insert(3, 5.0);
+        h.insert(7, 2.0);
+        h.insert(1, 9.0);
+        assertEquals(7, h.peekMin());
+        h.decreaseKey(1, 1.0);
+        assertFalse(h.insertOrDecreaseKey(3, 6.0));
+        assertTrue(h.insertOrDecreaseKey(3, 0.5));
+        assertEquals(0.5, h.getKey(3), 0);
+        assertEquals(3, h.removeMin());
+        assertEquals(1, h.removeMin());
+        assertFalse(h.contains(1));
+        assertTrue(h.contains(7));
+        h.clear();
+        assertTrue(h.isEmpty());
+        assertFalse(h.contains(7));
+        h.insert(7, 1.0);
+        assertEquals(1, h.size());
+    }
+
+    public void testSortsRandomKeys()
+    {
+        Random r = new Random(7);
+        int n = 5000;
+        for (int arity = 2; arity <= 8; arity *= 2) {
+            IntDaryHeap h = new IntDaryHeap(arity, n);
+            double [] keys = new double[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = r.nextDouble();
+                h.insert(i, keys[i]);
+            }
+            for (int i = 0; i < n; i += 3) {
+                keys[i] /= 2;
+                h.decreaseKey(i, keys[i]);
+            }
+            double last = Double.NEGATIVE_INFINITY;
+            while (!h.isEmpty()) {
+                double key = h.getMinKey();
+                int min = h.removeMin();
+                assertEquals(keys[min], key, 0);
+                assertTrue(last <= key);
+                last = key;
+            }
+        }
+    }
+}
+
+// End IntDaryHeapTest.java
@@ -0,0 +1,161 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -------------------------
+ * BinaryGraphExporter.java
+ * -------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.ext;
+
+import java.io.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+
+/**
+ * Exports a graph into a compact binary format which {@link
+ * BinaryGraphImporter} loads back. The adjacency of every vertex is written
+ * with its target vertex indices sorted and delta encoded as variable-length
+ * integers, so typical graphs take a few bytes per edge; edge weights of
+ * weighted graphs follow as a column per vertex. Vertices are written as a
+ * dictionary of labels; edge objects themselves are not written.
+ *
+ * <p>The exporter streams the graph through a buffer and holds on to no more
+ * than a vertex index map and the adjacency of one vertex. The stream is
+ * flushed but not closed.</p>
+ *
+ * @see BinaryGraphImporter
+ */
+public class BinaryGraphExporter<V, E>
+{
+    private final VertexNameProvider<V> vertexLabelProvider;
+
+    /**
+     * Creates a new exporter which labels vertices by their toString()
+     * representation.
+     */
+    public BinaryGraphExporter()
+    {
+        this(new StringNameProvider<>());
+    }
+
+    /**
+     * Creates a new exporter with the given vertex label provider.
+     *
+     * @param vertexLabelProvider for generating vertex labels. If null, no
+     * labels are written and the importer labels vertices by their index.
+     */
+    public BinaryGraphExporter(VertexNameProvider<V> vertexLabelProvider)
+    {
+        this.vertexLabelProvider = vertexLabelProvider;
+    }
+
+    /**
+     * Exports the specified graph to the output stream in binary format.
+     *
+     * @param out the output stream
+     * @param g the graph to export
+     *
+     * @throws IOException if writing to the stream fails
+     */
+    public void export(OutputStream out, Graph<V, E> g)
+        throws IOException
+    {
+        boolean directed = g instanceof DirectedGraph<?, ?>;
+        boolean weighted = g instanceof WeightedGraph<?, ?>;
+        boolean labeled = vertexLabelProvider != null;
+        int n = g.vertexSet().size();
+
+        BinaryGraphFormat.Encoder encoder = new BinaryGraphFormat.Encoder(out);
+        encoder.writeBytes(BinaryGraphFormat.MAGIC);
+        encoder.writeByte(BinaryGraphFormat.VERSION);
+        encoder.writeByte(
+            (directed ? BinaryGraphFormat.DIRECTED : 0)
+            | (weighted ? BinaryGraphFormat.WEIGHTED : 0)
+            | (labeled ? BinaryGraphFormat.LABELED : 0));
+        encoder.writeVarInt(n);
+        encoder.writeVarInt(g.edgeSet().size());
+
+        Map<V, Integer> vertexIndices = new HashMap<>(MathUtil.hashCapacity(n));
+        for (V v : g.vertexSet()) {
+            vertexIndices.put(v, vertexIndices.size());
+            if (labeled) {
+                encoder.writeString(vertexLabelProvider.getVertexName(v));
+            }
+        }
+
+        // target index in the upper half, position in the lower half
+        long [] keys = new long[16];
+        double [] weights = new double[16];
+        for (V v : g.vertexSet()) {
+            Set<E> edges =
+                directed ? ((DirectedGraph<V, E>) g).outgoingEdgesOf(v)
+                : g.edgesOf(v);
+            if (edges.size() > keys.length) {
+                keys = new long[Math.max(edges.size(), 2 * keys.length)];
+                weights = new double[keys.length];
+            }
+            int count = 0;
+            for (E e : edges) {
+                // an undirected edge is written once, with its source
+                if (!directed && !v.equals(g.getEdgeSource(e))) {
+                    continue;
+                }
+                long target = vertexIndices.get(g.getEdgeTarget(e));
+                keys[count] = (target << 32) | count;
+                if (weighted) {
+                    weights[count] = g.getEdgeWeight(e);
+                }
+                count++;
+            }
+            Arrays.sort(keys, 0, count);
+
+            encoder.writeVarInt(count);
+            int previous = 0;
+            for (int i = 0; i < count; i++) {
+                int target = (int) (keys[i] >>> 32);
+                encoder.writeVarInt(target - previous);
+                previous = target;
+            }
+            if (weighted) {
+                for (int i = 0; i < count; i++) {
+                    encoder.writeDouble(weights[(int) keys[i]]);
+                }
+            }
+        }
+        encoder.flush();
+    }
+}
+
+// End BinaryGraphExporter.java
@@ -0,0 +1,269 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -----------------------
+ * BinaryGraphFormat.java
+ * -----------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.ext;
+
+import java.io.*;
+
+import java.nio.charset.*;
+
+import java.util.*;
+
+
+/**
+ * Constants and buffered primitive codecs of the binary graph format written
+ * by {@link BinaryGraphExporter} and read by {@link BinaryGraphImporter}.
+ *
+ * <p>A file starts with the magic bytes <code>JGBG</code>, a version byte, a
+ * flags byte, and the vertex and edge counts. Unless the vertices are
+ * unlabeled, the vertex-label dictionary follows, one string per vertex.
+ * Then, for every vertex in order, come the number of edges it is the source
+ * of, the target vertex indices of these edges in ascending order, each
+ * encoded as the difference from the previous one, and, for weighted graphs,
+ * the weights of these edges. Counts and differences are unsigned varints of
+ * seven bits per byte; weights are eight-byte IEEE 754 values; strings are a
+ * varint byte length followed by UTF-8 bytes.</p>
+ */
+final class BinaryGraphFormat
+{
+    static final byte [] MAGIC = { 'J', 'G', 'B', 'G' };
+    static final int VERSION = 1;
+
+    static final int DIRECTED = 1;
+    static final int WEIGHTED = 2;
+    static final int LABELED = 4;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private BinaryGraphFormat()
+    {
+    }
+
+    /**
+     * Buffered writer of the primitives of the format. The underlying stream
+     * is written only when the buffer fills up or on {@link #flush()}.
+     */
+    static final class Encoder
+    {
+        private final OutputStream out;
+        private final byte [] buffer = new byte[BUFFER_SIZE];
+        private int pos = 0;
+
+        Encoder(OutputStream out)
+        {
+            this.out = out;
+        }
+
+        private void ensure(int bytes)
+            throws IOException
+        {
+            if ((pos + bytes) > buffer.length) {
+                out.write(buffer, 0, pos);
+                pos = 0;
+            }
+        }
+
+        void writeByte(int b)
+            throws IOException
+        {
+            ensure(1);
+            buffer[pos++] = (byte) b;
+        }
+
+        void writeBytes(byte [] bytes)
+            throws IOException
+        {
+            if (bytes.length > buffer.length) {
+                ensure(buffer.length);
+                out.write(bytes);
+                return;
+            }
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, pos, bytes.length);
+            pos += bytes.length;
+        }
+
+        void writeVarInt(int value)
+            throws IOException
+        {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[pos++] = (byte) value;
+        }
+
+        void writeDouble(double value)
+            throws IOException
+        {
+            ensure(8);
+            long bits = Double.doubleToRawLongBits(value);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[pos++] = (byte) (bits >>> shift);
+            }
+        }
+
+        void writeString(String value)
+            throws IOException
+        {
+            byte [] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            writeBytes(bytes);
+        }
+
+        void flush()
+            throws IOException
+        {
+            out.write(buffer, 0, pos);
+            pos = 0;
+            out.flush();
+        }
+    }
+
+    /**
+     * Buffered reader of the primitives of the format. It may read ahead of
+     * the end of the graph in the underlying stream.
+     */
+    static final class Decoder
+    {
+        private final InputStream in;
+        private final byte [] buffer = new byte[BUFFER_SIZE];
+        private int pos = 0;
+        private int limit = 0;
+
+        Decoder(InputStream in)
+        {
+            this.in = in;
+        }
+
+        private void fill()
+            throws IOException
+        {
+            int n = in.read(buffer, 0, buffer.length);
+            if (n <= 0) {
+                throw new EOFException("unexpected end of graph");
+            }
+            pos = 0;
+            limit = n;
+        }
+
+        int readByte()
+            throws IOException
+        {
+            if (pos == limit) {
+                fill();
+            }
+            return buffer[pos++] & 0xFF;
+        }
+
+        void readBytes(byte [] bytes)
+            throws IOException
+        {
+            int done = 0;
+            while (done < bytes.length) {
+                if (pos == limit) {
+                    fill();
+                }
+                int n = Math.min(limit - pos, bytes.length - done);
+                System.arraycopy(buffer, pos, bytes, done, n);
+                pos += n;
+                done += n;
+            }
+        }
+
+        int readVarInt()
+            throws IOException
+        {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("malformed varint");
+        }
+
+        double readDouble()
+            throws IOException
+        {
+            long bits = 0;
+            for (int i = 0; i < 8; i++) {
+                bits = (bits << 8) | readByte();
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        String readString()
+            throws IOException
+        {
+            int length = readVarInt();
+            if (length < 0) {
+                throw new IOException("malformed string length");
+            }
+            if (length <= (limit - pos)) {
+                String value =
+                    new String(buffer, pos, length, StandardCharsets.UTF_8);
+                pos += length;
+                return value;
+            }
+
+            // the array grows with the bytes actually read, so a corrupt
+            // length cannot force a large allocation
+            byte [] bytes = new byte[Math.min(length, BUFFER_SIZE)];
+            int done = 0;
+            while (done < length) {
+                if (pos == limit) {
+                    fill();
+                }
+                if (done == bytes.length) {
+                    bytes =
+                        Arrays.copyOf(
+                            bytes,
+                            (int) Math.min(length, 2L * bytes.length));
+                }
+                int n = Math.min(limit - pos, bytes.length - done);
+                System.arraycopy(buffer, pos, bytes, done, n);
+                pos += n;
+                done += n;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
+
+// End BinaryGraphFormat.java
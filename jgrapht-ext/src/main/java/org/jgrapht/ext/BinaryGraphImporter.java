@@ -0,0 +1,207 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* -------------------------
+ * BinaryGraphImporter.java
+ * -------------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.ext;
+
+import java.io.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+
+/**
+ * Imports a graph written by {@link BinaryGraphExporter}. Vertices are created
+ * by a {@link VertexProvider} from their labels, edges by the edge factory of
+ * the target graph, and weights are restored if both the file and the target
+ * graph are weighted.
+ *
+ * <p>The file is decoded completely before the target graph is modified, so a
+ * truncated or corrupt file leaves the graph unchanged. The counts in the
+ * header are not trusted for allocation: buffers grow with the data actually
+ * read. When the target graph is an {@link AbstractBaseGraph}, its capacity is
+ * then ensured from the decoded counts, so the load does not rehash. Edges
+ * which the target graph rejects as multiple edges are skipped. A directed
+ * graph can only be imported into a {@link DirectedGraph}, and an undirected
+ * one only into a graph which is not.</p>
+ *
+ * @see BinaryGraphExporter
+ */
+public class BinaryGraphImporter<V, E>
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final VertexProvider<V> vertexProvider;
+
+    /**
+     * Constructs a new importer with the given vertex provider.
+     *
+     * @param vertexProvider provider to create a vertex from its label, or from
+     * its index if the file has no labels
+     */
+    public BinaryGraphImporter(VertexProvider<V> vertexProvider)
+    {
+        this.vertexProvider = vertexProvider;
+    }
+
+    /**
+     * Reads a graph from the input stream and adds its vertices and edges to
+     * the specified graph. The stream is not closed.
+     *
+     * @param in the input stream
+     * @param graph the graph to add to
+     *
+     * @throws ImportException if the stream cannot be read or does not hold a
+     * graph in binary format, or if the graph in the stream is directed and
+     * the specified graph is not, or vice versa.
+     */
+    public void read(InputStream in, Graph<V, E> graph)
+        throws ImportException
+    {
+        try {
+            readGraph(new BinaryGraphFormat.Decoder(in), graph);
+        } catch (IOException e) {
+            throw new ImportException("failed to read graph", e);
+        }
+    }
+
+    private void readGraph(BinaryGraphFormat.Decoder decoder, Graph<V, E> graph)
+        throws IOException, ImportException
+    {
+        byte [] magic = new byte[BinaryGraphFormat.MAGIC.length];
+        decoder.readBytes(magic);
+        if (!Arrays.equals(magic, BinaryGraphFormat.MAGIC)) {
+            throw new ImportException("not a binary graph");
+        }
+        int version = decoder.readByte();
+        if (version != BinaryGraphFormat.VERSION) {
+            throw new ImportException("unsupported version " + version);
+        }
+        int flags = decoder.readByte();
+        boolean directed = (flags & BinaryGraphFormat.DIRECTED) != 0;
+        if (directed != (graph instanceof DirectedGraph<?, ?>)) {
+            throw new ImportException(
+                directed ? "directed graph cannot be imported as undirected"
+                : "undirected graph cannot be imported as directed");
+        }
+        boolean weighted = (flags & BinaryGraphFormat.WEIGHTED) != 0;
+        boolean labeled = (flags & BinaryGraphFormat.LABELED) != 0;
+        int n = decoder.readVarInt();
+        int m = decoder.readVarInt();
+        if ((n < 0) || (m < 0)) {
+            throw new ImportException("invalid graph size");
+        }
+
+        String [] labels = null;
+        if (labeled) {
+            labels = new String[Math.min(n, INITIAL_CAPACITY)];
+            for (int i = 0; i < n; i++) {
+                if (i == labels.length) {
+                    labels = Arrays.copyOf(labels, 2 * i);
+                }
+                labels[i] = decoder.readString();
+            }
+        }
+
+        // row i of the adjacency lists is offsets[i] until offsets[i + 1]
+        int [] offsets = new int[Math.min(n, INITIAL_CAPACITY) + 1];
+        int [] targets = new int[INITIAL_CAPACITY];
+        double [] weights = weighted ? new double[INITIAL_CAPACITY] : null;
+        int edges = 0;
+        for (int i = 0; i < n; i++) {
+            int count = decoder.readVarInt();
+            if ((count < 0) || (count > (m - edges))) {
+                throw new ImportException("invalid edge count");
+            }
+            int target = 0;
+            for (int k = 0; k < count; k++) {
+                target += decoder.readVarInt();
+                if ((target < 0) || (target >= n)) {
+                    throw new ImportException("invalid vertex index");
+                }
+                if (edges + k == targets.length) {
+                    targets = Arrays.copyOf(targets, 2 * targets.length);
+                }
+                targets[edges + k] = target;
+            }
+            if (weighted) {
+                if (weights.length < targets.length) {
+                    weights = Arrays.copyOf(weights, targets.length);
+                }
+                for (int k = 0; k < count; k++) {
+                    weights[edges + k] = decoder.readDouble();
+                }
+            }
+            edges += count;
+            if (i + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, 2 * offsets.length);
+            }
+            offsets[i + 1] = edges;
+        }
+        if (edges != m) {
+            throw new ImportException("invalid edge count");
+        }
+
+        if (graph instanceof AbstractBaseGraph<?, ?>) {
+            ((AbstractBaseGraph<V, E>) graph).ensureCapacity(
+                graph.vertexSet().size() + n,
+                graph.edgeSet().size() + m);
+        }
+        WeightedGraph<V, E> weightedGraph =
+            (weighted && (graph instanceof WeightedGraph<?, ?>))
+            ? (WeightedGraph<V, E>) graph : null;
+
+        List<V> vertices = new ArrayList<>(n);
+        Map<String, String> attributes = Collections.emptyMap();
+        for (int i = 0; i < n; i++) {
+            String label = labeled ? labels[i] : Integer.toString(i);
+            V v = vertexProvider.buildVertex(label, attributes);
+            graph.addVertex(v);
+            vertices.add(v);
+        }
+        for (int i = 0; i < n; i++) {
+            V source = vertices.get(i);
+            for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+                E e = graph.addEdge(source, vertices.get(targets[k]));
+                if ((e != null) && (weightedGraph != null)) {
+                    weightedGraph.setEdgeWeight(e, weights[k]);
+                }
+            }
+        }
+    }
+}
+
+// End BinaryGraphImporter.java
@@ -0,0 +1,282 @@
+/* ==========================================
+ * JGraphT : a free Java graph-theory library
+ * ==========================================
+ *
+ * Project Info:  http://jgrapht.sourceforge.net/
+ * Project Creator:  Barak Naveh (http://sourceforge.net/users/barak_naveh)
+ *
+ * (C) Copyright 2003-2008, by Barak Naveh and Contributors.
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+/* ---------------------
+ * BinaryGraphTest.java
+ * ---------------------
+ * (C) Copyright 2016-2016, by Barak Naveh and Contributors.
+ *
+ * Original Author:  -
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jgrapht.ext;
+
+import java.io.*;
+
+import java.util.*;
+
+import junit.framework.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+
+/**
+ * Tests for {@link BinaryGraphExporter} and {@link BinaryGraphImporter}.
+ */
+public class BinaryGraphTest
+    extends TestCase
+{
+    //~ Methods ----------------------------------------------------------------
+
+    private static final VertexProvider<String> LABELS =
+        (label, attributes) -> label;
+
+    private static <V, E> byte [] export(
+        BinaryGraphExporter<V, E> exporter,
+        Graph<V, E> g)
+        throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.export(out, g);
+        return out.toByteArray();
+    }
+
+    private static DirectedWeightedPseudograph<String, DefaultWeightedEdge>
+        createDirected()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (String v : new String[] { "a", "b", "c", "d", "é" }) {
+            g.addVertex(v);
+        }
+        Graphs.addEdge(g, "a", "b", 1.0);
+        Graphs.addEdge(g, "a", "c", 4.5);
+        Graphs.addEdge(g, "c", "a", -2.0);
+        Graphs.addEdge(g, "b", "c", 2.0);
+        Graphs.addEdge(g, "b", "c", 6.0);
+        Graphs.addEdge(g, "c", "c", 5.0);
+        Graphs.addEdge(g, "d", "é", 0.25);
+        return g;
+    }
+
+    private static <V, E> void assertSameGraph(
+        WeightedGraph<V, E> expected,
+        WeightedGraph<V, E> actual)
+    {
+        assertEquals(expected.vertexSet(), actual.vertexSet());
+        assertEquals(expected.edgeSet().size(), actual.edgeSet().size());
+        for (V u : expected.vertexSet()) {
+            for (V v : expected.vertexSet()) {
+                List<Double> e = new ArrayList<>();
+                for (E edge : expected.getAllEdges(u, v)) {
+                    e.add(expected.getEdgeWeight(edge));
+                }
+                List<Double> a = new ArrayList<>();
+                for (E edge : actual.getAllEdges(u, v)) {
+                    a.add(actual.getEdgeWeight(edge));
+                }
+                Collections.sort(e);
+                Collections.sort(a);
+                assertEquals(e, a);
+            }
+        }
+    }
+
+    public void testDirectedRoundTrip()
+        throws Exception
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            createDirected();
+        byte [] bytes = export(new BinaryGraphExporter<>(), g);
+
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> copy =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        new BinaryGraphImporter<String, DefaultWeightedEdge>(LABELS).read(
+            new ByteArrayInputStream(bytes),
+            copy);
+        assertSameGraph(g, copy);
+        assertEquals(
+            new ArrayList<>(g.vertexSet()),
+            new ArrayList<>(copy.vertexSet()));
+    }
+
+    public void testUndirectedRoundTrip()
+        throws Exception
+    {
+        WeightedPseudograph<String, DefaultWeightedEdge> g =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addGraph(g, createDirected());
+        byte [] bytes = export(new BinaryGraphExporter<>(), g);
+
+        WeightedPseudograph<String, DefaultWeightedEdge> copy =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        new BinaryGraphImporter<String, DefaultWeightedEdge>(LABELS).read(
+            new ByteArrayInputStream(bytes),
+            copy);
+        assertSameGraph(g, copy);
+        assertEquals(g.degreeOf("c"), copy.degreeOf("c"));
+    }
+
+    public void testUnlabeledUnweighted()
+        throws Exception
+    {
+        SimpleDirectedGraph<Integer, DefaultEdge> g =
+            new SimpleDirectedGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 1000; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            g.addEdge(i, (i + 1) % 1000);
+            g.addEdge(i, ((i * 7) + 3) % 1000);
+        }
+        byte [] bytes =
+            export(new BinaryGraphExporter<Integer, DefaultEdge>(null), g);
+
+        // a count and two small deltas per vertex, plus the header
+        assertTrue(bytes.length < (7 * 1000));
+
+        SimpleDirectedGraph<Integer, DefaultEdge> copy =
+            new SimpleDirectedGraph<>(DefaultEdge.class);
+        new BinaryGraphImporter<Integer, DefaultEdge>(
+            (label, attributes) -> Integer.valueOf(label)).read(
+                new ByteArrayInputStream(bytes),
+                copy);
+        assertEquals(g.vertexSet(), copy.vertexSet());
+        assertEquals(g.edgeSet().size(), copy.edgeSet().size());
+        for (DefaultEdge e : g.edgeSet()) {
+            assertTrue(
+                copy.containsEdge(g.getEdgeSource(e), g.getEdgeTarget(e)));
+        }
+    }
+
+    public void testInvalidInput()
+        throws Exception
+    {
+        BinaryGraphImporter<String, DefaultWeightedEdge> importer =
+            new BinaryGraphImporter<>(LABELS);
+        try {
+            importer.read(
+                new ByteArrayInputStream("JGBX".getBytes("UTF-8")),
+                new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class));
+            fail();
+        } catch (ImportException e) {
+        }
+
+        byte [] bytes = export(new BinaryGraphExporter<>(), createDirected());
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> target =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        try {
+            importer.read(
+                new ByteArrayInputStream(bytes, 0, bytes.length - 3),
+                target);
+            fail();
+        } catch (ImportException e) {
+            assertTrue(e.getCause() instanceof EOFException);
+        }
+        assertTrue(target.vertexSet().isEmpty());
+
+        // an unlabeled header claiming far more vertices than the stream holds
+        assertTruncated(importer, 0, Integer.MAX_VALUE, 0, -1);
+
+        // a label claiming far more bytes than the stream holds
+        assertTruncated(
+            importer,
+            BinaryGraphFormat.LABELED,
+            1,
+            0,
+            Integer.MAX_VALUE);
+
+        // a header claiming far more edges than the stream holds
+        assertTruncated(importer, 0, 1, Integer.MAX_VALUE, -1);
+    }
+
+    /**
+     * Imports a directed graph whose header claims the specified counts, and
+     * whose data ends right after the header, or after the length of the
+     * first label if one is specified.
+     */
+    private static void assertTruncated(
+        BinaryGraphImporter<String, DefaultWeightedEdge> importer,
+        int flags,
+        int n,
+        int m,
+        int labelLength)
+        throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryGraphFormat.Encoder encoder = new BinaryGraphFormat.Encoder(out);
+        encoder.writeBytes(BinaryGraphFormat.MAGIC);
+        encoder.writeByte(BinaryGraphFormat.VERSION);
+        encoder.writeByte(BinaryGraphFormat.DIRECTED | flags);
+        encoder.writeVarInt(n);
+        encoder.writeVarInt(m);
+        if (labelLength >= 0) {
+            encoder.writeVarInt(labelLength);
+        } else if (m > 0) {
+            encoder.writeVarInt(m);
+        }
+        encoder.flush();
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        try {
+            importer.read(new ByteArrayInputStream(out.toByteArray()), g);
+            fail();
+        } catch (ImportException e) {
+            assertTrue(e.getCause() instanceof EOFException);
+        }
+        assertTrue(g.vertexSet().isEmpty());
+    }
+
+    public void testDirectionMismatch()
+        throws Exception
+    {
+        BinaryGraphImporter<String, DefaultWeightedEdge> importer =
+            new BinaryGraphImporter<>(LABELS);
+        byte [] bytes = export(new BinaryGraphExporter<>(), createDirected());
+        WeightedPseudograph<String, DefaultWeightedEdge> undirected =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        try {
+            importer.read(new ByteArrayInputStream(bytes), undirected);
+            fail();
+        } catch (ImportException e) {
+        }
+        assertTrue(undirected.vertexSet().isEmpty());
+
+        Graphs.addEdgeWithVertices(undirected, "a", "b", 1.0);
+        bytes = export(new BinaryGraphExporter<>(), undirected);
+        try {
+            importer.read(
+                new ByteArrayInputStream(bytes),
+                new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class));
+            fail();
+        } catch (ImportException e) {
+        }
+    }
+}
+
+// End BinaryGraphTest.java